@@ -103,9 +103,11 @@ public class AppDeploymentManager {
         AppDefinitionCacheEntry cachedAppDefinition = appDefinitionCache.get(appDefinitionId);
 
         if (cachedAppDefinition == null) {
+            long loadStartTime = System.nanoTime();
             AppDeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
             deploy(deployment, null);
+            appDefinitionCache.recordLoad(System.nanoTime() - loadStartTime);
             cachedAppDefinition = appDefinitionCache.get(appDefinitionId);
 
             if (cachedAppDefinition == null) {
@@ -46,6 +46,7 @@ public class MultiInstanceParser extends BaseChildElementParser {
         multiInstanceDef.setInputDataItem(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_COLLECTION, xtr));
         multiInstanceDef.setElementVariable(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_VARIABLE, xtr));
         multiInstanceDef.setElementIndexVariable(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_INDEX_VARIABLE, xtr));
+        multiInstanceDef.setChunkSize(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_CHUNK_SIZE, xtr));
 
         boolean readyWithMultiInstance = false;
         try {
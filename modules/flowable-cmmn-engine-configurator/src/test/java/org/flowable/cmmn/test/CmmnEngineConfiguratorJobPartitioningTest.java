@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.CmmnEngines;
+import org.flowable.cmmn.engine.configurator.CmmnEngineConfigurator;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CmmnEngineConfiguratorJobPartitioningTest {
+
+    private ProcessEngine processEngine;
+    private CmmnEngine cmmnEngine;
+
+    @Before
+    public void setup() {
+        CmmnEngineConfiguration cmmnEngineConfiguration = new CmmnEngineConfiguration();
+        cmmnEngineConfiguration.setJobPartitioningEnabled(true);
+        cmmnEngineConfiguration.setJobBucketCount(4);
+
+        CmmnEngineConfigurator cmmnEngineConfigurator = new CmmnEngineConfigurator();
+        cmmnEngineConfigurator.setCmmnEngineConfiguration(cmmnEngineConfiguration);
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:cmmnJobPartitioningTest");
+        processEngineConfiguration.setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_TRUE);
+        processEngineConfiguration.setJobPartitioningEnabled(true);
+        processEngineConfiguration.setJobBucketCount(4);
+        processEngineConfiguration.addConfigurator(cmmnEngineConfigurator);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+        cmmnEngine = CmmnEngines.getDefaultCmmnEngine();
+    }
+
+    @After
+    public void cleanup() {
+        cmmnEngine.close();
+        processEngine.close();
+    }
+
+    @Test
+    public void testBucketsAreLeasedPerEngine() {
+        AbstractAsyncExecutor processEngineAsyncExecutor = (AbstractAsyncExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+        AbstractAsyncExecutor cmmnEngineAsyncExecutor = (AbstractAsyncExecutor) cmmnEngine.getCmmnEngineConfiguration().getAsyncExecutor();
+        assertNotSame(processEngineAsyncExecutor, cmmnEngineAsyncExecutor);
+
+        List<Integer> allBuckets = Arrays.asList(0, 1, 2, 3);
+        processEngineAsyncExecutor.start();
+        cmmnEngineAsyncExecutor.start();
+        try {
+            // The engines only acquire their own jobs, so each one spreads all buckets over its own nodes
+            assertEquals(allBuckets, processEngineAsyncExecutor.getJobBucketLeases().getOwnedBuckets());
+            assertEquals(allBuckets, cmmnEngineAsyncExecutor.getJobBucketLeases().getOwnedBuckets());
+
+            // Renewing the leases doesn't hand over buckets to the other engine
+            processEngineAsyncExecutor.getJobBucketLeasesRunnable().acquireLeases();
+            cmmnEngineAsyncExecutor.getJobBucketLeasesRunnable().acquireLeases();
+            assertEquals(allBuckets, processEngineAsyncExecutor.getJobBucketLeases().getOwnedBuckets());
+            assertEquals(allBuckets, cmmnEngineAsyncExecutor.getJobBucketLeases().getOwnedBuckets());
+
+        } finally {
+            processEngineAsyncExecutor.shutdown();
+            cmmnEngineAsyncExecutor.shutdown();
+        }
+    }
+
+}
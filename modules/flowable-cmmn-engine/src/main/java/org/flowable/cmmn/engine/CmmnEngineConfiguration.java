@@ -105,6 +105,7 @@ import org.flowable.cmmn.engine.impl.interceptor.DefaultCmmnIdentityLinkIntercep
 import org.flowable.cmmn.engine.impl.job.AsyncActivatePlanItemInstanceJobHandler;
 import org.flowable.cmmn.engine.impl.job.AsyncInitializePlanModelJobHandler;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupPartitionJobHandler;
 import org.flowable.cmmn.engine.impl.job.TriggerTimerEventJobHandler;
 import org.flowable.cmmn.engine.impl.listener.CmmnListenerFactory;
 import org.flowable.cmmn.engine.impl.listener.CmmnListenerNotificationHelper;
@@ -174,6 +175,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.MybatisResourc
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.MybatisSentryPartInstanceDataManagerImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.TableDataManagerImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntryWeigher;
 import org.flowable.cmmn.engine.impl.process.ProcessInstanceService;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceHelper;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceHelperImpl;
@@ -228,6 +230,7 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
 import org.flowable.common.engine.impl.scripting.ScriptBindingsFactory;
@@ -257,6 +260,7 @@ import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobBinaryHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
@@ -279,6 +283,8 @@ import org.flowable.variable.service.impl.db.IbatisVariableTypeHandler;
 import org.flowable.variable.service.impl.db.VariableDbSchemaManager;
 import org.flowable.variable.service.impl.types.BooleanType;
 import org.flowable.variable.service.impl.types.ByteArrayType;
+import org.flowable.variable.service.impl.types.CompressedJsonType;
+import org.flowable.variable.service.impl.types.CompressedSerializableType;
 import org.flowable.variable.service.impl.types.DateType;
 import org.flowable.variable.service.impl.types.DefaultVariableTypes;
 import org.flowable.variable.service.impl.types.DoubleType;
@@ -356,6 +362,16 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected boolean enableSafeCmmnXml;
     protected boolean disableCmmnXmlValidation;
+
+    /**
+     * When enabled, the variables used in sentry if part conditions are determined when deploying a case definition,
+     * and the result of an if part is reused within one transaction until one of those variables changes.
+     * The sentries are also indexed by the plan item transitions and variables that can satisfy them,
+     * so that criteria that were not satisfied before are only evaluated again when one of their triggers occurred.
+     * Only conditions that exclusively read variables (no method calls, functions or the case and plan item instance) are reused.
+     * Values of those variables must not be changed in place, as such a change does not go through the variable scope.
+     */
+    protected boolean enableIncrementalSentryEvaluation;
     protected CmmnActivityBehaviorFactory activityBehaviorFactory;
     protected CmmnClassDelegateFactory classDelegateFactory;
     protected CmmnDeployer cmmnDeployer;
@@ -363,6 +379,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected CaseDefinitionDiagramHelper caseDefinitionDiagramHelper;
 
     protected int caseDefinitionCacheLimit = -1;
+    protected DeploymentCacheWeigher<CaseDefinitionCacheEntry> caseDefinitionCacheWeigher; // By default, the limit is the number of case definitions
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
 
     protected CmmnParser cmmnParser;
@@ -386,9 +403,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    /**
+     * The number of evaluations of a cached expression after which it is compiled instead of interpreted.
+     * A negative value (the default) never compiles expressions.
+     */
+    protected int expressionCompileThreshold = -1;
+
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
+    /**
+     * Whether the scripts of script engines that implement {@link javax.script.Compilable} are compiled once and cached,
+     * instead of being parsed and compiled again on every evaluation.
+     */
+    protected boolean isCompiledScriptCacheEnabled = true;
+    protected int compiledScriptCacheSize = 1000;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -445,6 +475,18 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected InternalHistoryVariableManager internalHistoryVariableManager;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * When true, new json variables that don't fit in a string column and new serializable variables are stored with the compressed
+     * {@link CompressedJsonType} and {@link CompressedSerializableType}. Existing variables keep their type and stay readable.
+     * Engines of older versions can't read the compressed variables, so this is false by default.
+     */
+    protected boolean compressedVariableTypesEnabled;
+
+    /**
+     * The minimum number of bytes of the serialized value of a compressed variable type before it is actually compressed.
+     */
+    protected int variableCompressionThreshold = 1024;
     protected ObjectMapper objectMapper = new ObjectMapper();
 
     // Set Http Client config defaults
@@ -463,6 +505,23 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected InternalJobParentStateResolver internalJobParentStateResolver;
     protected String jobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
+
+    /**
+     * If true, async and timer jobs are acquired with 'select ... for update skip locked' on databases supporting it (Postgres 9.5+, Oracle, MySQL 8+),
+     * so concurrent acquisitions on different nodes get disjoint sets of jobs instead of colliding on the lock update.
+     * Other databases keep using the regular acquisition queries.
+     */
+    protected boolean skipLockedJobAcquisitionEnabled;
+
+    /**
+     * If true, every new job gets one of {@link #jobBucketCount} partition buckets (based on its process or case instance)
+     * and the async executor of every node only acquires the jobs of the buckets it has leased.
+     * The buckets are divided evenly between the active nodes. The leases of a node that goes down expire
+     * after {@link #asyncExecutorJobBucketLeaseTime} milliseconds, after which its buckets are taken over by the other nodes.
+     */
+    protected boolean jobPartitioningEnabled;
+    protected int jobBucketCount = 64;
+    protected int asyncExecutorJobBucketLeaseTime = 60 * 1000;
     protected String historyJobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
     
     /**
@@ -545,6 +604,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected BlockingQueue<Runnable> asyncExecutorThreadPoolQueue;
 
+    /**
+     * If true, every async job is executed on its own virtual thread (Java 21 or higher) instead of on the thread pool.
+     * The number of jobs executing at the same time is then limited by {@link #asyncExecutorMaxConcurrentJobs}.
+     * <p>
+     * This property is only applicable when using the threadpool-based async executor.
+     */
+    protected boolean asyncExecutorVirtualThreadMode;
+
+    /**
+     * The maximum number of async jobs executing at the same time when {@link #asyncExecutorVirtualThreadMode} is enabled.
+     * Default value = 1000.
+     * <p>
+     * This property is only applicable when using the threadpool-based async executor.
+     */
+    protected int asyncExecutorMaxConcurrentJobs = 1000;
+
     /**
      * The time (in seconds) that is waited to gracefully shut down the threadpool used for job execution when
      * a shutdown on the executor (or engine) is requested. Default value = 60.
@@ -600,6 +675,47 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime;
 
+    /**
+     * If true, the acquisition threads adapt to the load: the number of jobs fetched per query grows while full pages are acquired
+     * (bounded by the free capacity of the executor), the wait time doubles on every consecutive empty acquisition
+     * (up to {@link #asyncExecutorMaxAsyncJobAcquireWaitTime} and {@link #asyncExecutorMaxTimerJobAcquireWaitTime})
+     * and optimistic locking conflicts with other nodes are retried after a randomized, growing wait time.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorAdaptiveJobAcquisition;
+
+    /**
+     * The maximum time (in milliseconds) the async job acquisition thread waits when {@link #asyncExecutorAdaptiveJobAcquisition} is enabled. Default value = 60 seconds.
+     */
+    protected int asyncExecutorMaxAsyncJobAcquireWaitTime = 60 * 1000;
+
+    /**
+     * The maximum time (in milliseconds) the timer acquisition thread waits when {@link #asyncExecutorAdaptiveJobAcquisition} is enabled. Default value = 60 seconds.
+     * Note that a timer can fire up to this amount of time late when no timers were due for a while.
+     */
+    protected int asyncExecutorMaxTimerJobAcquireWaitTime = 60 * 1000;
+
+    /**
+     * If true, the timer acquisition thread also acquires the timers due within the next {@link #asyncExecutorTimerJobWheelLookAheadTime} milliseconds
+     * and keeps them in an in-memory timing wheel, which moves them to executable jobs at their due date instead of at the next acquisition.
+     * The timers stay locked meanwhile, so the timers of a node that goes down are acquired again by another node once their lock expires.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerJobWheelEnabled;
+
+    /**
+     * The time (in milliseconds) ahead of their due date the timers are acquired when {@link #asyncExecutorTimerJobWheelEnabled} is enabled.
+     * Should be at least {@link #asyncExecutorDefaultTimerJobAcquireWaitTime}. Default value = 10 seconds.
+     */
+    protected int asyncExecutorTimerJobWheelLookAheadTime = 10 * 1000;
+
+    /**
+     * The precision (in milliseconds) of the timing wheel when {@link #asyncExecutorTimerJobWheelEnabled} is enabled. Default value = 100 milliseconds.
+     */
+    protected int asyncExecutorTimerJobWheelTick = 100;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it.
      * While doing this, the 'name' of the lock owner is written into a column of the job.
@@ -680,6 +796,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isAsyncHistoryEnabled;
     protected boolean asyncHistoryExecutorActivate;
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
+    protected boolean isAsyncHistoryBinaryEncodingEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
@@ -707,6 +824,23 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
     protected CmmnHistoryCleaningManager cmmnHistoryCleaningManager;
+
+    /**
+     * The number of historic case instances (with their related history data) that are deleted per transaction by the history cleanup.
+     */
+    protected int historyCleaningBatchSize = 100;
+
+    /**
+     * The number of async jobs the history cleanup is split in. Every job deletes the instances that ended in its own end time range,
+     * so the jobs can run in parallel on different nodes.
+     */
+    protected int historyCleaningPartitionCount = 4;
+
+    /**
+     * The maximum number of historic case instances deleted per second by the history cleanup, divided over its jobs.
+     * 0 or less means the history cleanup is not throttled.
+     */
+    protected int historyCleaningMaxInstancesPerSecond;
     
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobHandler> customHistoryJobHandlers;
@@ -978,6 +1112,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
+            cmmnExpressionManager.setExpressionCompileThreshold(expressionCompileThreshold);
             
             expressionManager = cmmnExpressionManager;
         }
@@ -1171,7 +1306,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             if (caseDefinitionCacheLimit <= 0) {
                 caseDefinitionCache = new DefaultDeploymentCache<>();
             } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
+                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit, caseDefinitionCacheWeigher);
             }
         }
     }
@@ -1329,6 +1464,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+
+        if (isCompiledScriptCacheEnabled && scriptingEngines.getCompiledScriptCache() == null) {
+            scriptingEngines.setCompiledScriptCache(new DefaultDeploymentCache<>(compiledScriptCacheSize));
+        }
     }
     
     public void initHistoryCleaningManager() {
@@ -1378,8 +1517,14 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
             variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
+            if (compressedVariableTypesEnabled) {
+                variableTypes.addType(new CompressedJsonType(getMaxLengthString() + 1, objectMapper, variableCompressionThreshold));
+            }
             variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
             variableTypes.addType(new ByteArrayType());
+            if (compressedVariableTypesEnabled) {
+                variableTypes.addType(new CompressedSerializableType(serializableVariableTypeTrackDeserializedObjects, variableCompressionThreshold));
+            }
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
                 for (VariableType customVariableType : customPostVariableTypes) {
@@ -1533,6 +1678,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         jobHandlers.put(AsyncActivatePlanItemInstanceJobHandler.TYPE, new AsyncActivatePlanItemInstanceJobHandler());
         jobHandlers.put(AsyncInitializePlanModelJobHandler.TYPE, new AsyncInitializePlanModelJobHandler());
         jobHandlers.put(CmmnHistoryCleanupJobHandler.TYPE, new CmmnHistoryCleanupJobHandler());
+        jobHandlers.put(CmmnHistoryCleanupPartitionJobHandler.TYPE, new CmmnHistoryCleanupPartitionJobHandler());
 
         // if we have custom job handlers, register them
         if (customJobHandlers != null) {
@@ -1561,6 +1707,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
+            AsyncHistoryJobBinaryHandler asyncHistoryJobBinaryHandler = new AsyncHistoryJobBinaryHandler(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_BINARY);
+            allHistoryJsonTransformers.forEach(asyncHistoryJobBinaryHandler::addHistoryJsonTransformer);
+            asyncHistoryJobBinaryHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            historyJobHandlers.put(asyncHistoryJobBinaryHandler.getType(), asyncHistoryJobBinaryHandler);
+
             if (getCustomHistoryJobHandlers() != null) {
                 for (HistoryJobHandler customJobHandler : getCustomHistoryJobHandlers()) {
                     historyJobHandlers.put(customJobHandler.getType(), customJobHandler);
@@ -1668,11 +1819,16 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             // Async history job config
             jobServiceConfiguration.setJobTypeAsyncHistory(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             jobServiceConfiguration.setJobTypeAsyncHistoryZipped(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
+            jobServiceConfiguration.setJobTypeAsyncHistoryBinary(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_BINARY);
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
+            jobServiceConfiguration.setAsyncHistoryBinaryEncodingEnabled(isAsyncHistoryBinaryEncodingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
             
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
+            this.jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(this.skipLockedJobAcquisitionEnabled);
+            this.jobServiceConfiguration.setJobPartitioningEnabled(this.jobPartitioningEnabled);
+            this.jobServiceConfiguration.setJobBucketCount(this.jobBucketCount);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
     
             this.jobServiceConfiguration.init();
@@ -1731,6 +1887,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 defaultAsyncExecutor.setThreadPoolQueue(asyncExecutorThreadPoolQueue);
             }
             defaultAsyncExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
+
+            // Virtual threads
+            defaultAsyncExecutor.setVirtualThreadMode(asyncExecutorVirtualThreadMode);
+            defaultAsyncExecutor.setMaxConcurrentJobs(asyncExecutorMaxConcurrentJobs);
             
             // Thread flags
             defaultAsyncExecutor.setAsyncJobAcquisitionEnabled(isAsyncExecutorAsyncJobAcquisitionEnabled);
@@ -1744,6 +1904,20 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
 
+            // Adaptive acquisition
+            defaultAsyncExecutor.setAdaptiveJobAcquisition(asyncExecutorAdaptiveJobAcquisition);
+            defaultAsyncExecutor.setMaxAsyncJobAcquireWaitTimeInMillis(asyncExecutorMaxAsyncJobAcquireWaitTime);
+            defaultAsyncExecutor.setMaxTimerJobAcquireWaitTimeInMillis(asyncExecutorMaxTimerJobAcquireWaitTime);
+
+            // Timer job wheel
+            defaultAsyncExecutor.setTimerJobWheelEnabled(asyncExecutorTimerJobWheelEnabled);
+            defaultAsyncExecutor.setTimerJobWheelLookAheadInMillis(asyncExecutorTimerJobWheelLookAheadTime);
+            defaultAsyncExecutor.setTimerJobWheelTickInMillis(asyncExecutorTimerJobWheelTick);
+
+            // Job partitioning
+            defaultAsyncExecutor.setJobPartitioningEnabled(jobPartitioningEnabled);
+            defaultAsyncExecutor.setJobBucketLeaseTimeInMillis(asyncExecutorJobBucketLeaseTime);
+
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
@@ -2166,6 +2340,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.disableCmmnXmlValidation = disableCmmnXmlValidation;
     }
 
+    public boolean isEnableIncrementalSentryEvaluation() {
+        return enableIncrementalSentryEvaluation;
+    }
+
+    public CmmnEngineConfiguration setEnableIncrementalSentryEvaluation(boolean enableIncrementalSentryEvaluation) {
+        this.enableIncrementalSentryEvaluation = enableIncrementalSentryEvaluation;
+        return this;
+    }
+
     public CmmnParser getCmmnParser() {
         return cmmnParser;
     }
@@ -2274,6 +2457,19 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public DeploymentCacheWeigher<CaseDefinitionCacheEntry> getCaseDefinitionCacheWeigher() {
+        return caseDefinitionCacheWeigher;
+    }
+
+    /**
+     * Sets the weigher for the case definition cache. When set, the case definition cache limit is the maximum total weight
+     * of the cached case definitions (e.g. the number of plan item definitions with {@link CaseDefinitionCacheEntryWeigher}).
+     */
+    public CmmnEngineConfiguration setCaseDefinitionCacheWeigher(DeploymentCacheWeigher<CaseDefinitionCacheEntry> caseDefinitionCacheWeigher) {
+        this.caseDefinitionCacheWeigher = caseDefinitionCacheWeigher;
+        return this;
+    }
+
     public DeploymentCache<CaseDefinitionCacheEntry> getCaseDefinitionCache() {
         return caseDefinitionCache;
     }
@@ -2413,6 +2609,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getExpressionCompileThreshold() {
+        return expressionCompileThreshold;
+    }
+
+    public CmmnEngineConfiguration setExpressionCompileThreshold(int expressionCompileThreshold) {
+        this.expressionCompileThreshold = expressionCompileThreshold;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -2666,6 +2871,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isCompressedVariableTypesEnabled() {
+        return compressedVariableTypesEnabled;
+    }
+
+    public CmmnEngineConfiguration setCompressedVariableTypesEnabled(boolean compressedVariableTypesEnabled) {
+        this.compressedVariableTypesEnabled = compressedVariableTypesEnabled;
+        return this;
+    }
+
+    public int getVariableCompressionThreshold() {
+        return variableCompressionThreshold;
+    }
+
+    public CmmnEngineConfiguration setVariableCompressionThreshold(int variableCompressionThreshold) {
+        this.variableCompressionThreshold = variableCompressionThreshold;
+        return this;
+    }
+
     public CaseDiagramGenerator getCaseDiagramGenerator() {
         return caseDiagramGenerator;
     }
@@ -2919,6 +3142,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorVirtualThreadMode() {
+        return asyncExecutorVirtualThreadMode;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorVirtualThreadMode(boolean asyncExecutorVirtualThreadMode) {
+        this.asyncExecutorVirtualThreadMode = asyncExecutorVirtualThreadMode;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentJobs() {
+        return asyncExecutorMaxConcurrentJobs;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMaxConcurrentJobs(int asyncExecutorMaxConcurrentJobs) {
+        this.asyncExecutorMaxConcurrentJobs = asyncExecutorMaxConcurrentJobs;
+        return this;
+    }
+
     public long getAsyncExecutorSecondsToWaitOnShutdown() {
         return asyncExecutorSecondsToWaitOnShutdown;
     }
@@ -2973,6 +3214,60 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorAdaptiveJobAcquisition() {
+        return asyncExecutorAdaptiveJobAcquisition;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAdaptiveJobAcquisition(boolean asyncExecutorAdaptiveJobAcquisition) {
+        this.asyncExecutorAdaptiveJobAcquisition = asyncExecutorAdaptiveJobAcquisition;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxAsyncJobAcquireWaitTime() {
+        return asyncExecutorMaxAsyncJobAcquireWaitTime;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMaxAsyncJobAcquireWaitTime(int asyncExecutorMaxAsyncJobAcquireWaitTime) {
+        this.asyncExecutorMaxAsyncJobAcquireWaitTime = asyncExecutorMaxAsyncJobAcquireWaitTime;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxTimerJobAcquireWaitTime() {
+        return asyncExecutorMaxTimerJobAcquireWaitTime;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMaxTimerJobAcquireWaitTime(int asyncExecutorMaxTimerJobAcquireWaitTime) {
+        this.asyncExecutorMaxTimerJobAcquireWaitTime = asyncExecutorMaxTimerJobAcquireWaitTime;
+        return this;
+    }
+
+    public boolean isAsyncExecutorTimerJobWheelEnabled() {
+        return asyncExecutorTimerJobWheelEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobWheelEnabled(boolean asyncExecutorTimerJobWheelEnabled) {
+        this.asyncExecutorTimerJobWheelEnabled = asyncExecutorTimerJobWheelEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerJobWheelLookAheadTime() {
+        return asyncExecutorTimerJobWheelLookAheadTime;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobWheelLookAheadTime(int asyncExecutorTimerJobWheelLookAheadTime) {
+        this.asyncExecutorTimerJobWheelLookAheadTime = asyncExecutorTimerJobWheelLookAheadTime;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerJobWheelTick() {
+        return asyncExecutorTimerJobWheelTick;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobWheelTick(int asyncExecutorTimerJobWheelTick) {
+        this.asyncExecutorTimerJobWheelTick = asyncExecutorTimerJobWheelTick;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -3109,6 +3404,20 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncHistoryBinaryEncodingEnabled() {
+        return isAsyncHistoryBinaryEncodingEnabled;
+    }
+
+    /**
+     * Writes the data of async history jobs in a compact binary format instead of json,
+     * see {@link org.flowable.job.service.impl.history.async.util.AsyncHistoryBinaryCodec}.
+     * Takes precedence over the gzip compression of the json. Jobs that were created with another format can still be handled.
+     */
+    public CmmnEngineConfiguration setAsyncHistoryBinaryEncodingEnabled(boolean isAsyncHistoryBinaryEncodingEnabled) {
+        this.isAsyncHistoryBinaryEncodingEnabled = isAsyncHistoryBinaryEncodingEnabled;
+        return this;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
@@ -3360,6 +3669,42 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.jobExecutionScope = jobExecutionScope;
         return this;
     }
+
+    public boolean isSkipLockedJobAcquisitionEnabled() {
+        return skipLockedJobAcquisitionEnabled;
+    }
+
+    public CmmnEngineConfiguration setSkipLockedJobAcquisitionEnabled(boolean skipLockedJobAcquisitionEnabled) {
+        this.skipLockedJobAcquisitionEnabled = skipLockedJobAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isJobPartitioningEnabled() {
+        return jobPartitioningEnabled;
+    }
+
+    public CmmnEngineConfiguration setJobPartitioningEnabled(boolean jobPartitioningEnabled) {
+        this.jobPartitioningEnabled = jobPartitioningEnabled;
+        return this;
+    }
+
+    public int getJobBucketCount() {
+        return jobBucketCount;
+    }
+
+    public CmmnEngineConfiguration setJobBucketCount(int jobBucketCount) {
+        this.jobBucketCount = jobBucketCount;
+        return this;
+    }
+
+    public int getAsyncExecutorJobBucketLeaseTime() {
+        return asyncExecutorJobBucketLeaseTime;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorJobBucketLeaseTime(int asyncExecutorJobBucketLeaseTime) {
+        this.asyncExecutorJobBucketLeaseTime = asyncExecutorJobBucketLeaseTime;
+        return this;
+    }
     
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
@@ -3425,6 +3770,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.scriptingEngines = scriptingEngines;
         return this;
     }
+
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
     
     public void resetClock() {
         if (this.clock != null) {
@@ -3472,6 +3835,33 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.cmmnHistoryCleaningManager = cmmnHistoryCleaningManager;
     }
 
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
+
+    public int getHistoryCleaningPartitionCount() {
+        return historyCleaningPartitionCount;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningPartitionCount(int historyCleaningPartitionCount) {
+        this.historyCleaningPartitionCount = historyCleaningPartitionCount;
+        return this;
+    }
+
+    public int getHistoryCleaningMaxInstancesPerSecond() {
+        return historyCleaningMaxInstancesPerSecond;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningMaxInstancesPerSecond(int historyCleaningMaxInstancesPerSecond) {
+        this.historyCleaningMaxInstancesPerSecond = historyCleaningMaxInstancesPerSecond;
+        return this;
+    }
+
     public boolean isHandleCmmnEngineExecutorsAfterEngineCreate() {
         return handleCmmnEngineExecutorsAfterEngineCreate;
     }
@@ -13,6 +13,7 @@
 package org.flowable.cmmn.engine.impl.agenda.operation;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,8 @@ import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
 import org.flowable.cmmn.converter.util.CriterionUtil;
 import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryIfPartEvaluationCache;
+import org.flowable.cmmn.engine.impl.criteria.SentryTriggerIndex;
 import org.flowable.cmmn.engine.impl.listener.PlanItemLifeCycleListenerUtil;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
@@ -52,6 +55,7 @@ import org.flowable.cmmn.model.Stage;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,8 +66,17 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EvaluateCriteriaOperation.class);
 
+    protected static final String ENTRY_CRITERIA = "entry";
+    protected static final String EXIT_CRITERIA = "exit";
+
     protected PlanItemLifeCycleEvent planItemLifeCycleEvent;
 
+    // Only used with incremental sentry evaluation
+    protected SentryTriggerIndex sentryTriggerIndex;
+    protected Map<Long, Set<String>> triggeredSentryIds;
+    protected long triggeredSentryIdsChangeCounter = -1;
+    protected boolean volatileSentryIfPartEvaluated;
+
     // only the last evaluation planned on the agenda operation will have this true
     protected boolean evaluateCaseInstanceCompleted;
 
@@ -84,6 +97,11 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
             return;
         }
 
+        SentryIfPartEvaluationCache evaluationCache = SentryIfPartEvaluationCache.getCache(commandContext);
+        if (evaluationCache != null) {
+            sentryTriggerIndex = CaseDefinitionUtil.getSentryTriggerIndex(caseInstanceEntity.getCaseDefinitionId());
+        }
+
         String satisfiedExitCriterion = evaluateExitCriteria(caseInstanceEntity, getPlanModel(caseInstanceEntity));
         if (satisfiedExitCriterion != null) {
             CommandContextUtil.getAgenda(commandContext).planTerminateCaseInstanceOperation(caseInstanceEntity.getId(), satisfiedExitCriterion);
@@ -219,7 +237,7 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     protected String evaluateEntryCriteria(PlanItemInstanceEntity planItemInstanceEntity, PlanItem planItem) {
         List<Criterion> criteria = planItem.getEntryCriteria();
         if (criteria != null && !criteria.isEmpty()) {
-            return evaluateCriteria(planItemInstanceEntity, criteria);
+            return evaluateTriggeredCriteria(planItemInstanceEntity, criteria, ENTRY_CRITERIA);
         }
         return null;
     }
@@ -228,11 +246,68 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     protected String evaluateExitCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, HasExitCriteria hasExitCriteria) {
         List<Criterion> criteria = hasExitCriteria.getExitCriteria();
         if (criteria != null && !criteria.isEmpty()) {
-            return evaluateCriteria(entityWithSentryPartInstances, criteria);
+            return evaluateTriggeredCriteria(entityWithSentryPartInstances, criteria, EXIT_CRITERIA);
         }
         return null;
     }
 
+    /**
+     * Evaluates the given criteria, but with incremental sentry evaluation only the ones that can have become satisfied:
+     * when the criteria of the entity were found unsatisfied before in this command, only the criteria of which the
+     * {@link SentryTriggerIndex} reports a trigger that occurred since then are evaluated again.
+     */
+    protected String evaluateTriggeredCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, List<Criterion> criteria, String criteriaType) {
+        SentryIfPartEvaluationCache evaluationCache = sentryTriggerIndex != null ? SentryIfPartEvaluationCache.getCache(commandContext) : null;
+        if (evaluationCache == null) {
+            return evaluateCriteria(entityWithSentryPartInstances, criteria);
+        }
+
+        String entityId = entityWithSentryPartInstances.getId();
+        List<Criterion> criteriaToEvaluate = criteria;
+        Long unsatisfiedCriteriaCounter = evaluationCache.getUnsatisfiedCriteriaCounter(entityId, criteriaType);
+        if (unsatisfiedCriteriaCounter != null) {
+            Set<String> sentryIds = getTriggeredSentryIds(evaluationCache, unsatisfiedCriteriaCounter);
+            criteriaToEvaluate = new ArrayList<>(criteria.size());
+            for (Criterion criterion : criteria) {
+                if (sentryIds.contains(criterion.getSentry().getId())) {
+                    criteriaToEvaluate.add(criterion);
+                }
+            }
+
+            evaluationCache.criteriaSkipped(criteria.size() - criteriaToEvaluate.size());
+            if (criteriaToEvaluate.isEmpty()) {
+                return null;
+            }
+        }
+
+        long evaluatedAt = evaluationCache.getChangeCounter();
+        volatileSentryIfPartEvaluated = false;
+        String satisfiedCriterion = evaluateCriteria(entityWithSentryPartInstances, criteriaToEvaluate);
+        if (satisfiedCriterion == null && !volatileSentryIfPartEvaluated) {
+            evaluationCache.putUnsatisfiedCriteria(entityId, criteriaType, evaluatedAt);
+        } else {
+            evaluationCache.removeUnsatisfiedCriteria(entityId, criteriaType);
+        }
+        return satisfiedCriterion;
+    }
+
+    /**
+     * @return the ids of the sentries that can have become satisfied since the given change counter of the current command
+     */
+    protected Set<String> getTriggeredSentryIds(SentryIfPartEvaluationCache evaluationCache, long sinceChangeCounter) {
+        if (triggeredSentryIds == null || triggeredSentryIdsChangeCounter != evaluationCache.getChangeCounter()) {
+            triggeredSentryIds = new HashMap<>();
+            triggeredSentryIdsChangeCounter = evaluationCache.getChangeCounter();
+        }
+
+        return triggeredSentryIds.computeIfAbsent(sinceChangeCounter, counter -> {
+            Set<String> sentryIds = sentryTriggerIndex.getSentryIdsDependingOn(evaluationCache.getVariablesChangedAfter(counter));
+            sentryIds.addAll(sentryTriggerIndex.getSentryIdsTriggeredBy(planItemLifeCycleEvent));
+            sentryIds.addAll(sentryTriggerIndex.getUnconditionallyTriggeredSentryIds());
+            return sentryIds;
+        });
+    }
+
     /**
      * @return Returns the id of the criterion that is satisfied.
      *         If none is satisfied, null is returned.
@@ -356,12 +431,41 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     }
     
     protected boolean evaluateSentryIfPart(Sentry sentry, VariableContainer variableContainer) {
-        Expression conditionExpression = CommandContextUtil.getExpressionManager(commandContext).createExpression(sentry.getSentryIfPart().getCondition());
+        SentryIfPart sentryIfPart = sentry.getSentryIfPart();
+        SentryIfPartEvaluationCache evaluationCache = null;
+        String entityId = null;
+        if (sentryIfPart.getVariableDependencies() != null && variableContainer instanceof Entity) {
+            evaluationCache = SentryIfPartEvaluationCache.getCache(commandContext);
+            entityId = ((Entity) variableContainer).getId();
+        }
+
+        if (evaluationCache != null) {
+            Boolean cachedResult = evaluationCache.getResult(entityId, sentryIfPart);
+            if (cachedResult != null) {
+                return cachedResult;
+            }
+        }
+
+        Expression conditionExpression = CommandContextUtil.getExpressionManager(commandContext).createExpression(sentryIfPart.getCondition());
         Object result = conditionExpression.getValue(variableContainer);
-        if (result instanceof Boolean) {
-            return (Boolean) result;
+        boolean satisfied = result instanceof Boolean && (Boolean) result;
+
+        // Only remembered when every dependency is a variable, as other identifiers (e.g. beans) can change without notice
+        if (evaluationCache != null && hasVariables(variableContainer, sentryIfPart.getVariableDependencies())) {
+            evaluationCache.putResult(entityId, sentryIfPart, satisfied);
+        } else if (evaluationCache != null) {
+            volatileSentryIfPartEvaluated = true;
         }
-        return false;
+        return satisfied;
+    }
+
+    protected boolean hasVariables(VariableContainer variableContainer, Set<String> variableNames) {
+        for (String variableName : variableNames) {
+            if (!variableContainer.hasVariable(variableName)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     protected boolean isAvailableChildPlanCompletionNeutralOrNotActive(PlanItemInstanceContainer planItemInstanceContainer) {
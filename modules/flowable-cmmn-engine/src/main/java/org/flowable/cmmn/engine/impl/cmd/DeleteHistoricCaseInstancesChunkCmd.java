@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.entitylink.api.history.HistoricEntityLinkService;
+import org.flowable.identitylink.service.HistoricIdentityLinkService;
+import org.flowable.task.service.HistoricTaskService;
+
+/**
+ * Deletes at most chunkSize historic case instances matching the query, together with all their related history data,
+ * using bulk deletes on the ids of the instances.
+ * Returns the number of deleted historic case instances, so the caller knows whether more are left.
+ */
+public class DeleteHistoricCaseInstancesChunkCmd implements Command<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected HistoricCaseInstanceQueryImpl historicCaseInstanceQuery;
+    protected int chunkSize;
+
+    public DeleteHistoricCaseInstancesChunkCmd(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery, int chunkSize) {
+        this.historicCaseInstanceQuery = historicCaseInstanceQuery;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        if (historicCaseInstanceQuery == null) {
+            throw new FlowableIllegalArgumentException("query is null");
+        }
+        if (chunkSize <= 0) {
+            throw new FlowableIllegalArgumentException("chunk size must be greater than 0");
+        }
+
+        List<HistoricCaseInstance> historicCaseInstances = historicCaseInstanceQuery.listPage(0, chunkSize);
+        if (historicCaseInstances.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> caseInstanceIds = new HashSet<>();
+        for (HistoricCaseInstance historicCaseInstance : historicCaseInstances) {
+            caseInstanceIds.add(historicCaseInstance.getId());
+        }
+
+        // The bulk deletes are flushed in entity dependency order, so the task identity links are deleted before the task instances they are selected by
+        HistoricIdentityLinkService historicIdentityLinkService = CommandContextUtil.getHistoricIdentityLinkService(commandContext);
+        historicIdentityLinkService.deleteHistoricTaskIdentityLinksForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        historicIdentityLinkService.deleteHistoricIdentityLinksForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+
+        HistoricEntityLinkService historicEntityLinkService = CommandContextUtil.getHistoricEntityLinkService(commandContext);
+        if (historicEntityLinkService != null) {
+            historicEntityLinkService.deleteHistoricEntityLinksForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        }
+
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+        historicTaskService.deleteHistoricTaskLogEntriesForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        historicTaskService.deleteHistoricTaskInstancesForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+
+        CommandContextUtil.getHistoricMilestoneInstanceEntityManager(commandContext).deleteHistoricMilestoneInstancesForCaseInstanceIds(caseInstanceIds);
+        CommandContextUtil.getHistoricPlanItemInstanceEntityManager(commandContext).deleteHistoricPlanItemInstancesForCaseInstanceIds(caseInstanceIds);
+        CommandContextUtil.getHistoricVariableService(commandContext).deleteHistoricVariableInstancesForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+
+        HistoricCaseInstanceQueryImpl caseInstanceIdsQuery = new HistoricCaseInstanceQueryImpl();
+        caseInstanceIdsQuery.caseInstanceIds(caseInstanceIds);
+        CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext).deleteHistoricCaseInstances(caseInstanceIdsQuery);
+
+        return historicCaseInstances.size();
+    }
+
+}
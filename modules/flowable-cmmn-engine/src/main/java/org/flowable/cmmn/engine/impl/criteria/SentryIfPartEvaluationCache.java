@@ -0,0 +1,184 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Remembers the results of sentry if part conditions within one command, see {@link CmmnEngineConfiguration#isEnableIncrementalSentryEvaluation()}.
+ *
+ * Every variable change in the command increases a change counter and records it for the name of the variable.
+ * A remembered result is reused as long as none of the {@link SentryIfPart#getVariableDependencies()} changed after it was evaluated.
+ *
+ * It also remembers the change counter at which the entry or exit criteria of an entity were last found unsatisfied,
+ * so that only the criteria triggered after that point (see {@link SentryTriggerIndex}) need to be evaluated again.
+ */
+public class SentryIfPartEvaluationCache {
+
+    protected static final String ATTRIBUTE_SENTRY_IF_PART_EVALUATION_CACHE = "sentryIfPartEvaluationCache";
+
+    protected long changeCounter;
+    protected Map<String, Long> variableChanges = new HashMap<>();
+    protected Map<String, EvaluationResult> results = new HashMap<>();
+    protected Map<String, Long> unsatisfiedCriteria = new HashMap<>();
+
+    protected long hitCount;
+    protected long missCount;
+    protected long skippedCriterionCount;
+
+    /**
+     * @return the cache of the current command, or null when incremental sentry evaluation is disabled
+     */
+    public static SentryIfPartEvaluationCache getCache(CommandContext commandContext) {
+        if (commandContext == null) {
+            return null;
+        }
+
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        if (cmmnEngineConfiguration == null || !cmmnEngineConfiguration.isEnableIncrementalSentryEvaluation()) {
+            return null;
+        }
+
+        SentryIfPartEvaluationCache cache = (SentryIfPartEvaluationCache) commandContext.getAttribute(ATTRIBUTE_SENTRY_IF_PART_EVALUATION_CACHE);
+        if (cache == null) {
+            cache = new SentryIfPartEvaluationCache();
+            commandContext.addAttribute(ATTRIBUTE_SENTRY_IF_PART_EVALUATION_CACHE, cache);
+        }
+        return cache;
+    }
+
+    public static void variableChanged(String variableName) {
+        SentryIfPartEvaluationCache cache = getCache(Context.getCommandContext());
+        if (cache != null) {
+            cache.recordVariableChange(variableName);
+        }
+    }
+
+    public static void allVariablesChanged() {
+        SentryIfPartEvaluationCache cache = getCache(Context.getCommandContext());
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    public void recordVariableChange(String variableName) {
+        variableChanges.put(variableName, ++changeCounter);
+    }
+
+    public void clear() {
+        changeCounter++;
+        results.clear();
+        unsatisfiedCriteria.clear();
+    }
+
+    /**
+     * @return the remembered result of the if part for the given entity, or null when it needs to be evaluated
+     */
+    public Boolean getResult(String entityId, SentryIfPart sentryIfPart) {
+        EvaluationResult result = results.get(createKey(entityId, sentryIfPart));
+        if (result != null && !isChangedAfter(sentryIfPart.getVariableDependencies(), result.evaluatedAt)) {
+            hitCount++;
+            return result.value;
+        }
+        missCount++;
+        return null;
+    }
+
+    public void putResult(String entityId, SentryIfPart sentryIfPart, boolean value) {
+        results.put(createKey(entityId, sentryIfPart), new EvaluationResult(value, changeCounter));
+    }
+
+    /**
+     * @return the change counter at which the given criteria of the entity were found unsatisfied, or null when they need to be fully evaluated
+     */
+    public Long getUnsatisfiedCriteriaCounter(String entityId, String criteriaType) {
+        return unsatisfiedCriteria.get(createKey(entityId, criteriaType));
+    }
+
+    public void putUnsatisfiedCriteria(String entityId, String criteriaType, long evaluatedAt) {
+        unsatisfiedCriteria.put(createKey(entityId, criteriaType), evaluatedAt);
+    }
+
+    public void removeUnsatisfiedCriteria(String entityId, String criteriaType) {
+        unsatisfiedCriteria.remove(createKey(entityId, criteriaType));
+    }
+
+    public Set<String> getVariablesChangedAfter(long counter) {
+        Set<String> variableNames = new HashSet<>();
+        for (Map.Entry<String, Long> variableChange : variableChanges.entrySet()) {
+            if (variableChange.getValue() > counter) {
+                variableNames.add(variableChange.getKey());
+            }
+        }
+        return variableNames;
+    }
+
+    public void criteriaSkipped(int criterionCount) {
+        skippedCriterionCount += criterionCount;
+    }
+
+    protected boolean isChangedAfter(Set<String> variableNames, long evaluatedAt) {
+        for (String variableName : variableNames) {
+            Long changedAt = variableChanges.get(variableName);
+            if (changedAt != null && changedAt > evaluatedAt) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected String createKey(String entityId, SentryIfPart sentryIfPart) {
+        return createKey(entityId, sentryIfPart.getId());
+    }
+
+    protected String createKey(String entityId, String suffix) {
+        return entityId + '_' + suffix;
+    }
+
+    public long getChangeCounter() {
+        return changeCounter;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getSkippedCriterionCount() {
+        return skippedCriterionCount;
+    }
+
+    protected static class EvaluationResult {
+
+        protected boolean value;
+        protected long evaluatedAt;
+
+        public EvaluationResult(boolean value, long evaluatedAt) {
+            this.value = value;
+            this.evaluatedAt = evaluatedAt;
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.cmmn.engine.impl.el.CmmnVariableScopeELResolver;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CaseElement;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Node;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilderException;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstFunction;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstIdentifier;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstMethod;
+
+/**
+ * Determines the variables a sentry if part condition depends on.
+ *
+ * A condition only gets variable dependencies when its result is fully determined by the values of the variables it reads:
+ * it may use identifiers, properties, operators and literals, but no method invocations, functions or
+ * the identifiers resolved to the case, plan item instance or task itself.
+ */
+public class SentryIfPartVariableCollector {
+
+    protected static final Set<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList(
+            CmmnVariableScopeELResolver.CASE_INSTANCE_KEY, CmmnVariableScopeELResolver.PLAN_ITEM_INSTANCE_KEY, CmmnVariableScopeELResolver.TASK_KEY));
+
+    protected static final Builder BUILDER = new Builder(Builder.Feature.METHOD_INVOCATIONS, Builder.Feature.VARARGS);
+
+    public static void collectVariableDependencies(Case caze) {
+        for (CaseElement caseElement : caze.getAllCaseElements().values()) {
+            if (caseElement instanceof Sentry) {
+                SentryIfPart sentryIfPart = ((Sentry) caseElement).getSentryIfPart();
+                if (sentryIfPart != null) {
+                    sentryIfPart.setVariableDependencies(collectVariableDependencies(sentryIfPart.getCondition()));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the names of the variables used in the condition, or null when the condition depends on anything else than variables
+     */
+    public static Set<String> collectVariableDependencies(String condition) {
+        if (StringUtils.isEmpty(condition)) {
+            return null;
+        }
+
+        Tree tree;
+        try {
+            tree = BUILDER.build(condition);
+        } catch (TreeBuilderException e) {
+            return null; // The actual evaluation reports the invalid expression
+        }
+
+        if (tree.getFunctionNodes().iterator().hasNext()) {
+            return null;
+        }
+
+        Set<String> variableNames = new HashSet<>();
+        if (!collectVariableNames(tree.getRoot(), variableNames)) {
+            return null;
+        }
+        return Collections.unmodifiableSet(variableNames);
+    }
+
+    protected static boolean collectVariableNames(Node node, Set<String> variableNames) {
+        if (node instanceof AstMethod || node instanceof AstFunction) {
+            return false;
+        }
+
+        if (node instanceof AstIdentifier) {
+            String name = ((AstIdentifier) node).getName();
+            if (RESERVED_IDENTIFIERS.contains(name)) {
+                return false;
+            }
+            variableNames.add(name);
+        }
+
+        for (int i = 0; i < node.getCardinality(); i++) {
+            if (!collectVariableNames(node.getChild(i), variableNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CaseElement;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.cmmn.model.SentryOnPart;
+
+/**
+ * Maps the triggers of a case definition to the sentries they can satisfy, see {@link CmmnEngineConfiguration#isEnableIncrementalSentryEvaluation()}.
+ *
+ * A sentry can only become satisfied by a lifecycle transition of the source of one of its on parts,
+ * or by a change of one of the {@link SentryIfPart#getVariableDependencies()} of its if part.
+ * Sentries with an if part without determined variable dependencies can become satisfied at any time.
+ *
+ * Built when the case definition is deployed and kept in its cache entry.
+ */
+public class SentryTriggerIndex {
+
+    protected Map<String, Set<String>> sentryIdsByOnPartTrigger = new HashMap<>();
+    protected Map<String, Set<String>> sentryIdsByVariableName = new HashMap<>();
+    protected Set<String> unconditionallyTriggeredSentryIds = new HashSet<>();
+
+    public static SentryTriggerIndex build(Case caze) {
+        SentryTriggerIndex sentryTriggerIndex = new SentryTriggerIndex();
+        for (CaseElement caseElement : caze.getAllCaseElements().values()) {
+            if (caseElement instanceof Sentry) {
+                sentryTriggerIndex.addSentry((Sentry) caseElement);
+            }
+        }
+        return sentryTriggerIndex;
+    }
+
+    protected void addSentry(Sentry sentry) {
+        for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+            sentryIdsByOnPartTrigger.computeIfAbsent(createOnPartTriggerKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()), key -> new HashSet<>())
+                    .add(sentry.getId());
+        }
+
+        SentryIfPart sentryIfPart = sentry.getSentryIfPart();
+        if (sentryIfPart != null) {
+            if (sentryIfPart.getVariableDependencies() == null) {
+                unconditionallyTriggeredSentryIds.add(sentry.getId());
+            } else {
+                for (String variableName : sentryIfPart.getVariableDependencies()) {
+                    sentryIdsByVariableName.computeIfAbsent(variableName, key -> new HashSet<>()).add(sentry.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the ids of the sentries with an on part for the given transition of the given plan item
+     */
+    public Set<String> getSentryIdsTriggeredBy(PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        if (planItemLifeCycleEvent == null) {
+            return Collections.emptySet();
+        }
+        Set<String> sentryIds = sentryIdsByOnPartTrigger.get(
+                createOnPartTriggerKey(planItemLifeCycleEvent.getPlanItem().getId(), planItemLifeCycleEvent.getTransition()));
+        return sentryIds != null ? sentryIds : Collections.emptySet();
+    }
+
+    /**
+     * @return the ids of the sentries with an if part depending on one of the given variables
+     */
+    public Set<String> getSentryIdsDependingOn(Set<String> variableNames) {
+        Set<String> sentryIds = new HashSet<>();
+        for (String variableName : variableNames) {
+            Set<String> dependentSentryIds = sentryIdsByVariableName.get(variableName);
+            if (dependentSentryIds != null) {
+                sentryIds.addAll(dependentSentryIds);
+            }
+        }
+        return sentryIds;
+    }
+
+    /**
+     * @return the ids of the sentries with an if part that can change without a variable change
+     */
+    public Set<String> getUnconditionallyTriggeredSentryIds() {
+        return unconditionallyTriggeredSentryIds;
+    }
+
+    protected String createOnPartTriggerKey(String sourceRef, String standardEvent) {
+        return sourceRef + '_' + standardEvent;
+    }
+
+}
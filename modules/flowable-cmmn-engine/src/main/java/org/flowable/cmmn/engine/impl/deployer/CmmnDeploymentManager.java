@@ -103,9 +103,11 @@ public class CmmnDeploymentManager {
         CaseDefinitionCacheEntry cachedCaseDefinition = caseDefinitionCache.get(caseDefinitionId);
 
         if (cachedCaseDefinition == null) {
+            long loadStartTime = System.nanoTime();
             CmmnDeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
             deploy(deployment, null);
+            caseDefinitionCache.recordLoad(System.nanoTime() - loadStartTime);
             cachedCaseDefinition = caseDefinitionCache.get(caseDefinitionId);
 
             if (cachedCaseDefinition == null) {
@@ -130,6 +132,11 @@ public class CmmnDeploymentManager {
         }
         
         deploymentEntityManager.deleteDeploymentAndRelatedData(deploymentId, cascade);
+
+        // The compiled scripts aren't tracked per deployment
+        if (cmmnEngineConfiguration.getScriptingEngines() != null) {
+            cmmnEngineConfiguration.getScriptingEngines().clearCompiledScriptCache();
+        }
     }
 
     public List<EngineDeployer> getDeployers() {
@@ -12,9 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.job;
 
-import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
+import java.util.List;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
-import org.flowable.cmmn.engine.impl.cmd.DeleteHistoricCaseInstancesCmd;
 import org.flowable.cmmn.engine.impl.cmd.DeleteRelatedDataOfRemovedHistoricCaseInstancesCmd;
 import org.flowable.cmmn.engine.impl.cmd.DeleteTaskAndPlanItemInstanceDataOfRemovedHistoricCaseInstancesCmd;
 import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
@@ -23,9 +24,17 @@ import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
 
+/**
+ * Starts the history cleanup by splitting the end time range of the historic case instances to clean
+ * into {@link CmmnEngineConfiguration#getHistoryCleaningPartitionCount()} partitions,
+ * each deleted by its own {@link CmmnHistoryCleanupPartitionJobHandler} job.
+ * As long as partition jobs of a previous cleanup are still pending, no new cleanup is started.
+ * Once they are done, the data left behind by case instances that were deleted in another way is removed first.
+ */
 public class CmmnHistoryCleanupJobHandler implements JobHandler {
 
     public static final String TYPE = "cmmn-history-cleanup";
@@ -37,14 +46,44 @@ public class CmmnHistoryCleanupJobHandler implements JobHandler {
 
     @Override
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
-        CommandConfig config = new CommandConfig().transactionRequiresNew();
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+
+        // Partition jobs waiting for a retry are timer jobs
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        if (jobService.createJobQuery().handlerType(CmmnHistoryCleanupPartitionJobHandler.TYPE).count() > 0
+                || jobService.createTimerJobQuery().handlerType(CmmnHistoryCleanupPartitionJobHandler.TYPE).count() > 0) {
+            return;
+        }
+
+        CommandConfig commandConfig = new CommandConfig().transactionRequiresNew();
         CommandExecutor commandExecutor = cmmnEngineConfiguration.getCommandExecutor();
-        
-        HistoricCaseInstanceQuery historicCaseInstanceQuery = cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery();
-        commandExecutor.execute(config, new DeleteHistoricCaseInstancesCmd((HistoricCaseInstanceQueryImpl) historicCaseInstanceQuery));
-        commandExecutor.execute(config, new DeleteTaskAndPlanItemInstanceDataOfRemovedHistoricCaseInstancesCmd());
-        commandExecutor.execute(config, new DeleteRelatedDataOfRemovedHistoricCaseInstancesCmd());
+        commandExecutor.execute(commandConfig, new DeleteTaskAndPlanItemInstanceDataOfRemovedHistoricCaseInstancesCmd());
+        commandExecutor.execute(commandConfig, new DeleteRelatedDataOfRemovedHistoricCaseInstancesCmd());
+
+        List<HistoricCaseInstance> oldestInstances = createCleaningQuery(cmmnEngineConfiguration).orderByEndTime().asc().listPage(0, 1);
+        if (oldestInstances.isEmpty()) {
+            return;
+        }
+        List<HistoricCaseInstance> newestInstances = createCleaningQuery(cmmnEngineConfiguration).orderByEndTime().desc().listPage(0, 1);
+
+        long finishedAfter = oldestInstances.get(0).getEndTime().getTime();
+        long finishedBefore = newestInstances.get(0).getEndTime().getTime();
+        int partitionCount = Math.max(cmmnEngineConfiguration.getHistoryCleaningPartitionCount(), 1);
+        long partitionSize = (finishedBefore - finishedAfter) / partitionCount + 1;
+
+        for (long partitionStart = finishedAfter; partitionStart <= finishedBefore; partitionStart += partitionSize) {
+            // Both ends of the range are inclusive
+            long partitionEnd = Math.min(partitionStart + partitionSize - 1, finishedBefore);
+            CmmnHistoryCleanupPartitionJobHandler.scheduleJob(CmmnHistoryCleanupPartitionJobHandler.getHandlerCfg(cmmnEngineConfiguration.getObjectMapper(),
+                    partitionStart, partitionEnd, partitionCount), commandContext);
+        }
     }
-    
+
+    protected HistoricCaseInstanceQueryImpl createCleaningQuery(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        HistoricCaseInstanceQueryImpl query = (HistoricCaseInstanceQueryImpl) cmmnEngineConfiguration.getCmmnHistoryCleaningManager()
+                .createHistoricCaseInstanceCleaningQuery();
+        query.finished();
+        return query;
+    }
+
 }
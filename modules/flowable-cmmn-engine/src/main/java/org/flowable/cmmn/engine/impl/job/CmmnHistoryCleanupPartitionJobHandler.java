@@ -0,0 +1,164 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.job;
+
+import java.io.IOException;
+import java.util.Date;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cmd.DeleteHistoricCaseInstancesChunkCmd;
+import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic case instances of the history cleanup that ended within the end time range of one partition.
+ *
+ * The instances are deleted in chunks of {@link CmmnEngineConfiguration#getHistoryCleaningBatchSize()}, each in its own transaction,
+ * optionally throttled to {@link CmmnEngineConfiguration#getHistoryCleaningMaxInstancesPerSecond()}.
+ * The handler stops after half of the async job lock time and continues in a new job with the progress in its configuration.
+ */
+public class CmmnHistoryCleanupPartitionJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmmnHistoryCleanupPartitionJobHandler.class);
+
+    public static final String TYPE = "cmmn-history-cleanup-partition";
+
+    protected static final String CFG_LABEL_FINISHED_AFTER = "finishedAfter";
+    protected static final String CFG_LABEL_FINISHED_BEFORE = "finishedBefore";
+    protected static final String CFG_LABEL_PARTITION_COUNT = "partitionCount";
+    protected static final String CFG_LABEL_DELETED_INSTANCES = "deletedInstances";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        CommandExecutor commandExecutor = cmmnEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = new CommandConfig().transactionRequiresNew();
+
+        JsonNode handlerCfg = readHandlerCfg(configuration, cmmnEngineConfiguration.getObjectMapper());
+        long finishedAfter = handlerCfg.path(CFG_LABEL_FINISHED_AFTER).asLong();
+        long finishedBefore = handlerCfg.path(CFG_LABEL_FINISHED_BEFORE).asLong();
+        int partitionCount = Math.max(handlerCfg.path(CFG_LABEL_PARTITION_COUNT).asInt(1), 1);
+        long deletedInstances = handlerCfg.path(CFG_LABEL_DELETED_INSTANCES).asLong();
+
+        int batchSize = Math.max(cmmnEngineConfiguration.getHistoryCleaningBatchSize(), 1);
+        int maxInstancesPerSecond = cmmnEngineConfiguration.getHistoryCleaningMaxInstancesPerSecond();
+        if (maxInstancesPerSecond > 0) {
+            maxInstancesPerSecond = Math.max(maxInstancesPerSecond / partitionCount, 1);
+        }
+
+        long startTime = System.currentTimeMillis();
+        long maxRunTime = getMaxRunTimeInMillis(cmmnEngineConfiguration);
+        boolean completed = false;
+        while (!completed && System.currentTimeMillis() - startTime < maxRunTime) {
+            long chunkStartTime = System.currentTimeMillis();
+            HistoricCaseInstanceQueryImpl query = createPartitionQuery(cmmnEngineConfiguration, finishedAfter, finishedBefore);
+            int deletedInChunk = commandExecutor.execute(commandConfig, new DeleteHistoricCaseInstancesChunkCmd(query, batchSize));
+            deletedInstances += deletedInChunk;
+            completed = deletedInChunk < batchSize;
+
+            if (!completed && maxInstancesPerSecond > 0) {
+                throttle(chunkStartTime, deletedInChunk, maxInstancesPerSecond);
+            }
+        }
+
+        if (completed) {
+            LOGGER.debug("History cleanup partition {} - {} completed, deleted {} historic case instances", finishedAfter, finishedBefore, deletedInstances);
+
+        } else {
+            LOGGER.debug("History cleanup partition {} - {} deleted {} historic case instances so far, continuing in a new job",
+                    finishedAfter, finishedBefore, deletedInstances);
+            ObjectNode continuationCfg = ((ObjectNode) handlerCfg).put(CFG_LABEL_DELETED_INSTANCES, deletedInstances);
+            scheduleJob(continuationCfg.toString(), commandContext);
+        }
+    }
+
+    protected HistoricCaseInstanceQueryImpl createPartitionQuery(CmmnEngineConfiguration cmmnEngineConfiguration, long finishedAfter, long finishedBefore) {
+        HistoricCaseInstanceQueryImpl query = (HistoricCaseInstanceQueryImpl) cmmnEngineConfiguration.getCmmnHistoryCleaningManager()
+                .createHistoricCaseInstanceCleaningQuery();
+        // The range of the partition is always within the range of the cleaning query at the time the partitions were created
+        if (query.getFinishedAfter() == null || query.getFinishedAfter().getTime() < finishedAfter) {
+            query.finishedAfter(new Date(finishedAfter));
+        }
+        if (query.getFinishedBefore() == null || query.getFinishedBefore().getTime() > finishedBefore) {
+            query.finishedBefore(new Date(finishedBefore));
+        }
+        return query;
+    }
+
+    protected long getMaxRunTimeInMillis(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        AsyncExecutor asyncExecutor = cmmnEngineConfiguration.getAsyncExecutor();
+        if (asyncExecutor != null && asyncExecutor.getAsyncJobLockTimeInMillis() > 0) {
+            return asyncExecutor.getAsyncJobLockTimeInMillis() / 2;
+        }
+        return 5 * 60 * 1000 / 2;
+    }
+
+    protected void throttle(long chunkStartTime, int deletedInChunk, int maxInstancesPerSecond) {
+        long minChunkTime = deletedInChunk * 1000L / maxInstancesPerSecond;
+        long waitTime = minChunkTime - (System.currentTimeMillis() - chunkStartTime);
+        if (waitTime > 0) {
+            try {
+                Thread.sleep(waitTime);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public static void scheduleJob(String handlerCfg, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(TYPE);
+        job.setJobHandlerConfiguration(handlerCfg);
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    public static String getHandlerCfg(ObjectMapper objectMapper, long finishedAfter, long finishedBefore, int partitionCount) {
+        ObjectNode handlerCfg = objectMapper.createObjectNode();
+        handlerCfg.put(CFG_LABEL_FINISHED_AFTER, finishedAfter);
+        handlerCfg.put(CFG_LABEL_FINISHED_BEFORE, finishedBefore);
+        handlerCfg.put(CFG_LABEL_PARTITION_COUNT, partitionCount);
+        handlerCfg.put(CFG_LABEL_DELETED_INSTANCES, 0L);
+        return handlerCfg.toString();
+    }
+
+    protected JsonNode readHandlerCfg(String configuration, ObjectMapper objectMapper) {
+        try {
+            return objectMapper.readTree(configuration);
+        } catch (IOException e) {
+            throw new FlowableException("Invalid history cleanup partition job configuration " + configuration, e);
+        }
+    }
+
+}
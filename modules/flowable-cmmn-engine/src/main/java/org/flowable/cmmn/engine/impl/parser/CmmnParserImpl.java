@@ -20,6 +20,7 @@ import java.util.List;
 import org.flowable.cmmn.converter.CmmnXMLException;
 import org.flowable.cmmn.converter.CmmnXmlConverter;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.criteria.SentryIfPartVariableCollector;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntity;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.model.Case;
@@ -93,8 +94,13 @@ public class CmmnParserImpl implements CmmnParser {
     }
 
     public void processCmmnElements(CmmnModel cmmnModel, CmmnParseResult parseResult) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+        boolean enableIncrementalSentryEvaluation = cmmnEngineConfiguration != null && cmmnEngineConfiguration.isEnableIncrementalSentryEvaluation();
         for (Case caze : cmmnModel.getCases()) {
             cmmnParseHandlers.parseElement(this, parseResult, caze);
+            if (enableIncrementalSentryEvaluation) {
+                SentryIfPartVariableCollector.collectVariableDependencies(caze);
+            }
         }
     }
 
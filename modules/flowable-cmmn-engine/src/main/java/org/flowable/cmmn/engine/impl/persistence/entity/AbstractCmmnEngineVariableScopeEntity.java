@@ -12,6 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import org.flowable.cmmn.engine.impl.criteria.SentryIfPartEvaluationCache;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 
 public abstract class AbstractCmmnEngineVariableScopeEntity extends VariableScopeImpl {
@@ -22,4 +24,42 @@ public abstract class AbstractCmmnEngineVariableScopeEntity extends VariableScop
     public String getIdPrefix() {
         return CmmnEngineEntityConstants.CMMN_ENGINE_ID_PREFIX;
     }
+
+    // Variable changes invalidate the remembered sentry if part results depending on them
+
+    @Override
+    protected VariableInstanceEntity createVariableInstance(String variableName, Object value) {
+        SentryIfPartEvaluationCache.variableChanged(variableName);
+        return super.createVariableInstance(variableName, value);
+    }
+
+    @Override
+    protected void updateVariableInstance(VariableInstanceEntity variableInstance, Object value) {
+        SentryIfPartEvaluationCache.variableChanged(variableInstance.getName());
+        super.updateVariableInstance(variableInstance, value);
+    }
+
+    @Override
+    protected void deleteVariableInstanceForExplicitUserCall(VariableInstanceEntity variableInstance) {
+        SentryIfPartEvaluationCache.variableChanged(variableInstance.getName());
+        super.deleteVariableInstanceForExplicitUserCall(variableInstance);
+    }
+
+    @Override
+    public void setTransientVariableLocal(String variableName, Object variableValue) {
+        SentryIfPartEvaluationCache.variableChanged(variableName);
+        super.setTransientVariableLocal(variableName, variableValue);
+    }
+
+    @Override
+    public void removeTransientVariableLocal(String variableName) {
+        SentryIfPartEvaluationCache.variableChanged(variableName);
+        super.removeTransientVariableLocal(variableName);
+    }
+
+    @Override
+    public void removeTransientVariablesLocal() {
+        SentryIfPartEvaluationCache.allVariablesChanged();
+        super.removeTransientVariablesLocal();
+    }
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -59,6 +60,11 @@ public class HistoricMilestoneInstanceEntityManagerImpl extends AbstractCmmnEnti
         historicMilestoneInstanceDataManager.deleteHistoricMilestoneInstancesForNonExistingCaseInstances();
     }
     
+    @Override
+    public void deleteHistoricMilestoneInstancesForCaseInstanceIds(Collection<String> caseInstanceIds) {
+        historicMilestoneInstanceDataManager.deleteHistoricMilestoneInstancesForCaseInstanceIds(caseInstanceIds);
+    }
+    
     public HistoricMilestoneInstanceDataManager getHistoricMilestoneInstanceDataManager() {
         return historicMilestoneInstanceDataManager;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
@@ -32,4 +33,6 @@ public interface HistoricPlanItemInstanceEntityManager extends EntityManager<His
     long countByCriteria(HistoricPlanItemInstanceQuery query);
 
     void deleteHistoricPlanItemInstancesForNonExistingCaseInstances();
+
+    void deleteHistoricPlanItemInstancesForCaseInstanceIds(Collection<String> caseInstanceIds);
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
@@ -63,4 +64,9 @@ public class HistoricPlanItemInstanceEntityManagerImpl extends AbstractCmmnEntit
     public void deleteHistoricPlanItemInstancesForNonExistingCaseInstances() {
         historicPlanItemInstanceDataManager.deleteHistoricPlanItemInstancesForNonExistingCaseInstances();
     }
+
+    @Override
+    public void deleteHistoricPlanItemInstancesForCaseInstanceIds(Collection<String> caseInstanceIds) {
+        historicPlanItemInstanceDataManager.deleteHistoricPlanItemInstancesForCaseInstanceIds(caseInstanceIds);
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -29,4 +30,6 @@ public interface HistoricMilestoneInstanceDataManager extends DataManager<Histor
     long findHistoricMilestoneInstancesCountByQueryCriteria(HistoricMilestoneInstanceQueryImpl query);
     
     void deleteHistoricMilestoneInstancesForNonExistingCaseInstances();
+    
+    void deleteHistoricMilestoneInstancesForCaseInstanceIds(Collection<String> caseInstanceIds);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
@@ -33,4 +34,6 @@ public interface HistoricPlanItemInstanceDataManager extends DataManager<Histori
     void deleteByCaseDefinitionId(String caseDefinitionId);
 
     void deleteHistoricPlanItemInstancesForNonExistingCaseInstances();
+
+    void deleteHistoricPlanItemInstancesForCaseInstanceIds(Collection<String> caseInstanceIds);
 }
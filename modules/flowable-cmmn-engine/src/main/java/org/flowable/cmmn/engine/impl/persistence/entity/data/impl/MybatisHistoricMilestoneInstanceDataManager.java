@@ -12,7 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -57,4 +60,11 @@ public class MybatisHistoricMilestoneInstanceDataManager extends AbstractCmmnDat
         getDbSqlSession().delete("bulkDeleteHistoricMilestoneInstancesForNonExistingCaseInstances", null, getManagedEntityClass());
     }
     
+    @Override
+    public void deleteHistoricMilestoneInstancesForCaseInstanceIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricMilestoneInstancesForCaseInstanceIds", params, getManagedEntityClass());
+    }
+    
 }
@@ -12,7 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -67,6 +70,13 @@ public class MybatisHistoricPlanItemInstanceDataManager extends AbstractCmmnData
         getDbSqlSession().delete("bulkDeleteHistoricPlanItemInstancesForNonExistingCaseInstances", null, getManagedEntityClass());
     }
 
+    @Override
+    public void deleteHistoricPlanItemInstancesForCaseInstanceIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricPlanItemInstancesForCaseInstanceIds", params, getManagedEntityClass());
+    }
+
     @Override
     public Class<? extends HistoricPlanItemInstanceEntity> getManagedEntityClass() {
         return HistoricPlanItemInstanceEntityImpl.class;
@@ -25,6 +25,7 @@ import org.flowable.cmmn.api.CmmnTaskService;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupPartitionJobHandler;
 import org.flowable.cmmn.engine.test.CmmnConfigurationResource;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTest;
@@ -44,6 +45,8 @@ public class HistoricDataEngineDeleteTest {
                     CmmnHistoryService cmmnHistoryService, CmmnTaskService cmmnTaskService, CmmnManagementService cmmnManagementService) {
         
         try {
+            cmmnEngineConfiguration.setHistoryCleaningBatchSize(3);
+            cmmnEngineConfiguration.setHistoryCleaningPartitionCount(2);
             Clock clock = cmmnEngineConfiguration.getClock();
             Calendar cal = clock.getCurrentCalendar();
             cal.add(Calendar.DAY_OF_YEAR, -400);
@@ -64,6 +67,9 @@ public class HistoricDataEngineDeleteTest {
                 for (int i = 0; i < 10; i++) {
                     Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstanceIds.get(i)).singleResult();
                     cmmnTaskService.setVariableLocal(task.getId(), "taskVar", "taskValue" + (i + 1));
+                    // Spread the end times, so every partition of the history cleanup gets instances to delete
+                    cal.add(Calendar.HOUR_OF_DAY, 1);
+                    clock.setCurrentCalendar(cal);
                     cmmnTaskService.complete(task.getId());
                 }
                 
@@ -73,6 +79,14 @@ public class HistoricDataEngineDeleteTest {
                 cmmnManagementService.executeJob(executableJob.getId());
                 
                 assertEquals(1, cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).count());
+                assertEquals(20, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+                
+                List<Job> partitionJobs = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupPartitionJobHandler.TYPE).list();
+                assertEquals(2, partitionJobs.size());
+                for (Job partitionJob : partitionJobs) {
+                    cmmnManagementService.executeJob(partitionJob.getId());
+                }
+                assertEquals(0, cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupPartitionJobHandler.TYPE).count());
                 
                 assertEquals(10, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
                 assertEquals(20, cmmnHistoryService.createHistoricPlanItemInstanceQuery().count());
@@ -97,6 +111,8 @@ public class HistoricDataEngineDeleteTest {
             }
         
         } finally {
+            cmmnEngineConfiguration.setHistoryCleaningBatchSize(100);
+            cmmnEngineConfiguration.setHistoryCleaningPartitionCount(4);
             cmmnEngineConfiguration.resetClock();
         }
     }
@@ -0,0 +1,170 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryIfPartEvaluationCache;
+import org.flowable.cmmn.engine.impl.criteria.SentryIfPartVariableCollector;
+import org.flowable.cmmn.engine.impl.criteria.SentryTriggerIndex;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemTransition;
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+public class IncrementalSentryEvaluationTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    @Override
+    protected String getEngineName() {
+        return this.getClass().getName();
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.setEnableIncrementalSentryEvaluation(true);
+    }
+
+    @Test
+    public void testVariableDependencies() {
+        assertThat(SentryIfPartVariableCollector.collectVariableDependencies("${x > 5 && y == 'go'}")).containsOnly("x", "y");
+        assertThat(SentryIfPartVariableCollector.collectVariableDependencies("${order.total > limit}")).containsOnly("order", "limit");
+        assertThat(SentryIfPartVariableCollector.collectVariableDependencies("${items[index] != null}")).containsOnly("items", "index");
+        assertThat(SentryIfPartVariableCollector.collectVariableDependencies("${true}")).isEmpty();
+
+        assertThat(SentryIfPartVariableCollector.collectVariableDependencies("${caseInstance.getVariable('x') > 5}")).isNull();
+        assertThat(SentryIfPartVariableCollector.collectVariableDependencies("${planItemInstance.name == 'A'}")).isNull();
+        assertThat(SentryIfPartVariableCollector.collectVariableDependencies("${order.isValid()}")).isNull();
+        assertThat(SentryIfPartVariableCollector.collectVariableDependencies("${variables:get(x)}")).isNull();
+        assertThat(SentryIfPartVariableCollector.collectVariableDependencies("${x >")).isNull();
+    }
+
+    @Test
+    public void testCachedResultInvalidatedByVariableChange() {
+        SentryIfPart sentryIfPart = new SentryIfPart();
+        sentryIfPart.setId("ifPart");
+        sentryIfPart.setVariableDependencies(SentryIfPartVariableCollector.collectVariableDependencies("${x > 5}"));
+
+        SentryIfPartEvaluationCache cache = new SentryIfPartEvaluationCache();
+        assertThat(cache.getResult("entity", sentryIfPart)).isNull();
+        cache.putResult("entity", sentryIfPart, false);
+        assertThat(cache.getResult("entity", sentryIfPart)).isFalse();
+        assertThat(cache.getResult("otherEntity", sentryIfPart)).isNull();
+
+        cache.recordVariableChange("y");
+        assertThat(cache.getResult("entity", sentryIfPart)).isFalse();
+
+        cache.recordVariableChange("x");
+        assertThat(cache.getResult("entity", sentryIfPart)).isNull();
+
+        cache.putResult("entity", sentryIfPart, true);
+        assertThat(cache.getResult("entity", sentryIfPart)).isTrue();
+        cache.clear();
+        assertThat(cache.getResult("entity", sentryIfPart)).isNull();
+
+        assertThat(cache.getHitCount()).isEqualTo(3);
+        assertThat(cache.getMissCount()).isEqualTo(4);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/IncrementalSentryEvaluationTest.testIfPartReevaluatedAfterVariableChange.cmmn")
+    public void testSentryTriggerIndex() {
+        String caseDefinitionId = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("incrementalSentryEvaluation").singleResult().getId();
+        SentryTriggerIndex sentryTriggerIndex = cmmnEngineConfiguration.getCommandExecutor()
+                .execute(commandContext -> CaseDefinitionUtil.getSentryTriggerIndex(caseDefinitionId));
+
+        PlanItem planItemStart = cmmnRepositoryService.getCmmnModel(caseDefinitionId).findPlanItem("planItemStart");
+        assertThat(sentryTriggerIndex.getSentryIdsTriggeredBy(new PlanItemLifeCycleEvent(planItemStart, PlanItemTransition.COMPLETE)))
+                .containsOnly("sentrySetX");
+        assertThat(sentryTriggerIndex.getSentryIdsTriggeredBy(new PlanItemLifeCycleEvent(planItemStart, PlanItemTransition.TERMINATE))).isEmpty();
+        assertThat(sentryTriggerIndex.getSentryIdsDependingOn(Collections.singleton("x"))).containsOnly("sentryB", "sentryC");
+        assertThat(sentryTriggerIndex.getSentryIdsDependingOn(Collections.singleton("y"))).containsOnly("sentryC");
+        assertThat(sentryTriggerIndex.getSentryIdsDependingOn(Collections.singleton("z"))).isEmpty();
+        assertThat(sentryTriggerIndex.getUnconditionallyTriggeredSentryIds()).containsOnly("sentryD");
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/IncrementalSentryEvaluationTest.testIfPartReevaluatedAfterVariableChange.cmmn")
+    public void testUntriggeredCriteriaSkipped() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("incrementalSentryEvaluation")
+                .variable("x", 0)
+                .variable("y", "stop")
+                .start();
+
+        // Only the sentry of D, which doesn't exclusively depend on variables, is evaluated again for an unrelated variable change
+        long skippedCriterionCount = cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "z", 1);
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "z", 2);
+            return SentryIfPartEvaluationCache.getCache(commandContext).getSkippedCriterionCount();
+        });
+        assertThat(skippedCriterionCount).isGreaterThanOrEqualTo(3);
+
+        // A change of y triggers the sentry of C, but it's not satisfied until x changes too
+        skippedCriterionCount = cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "y", "go");
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "x", 6);
+            return SentryIfPartEvaluationCache.getCache(commandContext).getSkippedCriterionCount();
+        });
+        assertThat(skippedCriterionCount).isGreaterThan(0);
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().list())
+                .extracting(PlanItemInstance::getName)
+                .containsExactlyInAnyOrder("Start", "B", "C", "D");
+    }
+
+    @Test
+    @CmmnDeployment
+    public void testIfPartReevaluatedAfterVariableChange() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("incrementalSentryEvaluation")
+                .variable("x", 0)
+                .variable("y", "stop")
+                .start();
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().list())
+                .extracting(PlanItemInstance::getName)
+                .containsExactly("Start");
+
+        // Unrelated variable changes don't evaluate the criteria that were found unsatisfied again
+        long skippedCriterionCount = cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "z", 1);
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "z", 2);
+            return SentryIfPartEvaluationCache.getCache(commandContext).getSkippedCriterionCount();
+        });
+        assertThat(skippedCriterionCount).isGreaterThan(0);
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().list())
+                .extracting(PlanItemInstance::getName)
+                .containsExactly("Start");
+
+        // The service task changes x in the same transaction in which the if parts were evaluated before
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        cmmnTaskService.complete(task.getId());
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().list())
+                .extracting(PlanItemInstance::getName)
+                .containsExactlyInAnyOrder("B", "D");
+
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "y", "go");
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceStateActive().list())
+                .extracting(PlanItemInstance::getName)
+                .containsExactlyInAnyOrder("B", "C", "D");
+    }
+
+}
@@ -12,12 +12,20 @@
  */
 package org.flowable.cmmn.model;
 
+import java.util.Set;
+
 /**
  * @author Joram Barrez
  */
 public class SentryIfPart extends CmmnElement {
 
     protected String condition;
+
+    /**
+     * The names of the variables the condition depends on, determined when the case definition is deployed.
+     * Null when the condition depends on anything else than variables, or when the dependencies were not determined.
+     */
+    protected Set<String> variableDependencies;
     
     public String getCondition() {
         return condition;
@@ -27,4 +35,12 @@ public class SentryIfPart extends CmmnElement {
         this.condition = condition;
     }
 
+    public Set<String> getVariableDependencies() {
+        return variableDependencies;
+    }
+
+    public void setVariableDependencies(Set<String> variableDependencies) {
+        this.variableDependencies = variableDependencies;
+    }
+
 }
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+/**
+ * Which historic decision executions are stored by an {@link ExecuteBulkDecisionBuilder}.
+ */
+public enum BulkDecisionHistoryLevel {
+
+    /**
+     * No historic decision executions are stored.
+     */
+    NONE,
+
+    /**
+     * One historic decision execution is stored per batch, with the number of executed and failed inputs as execution json.
+     */
+    SUMMARY,
+
+    /**
+     * The historic decision execution of every n-th input is stored, see {@link ExecuteBulkDecisionBuilder#historySampleRate(int)}.
+     */
+    SAMPLED,
+
+    /**
+     * A historic decision execution is stored for every input, like for a single decision execution.
+     */
+    FULL
+
+}
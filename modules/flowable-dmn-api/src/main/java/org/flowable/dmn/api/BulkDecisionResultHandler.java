@@ -0,0 +1,33 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.Map;
+
+/**
+ * Receives the results of a bulk decision execution, see {@link ExecuteBulkDecisionBuilder}.
+ * 
+ * The results of a batch are handled after its transaction is committed, in the order of the inputs.
+ * When the batches are executed in parallel the handler is called from multiple threads and has to be thread safe.
+ */
+@FunctionalInterface
+public interface BulkDecisionResultHandler {
+
+    /**
+     * @param index the position of the input in the inputs of the bulk execution, starting at 0
+     * @param inputVariables the input variables as passed to the bulk execution
+     * @param result the result of the decision execution including the audit trail
+     */
+    void handleResult(long index, Map<String, Object> inputVariables, DecisionExecutionAuditContainer result);
+
+}
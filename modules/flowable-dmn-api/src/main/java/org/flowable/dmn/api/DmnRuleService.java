@@ -33,6 +33,13 @@ public interface DmnRuleService {
      */
     ExecuteDecisionBuilder createExecuteDecisionBuilder();
 
+    /**
+     * Create a builder to execute a decision for many input variable maps.
+     *
+     * @return the {@link ExecuteBulkDecisionBuilder} build
+     */
+    ExecuteBulkDecisionBuilder createExecuteBulkDecisionBuilder();
+
     /**
      * Execute a decision identified by it's key.
      *
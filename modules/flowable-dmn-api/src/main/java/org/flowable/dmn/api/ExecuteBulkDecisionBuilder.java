@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.Map;
+
+/**
+ * Helper for executing a decision for many input variable maps.
+ * 
+ * An instance can be obtained through {@link org.flowable.dmn.api.DmnRuleService#createExecuteBulkDecisionBuilder()}.
+ * 
+ * The decision is resolved once, the inputs are executed in batches of {@link #batchSize(int)} with one command and transaction per batch,
+ * and the results are passed to a {@link BulkDecisionResultHandler} batch by batch, so the inputs can be read lazily from an {@link Iterable}.
+ */
+public interface ExecuteBulkDecisionBuilder {
+
+    /**
+     * Set the key of the decision
+     **/
+    ExecuteBulkDecisionBuilder decisionKey(String decisionKey);
+
+    /**
+     * Set the parent deployment id
+     */
+    ExecuteBulkDecisionBuilder parentDeploymentId(String parentDeploymentId);
+
+    /**
+     * Set the tenantId
+     **/
+    ExecuteBulkDecisionBuilder tenantId(String tenantId);
+
+    /**
+     * allow to search for definition by key in the default tenant when tenant specific search fails
+     */
+    ExecuteBulkDecisionBuilder fallbackToDefaultTenant();
+
+    /**
+     * Sets the input variable maps, one decision execution is done per map.
+     * The maps are read while the decision is executed and are not modified.
+     */
+    ExecuteBulkDecisionBuilder inputs(Iterable<? extends Map<String, Object>> inputs);
+
+    /**
+     * Set the number of inputs that are executed in one command, 100 by default
+     */
+    ExecuteBulkDecisionBuilder batchSize(int batchSize);
+
+    /**
+     * Set the number of batches that are executed at the same time, 1 by default.
+     * With more than one thread the batches are executed on a dedicated thread pool and the results of different batches can be handled out of order.
+     */
+    ExecuteBulkDecisionBuilder parallelism(int parallelism);
+
+    /**
+     * Set which historic decision executions are stored, {@link BulkDecisionHistoryLevel#SUMMARY} by default.
+     * Nothing is stored when history is disabled on the DMN engine.
+     */
+    ExecuteBulkDecisionBuilder historyLevel(BulkDecisionHistoryLevel historyLevel);
+
+    /**
+     * Set the sample rate for {@link BulkDecisionHistoryLevel#SAMPLED}: the history of every n-th execution is stored, 100 by default
+     */
+    ExecuteBulkDecisionBuilder historySampleRate(int historySampleRate);
+
+    /**
+     * Executes the decision for all inputs, passing each result to the given handler
+     **/
+    BulkDecisionExecutionSummary execute(BulkDecisionResultHandler resultHandler);
+
+}
@@ -24,8 +24,12 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.dmn.engine.DmnEngine;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.deployer.DmnDeployer;
+import org.flowable.dmn.engine.impl.audit.BufferedHistoricDecisionExecutionWriter;
 import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.db.EntityDependencyOrder;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.ProcessEngineLifecycleListener;
 
 /**
  * @author Tijs Rademakers
@@ -63,6 +67,38 @@ public class DmnEngineConfigurator extends AbstractEngineConfigurator {
         initDmnEngine();
         
         initServiceConfigurations(engineConfiguration, dmnEngineConfiguration);
+
+        initHistoricDecisionExecutionWriterShutdown(engineConfiguration);
+    }
+
+    /**
+     * The embedded dmn engine is never closed itself, so the buffered historic decision executions are stored when the process engine is closed.
+     */
+    protected void initHistoricDecisionExecutionWriterShutdown(AbstractEngineConfiguration engineConfiguration) {
+        BufferedHistoricDecisionExecutionWriter historicDecisionExecutionWriter = dmnEngineConfiguration.getHistoricDecisionExecutionWriter();
+        if (historicDecisionExecutionWriter == null || !(engineConfiguration instanceof ProcessEngineConfiguration)) {
+            return;
+        }
+
+        ProcessEngineConfiguration processEngineConfiguration = (ProcessEngineConfiguration) engineConfiguration;
+        ProcessEngineLifecycleListener processEngineLifecycleListener = processEngineConfiguration.getProcessEngineLifecycleListener();
+        processEngineConfiguration.setProcessEngineLifecycleListener(new ProcessEngineLifecycleListener() {
+
+            @Override
+            public void onProcessEngineBuilt(ProcessEngine processEngine) {
+                if (processEngineLifecycleListener != null) {
+                    processEngineLifecycleListener.onProcessEngineBuilt(processEngine);
+                }
+            }
+
+            @Override
+            public void onProcessEngineClosed(ProcessEngine processEngine) {
+                historicDecisionExecutionWriter.shutdown();
+                if (processEngineLifecycleListener != null) {
+                    processEngineLifecycleListener.onProcessEngineClosed(processEngine);
+                }
+            }
+        });
     }
     
     @Override
@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.test.history;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.configurator.DmnEngineConfigurator;
+import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.junit.Test;
+
+public class AsyncHistoryEngineCloseTest {
+
+    @Test
+    public void testQueuedHistoryStoredWhenProcessEngineIsClosed() {
+        DmnEngineConfiguration dmnEngineConfiguration = new StandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setHistoryEnabled(true);
+        dmnEngineConfiguration.setAsyncHistoryEnabled(true);
+        dmnEngineConfiguration.setAsyncHistoryFlushInterval(3600000L);
+
+        DmnEngineConfigurator dmnEngineConfigurator = new DmnEngineConfigurator();
+        dmnEngineConfigurator.setDmnEngineConfiguration(dmnEngineConfiguration);
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:dmnAsyncHistoryEngineCloseTest;DB_CLOSE_DELAY=-1");
+        processEngineConfiguration.setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_TRUE);
+        processEngineConfiguration.addConfigurator(dmnEngineConfigurator);
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/dmn/engine/test/deployment/oneDecisionTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/dmn/engine/test/deployment/simple.dmn")
+                .deploy();
+        processEngine.getRuntimeService().startProcessInstanceByKey("oneDecisionTaskProcess", Collections.singletonMap("inputVariable1", 1));
+
+        assertEquals(1, dmnEngineConfiguration.getHistoricDecisionExecutionWriter().getQueueSize());
+        assertEquals(0, dmnEngineConfiguration.getDmnHistoryService().createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        // The embedded dmn engine isn't closed by itself, closing the process engine stores the queued executions
+        processEngine.close();
+
+        assertEquals(0, dmnEngineConfiguration.getHistoricDecisionExecutionWriter().getQueueSize());
+        assertEquals(1, dmnEngineConfiguration.getDmnHistoryService().createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+}
@@ -36,6 +36,7 @@ import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.dmn.api.DmnEngineConfigurationApi;
 import org.flowable.dmn.api.DmnHistoryService;
@@ -48,6 +49,11 @@ import org.flowable.dmn.engine.impl.DmnManagementServiceImpl;
 import org.flowable.dmn.engine.impl.DmnRepositoryServiceImpl;
 import org.flowable.dmn.engine.impl.DmnRuleServiceImpl;
 import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
+import org.flowable.dmn.engine.impl.audit.BufferedHistoricDecisionExecutionWriter;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditSampler;
+import org.flowable.dmn.engine.impl.audit.EveryNthDecisionExecutionAuditSampler;
+import org.flowable.dmn.engine.impl.audit.FailedDecisionExecutionAuditSampler;
+import org.flowable.dmn.engine.impl.audit.SlowDecisionExecutionAuditSampler;
 import org.flowable.dmn.engine.impl.cfg.StandaloneDmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.cmd.SchemaOperationsDmnEngineBuild;
@@ -155,7 +161,30 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     protected boolean historyEnabled;
 
+    /**
+     * Decides which decision executions get a historic decision execution when history is enabled, all of them when not set.
+     * See {@link EveryNthDecisionExecutionAuditSampler}, {@link FailedDecisionExecutionAuditSampler} and {@link SlowDecisionExecutionAuditSampler}.
+     */
+    protected DecisionExecutionAuditSampler historyAuditSampler;
+
+    /**
+     * Set this to true to leave out the rule executions of rules that were not valid and did not fail from the execution json of historic decision executions.
+     */
+    protected boolean compactHistoryAudit;
+
+    /**
+     * Set this to true to store historic decision executions with the {@link BufferedHistoricDecisionExecutionWriter} after the transaction that executed
+     * the decision is committed, instead of writing the execution json and inserting them in that transaction.
+     * Queued executions are lost when the JVM stops without closing the engine.
+     */
+    protected boolean asyncHistoryEnabled;
+    protected int asyncHistoryBatchSize = 100;
+    protected long asyncHistoryFlushInterval = 1000L;
+    protected int asyncHistoryQueueCapacity = 10000;
+    protected BufferedHistoricDecisionExecutionWriter historicDecisionExecutionWriter;
+
     protected int decisionCacheLimit = -1; // By default, no limit
+    protected DeploymentCacheWeigher<DecisionTableCacheEntry> decisionCacheWeigher; // By default, the limit is the number of decisions
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
 
     protected ObjectMapper objectMapper = new ObjectMapper();
@@ -181,6 +210,13 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true to compile the input entries of decision tables that compare the input with a constant (e.g. <code>== "GOLD"</code> or <code>&lt; 10</code>)
+     * when deploying. Such entries are then evaluated without an expression per rule, and equal entries of a column are evaluated only once per execution.
+     * The compiled form is kept in the decision cache, and the comparisons use the type converter of the expression manager.
+     */
+    protected boolean enableDecisionTableCompilation;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -255,6 +291,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         initClock();
         initHitPolicyBehaviors();
         initRuleEngineExecutor();
+        initHistoricDecisionExecutionWriter();
     }
 
     // services
@@ -427,7 +464,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
             if (decisionCacheLimit <= 0) {
                 decisionCache = new DefaultDeploymentCache<>();
             } else {
-                decisionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
+                decisionCache = new DefaultDeploymentCache<>(decisionCacheLimit, decisionCacheWeigher);
             }
         }
 
@@ -550,6 +587,20 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
     }
 
 
+    public void initHistoricDecisionExecutionWriter() {
+        if (asyncHistoryEnabled && historicDecisionExecutionWriter == null) {
+            historicDecisionExecutionWriter = new BufferedHistoricDecisionExecutionWriter(this);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (historicDecisionExecutionWriter != null) {
+            historicDecisionExecutionWriter.shutdown();
+        }
+        super.close();
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -766,6 +817,69 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public DecisionExecutionAuditSampler getHistoryAuditSampler() {
+        return historyAuditSampler;
+    }
+
+    public DmnEngineConfiguration setHistoryAuditSampler(DecisionExecutionAuditSampler historyAuditSampler) {
+        this.historyAuditSampler = historyAuditSampler;
+        return this;
+    }
+
+    public boolean isCompactHistoryAudit() {
+        return compactHistoryAudit;
+    }
+
+    public DmnEngineConfiguration setCompactHistoryAudit(boolean compactHistoryAudit) {
+        this.compactHistoryAudit = compactHistoryAudit;
+        return this;
+    }
+
+    public boolean isAsyncHistoryEnabled() {
+        return asyncHistoryEnabled;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryEnabled(boolean asyncHistoryEnabled) {
+        this.asyncHistoryEnabled = asyncHistoryEnabled;
+        return this;
+    }
+
+    public int getAsyncHistoryBatchSize() {
+        return asyncHistoryBatchSize;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryBatchSize(int asyncHistoryBatchSize) {
+        this.asyncHistoryBatchSize = asyncHistoryBatchSize;
+        return this;
+    }
+
+    public long getAsyncHistoryFlushInterval() {
+        return asyncHistoryFlushInterval;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryFlushInterval(long asyncHistoryFlushInterval) {
+        this.asyncHistoryFlushInterval = asyncHistoryFlushInterval;
+        return this;
+    }
+
+    public int getAsyncHistoryQueueCapacity() {
+        return asyncHistoryQueueCapacity;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryQueueCapacity(int asyncHistoryQueueCapacity) {
+        this.asyncHistoryQueueCapacity = asyncHistoryQueueCapacity;
+        return this;
+    }
+
+    public BufferedHistoricDecisionExecutionWriter getHistoricDecisionExecutionWriter() {
+        return historicDecisionExecutionWriter;
+    }
+
+    public DmnEngineConfiguration setHistoricDecisionExecutionWriter(BufferedHistoricDecisionExecutionWriter historicDecisionExecutionWriter) {
+        this.historicDecisionExecutionWriter = historicDecisionExecutionWriter;
+        return this;
+    }
+
     public int getDecisionCacheLimit() {
         return decisionCacheLimit;
     }
@@ -775,6 +889,18 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public DeploymentCacheWeigher<DecisionTableCacheEntry> getDecisionCacheWeigher() {
+        return decisionCacheWeigher;
+    }
+
+    /**
+     * Sets the weigher for the decision cache. When set, the decision cache limit is the maximum total weight of the cached decisions.
+     */
+    public DmnEngineConfiguration setDecisionCacheWeigher(DeploymentCacheWeigher<DecisionTableCacheEntry> decisionCacheWeigher) {
+        this.decisionCacheWeigher = decisionCacheWeigher;
+        return this;
+    }
+
     public DeploymentCache<DecisionTableCacheEntry> getDecisionCache() {
         return decisionCache;
     }
@@ -949,6 +1075,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isEnableDecisionTableCompilation() {
+        return enableDecisionTableCompilation;
+    }
+
+    public DmnEngineConfiguration setEnableDecisionTableCompilation(boolean enableDecisionTableCompilation) {
+        this.enableDecisionTableCompilation = enableDecisionTableCompilation;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
@@ -0,0 +1,187 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.dmn.api.BulkDecisionExecutionSummary;
+import org.flowable.dmn.api.BulkDecisionResultHandler;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.cmd.ExecuteBulkDecisionBatchCmd;
+import org.flowable.dmn.engine.impl.cmd.ResolveDecisionCmd;
+import org.flowable.dmn.model.Decision;
+
+/**
+ * Executes a bulk decision execution as configured by an {@link ExecuteBulkDecisionBuilderImpl}.
+ *
+ * The decision is resolved once in a separate command. The inputs are read in batches on the calling thread,
+ * and every batch is executed with an {@link ExecuteBulkDecisionBatchCmd}, either on the calling thread or on a thread pool
+ * with one thread per parallel batch. At most as many batches as there are threads are read ahead.
+ */
+public class BulkDecisionExecutor {
+
+    protected CommandExecutor commandExecutor;
+    protected ExecuteBulkDecisionBuilderImpl bulkDecisionBuilder;
+    protected BulkDecisionResultHandler resultHandler;
+
+    public BulkDecisionExecutor(CommandExecutor commandExecutor, ExecuteBulkDecisionBuilderImpl bulkDecisionBuilder, BulkDecisionResultHandler resultHandler) {
+        this.commandExecutor = commandExecutor;
+        this.bulkDecisionBuilder = bulkDecisionBuilder;
+        this.resultHandler = resultHandler;
+    }
+
+    public BulkDecisionExecutionSummary execute() {
+        if (bulkDecisionBuilder.getInputs() == null) {
+            throw new FlowableIllegalArgumentException("inputs is null");
+        }
+        if (bulkDecisionBuilder.getBatchSize() < 1) {
+            throw new FlowableIllegalArgumentException("batchSize must be at least 1");
+        }
+        if (bulkDecisionBuilder.getParallelism() < 1) {
+            throw new FlowableIllegalArgumentException("parallelism must be at least 1");
+        }
+        if (bulkDecisionBuilder.getHistoryLevel() == null) {
+            throw new FlowableIllegalArgumentException("historyLevel is null");
+        }
+
+        ExecuteDecisionInfo executeDecisionInfo = new ExecuteDecisionInfo();
+        executeDecisionInfo.setDecisionKey(bulkDecisionBuilder.getDecisionKey());
+        executeDecisionInfo.setParentDeploymentId(bulkDecisionBuilder.getParentDeploymentId());
+        executeDecisionInfo.setTenantId(bulkDecisionBuilder.getTenantId());
+        executeDecisionInfo.setFallbackToDefaultTenant(bulkDecisionBuilder.isFallbackToDefaultTenant());
+        Decision decision = commandExecutor.execute(new ResolveDecisionCmd(executeDecisionInfo));
+
+        BulkDecisionExecutionSummary summary = new BulkDecisionExecutionSummary();
+        ExecutorService executorService = null;
+        if (bulkDecisionBuilder.getParallelism() > 1) {
+            executorService = Executors.newFixedThreadPool(bulkDecisionBuilder.getParallelism(),
+                    new BasicThreadFactory.Builder().namingPattern("flowable-bulk-decision-%d").daemon(true).build());
+        }
+
+        try {
+            Deque<Future<BatchResult>> pendingBatches = new ArrayDeque<>();
+            Iterator<? extends Map<String, Object>> inputIterator = bulkDecisionBuilder.getInputs().iterator();
+            long index = 0;
+            while (inputIterator.hasNext()) {
+                List<Map<String, Object>> inputs = new ArrayList<>(bulkDecisionBuilder.getBatchSize());
+                while (inputs.size() < bulkDecisionBuilder.getBatchSize() && inputIterator.hasNext()) {
+                    inputs.add(inputIterator.next());
+                }
+
+                BatchExecution batchExecution = new BatchExecution(decision, executeDecisionInfo, inputs, index);
+                index += inputs.size();
+
+                if (executorService == null) {
+                    addBatchResult(summary, batchExecution.call());
+
+                } else {
+                    if (pendingBatches.size() >= bulkDecisionBuilder.getParallelism()) {
+                        addBatchResult(summary, waitForBatch(pendingBatches.poll()));
+                    }
+                    pendingBatches.add(executorService.submit(batchExecution));
+                }
+            }
+
+            while (!pendingBatches.isEmpty()) {
+                addBatchResult(summary, waitForBatch(pendingBatches.poll()));
+            }
+
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+
+        return summary;
+    }
+
+    protected void addBatchResult(BulkDecisionExecutionSummary summary, BatchResult batchResult) {
+        summary.setBatchCount(summary.getBatchCount() + 1);
+        summary.setExecutionCount(summary.getExecutionCount() + batchResult.executionCount);
+        summary.setFailedCount(summary.getFailedCount() + batchResult.failedCount);
+    }
+
+    protected BatchResult waitForBatch(Future<BatchResult> batchFuture) {
+        try {
+            return batchFuture.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for a bulk decision execution batch", e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new FlowableException("Error executing bulk decision execution batch", e.getCause());
+        }
+    }
+
+    protected class BatchExecution implements Callable<BatchResult> {
+
+        protected Decision decision;
+        protected ExecuteDecisionInfo executeDecisionInfo;
+        protected List<Map<String, Object>> inputs;
+        protected long firstIndex;
+
+        public BatchExecution(Decision decision, ExecuteDecisionInfo executeDecisionInfo, List<Map<String, Object>> inputs, long firstIndex) {
+            this.decision = decision;
+            this.executeDecisionInfo = executeDecisionInfo;
+            this.inputs = inputs;
+            this.firstIndex = firstIndex;
+        }
+
+        @Override
+        public BatchResult call() {
+            List<DecisionExecutionAuditContainer> results = commandExecutor.execute(new ExecuteBulkDecisionBatchCmd(decision, executeDecisionInfo, inputs,
+                    firstIndex, bulkDecisionBuilder.getHistoryLevel(), bulkDecisionBuilder.getHistorySampleRate()));
+
+            BatchResult batchResult = new BatchResult();
+            for (int i = 0; i < results.size(); i++) {
+                DecisionExecutionAuditContainer result = results.get(i);
+                if (BooleanUtils.isTrue(result.isFailed())) {
+                    batchResult.failedCount++;
+                }
+                if (resultHandler != null) {
+                    resultHandler.handleResult(firstIndex + i, inputs.get(i), result);
+                }
+            }
+            batchResult.executionCount = results.size();
+            return batchResult;
+        }
+    }
+
+    protected static class BatchResult {
+
+        protected long executionCount;
+        protected long failedCount;
+    }
+
+}
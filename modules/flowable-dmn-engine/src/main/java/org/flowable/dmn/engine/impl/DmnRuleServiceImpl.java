@@ -16,8 +16,11 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
+import org.flowable.dmn.api.BulkDecisionExecutionSummary;
+import org.flowable.dmn.api.BulkDecisionResultHandler;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.api.ExecuteBulkDecisionBuilder;
 import org.flowable.dmn.api.ExecuteDecisionBuilder;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionCmd;
@@ -33,6 +36,11 @@ public class DmnRuleServiceImpl extends CommonEngineServiceImpl<DmnEngineConfigu
     public ExecuteDecisionBuilder createExecuteDecisionBuilder() {
         return new ExecuteDecisionBuilderImpl(this);
     }
+
+    @Override
+    public ExecuteBulkDecisionBuilder createExecuteBulkDecisionBuilder() {
+        return new ExecuteBulkDecisionBuilderImpl(this);
+    }
     
     @Override
     @Deprecated
@@ -117,4 +125,8 @@ public class DmnRuleServiceImpl extends CommonEngineServiceImpl<DmnEngineConfigu
     public DecisionExecutionAuditContainer executeDecisionWithAuditTrail(ExecuteDecisionBuilderImpl executeDecisionBuilder) {
         return commandExecutor.execute(new ExecuteDecisionWithAuditTrailCmd(executeDecisionBuilder));
     }
+
+    public BulkDecisionExecutionSummary executeBulkDecision(ExecuteBulkDecisionBuilderImpl executeBulkDecisionBuilder, BulkDecisionResultHandler resultHandler) {
+        return new BulkDecisionExecutor(commandExecutor, executeBulkDecisionBuilder, resultHandler).execute();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.Map;
+
+import org.flowable.dmn.api.BulkDecisionExecutionSummary;
+import org.flowable.dmn.api.BulkDecisionHistoryLevel;
+import org.flowable.dmn.api.BulkDecisionResultHandler;
+import org.flowable.dmn.api.ExecuteBulkDecisionBuilder;
+
+public class ExecuteBulkDecisionBuilderImpl implements ExecuteBulkDecisionBuilder {
+
+    protected DmnRuleServiceImpl ruleService;
+
+    protected String decisionKey;
+    protected String parentDeploymentId;
+    protected String tenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected Iterable<? extends Map<String, Object>> inputs;
+    protected int batchSize = 100;
+    protected int parallelism = 1;
+    protected BulkDecisionHistoryLevel historyLevel = BulkDecisionHistoryLevel.SUMMARY;
+    protected int historySampleRate = 100;
+
+    public ExecuteBulkDecisionBuilderImpl(DmnRuleServiceImpl ruleService) {
+        this.ruleService = ruleService;
+    }
+
+    @Override
+    public ExecuteBulkDecisionBuilder decisionKey(String decisionKey) {
+        this.decisionKey = decisionKey;
+        return this;
+    }
+
+    @Override
+    public ExecuteBulkDecisionBuilder parentDeploymentId(String parentDeploymentId) {
+        this.parentDeploymentId = parentDeploymentId;
+        return this;
+    }
+
+    @Override
+    public ExecuteBulkDecisionBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public ExecuteBulkDecisionBuilder fallbackToDefaultTenant() {
+        this.fallbackToDefaultTenant = true;
+        return this;
+    }
+
+    @Override
+    public ExecuteBulkDecisionBuilder inputs(Iterable<? extends Map<String, Object>> inputs) {
+        this.inputs = inputs;
+        return this;
+    }
+
+    @Override
+    public ExecuteBulkDecisionBuilder batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public ExecuteBulkDecisionBuilder parallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public ExecuteBulkDecisionBuilder historyLevel(BulkDecisionHistoryLevel historyLevel) {
+        this.historyLevel = historyLevel;
+        return this;
+    }
+
+    @Override
+    public ExecuteBulkDecisionBuilder historySampleRate(int historySampleRate) {
+        this.historySampleRate = historySampleRate;
+        return this;
+    }
+
+    @Override
+    public BulkDecisionExecutionSummary execute(BulkDecisionResultHandler resultHandler) {
+        return ruleService.executeBulkDecision(this, resultHandler);
+    }
+
+    public String getDecisionKey() {
+        return decisionKey;
+    }
+
+    public String getParentDeploymentId() {
+        return parentDeploymentId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public boolean isFallbackToDefaultTenant() {
+        return fallbackToDefaultTenant;
+    }
+
+    public Iterable<? extends Map<String, Object>> getInputs() {
+        return inputs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public BulkDecisionHistoryLevel getHistoryLevel() {
+        return historyLevel;
+    }
+
+    public int getHistorySampleRate() {
+        return historySampleRate;
+    }
+
+}
@@ -28,6 +28,7 @@ public class ExecuteDecisionInfo {
     protected Map<String, Object> variables;
     protected String tenantId;
     protected boolean fallbackToDefaultTenant;
+    protected boolean skipHistory;
     
     public String getDecisionKey() {
         return decisionKey;
@@ -101,4 +102,10 @@ public class ExecuteDecisionInfo {
     public void setFallbackToDefaultTenant(boolean fallbackToDefaultTenant) {
         this.fallbackToDefaultTenant = fallbackToDefaultTenant;
     }
+    public boolean isSkipHistory() {
+        return skipHistory;
+    }
+    public void setSkipHistory(boolean skipHistory) {
+        this.skipHistory = skipHistory;
+    }
 }
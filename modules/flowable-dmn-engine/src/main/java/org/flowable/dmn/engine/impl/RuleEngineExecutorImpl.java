@@ -23,6 +23,10 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditSampler;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditUtil;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTableEvaluation;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -32,6 +36,7 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
@@ -87,6 +92,11 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         // create execution context and audit trail
         ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo);
 
+        CompiledDecisionTable compiledDecisionTable = getCompiledDecisionTable(decision, executeDecisionInfo);
+        if (compiledDecisionTable != null) {
+            executionContext.setCompiledDecisionTableEvaluation(new CompiledDecisionTableEvaluation(compiledDecisionTable, expressionManager, executionContext));
+        }
+
         try {
             sanityCheckDecisionTable(currentDecisionTable);
 
@@ -103,7 +113,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             executionContext.getAuditContainer().stopAudit();
 
             DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
-            if (dmnEngineConfiguration.isHistoryEnabled()) {
+            if (dmnEngineConfiguration.isHistoryEnabled() && !executeDecisionInfo.isSkipHistory()
+                    && isHistoryAuditSampled(dmnEngineConfiguration, executeDecisionInfo, executionContext.getAuditContainer())) {
+                
                 HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
                 HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
                 decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
@@ -121,19 +133,29 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                     decisionExecutionEntity.setFailed(failed.booleanValue());
                 }
 
-                try {
-                    decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(executionContext.getAuditContainer()));
-                } catch (Exception e) {
-                    throw new FlowableException("Error writing execution json", e);
+                if (dmnEngineConfiguration.getHistoricDecisionExecutionWriter() != null) {
+                    // the execution json is written when the writer stores the execution
+                    dmnEngineConfiguration.getHistoricDecisionExecutionWriter().addHistoricDecisionExecution(CommandContextUtil.getCommandContext(),
+                            decisionExecutionEntity, executionContext.getAuditContainer());
+                    
+                } else {
+                    decisionExecutionEntity.setExecutionJson(DecisionExecutionAuditUtil.writeExecutionJson(objectMapper, executionContext.getAuditContainer(),
+                            dmnEngineConfiguration.isCompactHistoryAudit()));
+                    historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
                 }
-
-                historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
             }
         }
 
         return executionContext.getAuditContainer();
     }
 
+    protected boolean isHistoryAuditSampled(DmnEngineConfiguration dmnEngineConfiguration, ExecuteDecisionInfo executeDecisionInfo,
+            DecisionExecutionAuditContainer auditContainer) {
+        
+        DecisionExecutionAuditSampler historyAuditSampler = dmnEngineConfiguration.getHistoryAuditSampler();
+        return historyAuditSampler == null || historyAuditSampler.isSampled(executeDecisionInfo, auditContainer);
+    }
+
     protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
         LOGGER.debug("Start table evaluation: {}", decisionTable.getId());
 
@@ -255,7 +277,31 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return conditionResult;
     }
 
+    /**
+     * @return the compiled form of the decision table kept in the decision cache, or null when the input entries need to be evaluated as expressions
+     */
+    protected CompiledDecisionTable getCompiledDecisionTable(Decision decision, ExecuteDecisionInfo executeDecisionInfo) {
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        if (dmnEngineConfiguration == null || !dmnEngineConfiguration.isEnableDecisionTableCompilation() || executeDecisionInfo.getDecisionDefinitionId() == null) {
+            return null;
+        }
+
+        // The compiled input entries are keyed by the model instances of the cached decision
+        DecisionTableCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(executeDecisionInfo.getDecisionDefinitionId());
+        if (cacheEntry == null || cacheEntry.getDecision() != decision) {
+            return null;
+        }
+        return cacheEntry.getCompiledDecisionTable();
+    }
+
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
+        CompiledDecisionTableEvaluation compiledDecisionTableEvaluation = executionContext.getCompiledDecisionTableEvaluation();
+        if (compiledDecisionTableEvaluation != null) {
+            Boolean result = compiledDecisionTableEvaluation.evaluateInputEntry(ruleContainer);
+            if (result != null) {
+                return result;
+            }
+        }
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
 
@@ -0,0 +1,213 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores historic decision executions outside of the transaction that executed the decision, see {@link DmnEngineConfiguration#isAsyncHistoryEnabled()}.
+ *
+ * The historic decision executions of a command are queued once its transaction has been committed, so nothing is stored for rolled back executions.
+ * A background thread writes the execution json and inserts the queued executions in batches, every flush interval or as soon as a batch is full.
+ * When the queue is full, the thread finishing a command waits until there is room again.
+ */
+public class BufferedHistoricDecisionExecutionWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BufferedHistoricDecisionExecutionWriter.class);
+
+    protected static final String ATTRIBUTE_PENDING_HISTORIC_DECISION_EXECUTIONS = "pendingHistoricDecisionExecutions";
+
+    protected DmnEngineConfiguration dmnEngineConfiguration;
+    protected BlockingQueue<PendingHistoricDecisionExecution> queue;
+    protected ScheduledExecutorService executorService;
+    protected AtomicBoolean flushRequested = new AtomicBoolean();
+    protected final Object flushLock = new Object();
+
+    public BufferedHistoricDecisionExecutionWriter(DmnEngineConfiguration dmnEngineConfiguration) {
+        this.dmnEngineConfiguration = dmnEngineConfiguration;
+        this.queue = new LinkedBlockingQueue<>(dmnEngineConfiguration.getAsyncHistoryQueueCapacity());
+    }
+
+    public synchronized void start() {
+        if (executorService == null) {
+            ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1,
+                    new BasicThreadFactory.Builder().namingPattern("flowable-dmn-history-writer-%d").daemon(true).build());
+            scheduledExecutor.scheduleWithFixedDelay(this::flushSafely, dmnEngineConfiguration.getAsyncHistoryFlushInterval(),
+                    dmnEngineConfiguration.getAsyncHistoryFlushInterval(), TimeUnit.MILLISECONDS);
+            executorService = scheduledExecutor;
+        }
+    }
+
+    /**
+     * Stops the background thread and stores all queued historic decision executions on the calling thread.
+     */
+    public synchronized void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+            try {
+                executorService.awaitTermination(dmnEngineConfiguration.getAsyncHistoryFlushInterval() + 60000L, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executorService = null;
+        }
+        flush();
+    }
+
+    /**
+     * Adds a historic decision execution of the given command, the execution json is written from the audit container when it is stored.
+     */
+    @SuppressWarnings("unchecked")
+    public void addHistoricDecisionExecution(CommandContext commandContext, HistoricDecisionExecutionEntity decisionExecutionEntity,
+            DecisionExecutionAuditContainer auditContainer) {
+
+        List<PendingHistoricDecisionExecution> pendingExecutions = (List<PendingHistoricDecisionExecution>) commandContext.getAttribute(ATTRIBUTE_PENDING_HISTORIC_DECISION_EXECUTIONS);
+        if (pendingExecutions == null) {
+            List<PendingHistoricDecisionExecution> commandPendingExecutions = new ArrayList<>();
+            commandContext.addAttribute(ATTRIBUTE_PENDING_HISTORIC_DECISION_EXECUTIONS, commandPendingExecutions);
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, transactionCommandContext -> enqueue(commandPendingExecutions));
+            } else {
+                addEnqueueCloseListener(commandContext, commandPendingExecutions);
+            }
+            pendingExecutions = commandPendingExecutions;
+        }
+
+        pendingExecutions.add(new PendingHistoricDecisionExecution(decisionExecutionEntity, auditContainer));
+    }
+
+    protected void addEnqueueCloseListener(CommandContext commandContext, List<PendingHistoricDecisionExecution> pendingExecutions) {
+        commandContext.addCloseListener(new CommandContextCloseListener() {
+
+            @Override
+            public void closing(CommandContext commandContext) {
+            }
+
+            @Override
+            public void afterSessionsFlush(CommandContext commandContext) {
+            }
+
+            @Override
+            public void closed(CommandContext commandContext) {
+                if (commandContext.getException() == null) {
+                    enqueue(pendingExecutions);
+                }
+            }
+
+            @Override
+            public void closeFailure(CommandContext commandContext) {
+            }
+        });
+    }
+
+    protected void enqueue(List<PendingHistoricDecisionExecution> pendingExecutions) {
+        start();
+        try {
+            for (PendingHistoricDecisionExecution pendingExecution : pendingExecutions) {
+                queue.put(pendingExecution);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while queueing historic decision executions, {} executions are not stored", pendingExecutions.size());
+            return;
+        }
+
+        if (queue.size() >= dmnEngineConfiguration.getAsyncHistoryBatchSize() && flushRequested.compareAndSet(false, true)) {
+            ScheduledExecutorService currentExecutorService = executorService;
+            if (currentExecutorService != null) {
+                currentExecutorService.execute(this::flushSafely);
+            }
+        }
+    }
+
+    protected void flushSafely() {
+        try {
+            flush();
+        } catch (Throwable t) {
+            LOGGER.error("Error storing historic decision executions", t);
+        }
+    }
+
+    /**
+     * Stores all queued historic decision executions in batches, each batch in its own transaction.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushRequested.set(false);
+            List<PendingHistoricDecisionExecution> batch = new ArrayList<>();
+            while (queue.drainTo(batch, dmnEngineConfiguration.getAsyncHistoryBatchSize()) > 0) {
+                insertBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    protected void insertBatch(List<PendingHistoricDecisionExecution> batch) {
+        boolean compact = dmnEngineConfiguration.isCompactHistoryAudit();
+        for (PendingHistoricDecisionExecution pendingExecution : batch) {
+            pendingExecution.decisionExecutionEntity.setExecutionJson(DecisionExecutionAuditUtil.writeExecutionJson(
+                    dmnEngineConfiguration.getObjectMapper(), pendingExecution.auditContainer, compact));
+        }
+
+        try {
+            dmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
+                for (PendingHistoricDecisionExecution pendingExecution : batch) {
+                    historicDecisionExecutionEntityManager.insert(pendingExecution.decisionExecutionEntity);
+                }
+                return null;
+            });
+
+        } catch (FlowableException e) {
+            LOGGER.error("Could not store {} historic decision executions", batch.size(), e);
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    protected static class PendingHistoricDecisionExecution {
+
+        protected HistoricDecisionExecutionEntity decisionExecutionEntity;
+        protected DecisionExecutionAuditContainer auditContainer;
+
+        public PendingHistoricDecisionExecution(HistoricDecisionExecutionEntity decisionExecutionEntity, DecisionExecutionAuditContainer auditContainer) {
+            this.decisionExecutionEntity = decisionExecutionEntity;
+            this.auditContainer = auditContainer;
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+
+/**
+ * Decides which decision executions get a historic decision execution when history is enabled, see {@link DmnEngineConfiguration#setHistoryAuditSampler(DecisionExecutionAuditSampler)}.
+ */
+public interface DecisionExecutionAuditSampler {
+
+    /**
+     * @param executeDecisionInfo the information of the finished execution
+     * @param auditContainer the audit trail of the finished execution, including its start and end time
+     * @return true when the audit trail of the execution should be stored
+     */
+    boolean isSampled(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditContainer auditContainer);
+
+}
@@ -12,6 +12,9 @@
  */
 package org.flowable.dmn.engine.impl.audit;
 
+import java.util.Iterator;
+
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
@@ -20,6 +23,10 @@ import org.flowable.dmn.model.DecisionTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 /**
  * @author Yvo Swillens
  */
@@ -45,4 +52,48 @@ public class DecisionExecutionAuditUtil {
                         decisionTable.getHitPolicy(), CommandContextUtil.getDmnEngineConfiguration().isStrictMode(), executeDecisionInfo.getVariables());
     }
 
+    /**
+     * Writes the audit trail as execution json of a historic decision execution.
+     *
+     * The compact form leaves out the rule executions of rules that were not valid and did not fail, and the start and end times of the rule executions.
+     */
+    public static String writeExecutionJson(ObjectMapper objectMapper, DecisionExecutionAuditContainer auditContainer, boolean compact) {
+        try {
+            if (!compact) {
+                return objectMapper.writeValueAsString(auditContainer);
+            }
+
+            ObjectNode executionNode = objectMapper.valueToTree(auditContainer);
+            JsonNode ruleExecutionsNode = executionNode.get("ruleExecutions");
+            if (ruleExecutionsNode != null && ruleExecutionsNode.isObject()) {
+                Iterator<JsonNode> ruleExecutionIterator = ruleExecutionsNode.elements();
+                while (ruleExecutionIterator.hasNext()) {
+                    JsonNode ruleExecutionNode = ruleExecutionIterator.next();
+                    if (!ruleExecutionNode.path("valid").asBoolean() && !hasFailure(ruleExecutionNode)) {
+                        ruleExecutionIterator.remove();
+                    } else if (ruleExecutionNode.isObject()) {
+                        ((ObjectNode) ruleExecutionNode).remove("startTime");
+                        ((ObjectNode) ruleExecutionNode).remove("endTime");
+                    }
+                }
+            }
+            return objectMapper.writeValueAsString(executionNode);
+
+        } catch (Exception e) {
+            throw new FlowableException("Error writing execution json", e);
+        }
+    }
+
+    protected static boolean hasFailure(JsonNode ruleExecutionNode) {
+        if (ruleExecutionNode.hasNonNull("exception") || ruleExecutionNode.hasNonNull("validationMessage")) {
+            return true;
+        }
+        for (JsonNode conditionResultNode : ruleExecutionNode.path("conditionResults")) {
+            if (conditionResultNode.hasNonNull("exception")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+
+/**
+ * Stores the audit trail of every n-th decision execution of the engine, starting with the first one.
+ */
+public class EveryNthDecisionExecutionAuditSampler implements DecisionExecutionAuditSampler {
+
+    protected final int sampleRate;
+    protected final AtomicLong executionCounter = new AtomicLong();
+
+    public EveryNthDecisionExecutionAuditSampler(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new FlowableIllegalArgumentException("sampleRate must be at least 1");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public boolean isSampled(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditContainer auditContainer) {
+        return executionCounter.getAndIncrement() % sampleRate == 0;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+}
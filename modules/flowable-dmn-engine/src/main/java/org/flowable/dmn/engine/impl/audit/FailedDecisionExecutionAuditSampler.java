@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+
+/**
+ * Stores the audit trail of failed decision executions only.
+ */
+public class FailedDecisionExecutionAuditSampler implements DecisionExecutionAuditSampler {
+
+    @Override
+    public boolean isSampled(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditContainer auditContainer) {
+        return BooleanUtils.isTrue(auditContainer.isFailed());
+    }
+
+}
@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+
+/**
+ * Stores the audit trail of decision executions that took at least the given number of milliseconds.
+ */
+public class SlowDecisionExecutionAuditSampler implements DecisionExecutionAuditSampler {
+
+    protected final long thresholdMillis;
+
+    public SlowDecisionExecutionAuditSampler(long thresholdMillis) {
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @Override
+    public boolean isSampled(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditContainer auditContainer) {
+        if (auditContainer.getStartTime() == null || auditContainer.getEndTime() == null) {
+            return true;
+        }
+        return auditContainer.getEndTime().getTime() - auditContainer.getStartTime().getTime() >= thresholdMillis;
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+}
@@ -57,6 +57,10 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
         executeDecisionInfo.setVariables(variables);
     }
 
+    public AbstractExecuteDecisionCmd(ExecuteDecisionInfo executeDecisionInfo) {
+        this.executeDecisionInfo = executeDecisionInfo;
+    }
+
 
     protected DmnDecisionTable resolveDecisionTable() {
         DmnDecisionTable decisionTable = null;
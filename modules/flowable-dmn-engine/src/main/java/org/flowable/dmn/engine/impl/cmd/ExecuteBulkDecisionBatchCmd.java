@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.api.BulkDecisionHistoryLevel;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.model.Decision;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Executes an already resolved decision for one batch of a bulk decision execution.
+ */
+public class ExecuteBulkDecisionBatchCmd implements Command<List<DecisionExecutionAuditContainer>> {
+
+    protected Decision decision;
+    protected ExecuteDecisionInfo executeDecisionInfo;
+    protected List<Map<String, Object>> inputs;
+    protected long firstIndex;
+    protected BulkDecisionHistoryLevel historyLevel;
+    protected int historySampleRate;
+
+    public ExecuteBulkDecisionBatchCmd(Decision decision, ExecuteDecisionInfo executeDecisionInfo, List<Map<String, Object>> inputs, long firstIndex,
+            BulkDecisionHistoryLevel historyLevel, int historySampleRate) {
+        
+        this.decision = decision;
+        this.executeDecisionInfo = executeDecisionInfo;
+        this.inputs = inputs;
+        this.firstIndex = firstIndex;
+        this.historyLevel = historyLevel;
+        this.historySampleRate = historySampleRate;
+    }
+
+    @Override
+    public List<DecisionExecutionAuditContainer> execute(CommandContext commandContext) {
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration(commandContext);
+        RuleEngineExecutor ruleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
+
+        Date startTime = new Date();
+        List<DecisionExecutionAuditContainer> results = new ArrayList<>(inputs.size());
+        int failedCount = 0;
+        for (int i = 0; i < inputs.size(); i++) {
+            DecisionExecutionAuditContainer result = ruleEngineExecutor.execute(decision, createExecuteDecisionInfo(inputs.get(i), firstIndex + i));
+            if (BooleanUtils.isTrue(result.isFailed())) {
+                failedCount++;
+            }
+            results.add(result);
+        }
+
+        if (historyLevel == BulkDecisionHistoryLevel.SUMMARY && dmnEngineConfiguration.isHistoryEnabled()) {
+            insertBatchSummary(dmnEngineConfiguration, startTime, failedCount);
+        }
+
+        return results;
+    }
+
+    protected ExecuteDecisionInfo createExecuteDecisionInfo(Map<String, Object> inputVariables, long index) {
+        ExecuteDecisionInfo inputExecuteDecisionInfo = new ExecuteDecisionInfo();
+        inputExecuteDecisionInfo.setDecisionKey(executeDecisionInfo.getDecisionKey());
+        inputExecuteDecisionInfo.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        inputExecuteDecisionInfo.setDecisionVersion(executeDecisionInfo.getDecisionVersion());
+        inputExecuteDecisionInfo.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        inputExecuteDecisionInfo.setParentDeploymentId(executeDecisionInfo.getParentDeploymentId());
+        inputExecuteDecisionInfo.setTenantId(executeDecisionInfo.getTenantId());
+
+        // the execution adds default values for missing variables, so the input of the caller is copied
+        inputExecuteDecisionInfo.setVariables(inputVariables != null ? new HashMap<>(inputVariables) : new HashMap<>());
+        inputExecuteDecisionInfo.setSkipHistory(!isHistoryStored(index));
+        return inputExecuteDecisionInfo;
+    }
+
+    protected boolean isHistoryStored(long index) {
+        if (historyLevel == BulkDecisionHistoryLevel.FULL) {
+            return true;
+        } else if (historyLevel == BulkDecisionHistoryLevel.SAMPLED) {
+            return historySampleRate > 0 && index % historySampleRate == 0;
+        }
+        return false;
+    }
+
+    protected void insertBatchSummary(DmnEngineConfiguration dmnEngineConfiguration, Date startTime, int failedCount) {
+        HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
+        HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
+        decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        decisionExecutionEntity.setStartTime(startTime);
+        decisionExecutionEntity.setEndTime(new Date());
+        decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
+        if (failedCount > 0) {
+            decisionExecutionEntity.setFailed(true);
+        }
+
+        ObjectNode summaryNode = dmnEngineConfiguration.getObjectMapper().createObjectNode();
+        summaryNode.put("decisionKey", executeDecisionInfo.getDecisionKey());
+        summaryNode.put("decisionVersion", executeDecisionInfo.getDecisionVersion());
+        summaryNode.put("bulkExecution", true);
+        summaryNode.put("firstIndex", firstIndex);
+        summaryNode.put("executionCount", inputs.size());
+        summaryNode.put("failedCount", failedCount);
+        try {
+            decisionExecutionEntity.setExecutionJson(dmnEngineConfiguration.getObjectMapper().writeValueAsString(summaryNode));
+        } catch (Exception e) {
+            throw new FlowableException("Error writing execution json", e);
+        }
+
+        historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+    }
+
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.model.Decision;
+
+/**
+ * Resolves the decision for the given {@link ExecuteDecisionInfo} without executing it.
+ * The decision definition id, version and deployment id of the resolved decision are set on the {@link ExecuteDecisionInfo}.
+ */
+public class ResolveDecisionCmd extends AbstractExecuteDecisionCmd implements Command<Decision> {
+
+    private static final long serialVersionUID = 1L;
+
+    public ResolveDecisionCmd(ExecuteDecisionInfo executeDecisionInfo) {
+        super(executeDecisionInfo);
+    }
+
+    @Override
+    public Decision execute(CommandContext commandContext) {
+        return resolveDecision(resolveDecisionTable());
+    }
+
+}
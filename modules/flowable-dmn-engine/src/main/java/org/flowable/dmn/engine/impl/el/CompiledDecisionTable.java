@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.Map;
+
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+/**
+ * The compiled input entries of a decision table, see {@link DecisionTableCompiler}.
+ *
+ * Input entries of the same column with the same comparison share a test, which is evaluated at most once per decision execution.
+ */
+public class CompiledDecisionTable {
+
+    protected final String[] columnExpressions;
+    protected final int testCount;
+    protected final Map<RuleInputClauseContainer, CompiledInputEntry> inputEntries;
+    protected final TypeConverter typeConverter;
+
+    public CompiledDecisionTable(String[] columnExpressions, int testCount, Map<RuleInputClauseContainer, CompiledInputEntry> inputEntries,
+            TypeConverter typeConverter) {
+        this.columnExpressions = columnExpressions;
+        this.testCount = testCount;
+        this.inputEntries = inputEntries;
+        this.typeConverter = typeConverter;
+    }
+
+    public CompiledInputEntry getInputEntry(RuleInputClauseContainer ruleInputClauseContainer) {
+        return inputEntries.get(ruleInputClauseContainer);
+    }
+
+    public String getColumnExpression(int columnIndex) {
+        return columnExpressions[columnIndex];
+    }
+
+    public int getColumnCount() {
+        return columnExpressions.length;
+    }
+
+    public int getTestCount() {
+        return testCount;
+    }
+
+    public int getCompiledInputEntryCount() {
+        return inputEntries.size();
+    }
+
+    public TypeConverter getTypeConverter() {
+        return typeConverter;
+    }
+
+    public enum Comparison {
+
+        EQ, NE, LT, LE, GT, GE;
+
+        /**
+         * Applies the comparison with the same coercion rules as the corresponding EL operator.
+         */
+        public boolean apply(TypeConverter converter, Object inputValue, Object value) {
+            switch (this) {
+                case EQ:
+                    return BooleanOperations.eq(converter, inputValue, value);
+                case NE:
+                    return BooleanOperations.ne(converter, inputValue, value);
+                case LT:
+                    return BooleanOperations.lt(converter, inputValue, value);
+                case LE:
+                    return BooleanOperations.le(converter, inputValue, value);
+                case GT:
+                    return BooleanOperations.gt(converter, inputValue, value);
+                default:
+                    return BooleanOperations.ge(converter, inputValue, value);
+            }
+        }
+    }
+
+    public static class CompiledInputEntry {
+
+        protected int columnIndex;
+        protected int testIndex;
+        protected Comparison comparison;
+        protected Object value;
+
+        public CompiledInputEntry(int columnIndex, int testIndex, Comparison comparison, Object value) {
+            this.columnIndex = columnIndex;
+            this.testIndex = testIndex;
+            this.comparison = comparison;
+            this.value = value;
+        }
+
+        public int getColumnIndex() {
+            return columnIndex;
+        }
+
+        public int getTestIndex() {
+            return testIndex;
+        }
+
+        public Comparison getComparison() {
+            return comparison;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable.CompiledInputEntry;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+/**
+ * The state of one decision execution with a {@link CompiledDecisionTable}: the evaluated column values and test results.
+ *
+ * Columns are evaluated when an input entry needs them for the first time, like the input entry expressions they replace.
+ * When evaluating a column or a test fails, the input entry is left to the {@link ELExpressionExecutor}, so failures are reported the same way.
+ */
+public class CompiledDecisionTableEvaluation {
+
+    protected static final byte UNKNOWN = 0;
+    protected static final byte SATISFIED = 1;
+    protected static final byte NOT_SATISFIED = 2;
+    protected static final byte FAILED = 3;
+
+    protected CompiledDecisionTable compiledDecisionTable;
+    protected ExpressionManager expressionManager;
+    protected ELExecutionContext executionContext;
+
+    protected Object[] columnValues;
+    protected byte[] columnStates;
+    protected byte[] testResults;
+
+    public CompiledDecisionTableEvaluation(CompiledDecisionTable compiledDecisionTable, ExpressionManager expressionManager, ELExecutionContext executionContext) {
+        this.compiledDecisionTable = compiledDecisionTable;
+        this.expressionManager = expressionManager;
+        this.executionContext = executionContext;
+        this.columnValues = new Object[compiledDecisionTable.getColumnCount()];
+        this.columnStates = new byte[compiledDecisionTable.getColumnCount()];
+        this.testResults = new byte[compiledDecisionTable.getTestCount()];
+    }
+
+    /**
+     * @return the result of the input entry, or null when it needs to be evaluated by the {@link ELExpressionExecutor}
+     */
+    public Boolean evaluateInputEntry(RuleInputClauseContainer ruleInputClauseContainer) {
+        CompiledInputEntry inputEntry = compiledDecisionTable.getInputEntry(ruleInputClauseContainer);
+        if (inputEntry == null) {
+            return null;
+        }
+
+        byte testResult = testResults[inputEntry.getTestIndex()];
+        if (testResult == UNKNOWN) {
+            testResult = evaluateTest(inputEntry);
+            testResults[inputEntry.getTestIndex()] = testResult;
+        }
+
+        if (testResult == FAILED) {
+            return null;
+        }
+        return testResult == SATISFIED;
+    }
+
+    protected byte evaluateTest(CompiledInputEntry inputEntry) {
+        int columnIndex = inputEntry.getColumnIndex();
+        if (columnStates[columnIndex] == UNKNOWN) {
+            try {
+                columnValues[columnIndex] = evaluateColumn(columnIndex);
+                columnStates[columnIndex] = SATISFIED;
+            } catch (RuntimeException e) {
+                columnStates[columnIndex] = FAILED;
+            }
+        }
+
+        if (columnStates[columnIndex] == FAILED) {
+            return FAILED;
+        }
+
+        try {
+            return inputEntry.getComparison().apply(compiledDecisionTable.getTypeConverter(), columnValues[columnIndex], inputEntry.getValue()) ? SATISFIED : NOT_SATISFIED;
+        } catch (RuntimeException e) {
+            return FAILED;
+        }
+    }
+
+    protected Object evaluateColumn(int columnIndex) {
+        Expression expression = expressionManager.createExpression(compiledDecisionTable.getColumnExpression(columnIndex));
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(executionContext.getStackVariables());
+        variableContainer.setInstanceId(executionContext.getInstanceId());
+        variableContainer.setScopeType(executionContext.getScopeType());
+        return expression.getValue(variableContainer);
+    }
+
+}
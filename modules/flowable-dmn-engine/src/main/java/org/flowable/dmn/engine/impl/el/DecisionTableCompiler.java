@@ -0,0 +1,227 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Node;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilderException;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBinary;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBoolean;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBracket;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstChoice;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstDot;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstEval;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstIdentifier;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNested;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNull;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNumber;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstString;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstUnary;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.javax.el.ExpressionFactory;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable.CompiledInputEntry;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable.Comparison;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+/**
+ * Compiles the input entries of a decision table that compare the input expression with a constant, like <code>== "GOLD"</code> or <code>&lt; 10</code>.
+ *
+ * The input expression of such an entry must be a variable or a property path of a variable, so that it can be evaluated once per column.
+ * All other input entries are left to the {@link ELExpressionExecutor}.
+ */
+public class DecisionTableCompiler {
+
+    protected static final Builder BUILDER = new Builder(Builder.Feature.METHOD_INVOCATIONS, Builder.Feature.VARARGS);
+
+    /**
+     * @return the type converter of the expression factory of the given expression manager, which the compiled comparisons use to coerce their operands
+     */
+    public static TypeConverter getTypeConverter(ExpressionManager expressionManager) {
+        if (expressionManager instanceof DefaultExpressionManager) {
+            ExpressionFactory expressionFactory = ((DefaultExpressionManager) expressionManager).getExpressionFactory();
+            if (expressionFactory instanceof ExpressionFactoryImpl) {
+                return ((ExpressionFactoryImpl) expressionFactory).getTypeConverter();
+            }
+        }
+        return TypeConverter.DEFAULT;
+    }
+
+    public static CompiledDecisionTable compile(DecisionTable decisionTable, TypeConverter typeConverter) {
+        Bindings constantBindings = new Bindings(null, null, typeConverter);
+        Map<InputClause, Integer> columnIndexes = new IdentityHashMap<>();
+        Map<InputClause, String> columnStructures = new IdentityHashMap<>();
+        Map<List<Object>, Integer> testIndexes = new HashMap<>();
+        Map<RuleInputClauseContainer, CompiledInputEntry> inputEntries = new IdentityHashMap<>();
+
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer ruleInputClauseContainer : rule.getInputEntries()) {
+                InputClause inputClause = ruleInputClauseContainer.getInputClause();
+                if (inputClause == null || inputClause.getInputExpression() == null || ruleInputClauseContainer.getInputEntry() == null) {
+                    continue;
+                }
+
+                if (!columnStructures.containsKey(inputClause)) {
+                    columnStructures.put(inputClause, getPathStructure(inputClause.getInputExpression().getText()));
+                }
+                String columnStructure = columnStructures.get(inputClause);
+                if (columnStructure == null) {
+                    continue;
+                }
+
+                String entryText = ruleInputClauseContainer.getInputEntry().getText();
+                if (StringUtils.isEmpty(entryText) || "-".equals(entryText)) {
+                    continue;
+                }
+
+                String parsedExpression = ELInputEntryExpressionPreParser.parse(entryText, inputClause.getInputExpression().getText(),
+                        inputClause.getInputExpression().getTypeRef());
+                AstBinary comparisonNode = getComparisonNode(parsedExpression);
+                if (comparisonNode == null) {
+                    continue;
+                }
+
+                Comparison comparison = getComparison(comparisonNode.getOperator());
+                AstNode left = (AstNode) comparisonNode.getChild(0);
+                AstNode right = (AstNode) comparisonNode.getChild(1);
+                if (comparison == null || !columnStructure.equals(left.getStructuralId(null)) || !isConstant(right)) {
+                    continue;
+                }
+
+                Object value;
+                try {
+                    value = right.eval(constantBindings, null);
+                } catch (RuntimeException e) {
+                    continue; // left to the expression executor, which reports the error
+                }
+
+                Integer columnIndex = columnIndexes.get(inputClause);
+                if (columnIndex == null) {
+                    columnIndex = columnIndexes.size();
+                    columnIndexes.put(inputClause, columnIndex);
+                }
+
+                List<Object> testKey = Arrays.asList(columnIndex, comparison, value);
+                Integer testIndex = testIndexes.get(testKey);
+                if (testIndex == null) {
+                    testIndex = testIndexes.size();
+                    testIndexes.put(testKey, testIndex);
+                }
+
+                inputEntries.put(ruleInputClauseContainer, new CompiledInputEntry(columnIndex, testIndex, comparison, value));
+            }
+        }
+
+        String[] columnExpressions = new String[columnIndexes.size()];
+        for (Map.Entry<InputClause, Integer> column : columnIndexes.entrySet()) {
+            columnExpressions[column.getValue()] = "#{" + column.getKey().getInputExpression().getText() + "}";
+        }
+
+        return new CompiledDecisionTable(columnExpressions, testIndexes.size(), inputEntries, typeConverter);
+    }
+
+    /**
+     * @return the structure of the input expression if it is a variable or property path, null otherwise
+     */
+    protected static String getPathStructure(String inputExpression) {
+        if (StringUtils.isEmpty(inputExpression)) {
+            return null;
+        }
+
+        Tree tree;
+        try {
+            tree = BUILDER.build("#{" + inputExpression + "}");
+        } catch (TreeBuilderException e) {
+            return null;
+        }
+
+        if (!(tree.getRoot() instanceof AstEval) || !isPath(tree.getRoot().getChild(0))) {
+            return null;
+        }
+        return ((AstNode) tree.getRoot().getChild(0)).getStructuralId(null);
+    }
+
+    protected static AstBinary getComparisonNode(String parsedExpression) {
+        Tree tree;
+        try {
+            tree = BUILDER.build(parsedExpression);
+        } catch (TreeBuilderException e) {
+            return null;
+        }
+
+        if (tree.getRoot() instanceof AstEval && tree.getRoot().getChild(0) instanceof AstBinary) {
+            return (AstBinary) tree.getRoot().getChild(0);
+        }
+        return null;
+    }
+
+    protected static Comparison getComparison(AstBinary.Operator operator) {
+        if (operator == AstBinary.EQ) {
+            return Comparison.EQ;
+        } else if (operator == AstBinary.NE) {
+            return Comparison.NE;
+        } else if (operator == AstBinary.LT) {
+            return Comparison.LT;
+        } else if (operator == AstBinary.LE) {
+            return Comparison.LE;
+        } else if (operator == AstBinary.GT) {
+            return Comparison.GT;
+        } else if (operator == AstBinary.GE) {
+            return Comparison.GE;
+        }
+        return null;
+    }
+
+    protected static boolean isPath(Node node) {
+        if (node instanceof AstIdentifier) {
+            return true;
+        } else if (node instanceof AstDot || node instanceof AstNested) {
+            return isPath(node.getChild(0));
+        } else if (node instanceof AstBracket) {
+            return isPath(node.getChild(0)) && isConstant(node.getChild(1));
+        }
+        return false;
+    }
+
+    protected static boolean isConstant(Node node) {
+        if (node instanceof AstString || node instanceof AstNumber || node instanceof AstBoolean || node instanceof AstNull) {
+            return true;
+        }
+
+        if (node instanceof AstNested || node instanceof AstUnary || node instanceof AstBinary || node instanceof AstChoice) {
+            for (int i = 0; i < node.getCardinality(); i++) {
+                if (!isConstant(node.getChild(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+}
@@ -33,6 +33,7 @@ public class ELExecutionContext {
     protected BuiltinAggregator aggregator;
     protected String instanceId;
     protected String scopeType;
+    protected CompiledDecisionTableEvaluation compiledDecisionTableEvaluation;
 
     public void checkExecutionContext(String variableId) {
 
@@ -107,4 +108,12 @@ public class ELExecutionContext {
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
     }
+
+    public CompiledDecisionTableEvaluation getCompiledDecisionTableEvaluation() {
+        return compiledDecisionTableEvaluation;
+    }
+
+    public void setCompiledDecisionTableEvaluation(CompiledDecisionTableEvaluation compiledDecisionTableEvaluation) {
+        this.compiledDecisionTableEvaluation = compiledDecisionTableEvaluation;
+    }
 }
@@ -141,6 +141,7 @@ public class DeploymentManager {
         DecisionTableCacheEntry cachedDecision = decisionCache.get(decisionId);
 
         if (cachedDecision == null) {
+            long loadStartTime = System.nanoTime();
             DmnDeploymentEntity deployment = engineConfig.getDeploymentEntityManager().findById(deploymentId);
             List<DmnResourceEntity> resources = engineConfig.getResourceEntityManager().findResourcesByDeploymentId(deploymentId);
             for (DmnResourceEntity resource : resources) {
@@ -149,6 +150,7 @@ public class DeploymentManager {
 
             deployment.setNew(false);
             deploy(deployment, null);
+            decisionCache.recordLoad(System.nanoTime() - loadStartTime);
             cachedDecision = decisionCache.get(decisionId);
 
             if (cachedDecision == null) {
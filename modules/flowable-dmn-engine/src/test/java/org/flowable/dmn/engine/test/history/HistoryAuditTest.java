@@ -0,0 +1,144 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.history;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.dmn.api.DmnHistoricDecisionExecution;
+import org.flowable.dmn.engine.impl.audit.EveryNthDecisionExecutionAuditSampler;
+import org.flowable.dmn.engine.impl.audit.FailedDecisionExecutionAuditSampler;
+import org.flowable.dmn.engine.impl.audit.SlowDecisionExecutionAuditSampler;
+import org.flowable.dmn.engine.impl.test.ResourceFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class HistoryAuditTest extends ResourceFlowableDmnTestCase {
+
+    protected static final String DECISION_RESOURCE = "org/flowable/dmn/engine/test/deployment/decision_table_compilation.dmn";
+
+    public HistoryAuditTest() {
+        super("asynchistory.flowable.dmn.cfg.xml");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        dmnEngineConfiguration.setHistoryAuditSampler(null);
+        dmnEngineConfiguration.setCompactHistoryAudit(false);
+        super.tearDown();
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testHistoryStoredAfterFlush() throws Exception {
+        executeDecision("GOLD", 150);
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").count());
+        assertEquals(1, dmnEngineConfiguration.getHistoricDecisionExecutionWriter().getQueueSize());
+
+        dmnEngineConfiguration.getHistoricDecisionExecutionWriter().flush();
+        assertEquals(0, dmnEngineConfiguration.getHistoricDecisionExecutionWriter().getQueueSize());
+
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").singleResult();
+        assertNotNull(decisionExecution.getId());
+        assertNotNull(decisionExecution.getDeploymentId());
+        assertFalse(decisionExecution.isFailed());
+
+        JsonNode executionNode = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+        assertEquals("decision", executionNode.get("decisionKey").asText());
+        assertEquals(4, executionNode.get("ruleExecutions").size());
+        assertEquals(20, executionNode.get("decisionResult").get(0).get("discount").asInt());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testRolledBackExecutionNotStored() {
+        try {
+            dmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                executeDecision("GOLD", 150);
+                throw new FlowableException("rollback");
+            });
+            fail("Expected exception");
+        } catch (FlowableException e) {
+            assertEquals("rollback", e.getMessage());
+        }
+
+        assertEquals(0, dmnEngineConfiguration.getHistoricDecisionExecutionWriter().getQueueSize());
+        dmnEngineConfiguration.getHistoricDecisionExecutionWriter().flush();
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").count());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testCompactHistoryAudit() throws Exception {
+        dmnEngineConfiguration.setCompactHistoryAudit(true);
+        executeDecision("GOLD", 150);
+        dmnEngineConfiguration.getHistoricDecisionExecutionWriter().flush();
+
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").singleResult();
+        JsonNode executionNode = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+        JsonNode ruleExecutionsNode = executionNode.get("ruleExecutions");
+        assertEquals(1, ruleExecutionsNode.size());
+        assertTrue(ruleExecutionsNode.get("1").get("valid").asBoolean());
+        assertFalse(ruleExecutionsNode.get("1").has("startTime"));
+        assertEquals(20, executionNode.get("decisionResult").get(0).get("discount").asInt());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testEveryNthSampler() {
+        dmnEngineConfiguration.setHistoryAuditSampler(new EveryNthDecisionExecutionAuditSampler(3));
+        for (int i = 0; i < 7; i++) {
+            executeDecision("GOLD", i * 20);
+        }
+        dmnEngineConfiguration.getHistoricDecisionExecutionWriter().flush();
+
+        assertEquals(3, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").count());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testFailedSampler() {
+        dmnEngineConfiguration.setHistoryAuditSampler(new FailedDecisionExecutionAuditSampler());
+        executeDecision("GOLD", 150);
+        ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision")
+                .variable("amount", 150)
+                .executeWithAuditTrail();
+        dmnEngineConfiguration.getHistoricDecisionExecutionWriter().flush();
+
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").singleResult();
+        assertTrue(decisionExecution.isFailed());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testSlowSampler() {
+        dmnEngineConfiguration.setHistoryAuditSampler(new SlowDecisionExecutionAuditSampler(60000L));
+        executeDecision("GOLD", 150);
+        dmnEngineConfiguration.getHistoricDecisionExecutionWriter().flush();
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").count());
+
+        dmnEngineConfiguration.setHistoryAuditSampler(new SlowDecisionExecutionAuditSampler(0L));
+        executeDecision("GOLD", 150);
+        dmnEngineConfiguration.getHistoricDecisionExecutionWriter().flush();
+        assertEquals(1, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").count());
+    }
+
+    protected void executeDecision(String status, int amount) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customer", Collections.singletonMap("status", status));
+        variables.put("amount", amount);
+        ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision")
+                .variables(variables)
+                .execute();
+    }
+
+}
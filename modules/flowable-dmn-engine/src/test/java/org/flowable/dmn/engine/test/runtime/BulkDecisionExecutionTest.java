@@ -0,0 +1,180 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.dmn.api.BulkDecisionExecutionSummary;
+import org.flowable.dmn.api.BulkDecisionHistoryLevel;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnHistoricDecisionExecution;
+import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class BulkDecisionExecutionTest extends PluggableFlowableDmnTestCase {
+
+    protected static final String DECISION_RESOURCE = "org/flowable/dmn/engine/test/deployment/decision_table_compilation.dmn";
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testResultsInInputOrder() {
+        List<Map<String, Object>> inputs = createInputs(25);
+        List<Long> indexes = new ArrayList<>();
+        List<DecisionExecutionAuditContainer> results = new ArrayList<>();
+
+        BulkDecisionExecutionSummary summary = ruleService.createExecuteBulkDecisionBuilder()
+                .decisionKey("decision")
+                .inputs(inputs)
+                .batchSize(10)
+                .historyLevel(BulkDecisionHistoryLevel.NONE)
+                .execute((index, inputVariables, result) -> {
+                    assertSame(inputs.get((int) index), inputVariables);
+                    indexes.add(index);
+                    results.add(result);
+                });
+
+        assertEquals(25, summary.getExecutionCount());
+        assertEquals(0, summary.getFailedCount());
+        assertEquals(3, summary.getBatchCount());
+        assertEquals(25, indexes.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(i, indexes.get(i).longValue());
+            assertEquals(executeSingle(inputs.get(i)), results.get(i).getDecisionResult());
+        }
+
+        // the inputs are copied before the decision adds default values to them
+        assertEquals(2, inputs.get(0).size());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testParallelBatches() {
+        List<Map<String, Object>> inputs = createInputs(200);
+        Map<Long, List<Map<String, Object>>> results = new ConcurrentHashMap<>();
+
+        BulkDecisionExecutionSummary summary = ruleService.createExecuteBulkDecisionBuilder()
+                .decisionKey("decision")
+                .inputs(inputs)
+                .batchSize(15)
+                .parallelism(4)
+                .historyLevel(BulkDecisionHistoryLevel.NONE)
+                .execute((index, inputVariables, result) -> results.put(index, result.getDecisionResult()));
+
+        assertEquals(200, summary.getExecutionCount());
+        assertEquals(14, summary.getBatchCount());
+        assertEquals(200, results.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(executeSingle(inputs.get(i)), results.get((long) i));
+        }
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testFailedExecutions() {
+        List<Map<String, Object>> inputs = createInputs(4);
+        inputs.set(2, Collections.singletonMap("amount", 10));
+
+        List<Long> failedIndexes = new ArrayList<>();
+        BulkDecisionExecutionSummary summary = ruleService.createExecuteBulkDecisionBuilder()
+                .decisionKey("decision")
+                .inputs(inputs)
+                .execute((index, inputVariables, result) -> {
+                    if (result.isFailed()) {
+                        failedIndexes.add(index);
+                    }
+                });
+
+        assertEquals(4, summary.getExecutionCount());
+        assertEquals(1, summary.getFailedCount());
+        assertEquals(Collections.singletonList(2L), failedIndexes);
+
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").singleResult();
+        assertTrue(decisionExecution.isFailed());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testHistoryLevels() throws Exception {
+        List<Map<String, Object>> inputs = createInputs(25);
+
+        executeBulk(inputs, BulkDecisionHistoryLevel.NONE);
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").count());
+
+        executeBulk(inputs, BulkDecisionHistoryLevel.SUMMARY);
+        List<DmnHistoricDecisionExecution> decisionExecutions = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").list();
+        assertEquals(3, decisionExecutions.size());
+
+        long executionCount = 0;
+        for (DmnHistoricDecisionExecution decisionExecution : decisionExecutions) {
+            assertFalse(decisionExecution.isFailed());
+            JsonNode summaryNode = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+            assertTrue(summaryNode.get("bulkExecution").asBoolean());
+            assertEquals("decision", summaryNode.get("decisionKey").asText());
+            assertEquals(0, summaryNode.get("failedCount").asLong());
+            executionCount += summaryNode.get("executionCount").asLong();
+        }
+        assertEquals(25, executionCount);
+
+        executeBulk(inputs, BulkDecisionHistoryLevel.SAMPLED);
+        assertEquals(8, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").count());
+
+        executeBulk(inputs, BulkDecisionHistoryLevel.FULL);
+        assertEquals(33, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision").count());
+    }
+
+    public void testUnknownDecision() {
+        try {
+            ruleService.createExecuteBulkDecisionBuilder()
+                    .decisionKey("unknown")
+                    .inputs(createInputs(1))
+                    .execute((index, inputVariables, result) -> fail());
+            fail();
+        } catch (FlowableObjectNotFoundException e) {
+            // expected
+        }
+    }
+
+    protected void executeBulk(List<Map<String, Object>> inputs, BulkDecisionHistoryLevel historyLevel) {
+        ruleService.createExecuteBulkDecisionBuilder()
+                .decisionKey("decision")
+                .inputs(inputs)
+                .batchSize(10)
+                .historyLevel(historyLevel)
+                .historySampleRate(5)
+                .execute(null);
+    }
+
+    protected List<Map<String, Object>> executeSingle(Map<String, Object> inputVariables) {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision")
+                .variables(inputVariables)
+                .execute();
+    }
+
+    protected List<Map<String, Object>> createInputs(int count) {
+        String[] statuses = { "GOLD", "SILVER", "BRONZE" };
+        List<Map<String, Object>> inputs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> inputVariables = new HashMap<>();
+            inputVariables.put("customer", Collections.singletonMap("status", statuses[i % statuses.length]));
+            inputVariables.put("amount", i * 10);
+            inputs.add(inputVariables);
+        }
+        return inputs;
+    }
+
+}
@@ -0,0 +1,118 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.ExpressionExecution;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.el.DecisionTableCompiler;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DecisionTableCompilationTest {
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule("compilation.flowable.dmn.cfg.xml");
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/decision_table_compilation.dmn")
+    public void compiledInputEntries() {
+        DmnEngine dmnEngine = flowableDmnRule.getDmnEngine();
+        DmnEngineConfiguration dmnEngineConfiguration = dmnEngine.getDmnEngineConfiguration();
+        DmnDecisionTable decisionTable = dmnEngine.getDmnRepositoryService().createDecisionTableQuery().decisionTableKey("decision").singleResult();
+
+        CompiledDecisionTable compiledDecisionTable = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId())
+                .getCompiledDecisionTable();
+        assertThat(compiledDecisionTable).isNotNull();
+        assertThat(compiledDecisionTable.getTypeConverter()).isSameAs(DecisionTableCompiler.getTypeConverter(dmnEngineConfiguration.getExpressionManager()));
+        assertThat(compiledDecisionTable.getColumnCount()).isEqualTo(2);
+        // the startsWith entry and the empty entry are not compiled
+        assertThat(compiledDecisionTable.getCompiledInputEntryCount()).isEqualTo(6);
+        // == "GOLD", != "GOLD", >= 100 and < 100
+        assertThat(compiledDecisionTable.getTestCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/decision_table_compilation.dmn")
+    public void sameResultsAsExpressionExecution() {
+        assertSameExecution("GOLD", 150);
+        assertSameExecution("GOLD", 50);
+        assertSameExecution("SILVER", 150);
+        assertSameExecution("SILVER", 50.5);
+        assertSameExecution("BRONZE", "100");
+        assertSameExecution(null, 100);
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/decision_table_compilation.dmn")
+    public void missingVariableFailsLikeExpressionExecution() {
+        DecisionExecutionAuditContainer compiled = executeDecision(true, Collections.singletonMap("amount", 150));
+        DecisionExecutionAuditContainer notCompiled = executeDecision(false, Collections.singletonMap("amount", 150));
+
+        assertThat(compiled.isFailed()).isTrue();
+        assertThat(compiled.getExceptionMessage()).isEqualTo(notCompiled.getExceptionMessage());
+        assertThat(getConditionResults(compiled)).isEqualTo(getConditionResults(notCompiled));
+    }
+
+    protected void assertSameExecution(String status, Object amount) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customer", Collections.singletonMap("status", status));
+        variables.put("amount", amount);
+
+        DecisionExecutionAuditContainer compiled = executeDecision(true, variables);
+        DecisionExecutionAuditContainer notCompiled = executeDecision(false, variables);
+
+        assertThat(compiled.isFailed()).isEqualTo(notCompiled.isFailed());
+        assertThat(compiled.getDecisionResult()).isEqualTo(notCompiled.getDecisionResult());
+        assertThat(getConditionResults(compiled)).isEqualTo(getConditionResults(notCompiled));
+    }
+
+    protected DecisionExecutionAuditContainer executeDecision(boolean compilationEnabled, Map<String, Object> variables) {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        dmnEngineConfiguration.setEnableDecisionTableCompilation(compilationEnabled);
+        try {
+            return flowableDmnRule.getDmnEngine().getDmnRuleService().createExecuteDecisionBuilder()
+                    .decisionKey("decision")
+                    .variables(variables)
+                    .executeWithAuditTrail();
+        } finally {
+            dmnEngineConfiguration.setEnableDecisionTableCompilation(true);
+        }
+    }
+
+    protected List<String> getConditionResults(DecisionExecutionAuditContainer auditContainer) {
+        List<String> conditionResults = new ArrayList<>();
+        for (RuleExecutionAuditContainer ruleExecution : auditContainer.getRuleExecutions().values()) {
+            for (ExpressionExecution conditionResult : ruleExecution.getConditionResults()) {
+                conditionResults.add(ruleExecution.getRuleNumber() + ":" + conditionResult.getId() + "=" + conditionResult.getResult()
+                        + " " + conditionResult.getException());
+            }
+        }
+        return conditionResults;
+    }
+
+}
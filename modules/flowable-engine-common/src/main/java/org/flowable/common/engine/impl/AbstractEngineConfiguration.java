@@ -73,10 +73,11 @@ import org.flowable.common.engine.impl.interceptor.DefaultCommandInvoker;
 import org.flowable.common.engine.impl.interceptor.LogInterceptor;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.interceptor.TransactionContextInterceptor;
-import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
-import org.flowable.common.engine.impl.persistence.cache.EntityCache;
-import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheSessionFactory;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheInvalidationListener;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
@@ -181,6 +182,32 @@ public abstract class AbstractEngineConfiguration {
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 60; // currently Execution has most params (31). 2000 / 31 = 64.
 
+    /**
+     * If set to true, the updates and deletes of a flush are grouped by statement and sent to the database as a JDBC batch,
+     * instead of one round trip per entity. The optimistic locking check is still done for every row,
+     * hence the JDBC driver needs to report the update count of each batched statement. Default false.
+     */
+    protected boolean isJdbcBatchFlushEnabled;
+
+    /**
+     * If set to true, entities implementing {@link org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity} (executions, tasks, variables and jobs)
+     * are only compared with their loaded state at flush time when one of their setters was called.
+     * Entities that were only read are skipped without building their persistent state. Default false.
+     */
+    protected boolean isEntityDirtyTrackingEnabled;
+
+    /**
+     * If set to true, entities that effectively never change once persisted (by default the types returned by {@link #getDefaultSharedEntityCacheClasses()})
+     * are kept in a {@link SharedEntityCache} when fetched by id, avoiding a select in every transaction that needs them. Default false.
+     *
+     * When running multiple engines against the same database, a {@link SharedEntityCacheInvalidationListener} should propagate invalidations to the other nodes.
+     */
+    protected boolean isSharedEntityCacheEnabled;
+    protected SharedEntityCache sharedEntityCache;
+    protected Set<Class<? extends Entity>> sharedEntityCacheClasses;
+    protected int sharedEntityCacheLimit = 1000;
+    protected List<SharedEntityCacheInvalidationListener> sharedEntityCacheInvalidationListeners;
+
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
     protected List<Interceptor> customMybatisInterceptors;
@@ -630,7 +657,7 @@ public abstract class AbstractEngineConfiguration {
                 initDbSqlSessionFactory();
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            addSessionFactory(new EntityCacheSessionFactory());
             commandContextFactory.setSessionFactories(sessionFactories);
         }
 
@@ -653,12 +680,36 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setJdbcBatchFlushEnabled(isJdbcBatchFlushEnabled);
+        dbSqlSessionFactory.setEntityDirtyTrackingEnabled(isEntityDirtyTrackingEnabled);
+
+        initSharedEntityCache();
+        dbSqlSessionFactory.setSharedEntityCache(sharedEntityCache);
 
         initDbSqlSessionFactoryEntitySettings();
 
         addSessionFactory(dbSqlSessionFactory);
     }
 
+    public void initSharedEntityCache() {
+        if (isSharedEntityCacheEnabled && sharedEntityCache == null) {
+            sharedEntityCache = new SharedEntityCacheImpl(sharedEntityCacheClasses != null ? sharedEntityCacheClasses : getDefaultSharedEntityCacheClasses(),
+                    sharedEntityCacheLimit);
+        }
+        if (sharedEntityCache != null && sharedEntityCacheInvalidationListeners != null) {
+            for (SharedEntityCacheInvalidationListener invalidationListener : sharedEntityCacheInvalidationListeners) {
+                sharedEntityCache.addInvalidationListener(invalidationListener);
+            }
+        }
+    }
+
+    /**
+     * @return the entity classes kept in the {@link SharedEntityCache} when no {@link #sharedEntityCacheClasses} are configured.
+     */
+    protected Set<Class<? extends Entity>> getDefaultSharedEntityCacheClasses() {
+        return Collections.emptySet();
+    }
+
     public DbSqlSessionFactory createDbSqlSessionFactory() {
         return new DbSqlSessionFactory(usePrefixId);
     }
@@ -1328,6 +1379,69 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isJdbcBatchFlushEnabled() {
+        return isJdbcBatchFlushEnabled;
+    }
+
+    public AbstractEngineConfiguration setJdbcBatchFlushEnabled(boolean isJdbcBatchFlushEnabled) {
+        this.isJdbcBatchFlushEnabled = isJdbcBatchFlushEnabled;
+        return this;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+        return this;
+    }
+
+    public boolean isSharedEntityCacheEnabled() {
+        return isSharedEntityCacheEnabled;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheEnabled(boolean isSharedEntityCacheEnabled) {
+        this.isSharedEntityCacheEnabled = isSharedEntityCacheEnabled;
+        return this;
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+        return this;
+    }
+
+    public Set<Class<? extends Entity>> getSharedEntityCacheClasses() {
+        return sharedEntityCacheClasses;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheClasses(Set<Class<? extends Entity>> sharedEntityCacheClasses) {
+        this.sharedEntityCacheClasses = sharedEntityCacheClasses;
+        return this;
+    }
+
+    public int getSharedEntityCacheLimit() {
+        return sharedEntityCacheLimit;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheLimit(int sharedEntityCacheLimit) {
+        this.sharedEntityCacheLimit = sharedEntityCacheLimit;
+        return this;
+    }
+
+    public List<SharedEntityCacheInvalidationListener> getSharedEntityCacheInvalidationListeners() {
+        return sharedEntityCacheInvalidationListeners;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheInvalidationListeners(List<SharedEntityCacheInvalidationListener> sharedEntityCacheInvalidationListeners) {
+        this.sharedEntityCacheInvalidationListeners = sharedEntityCacheInvalidationListeners;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
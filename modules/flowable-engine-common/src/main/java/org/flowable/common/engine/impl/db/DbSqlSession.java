@@ -14,6 +14,8 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,16 +26,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.QueryCacheValues;
 import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +71,21 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
 
+    /**
+     * Statements executed through a JDBC batch bypass the {@link SqlSession}, which therefore doesn't know it is dirty.
+     * When set, commit and rollback are forced on the underlying connection.
+     */
+    protected boolean jdbcBatchExecuted;
+
+    /**
+     * Ids of the {@link SharedEntityCache} entities written by this session, per class (a null id meaning all entities of the class).
+     * They are invalidated by a {@link TransactionListener} once the transaction has been committed or rolled back,
+     * or when this session is closed if there is no {@link TransactionContext}.
+     */
+    protected Map<Class<?>, Set<String>> sharedEntityCacheInvalidations;
+
+    protected boolean sharedEntityCacheInvalidationListenerRegistered;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
@@ -103,6 +130,14 @@ public class DbSqlSession implements Session {
     }
 
     public int update(String statement, Object parameters) {
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        if (sharedEntityCache != null) {
+            // Only statements registered for an entity class can update cached entities, see DbSqlSessionFactory#getUpdateStatementEntityClasses()
+            Class<? extends Entity> entityClass = dbSqlSessionFactory.getUpdateStatementEntityClasses().get(statement);
+            if (entityClass != null) {
+                addSharedEntityCacheInvalidation(sharedEntityCache, entityClass, null);
+            }
+        }
         String updateStatement = dbSqlSessionFactory.mapStatement(statement);
         return getSqlSession().update(updateStatement, parameters);
     }
@@ -299,6 +334,18 @@ public class DbSqlSession implements Session {
             }
         }
 
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        boolean useSharedEntityCache = sharedEntityCache != null && sharedEntityCache.isCacheable(entityClass);
+        long sharedEntityCacheInvalidationCount = 0L;
+        if (useSharedEntityCache) {
+            entity = sharedEntityCache.get(entityClass, id);
+            if (entity != null) {
+                entityCache.put(entity, true);
+                return entity;
+            }
+            sharedEntityCacheInvalidationCount = sharedEntityCache.getInvalidationCount();
+        }
+
         String selectStatement = dbSqlSessionFactory.getSelectStatement(entityClass);
         selectStatement = dbSqlSessionFactory.mapStatement(selectStatement);
         entity = (T) sqlSession.selectOne(selectStatement, id);
@@ -307,6 +354,11 @@ public class DbSqlSession implements Session {
         }
 
         entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
+
+        // Once this session has written cacheable entities, it could read its own uncommitted changes
+        if (useSharedEntityCache && sharedEntityCacheInvalidations == null) {
+            sharedEntityCache.put(entity, sharedEntityCacheInvalidationCount);
+        }
         return entity;
     }
 
@@ -351,6 +403,10 @@ public class DbSqlSession implements Session {
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
+        if (dbSqlSessionFactory.getSharedEntityCache() != null) {
+            collectSharedEntityCacheInvalidations();
+        }
+
         if (LOGGER.isDebugEnabled()) {
             debugFlush();
         }
@@ -408,7 +464,7 @@ public class DbSqlSession implements Session {
 
                 if (!isEntityInserted(cachedEntity) &&
                         (cachedEntity instanceof AlwaysUpdatedPersistentObject || !isEntityToBeDeleted(cachedEntity)) &&
-                        cachedObject.hasChanged()) {
+                        hasChanged(cachedObject)) {
 
                     updatedObjects.add(cachedEntity);
                 }
@@ -416,6 +472,16 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected boolean hasChanged(CachedEntity cachedObject) {
+        Entity cachedEntity = cachedObject.getEntity();
+        if (dbSqlSessionFactory.isEntityDirtyTrackingEnabled() && cachedEntity instanceof DirtyTrackingEntity
+                && !((DirtyTrackingEntity) cachedEntity).isDirty()) {
+            // Not a single persistent field was set since loading: no need to build and compare the persistent state
+            return false;
+        }
+        return cachedObject.hasChanged();
+    }
+
     protected void debugFlush() {
         LOGGER.debug("Flushing dbSqlSession");
         int nrOfInserts = 0;
@@ -447,6 +513,62 @@ public class DbSqlSession implements Session {
         LOGGER.debug("now executing flush...");
     }
 
+    protected void collectSharedEntityCacheInvalidations() {
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        for (Map<String, Entity> insertedObjectMap : insertedObjects.values()) {
+            for (Entity insertedObject : insertedObjectMap.values()) {
+                addSharedEntityCacheInvalidation(sharedEntityCache, insertedObject.getClass(), insertedObject.getId());
+            }
+        }
+        for (Entity updatedObject : updatedObjects) {
+            addSharedEntityCacheInvalidation(sharedEntityCache, updatedObject.getClass(), updatedObject.getId());
+        }
+        for (Map<String, Entity> deletedObjectMap : deletedObjects.values()) {
+            for (Entity deletedObject : deletedObjectMap.values()) {
+                addSharedEntityCacheInvalidation(sharedEntityCache, deletedObject.getClass(), deletedObject.getId());
+            }
+        }
+        for (Class<? extends Entity> entityClass : bulkDeleteOperations.keySet()) {
+            addSharedEntityCacheInvalidation(sharedEntityCache, entityClass, null);
+        }
+    }
+
+    protected void addSharedEntityCacheInvalidation(SharedEntityCache sharedEntityCache, Class<?> entityClass, String id) {
+        if (sharedEntityCache.isCacheable(entityClass)) {
+            if (sharedEntityCacheInvalidations == null) {
+                sharedEntityCacheInvalidations = new HashMap<>();
+                registerSharedEntityCacheInvalidationListener();
+            }
+            sharedEntityCacheInvalidations.computeIfAbsent(entityClass, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    protected void registerSharedEntityCacheInvalidationListener() {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            // Invalidating before the commit would let a concurrent reader cache the old state again
+            TransactionListener invalidationListener = commandContext -> invalidateSharedEntityCache();
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, invalidationListener);
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, invalidationListener);
+            sharedEntityCacheInvalidationListenerRegistered = true;
+        }
+    }
+
+    protected void invalidateSharedEntityCache() {
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        if (sharedEntityCacheInvalidations != null) {
+            for (Map.Entry<Class<?>, Set<String>> invalidation : sharedEntityCacheInvalidations.entrySet()) {
+                if (invalidation.getValue().contains(null)) {
+                    sharedEntityCache.invalidate(invalidation.getKey(), null);
+                } else {
+                    for (String id : invalidation.getValue()) {
+                        sharedEntityCache.invalidate(invalidation.getKey(), id);
+                    }
+                }
+            }
+        }
+    }
+
     public boolean isEntityInserted(Entity entity) {
         return isEntityInserted(entity.getClass(), entity.getId());
     }
@@ -557,28 +679,64 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
-
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        if (updatedObjects.size() > 1 && dbSqlSessionFactory.isJdbcBatchFlushEnabled()) {
+            flushBatchUpdates(updatedObjects);
+        } else {
+            for (Entity updatedObject : updatedObjects) {
+                flushRegularUpdate(updatedObject);
             }
+        }
+        updatedObjects.clear();
+    }
 
-            LOGGER.debug("updating: {}", updatedObject);
+    protected void flushRegularUpdate(Entity updatedObject) {
+        String updateStatement = getMappedUpdateStatement(updatedObject);
 
-            int updatedRecords = sqlSession.update(updateStatement, updatedObject);
-            if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
-            }
+        LOGGER.debug("updating: {}", updatedObject);
 
+        int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+        if (updatedRecords == 0) {
+            throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        if (updatedObject instanceof HasRevision) {
+            ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+        }
+    }
+
+    /**
+     * Sends all updates through one JDBC batch, grouped by statement so the driver can reuse the prepared statements.
+     * The update count of every row is still verified, so optimistic locking behaves exactly as with regular updates.
+     */
+    protected void flushBatchUpdates(List<Entity> entitiesToUpdate) {
+        Map<String, List<Entity>> entitiesByStatement = new LinkedHashMap<>();
+        for (Entity updatedObject : entitiesToUpdate) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
+            entitiesByStatement.computeIfAbsent(updateStatement, key -> new ArrayList<>()).add(updatedObject);
+        }
+
+        List<BatchResult> batchResults = executeBatch(entitiesByStatement, "updating");
+        for (BatchResult batchResult : batchResults) {
+            verifyBatchResult(batchResult, true);
+        }
+
+        for (Entity updatedObject : entitiesToUpdate) {
             // See https://activiti.atlassian.net/browse/ACT-1290
             if (updatedObject instanceof HasRevision) {
                 ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
             }
+        }
+    }
 
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
         }
-        updatedObjects.clear();
+        return updateStatement;
     }
 
     protected void flushDeletes() {
@@ -623,12 +781,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (entitiesToDelete.size() > 1 && dbSqlSessionFactory.isJdbcBatchFlushEnabled()) {
+            flushBatchDeleteEntities(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -643,23 +802,107 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected void flushBatchDeleteEntities(Collection<Entity> entitiesToDelete) {
+        Map<String, List<Entity>> entitiesByStatement = new LinkedHashMap<>();
+        for (Entity entity : entitiesToDelete) {
+            String deleteStatement = getMappedDeleteStatement(entity);
+            entitiesByStatement.computeIfAbsent(deleteStatement, key -> new ArrayList<>()).add(entity);
+        }
+
+        List<BatchResult> batchResults = executeBatch(entitiesByStatement, "deleting");
+        for (BatchResult batchResult : batchResults) {
+            // It only makes sense to check for optimistic locking exceptions
+            // for objects that actually have a revision
+            verifyBatchResult(batchResult, false);
+        }
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+
+    /**
+     * Executes the given statements on a MyBatis batch executor that shares the connection (and thus the transaction) of this session.
+     * The batch is flushed before returning, so the statements are executed in the same order relative to the other flush operations.
+     */
+    protected List<BatchResult> executeBatch(Map<String, List<Entity>> entitiesByStatement, String operation) {
+        jdbcBatchExecuted = true;
+        Configuration configuration = sqlSession.getConfiguration();
+        Executor batchExecutor = configuration.newExecutor(new SharedConnectionTransaction(sqlSession), ExecutorType.BATCH);
+        try {
+            for (Map.Entry<String, List<Entity>> entry : entitiesByStatement.entrySet()) {
+                MappedStatement mappedStatement = configuration.getMappedStatement(entry.getKey());
+                for (Entity entity : entry.getValue()) {
+                    LOGGER.debug("{} (batched): {}", operation, entity);
+                    batchExecutor.update(mappedStatement, entity);
+                }
+            }
+            return batchExecutor.flushStatements();
+
+        } catch (SQLException e) {
+            throw new FlowableException("Could not execute batched flush: " + e.getMessage(), e);
+
+        } finally {
+            batchExecutor.close(false);
+
+            // The regular executor did not see these statements, make sure it doesn't serve stale results afterwards
+            sqlSession.clearCache();
+        }
+    }
+
+    protected void verifyBatchResult(BatchResult batchResult, boolean checkAllEntities) {
+        int[] updateCounts = batchResult.getUpdateCounts();
+        List<Object> parameterObjects = batchResult.getParameterObjects();
+        for (int i = 0; i < updateCounts.length; i++) {
+            Object entity = parameterObjects.get(i);
+            if (!checkAllEntities && !(entity instanceof HasRevision)) {
+                continue;
+            }
+
+            if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                throw new FlowableException("The JDBC driver did not report the update count for " + entity
+                        + ", optimistic locking can't be verified. Disable jdbc batch flushing for this database.");
+            } else if (updateCounts[i] == 0) {
+                throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+            }
+        }
+    }
+
     @Override
     public void close() {
-        sqlSession.close();
+        try {
+            if (sharedEntityCacheInvalidations != null && !sharedEntityCacheInvalidationListenerRegistered) {
+                invalidateSharedEntityCache();
+            }
+        } finally {
+            sqlSession.close();
+        }
     }
 
     public void commit() {
-        sqlSession.commit();
+        sqlSession.commit(jdbcBatchExecuted);
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        sqlSession.rollback(jdbcBatchExecuted);
     }
 
     public <T> T getCustomMapper(Class<T> type) {
         return sqlSession.getMapper(type);
     }
 
+    /**
+     * @return true if the database supports 'select ... for update skip locked'.
+     */
+    public boolean isSkipLockedSupported() {
+        return dbSqlSessionFactory.isSkipLockedSupported(sqlSession.getConnection());
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
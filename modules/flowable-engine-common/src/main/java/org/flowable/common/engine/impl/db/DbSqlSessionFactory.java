@@ -13,6 +13,8 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -29,7 +31,10 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -37,6 +42,8 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
  */
 public class DbSqlSessionFactory implements SessionFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbSqlSessionFactory.class);
+
     protected Map<String, Map<String, String>> databaseSpecificStatements = new HashMap<>();
 
     protected String databaseType;
@@ -62,6 +69,12 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean jdbcBatchFlushEnabled;
+    protected boolean entityDirtyTrackingEnabled;
+    protected SharedEntityCache sharedEntityCache;
+    protected Map<String, Class<? extends Entity>> updateStatementEntityClasses = new ConcurrentHashMap<>();
+    protected volatile Boolean skipLockedSupported;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -177,6 +190,49 @@ public class DbSqlSessionFactory implements SessionFactory {
         return getDatabaseType().equals("oracle");
     }
 
+    /**
+     * @return true if the database supports skipping locked rows in a 'select ... for update' (Postgres 9.5+, Oracle, MySQL 8+ and MariaDB 10.6+).
+     * The result is determined with the given connection the first time this method is called.
+     */
+    public boolean isSkipLockedSupported(Connection connection) {
+        if (skipLockedSupported == null) {
+            skipLockedSupported = determineSkipLockedSupported(connection);
+        }
+        return skipLockedSupported;
+    }
+
+    protected boolean determineSkipLockedSupported(Connection connection) {
+        if (databaseType == null) {
+            return false;
+        }
+
+        try {
+            DatabaseMetaData metaData = connection.getMetaData();
+            int majorVersion = metaData.getDatabaseMajorVersion();
+            int minorVersion = metaData.getDatabaseMinorVersion();
+
+            switch (databaseType) {
+            case "postgres":
+                return majorVersion > 9 || (majorVersion == 9 && minorVersion >= 5);
+            case "oracle":
+                return true;
+            case "mysql":
+                String productName = metaData.getDatabaseProductName();
+                String productVersion = metaData.getDatabaseProductVersion();
+                if ((productName != null && productName.toLowerCase().contains("mariadb")) || (productVersion != null && productVersion.toLowerCase().contains("mariadb"))) {
+                    return majorVersion > 10 || (majorVersion == 10 && minorVersion >= 6);
+                }
+                return majorVersion >= 8;
+            default:
+                return false;
+            }
+
+        } catch (SQLException e) {
+            LOGGER.warn("Could not determine if the database supports skip locked, falling back to regular selects", e);
+            return false;
+        }
+    }
+
     public Boolean isBulkInsertable(Class<? extends Entity> entityClass) {
         return bulkInserteableEntityClasses != null && bulkInserteableEntityClasses.contains(entityClass);
     }
@@ -202,6 +258,51 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isJdbcBatchFlushEnabled() {
+        return jdbcBatchFlushEnabled;
+    }
+
+    public void setJdbcBatchFlushEnabled(boolean jdbcBatchFlushEnabled) {
+        this.jdbcBatchFlushEnabled = jdbcBatchFlushEnabled;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return entityDirtyTrackingEnabled;
+    }
+
+    public void setEntityDirtyTrackingEnabled(boolean entityDirtyTrackingEnabled) {
+        this.entityDirtyTrackingEnabled = entityDirtyTrackingEnabled;
+    }
+
+    public Boolean getSkipLockedSupported() {
+        return skipLockedSupported;
+    }
+
+    public void setSkipLockedSupported(Boolean skipLockedSupported) {
+        this.skipLockedSupported = skipLockedSupported;
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public void setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+    }
+
+    /**
+     * The entity class updated by each bulk update statement executed through {@link DbSqlSession#update(String, Object)}.
+     * The {@link SharedEntityCache} entities of that class are invalidated when such a statement is executed.
+     * Statements that are not registered don't touch the shared entity cache.
+     */
+    public Map<String, Class<? extends Entity>> getUpdateStatementEntityClasses() {
+        return updateStatementEntityClasses;
+    }
+
+    public void setUpdateStatementEntityClasses(Map<String, Class<? extends Entity>> updateStatementEntityClasses) {
+        this.updateStatementEntityClasses = updateStatementEntityClasses;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.transaction.Transaction;
+
+/**
+ * A MyBatis {@link Transaction} that borrows the connection of an already opened {@link SqlSession}.
+ *
+ * Used to run a secondary (batch) executor on the same connection as the {@link DbSqlSession}:
+ * commit, rollback and close are no-ops, as the transaction boundaries are owned by the original session.
+ */
+public class SharedConnectionTransaction implements Transaction {
+
+    protected SqlSession sqlSession;
+
+    public SharedConnectionTransaction(SqlSession sqlSession) {
+        this.sqlSession = sqlSession;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return sqlSession.getConnection();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        // Transaction is owned by the original sql session
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        // Transaction is owned by the original sql session
+    }
+
+    @Override
+    public void close() throws SQLException {
+        // Connection is owned by the original sql session
+    }
+
+    @Override
+    public Integer getTimeout() throws SQLException {
+        return null;
+    }
+
+}
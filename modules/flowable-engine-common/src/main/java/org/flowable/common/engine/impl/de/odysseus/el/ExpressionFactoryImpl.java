@@ -62,6 +62,9 @@ import org.flowable.common.engine.impl.javax.el.ExpressionFactory;
  * <li>
  * <code>javax.el.cacheSize</code> - cache size (int, default is 1000)</li>
  * <li>
+ * <code>javax.el.compileThreshold</code> - number of evaluations after which a value expression is
+ * compiled (int, default is <code>-1</code>, never compile).</li>
+ * <li>
  * <code>javax.el.methodInvocations</code> - allow method invocations as in
  * <code>${foo.bar(baz)}</code> (boolean, default is <code>false</code>).</li>
  * <li>
@@ -133,8 +136,14 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	 */
 	public static final String PROP_CACHE_SIZE = "javax.el.cacheSize";
 
+	/**
+	 * <code>javax.el.compileThreshold</code>
+	 */
+	public static final String PROP_COMPILE_THRESHOLD = "javax.el.compileThreshold";
+
 	private final TreeStore store;
 	private final TypeConverter converter;
+	private int compileThreshold = -1;
 
 	/**
 	 * Create a new expression factory using the default builder and cache implementations. The
@@ -161,6 +170,7 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 		Properties properties = loadProperties("el.properties");
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = createTypeConverter(properties);
+		this.compileThreshold = getCompileThreshold(properties);
 	}
 
 	/**
@@ -191,6 +201,7 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	public ExpressionFactoryImpl(Profile profile, Properties properties) {
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = createTypeConverter(properties);
+		this.compileThreshold = getCompileThreshold(properties);
 	}
 
 	/**
@@ -225,6 +236,7 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	public ExpressionFactoryImpl(Profile profile, Properties properties, TypeConverter converter) {
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = converter;
+		this.compileThreshold = getCompileThreshold(properties);
 	}
 
 	/**
@@ -355,6 +367,34 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 		return new TreeStore(builder, cache);
 	}
 
+	private int getCompileThreshold(Properties properties) {
+		if (properties != null && properties.containsKey(PROP_COMPILE_THRESHOLD)) {
+			try {
+				return Integer.parseInt(properties.getProperty(PROP_COMPILE_THRESHOLD));
+			} catch (NumberFormatException e) {
+				throw new ELException("Cannot parse EL property " + PROP_COMPILE_THRESHOLD, e);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Answer the number of evaluations by the interpreter after which the value expressions created by this factory
+	 * are compiled. A negative value (the default) disables the compilation.
+	 */
+	public int getCompileThreshold() {
+		return compileThreshold;
+	}
+
+	/**
+	 * Set the number of evaluations by the interpreter after which the value expressions created by this factory
+	 * are compiled, <code>0</code> compiles on the first evaluation. A negative value disables the compilation.
+	 * Only affects value expressions created afterwards.
+	 */
+	public void setCompileThreshold(int compileThreshold) {
+		this.compileThreshold = compileThreshold;
+	}
+
 	/**
 	 * Create the factory's type converter. This implementation takes the
 	 * <code>de.odysseus.el.misc.TypeConverter</code> property as the name of a class implementing
@@ -429,6 +469,13 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 		return null;
 	}
 
+	/**
+	 * @return the type converter used to coerce values in the expressions of this factory
+	 */
+	public TypeConverter getTypeConverter() {
+		return converter;
+	}
+
 	@Override
 	public final Object coerceToType(Object obj, Class<?> targetType) {
 		return converter.convert(obj, targetType);
@@ -442,7 +489,7 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	@Override
 	public final TreeValueExpression createValueExpression(ELContext context, String expression, Class<?> expectedType) {
 		return new TreeValueExpression(store, context.getFunctionMapper(), context.getVariableMapper(), converter,
-				expression, expectedType);
+				expression, expectedType, compileThreshold);
 	}
 
 	@Override
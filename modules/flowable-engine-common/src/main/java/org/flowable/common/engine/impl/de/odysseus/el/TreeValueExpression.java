@@ -27,6 +27,8 @@ import org.flowable.common.engine.impl.de.odysseus.el.tree.NodePrinter;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilder;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeStore;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Compiler;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Compiler.CompiledNode;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.common.engine.impl.javax.el.ELException;
 import org.flowable.common.engine.impl.javax.el.FunctionMapper;
@@ -51,8 +53,11 @@ public final class TreeValueExpression extends ValueExpression {
 	private final String expr;
 	private final Class<?> type;
 	private final boolean deferred;
+	private final int compileThreshold;
 
 	private transient ExpressionNode node;
+	private transient volatile CompiledNode compiledNode;
+	private transient int evaluations;
 
 	private String structure;
 
@@ -65,6 +70,21 @@ public final class TreeValueExpression extends ValueExpression {
 	 * @param type the expected type (may be <code>null</code>)
 	 */
 	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type) {
+		this(store, functions, variables, converter, expr, type, -1);
+	}
+
+	/**
+	 * Create a new value expression, which is compiled after the given number of evaluations.
+	 * @param store used to get the parse tree from.
+	 * @param functions the function mapper used to bind functions
+	 * @param variables the variable mapper used to bind variables
+	 * @param expr the expression string
+	 * @param type the expected type (may be <code>null</code>)
+	 * @param compileThreshold the number of evaluations by the interpreter before the expression is compiled
+	 * (<code>0</code> compiles on the first evaluation, a negative value never compiles)
+	 */
+	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type,
+			int compileThreshold) {
 		super();
 
 		Tree tree = store.get(expr);
@@ -75,6 +95,7 @@ public final class TreeValueExpression extends ValueExpression {
 		this.type = type;
 		this.node = tree.getRoot();
 		this.deferred = tree.isDeferred();
+		this.compileThreshold = compileThreshold;
 		
 		if (type == null) {
 			throw new NullPointerException(LocalMessages.get("error.value.notype"));
@@ -119,9 +140,26 @@ public final class TreeValueExpression extends ValueExpression {
    */
 	@Override
 	public Object getValue(ELContext context) throws ELException {
+		CompiledNode compiledNode = this.compiledNode;
+		// the counter is not synchronized, concurrent evaluations only delay the compilation
+		if (compiledNode == null && compileThreshold >= 0 && evaluations++ >= compileThreshold) {
+			compiledNode = new Compiler(bindings).compile(node);
+			this.compiledNode = compiledNode;
+		}
+		if (compiledNode != null) {
+			Object value = compiledNode.eval(bindings, context);
+			return type != null ? bindings.convert(value, type) : value;
+		}
 		return node.getValue(bindings, context, type);
 	}
 
+	/**
+	 * Answer <code>true</code> if this expression has been compiled and is no longer evaluated by the interpreter.
+	 */
+	public boolean isCompiled() {
+		return compiledNode != null;
+	}
+
 	/**
    * Evaluates the expression as an lvalue and determines if {@link #setValue(ELContext, Object)}
    * will always fail.
@@ -0,0 +1,316 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.de.odysseus.el.tree.impl;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.LocalMessages;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.NumberOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.ExpressionNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBinary;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBoolean;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstChoice;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstComposite;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstDot;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstEval;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstFunction;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstIdentifier;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNested;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNull;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNumber;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstString;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstText;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstUnary;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ELException;
+import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
+
+/**
+ * Compiles the parse tree of a value expression into a tree of closures, which is evaluated instead of the parse tree
+ * once an expression has been evaluated often enough.
+ *
+ * Everything that doesn't depend on the evaluation context is done once at compile time: literals are evaluated,
+ * functions are looked up and the operators are selected. Comparisons and boolean operations on operands of the
+ * common types (booleans, integers, longs and strings) skip the type coercion of the interpreter.
+ *
+ * Identifiers, property access with <code>.</code>, operators, choices, composite text and functions are compiled.
+ * All other nodes (e.g. method invocations or <code>[]</code> property access) are evaluated by the interpreter,
+ * so a compiled expression always yields the same result as the interpreted one.
+ */
+public class Compiler {
+
+	/**
+	 * A compiled node, evaluated with the bindings the parse tree was compiled with.
+	 */
+	public interface CompiledNode {
+		Object eval(Bindings bindings, ELContext context);
+	}
+
+	protected final Bindings bindings;
+
+	public Compiler(Bindings bindings) {
+		this.bindings = bindings;
+	}
+
+	/**
+	 * Compile the given root node of a parse tree. Nodes that aren't part of the default AST are evaluated as is.
+	 */
+	public CompiledNode compile(final ExpressionNode root) {
+		if (root instanceof AstNode) {
+			return compile((AstNode) root);
+		}
+		return (bindings, context) -> root.getValue(bindings, context, null);
+	}
+
+	/*
+	 * The exact class is checked, subclasses from custom builders may have changed the evaluation of a node.
+	 */
+	protected CompiledNode compile(AstNode node) {
+		Class<?> nodeClass = node.getClass();
+		if (nodeClass == AstEval.class || nodeClass == AstNested.class) {
+			return compile((AstNode) node.getChild(0));
+		}
+		if (nodeClass == AstText.class || nodeClass == AstString.class || nodeClass == AstNumber.class
+				|| nodeClass == AstBoolean.class || nodeClass == AstNull.class) {
+			return compileLiteral(node);
+		}
+		if (nodeClass == AstIdentifier.class) {
+			return compileIdentifier((AstIdentifier) node);
+		}
+		if (nodeClass == AstDot.class) {
+			return compileDot((AstDot) node);
+		}
+		if (nodeClass == AstBinary.class) {
+			return compileBinary((AstBinary) node);
+		}
+		if (nodeClass == AstUnary.class) {
+			return compileUnary((AstUnary) node);
+		}
+		if (nodeClass == AstChoice.class) {
+			return compileChoice((AstChoice) node);
+		}
+		if (nodeClass == AstComposite.class) {
+			return compileComposite((AstComposite) node);
+		}
+		if (nodeClass == AstFunction.class) {
+			return compileFunction((AstFunction) node);
+		}
+		return interpret(node);
+	}
+
+	protected CompiledNode interpret(final AstNode node) {
+		return (bindings, context) -> node.eval(bindings, context);
+	}
+
+	protected CompiledNode compileLiteral(AstNode node) {
+		// literals don't use the context
+		final Object value = node.eval(bindings, null);
+		return (bindings, context) -> value;
+	}
+
+	protected CompiledNode compileIdentifier(AstIdentifier node) {
+		if (bindings.getVariable(node.getIndex()) != null) {
+			return interpret(node);
+		}
+		final String name = node.getName();
+		return (bindings, context) -> {
+			context.setPropertyResolved(false);
+			Object result = context.getELResolver().getValue(context, null, name);
+			if (!context.isPropertyResolved()) {
+				throw new PropertyNotFoundException(LocalMessages.get("error.identifier.property.notfound", name));
+			}
+			return result;
+		};
+	}
+
+	protected CompiledNode compileDot(AstDot node) {
+		final CompiledNode prefix = compile(node.getChild(0));
+		final String property = node.getPropertyName();
+		return (bindings, context) -> {
+			Object base = prefix.eval(bindings, context);
+			if (base == null) {
+				return null;
+			}
+			context.setPropertyResolved(false);
+			Object result = context.getELResolver().getValue(context, base, property);
+			if (!context.isPropertyResolved()) {
+				throw new PropertyNotFoundException(LocalMessages.get("error.property.property.notfound", property, base));
+			}
+			return result;
+		};
+	}
+
+	protected CompiledNode compileBinary(AstBinary node) {
+		AstBinary.Operator operator = node.getOperator();
+		final CompiledNode left = compile(node.getChild(0));
+		final CompiledNode right = compile(node.getChild(1));
+		if (operator == AstBinary.AND) {
+			return (bindings, context) -> Boolean.TRUE.equals(toBoolean(bindings, left.eval(bindings, context)))
+					? toBoolean(bindings, right.eval(bindings, context)) : Boolean.FALSE;
+		} else if (operator == AstBinary.OR) {
+			return (bindings, context) -> Boolean.TRUE.equals(toBoolean(bindings, left.eval(bindings, context)))
+					? Boolean.TRUE : toBoolean(bindings, right.eval(bindings, context));
+		} else if (operator == AstBinary.EQ) {
+			return (bindings, context) -> eq(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		} else if (operator == AstBinary.NE) {
+			return (bindings, context) -> !eq(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		} else if (operator == AstBinary.LT) {
+			return (bindings, context) -> lt(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		} else if (operator == AstBinary.GT) {
+			return (bindings, context) -> gt(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		} else if (operator == AstBinary.LE) {
+			return (bindings, context) -> le(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		} else if (operator == AstBinary.GE) {
+			return (bindings, context) -> ge(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		} else if (operator == AstBinary.ADD) {
+			return (bindings, context) -> NumberOperations.add(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		} else if (operator == AstBinary.SUB) {
+			return (bindings, context) -> NumberOperations.sub(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		} else if (operator == AstBinary.MUL) {
+			return (bindings, context) -> NumberOperations.mul(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		} else if (operator == AstBinary.DIV) {
+			return (bindings, context) -> NumberOperations.div(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		} else if (operator == AstBinary.MOD) {
+			return (bindings, context) -> NumberOperations.mod(bindings, left.eval(bindings, context), right.eval(bindings, context));
+		}
+		return interpret(node);
+	}
+
+	protected CompiledNode compileUnary(AstUnary node) {
+		AstUnary.Operator operator = node.getOperator();
+		final CompiledNode child = compile(node.getChild(0));
+		if (operator == AstUnary.NOT) {
+			return (bindings, context) -> !toBoolean(bindings, child.eval(bindings, context));
+		} else if (operator == AstUnary.EMPTY) {
+			return (bindings, context) -> BooleanOperations.empty(bindings, child.eval(bindings, context));
+		} else if (operator == AstUnary.NEG) {
+			return (bindings, context) -> NumberOperations.neg(bindings, child.eval(bindings, context));
+		}
+		return interpret(node);
+	}
+
+	protected CompiledNode compileChoice(AstChoice node) {
+		final CompiledNode question = compile(node.getChild(0));
+		final CompiledNode yes = compile(node.getChild(1));
+		final CompiledNode no = compile(node.getChild(2));
+		return (bindings, context) -> toBoolean(bindings, question.eval(bindings, context)) ? yes.eval(bindings, context) : no.eval(bindings, context);
+	}
+
+	protected CompiledNode compileComposite(AstComposite node) {
+		final CompiledNode[] nodes = compileChildren(node);
+		return (bindings, context) -> {
+			StringBuilder b = new StringBuilder(16);
+			for (CompiledNode child : nodes) {
+				b.append(bindings.convert(child.eval(bindings, context), String.class));
+			}
+			return b.toString();
+		};
+	}
+
+	protected CompiledNode compileFunction(AstFunction node) {
+		final Method method = bindings.getFunction(node.getIndex());
+		final Class<?>[] types = method.getParameterTypes();
+		if ((node.isVarArgs() && method.isVarArgs()) || types.length != node.getParamCount()) {
+			return interpret(node);
+		}
+		final String name = node.getName();
+		final CompiledNode[] params = compileChildren(node.getChild(0));
+		return (bindings, context) -> {
+			Object[] values = new Object[types.length];
+			for (int i = 0; i < values.length; i++) {
+				Object value = params[i].eval(bindings, context);
+				if (value != null || types[i].isPrimitive()) {
+					values[i] = bindings.convert(value, types[i]);
+				}
+			}
+			try {
+				return method.invoke(null, values);
+			} catch (IllegalAccessException e) {
+				throw new ELException(LocalMessages.get("error.function.access", name), e);
+			} catch (InvocationTargetException e) {
+				throw new ELException(LocalMessages.get("error.function.invocation", name), e.getCause());
+			}
+		};
+	}
+
+	protected CompiledNode[] compileChildren(AstNode node) {
+		CompiledNode[] children = new CompiledNode[node.getCardinality()];
+		for (int i = 0; i < children.length; i++) {
+			children[i] = compile((AstNode) node.getChild(i));
+		}
+		return children;
+	}
+
+	protected static Boolean toBoolean(TypeConverter converter, Object value) {
+		return value instanceof Boolean ? (Boolean) value : converter.convert(value, Boolean.class);
+	}
+
+	protected static boolean isIntegerOrLong(Object value) {
+		return value != null && (value.getClass() == Integer.class || value.getClass() == Long.class);
+	}
+
+	protected static boolean eq(TypeConverter converter, Object o1, Object o2) {
+		if (isIntegerOrLong(o1) && isIntegerOrLong(o2)) {
+			return ((Number) o1).longValue() == ((Number) o2).longValue();
+		}
+		if (o1 instanceof String && o2 instanceof String) {
+			return o1.equals(o2);
+		}
+		return BooleanOperations.eq(converter, o1, o2);
+	}
+
+	protected static boolean lt(TypeConverter converter, Object o1, Object o2) {
+		if (isIntegerOrLong(o1) && isIntegerOrLong(o2)) {
+			return ((Number) o1).longValue() < ((Number) o2).longValue();
+		}
+		if (o1 instanceof String && o2 instanceof String) {
+			return ((String) o1).compareTo((String) o2) < 0;
+		}
+		return BooleanOperations.lt(converter, o1, o2);
+	}
+
+	protected static boolean gt(TypeConverter converter, Object o1, Object o2) {
+		if (isIntegerOrLong(o1) && isIntegerOrLong(o2)) {
+			return ((Number) o1).longValue() > ((Number) o2).longValue();
+		}
+		if (o1 instanceof String && o2 instanceof String) {
+			return ((String) o1).compareTo((String) o2) > 0;
+		}
+		return BooleanOperations.gt(converter, o1, o2);
+	}
+
+	protected static boolean le(TypeConverter converter, Object o1, Object o2) {
+		if (isIntegerOrLong(o1) && isIntegerOrLong(o2)) {
+			return ((Number) o1).longValue() <= ((Number) o2).longValue();
+		}
+		if (o1 instanceof String && o2 instanceof String) {
+			return ((String) o1).compareTo((String) o2) <= 0;
+		}
+		return BooleanOperations.le(converter, o1, o2);
+	}
+
+	protected static boolean ge(TypeConverter converter, Object o1, Object o2) {
+		if (isIntegerOrLong(o1) && isIntegerOrLong(o2)) {
+			return ((Number) o1).longValue() >= ((Number) o2).longValue();
+		}
+		if (o1 instanceof String && o2 instanceof String) {
+			return ((String) o1).compareTo((String) o2) >= 0;
+		}
+		return BooleanOperations.ge(converter, o1, o2);
+	}
+}
@@ -20,6 +20,7 @@ import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.delegate.FlowableExpressionEnhancer;
 import org.flowable.common.engine.api.delegate.FlowableFunctionDelegate;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
 import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
 import org.flowable.common.engine.impl.javax.el.BeanELResolver;
 import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
@@ -49,9 +50,21 @@ public class DefaultExpressionManager implements ExpressionManager {
 
     protected ELContext parsingElContext;
     protected Map<Object, Object> beans;
+
+    /**
+     * The resolvers that don't depend on the evaluation, created once and shared by all evaluations,
+     * so only the variable resolver is created per evaluation and the bean resolver keeps its reflection cache.
+     */
+    protected volatile ELResolver sharedElResolver;
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+
+    /**
+     * The number of evaluations after which an expression is compiled instead of interpreted, negative to never compile.
+     * Only expressions that are evaluated repeatedly benefit from this, so it should be used together with the expression cache.
+     */
+    protected int expressionCompileThreshold = -1;
     
     public DefaultExpressionManager() {
         this(null);
@@ -103,6 +116,10 @@ public class DefaultExpressionManager implements ExpressionManager {
         return new JuelExpression(this, valueExpression, expression);
     }
 
+    public ExpressionFactory getExpressionFactory() {
+        return expressionFactory;
+    }
+
     public void setExpressionFactory(ExpressionFactory expressionFactory) {
         this.expressionFactory = expressionFactory;
     }
@@ -114,8 +131,27 @@ public class DefaultExpressionManager implements ExpressionManager {
     }
     
     protected ELResolver createElResolver(VariableContainer variableContainer) {
+        CompositeELResolver compositeELResolver = new CompositeELResolver();
+        compositeELResolver.add(createVariableElResolver(variableContainer));
+        compositeELResolver.add(getSharedElResolver());
+        return compositeELResolver;
+    }
+
+    protected ELResolver getSharedElResolver() {
+        ELResolver elResolver = sharedElResolver;
+        if (elResolver == null) {
+            // Concurrent first evaluations might both create it, which is harmless
+            elResolver = createSharedElResolver();
+            sharedElResolver = elResolver;
+        }
+        return elResolver;
+    }
+
+    /**
+     * Creates the resolvers used after the variable resolver. They are shared by concurrent evaluations, so they need to be thread safe.
+     */
+    protected ELResolver createSharedElResolver() {
         List<ELResolver> elResolvers = new ArrayList<>();
-        elResolvers.add(createVariableElResolver(variableContainer));
         if (beans != null) {
             elResolvers.add(new ReadOnlyMapELResolver(beans));
         }
@@ -158,6 +194,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public void setBeans(Map<Object, Object> beans) {
         this.beans = beans;
+        this.sharedElResolver = null;
     }
 
     @Override
@@ -195,5 +232,16 @@ public class DefaultExpressionManager implements ExpressionManager {
     public void setExpressionTextLengthCacheLimit(int expressionTextLengthCacheLimit) {
         this.expressionTextLengthCacheLimit = expressionTextLengthCacheLimit;
     }
+
+    public int getExpressionCompileThreshold() {
+        return expressionCompileThreshold;
+    }
+
+    public void setExpressionCompileThreshold(int expressionCompileThreshold) {
+        this.expressionCompileThreshold = expressionCompileThreshold;
+        if (expressionFactory instanceof ExpressionFactoryImpl) {
+            ((ExpressionFactoryImpl) expressionFactory).setCompileThreshold(expressionCompileThreshold);
+        }
+    }
     
 }
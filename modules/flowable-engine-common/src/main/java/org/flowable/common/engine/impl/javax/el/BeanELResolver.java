@@ -23,6 +23,7 @@ import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -99,6 +100,39 @@ public class BeanELResolver extends ELResolver {
 		}
 	}
 
+	protected static final class MethodKey {
+		private final Class<?> baseClass;
+		private final String name;
+		private final Class<?>[] types;
+		private final int paramCount;
+		private final int hashCode;
+
+		public MethodKey(Class<?> baseClass, String name, Class<?>[] types, int paramCount) {
+			this.baseClass = baseClass;
+			this.name = name;
+			this.types = types;
+			this.paramCount = paramCount;
+			this.hashCode = 31 * (31 * (31 * baseClass.hashCode() + name.hashCode()) + Arrays.hashCode(types)) + paramCount;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof MethodKey)) {
+				return false;
+			}
+			MethodKey other = (MethodKey) obj;
+			return baseClass == other.baseClass && paramCount == other.paramCount && name.equals(other.name) && Arrays.equals(types, other.types);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	private static Method findPublicAccessibleMethod(Method method) {
 		if (method == null || !Modifier.isPublic(method.getModifiers())) {
 			return null;
@@ -147,6 +181,7 @@ public class BeanELResolver extends ELResolver {
 
 	private final boolean readOnly;
 	private final ConcurrentHashMap<Class<?>, BeanProperties> cache;
+	private final ConcurrentHashMap<MethodKey, Method> methodCache;
 	
 	private ExpressionFactory defaultFactory;
 
@@ -163,6 +198,7 @@ public class BeanELResolver extends ELResolver {
 	public BeanELResolver(boolean readOnly) {
 		this.readOnly = readOnly;
 		this.cache = new ConcurrentHashMap<>();
+		this.methodCache = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -524,7 +560,19 @@ public class BeanELResolver extends ELResolver {
 		return result;
 	}
 
-    private Method findMethod(Object base, String name, Class<?>[] types, int paramCount) {
+	private Method findMethod(Object base, String name, Class<?>[] types, int paramCount) {
+		MethodKey methodKey = new MethodKey(base.getClass(), name, types, paramCount);
+		Method method = methodCache.get(methodKey);
+		if (method == null) {
+			method = lookupMethod(base, name, types, paramCount);
+			if (method != null) {
+				methodCache.put(methodKey, method);
+			}
+		}
+		return method;
+	}
+
+	private Method lookupMethod(Object base, String name, Class<?>[] types, int paramCount) {
 		if (types != null) {
 			try {
 				return findAccessibleMethod(base.getClass().getMethod(name, types));
@@ -675,5 +723,11 @@ public class BeanELResolver extends ELResolver {
 				classes.remove();
 			}
 		}
+		Iterator<MethodKey> methodKeys = methodCache.keySet().iterator();
+		while (methodKeys.hasNext()) {
+			if (loader == methodKeys.next().baseClass.getClassLoader()) {
+				methodKeys.remove();
+			}
+		}
 	}
 }
@@ -12,8 +12,9 @@
  */
 package org.flowable.common.engine.impl.persistence.cache;
 
-import java.util.HashMap;
+import java.util.Collections;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -28,17 +29,22 @@ public class CachedEntity {
 
     /**
      * Represents the 'persistence state' at the moment this {@link CachedEntity} instance was created. It is used later on to determine if a {@link Entity} has been updated, by comparing the
-     * 'persistent state' at that moment with this instance here.
+     * 'persistent state' at that moment with this instance here. Map based states are kept as a compact {@link PersistentStateSnapshot}.
      */
     protected Object originalPersistentState;
 
     public CachedEntity(Entity entity, boolean storeState) {
         this.entity = entity;
         if (storeState) {
-            this.originalPersistentState = entity.getPersistentState();
+            this.originalPersistentState = PersistentStateSnapshot.of(entity.getPersistentState());
             entity.setOriginalPersistentState(originalPersistentState);
         } else if (entity.getOriginalPersistentState() == null){
-            entity.setOriginalPersistentState(new HashMap<>(1));
+            entity.setOriginalPersistentState(Collections.emptyMap());
+        }
+
+        if (entity instanceof DirtyTrackingEntity) {
+            // The setters called while loading the entity don't count as changes, an entity without stored state is always considered changed
+            ((DirtyTrackingEntity) entity).setDirty(!storeState);
         }
     }
 
@@ -59,7 +65,14 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
-        return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
+        Object persistentState = entity.getPersistentState();
+        if (persistentState == null) {
+            return false;
+        }
+        if (originalPersistentState instanceof PersistentStateSnapshot) {
+            return !((PersistentStateSnapshot) originalPersistentState).isSameState(persistentState);
+        }
+        return !persistentState.equals(originalPersistentState);
     }
 
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
@@ -26,15 +28,25 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
  */
 public class EntityCacheImpl implements EntityCache {
 
+    /**
+     * Maps a requested entity type (typically an interface like ExecutionEntity) to the concrete entity class that was found for it.
+     * Class hierarchies don't change at runtime, so the resolution is shared by the entity caches of an engine, see {@link EntityCacheSessionFactory}.
+     */
+    protected ConcurrentMap<Class<?>, Class<?>> resolvedEntityClasses;
+
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    public EntityCacheImpl() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    public EntityCacheImpl(ConcurrentMap<Class<?>, Class<?>> resolvedEntityClasses) {
+        this.resolvedEntityClasses = resolvedEntityClasses;
+    }
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
-        Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
-        if (classCache == null) {
-            classCache = new HashMap<>();
-            cachedObjects.put(entity.getClass(), classCache);
-        }
+        Map<String, CachedEntity> classCache = cachedObjects.computeIfAbsent(entity.getClass(), entityClass -> new HashMap<>());
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
         return cachedObject;
@@ -44,12 +56,7 @@ public class EntityCacheImpl implements EntityCache {
     @SuppressWarnings("unchecked")
     public <T> T findInCache(Class<T> entityClass, String id) {
         CachedEntity cachedObject = null;
-        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
-
-        if (classCache == null) {
-            classCache = findClassCacheByCheckingSubclasses(entityClass);
-        }
-
+        Map<String, CachedEntity> classCache = findClassCache(entityClass);
         if (classCache != null) {
             cachedObject = classCache.get(id);
         }
@@ -61,10 +68,26 @@ public class EntityCacheImpl implements EntityCache {
         return null;
     }
 
+    protected Map<String, CachedEntity> findClassCache(Class<?> entityClass) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null && !cachedObjects.isEmpty()) {
+            Class<?> resolvedEntityClass = resolvedEntityClasses.get(entityClass);
+            if (resolvedEntityClass != null) {
+                classCache = cachedObjects.get(resolvedEntityClass);
+            }
+
+            if (classCache == null) {
+                classCache = findClassCacheByCheckingSubclasses(entityClass);
+            }
+        }
+        return classCache;
+    }
+
     protected Map<String, CachedEntity> findClassCacheByCheckingSubclasses(Class<?> entityClass) {
-        for (Class<?> clazz : cachedObjects.keySet()) {
-            if (entityClass.isAssignableFrom(clazz)) {
-                return cachedObjects.get(clazz);
+        for (Map.Entry<Class<?>, Map<String, CachedEntity>> entry : cachedObjects.entrySet()) {
+            if (entityClass.isAssignableFrom(entry.getKey())) {
+                resolvedEntityClasses.put(entityClass, entry.getKey());
+                return entry.getValue();
             }
         }
         return null;
@@ -91,12 +114,7 @@ public class EntityCacheImpl implements EntityCache {
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> findInCache(Class<T> entityClass) {
-        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
-
-        if (classCache == null) {
-            classCache = findClassCacheByCheckingSubclasses(entityClass);
-        }
-
+        Map<String, CachedEntity> classCache = findClassCache(entityClass);
         if (classCache != null) {
             List<T> entities = new ArrayList<>(classCache.size());
             for (CachedEntity cachedObject : classCache.values()) {
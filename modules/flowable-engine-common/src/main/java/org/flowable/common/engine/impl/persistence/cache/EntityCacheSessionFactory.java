@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.interceptor.SessionFactory;
+
+/**
+ * Creates the {@link EntityCacheImpl} of each command.
+ *
+ * The entity classes resolved by the caches are remembered per factory, and so per engine,
+ * so that engines using different entity implementations don't share them and the classes are released with the engine.
+ */
+public class EntityCacheSessionFactory implements SessionFactory {
+
+    protected ConcurrentMap<Class<?>, Class<?>> resolvedEntityClasses = new ConcurrentHashMap<>();
+
+    @Override
+    public Class<?> getSessionType() {
+        return EntityCache.class;
+    }
+
+    @Override
+    public Session openSession(CommandContext commandContext) {
+        return new EntityCacheImpl(resolvedEntityClasses);
+    }
+
+    public ConcurrentMap<Class<?>, Class<?>> getResolvedEntityClasses() {
+        return resolvedEntityClasses;
+    }
+
+}
@@ -0,0 +1,145 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Compact, read-only copy of a map based {@link Entity#getPersistentState()}, as kept by a {@link CachedEntity} for the dirty check at flush time.
+ *
+ * The keys and values are stored in two arrays, in the iteration order of the original map.
+ * As the persistent state of an entity is built the same way every time, the current state normally iterates in the same order,
+ * which makes {@link #isSameState(Object)} a single pass over the arrays.
+ */
+public class PersistentStateSnapshot extends AbstractMap<Object, Object> {
+
+    protected final Object[] keys;
+    protected final Object[] values;
+
+    protected PersistentStateSnapshot(Map<?, ?> persistentState) {
+        int size = persistentState.size();
+        this.keys = new Object[size];
+        this.values = new Object[size];
+
+        int index = 0;
+        for (Map.Entry<?, ?> entry : persistentState.entrySet()) {
+            keys[index] = entry.getKey();
+            values[index] = entry.getValue();
+            index++;
+        }
+    }
+
+    /**
+     * Returns a compact snapshot for the given persistent state if it's a plain {@link HashMap}, otherwise the state itself.
+     */
+    public static Object of(Object persistentState) {
+        if (persistentState != null && persistentState.getClass() == HashMap.class) {
+            return new PersistentStateSnapshot((Map<?, ?>) persistentState);
+        }
+        return persistentState;
+    }
+
+    /**
+     * @return true if the given persistent state contains exactly the same keys and (equal) values as this snapshot.
+     */
+    public boolean isSameState(Object persistentState) {
+        if (!(persistentState instanceof Map)) {
+            return false;
+        }
+
+        Map<?, ?> currentState = (Map<?, ?>) persistentState;
+        if (currentState.size() != keys.length) {
+            return false;
+        }
+
+        int position = 0;
+        for (Map.Entry<?, ?> entry : currentState.entrySet()) {
+            Object key = entry.getKey();
+            int index = position < keys.length && keys[position] == key ? position : indexOf(key);
+            if (index < 0 || !Objects.equals(values[index], entry.getValue())) {
+                return false;
+            }
+            position++;
+        }
+        return true;
+    }
+
+    protected int indexOf(Object key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (Objects.equals(keys[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public Set<Map.Entry<Object, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<Object, Object>>() {
+
+            @Override
+            public Iterator<Map.Entry<Object, Object>> iterator() {
+                return new Iterator<Map.Entry<Object, Object>>() {
+
+                    protected int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    public Map.Entry<Object, Object> next() {
+                        if (index >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Map.Entry<Object, Object> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+}
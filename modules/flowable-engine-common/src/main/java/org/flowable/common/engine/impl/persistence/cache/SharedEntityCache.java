@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Engine wide cache for entity types that effectively never change once persisted (e.g. definitions and deployments),
+ * shared by all {@link DbSqlSession} instances. It sits behind the {@link EntityCache} of a command:
+ * {@link DbSqlSession#selectById(Class, String, boolean)} consults it before going to the database and populates it afterwards.
+ *
+ * Every {@link DbSqlSession} gets its own copy of a cached entity, changes to it are never visible to other commands.
+ * Entities that are inserted, updated or deleted are invalidated when the session that changed them is closed.
+ */
+public interface SharedEntityCache {
+
+    /**
+     * @return true if entities of the given (concrete) class are kept in this cache.
+     */
+    boolean isCacheable(Class<?> entityClass);
+
+    /**
+     * @return a copy of the cached entity, or null if it's not in the cache.
+     */
+    <T extends Entity> T get(Class<T> entityClass, String id);
+
+    /**
+     * @return the number of invalidations done so far. To be fetched before selecting an entity from the database, and to be passed to {@link #put(Entity, long)} afterwards.
+     */
+    long getInvalidationCount();
+
+    /**
+     * Caches a copy of the given entity, unless an invalidation happened since the given invalidation count was fetched
+     * (as the entity could then have been read before a concurrent change was committed).
+     */
+    void put(Entity entity, long invalidationCount);
+
+    /**
+     * Removes the entity with the given id, or all entities of the given class when the id is null, and notifies the {@link SharedEntityCacheInvalidationListener}s.
+     */
+    void invalidate(Class<?> entityClass, String id);
+
+    /**
+     * Removes all entities and notifies the {@link SharedEntityCacheInvalidationListener}s.
+     */
+    void invalidateAll();
+
+    /**
+     * Removes the entity with the given id, or all entities of the given class when the id is null, without notifying the listeners.
+     * Typically called when receiving an invalidation from another node.
+     */
+    void evict(Class<?> entityClass, String id);
+
+    /**
+     * Removes all entities, without notifying the listeners.
+     */
+    void evictAll();
+
+    void addInvalidationListener(SharedEntityCacheInvalidationListener invalidationListener);
+
+}
@@ -0,0 +1,207 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Default {@link SharedEntityCache}, keeping at most a fixed number of entities per class.
+ *
+ * Entities are copied when put in and taken out of the cache: a new instance is created with the default constructor
+ * and all fields holding a simple value (primitives, their wrappers, strings, dates, enums and byte arrays) are copied.
+ * Other fields, like lazily loaded collections and related entities, keep the value set by the constructor.
+ * Hence only entity types of which all columns are mapped to such simple fields can be cached.
+ */
+public class SharedEntityCacheImpl implements SharedEntityCache {
+
+    protected static final Set<Class<?>> SIMPLE_VALUE_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            Date.class, java.sql.Date.class, java.sql.Timestamp.class, byte[].class));
+
+    protected Set<Class<?>> cacheableClasses;
+    protected int limitPerClass;
+
+    protected ConcurrentMap<Class<?>, ConcurrentMap<String, Entity>> cachedEntities = new ConcurrentHashMap<>();
+    protected ConcurrentMap<Class<?>, Field[]> copyableFields = new ConcurrentHashMap<>();
+    protected AtomicLong invalidationCount = new AtomicLong();
+    protected List<SharedEntityCacheInvalidationListener> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    protected LongAdder hitCount = new LongAdder();
+    protected LongAdder missCount = new LongAdder();
+
+    public SharedEntityCacheImpl(Collection<Class<? extends Entity>> cacheableClasses, int limitPerClass) {
+        this.cacheableClasses = new HashSet<>(cacheableClasses);
+        this.limitPerClass = limitPerClass;
+    }
+
+    @Override
+    public boolean isCacheable(Class<?> entityClass) {
+        return cacheableClasses.contains(entityClass);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T get(Class<T> entityClass, String id) {
+        ConcurrentMap<String, Entity> classCache = cachedEntities.get(entityClass);
+        Entity cachedEntity = classCache != null ? classCache.get(id) : null;
+        if (cachedEntity == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return (T) copy(cachedEntity);
+    }
+
+    @Override
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    @Override
+    public void put(Entity entity, long invalidationCount) {
+        if (entity.getId() == null || !isCacheable(entity.getClass()) || invalidationCount != this.invalidationCount.get()) {
+            return;
+        }
+
+        ConcurrentMap<String, Entity> classCache = cachedEntities.computeIfAbsent(entity.getClass(), entityClass -> new ConcurrentHashMap<>());
+        if (classCache.size() >= limitPerClass && !classCache.containsKey(entity.getId())) {
+            Iterator<String> idIterator = classCache.keySet().iterator();
+            if (idIterator.hasNext()) {
+                classCache.remove(idIterator.next());
+            }
+        }
+
+        Entity copy = copy(entity);
+        classCache.put(entity.getId(), copy);
+
+        // An invalidation could have happened between the check above and the put
+        if (invalidationCount != this.invalidationCount.get()) {
+            classCache.remove(entity.getId(), copy);
+        }
+    }
+
+    @Override
+    public void invalidate(Class<?> entityClass, String id) {
+        evict(entityClass, id);
+        for (SharedEntityCacheInvalidationListener invalidationListener : invalidationListeners) {
+            invalidationListener.invalidated(entityClass, id);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        evictAll();
+        for (SharedEntityCacheInvalidationListener invalidationListener : invalidationListeners) {
+            invalidationListener.invalidated(null, null);
+        }
+    }
+
+    @Override
+    public void evict(Class<?> entityClass, String id) {
+        // The count is incremented first, so that an entity that is being read concurrently is not cached afterwards
+        invalidationCount.incrementAndGet();
+        ConcurrentMap<String, Entity> classCache = cachedEntities.get(entityClass);
+        if (classCache != null) {
+            if (id != null) {
+                classCache.remove(id);
+            } else {
+                classCache.clear();
+            }
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        invalidationCount.incrementAndGet();
+        cachedEntities.clear();
+    }
+
+    @Override
+    public void addInvalidationListener(SharedEntityCacheInvalidationListener invalidationListener) {
+        invalidationListeners.add(invalidationListener);
+    }
+
+    protected Entity copy(Entity entity) {
+        try {
+            Entity copy = entity.getClass().getDeclaredConstructor().newInstance();
+            for (Field field : copyableFields.computeIfAbsent(entity.getClass(), this::findCopyableFields)) {
+                field.set(copy, field.get(entity));
+            }
+            return copy;
+
+        } catch (ReflectiveOperationException e) {
+            throw new FlowableException("Could not copy entity " + entity.getClass() + " for the shared entity cache", e);
+        }
+    }
+
+    protected Field[] findCopyableFields(Class<?> entityClass) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> currentClass = entityClass; currentClass != null && currentClass != Object.class; currentClass = currentClass.getSuperclass()) {
+            for (Field field : currentClass.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && isSimpleValueType(field.getType())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    protected boolean isSimpleValueType(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || SIMPLE_VALUE_TYPES.contains(type);
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentMap<String, Entity> classCache : cachedEntities.values()) {
+            size += classCache.size();
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public Set<Class<?>> getCacheableClasses() {
+        return cacheableClasses;
+    }
+
+    public int getLimitPerClass() {
+        return limitPerClass;
+    }
+
+}
@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+/**
+ * Gets notified of every invalidation of a {@link SharedEntityCache}.
+ *
+ * Meant to propagate invalidations to the other nodes of a cluster, which then {@link SharedEntityCache#evict(Class, String) evict}
+ * the entity from their own cache. Without such a listener, a node only sees the changes done by other nodes after restarting.
+ */
+@FunctionalInterface
+public interface SharedEntityCacheInvalidationListener {
+
+    /**
+     * @param entityClass the class of the invalidated entity, null when the whole cache was invalidated
+     * @param id the id of the invalidated entity, null when all entities of the class were invalidated
+     */
+    void invalidated(Class<?> entityClass, String id);
+
+}
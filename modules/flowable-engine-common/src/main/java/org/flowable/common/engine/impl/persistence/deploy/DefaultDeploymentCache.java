@@ -12,11 +12,15 @@
  */
 package org.flowable.common.engine.impl.persistence.deploy;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,68 +28,178 @@ import org.slf4j.LoggerFactory;
 /**
  * Default cache: keep everything in memory, unless a limit is set.
  * 
+ * Lookups are lock-free. When a limit is set, the least recently used objects are evicted when the limit is exceeded.
+ * The access order is kept in an access ordered map next to the cache, which a lookup only updates when the object
+ * wasn't looked up within {@link #ACCESS_TIME_RESOLUTION_NANOS}, so that concurrent lookups of the same hot object don't all contend for it.
+ * 
+ * By default the limit is the maximum number of cached objects. When a {@link DeploymentCacheWeigher} is set,
+ * the limit is the maximum total weight of the cached objects instead.
+ * 
  * @author Joram Barrez
  */
 public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDeploymentCache.class);
 
-    protected Map<String, T> cache;
+    protected static final long ACCESS_TIME_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    protected ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+
+    protected int limit;
+    protected DeploymentCacheWeigher<T> weigher;
+
+    // Mutations of a limited cache and its access order are guarded by this lock
+    protected final Object evictionLock = new Object();
+    protected LinkedHashMap<String, CacheEntry<T>> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+    protected long totalWeight;
+
+    protected LongAdder hitCount = new LongAdder();
+    protected LongAdder missCount = new LongAdder();
+    protected LongAdder evictionCount = new LongAdder();
+    protected LongAdder loadCount = new LongAdder();
+    protected LongAdder totalLoadTime = new LongAdder();
 
     /** Cache with no limit */
     public DefaultDeploymentCache() {
-        this.cache = Collections.synchronizedMap(new HashMap<>());
+        this.limit = -1;
     }
 
     /**
      * Cache which has a hard limit: no more elements will be cached than the limit.
      */
-    public DefaultDeploymentCache(final int limit) {
-        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, T>(limit + 1, 0.75f, true) { // +1 is needed, because the entry is inserted first, before it is removed
-            // 0.75 is the default (see javadocs)
-            // true will keep the 'access-order', which is needed to have a real LRU cache
-            private static final long serialVersionUID = 1L;
-
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
-                boolean removeEldest = size() > limit;
-                if (removeEldest && LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("Cache limit is reached, {} will be evicted", eldest.getKey());
-                }
-                return removeEldest;
-            }
+    public DefaultDeploymentCache(int limit) {
+        this(limit, null);
+    }
 
-        });
+    /**
+     * Cache which has a hard limit on the total weight of the cached elements, as calculated by the given weigher.
+     * An element that is heavier than the limit on its own is still cached, all other elements are evicted in that case.
+     */
+    public DefaultDeploymentCache(int limit, DeploymentCacheWeigher<T> weigher) {
+        this.limit = limit;
+        this.weigher = weigher;
     }
 
     @Override
     public T get(String id) {
-        return cache.get(id);
+        CacheEntry<T> entry = id != null ? cache.get(id) : null;
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        if (limit > 0) {
+            long now = System.nanoTime();
+            if (now - entry.lastAccessTime > ACCESS_TIME_RESOLUTION_NANOS) {
+                entry.lastAccessTime = now;
+                synchronized (evictionLock) {
+                    accessOrder.get(id);
+                }
+            }
+        }
+        return entry.value;
     }
 
     @Override
     public void add(String id, T obj) {
-        cache.put(id, obj);
+        if (id == null) {
+            return;
+        }
+
+        if (limit <= 0) {
+            cache.put(id, new CacheEntry<>(obj, 1, System.nanoTime()));
+            return;
+        }
+
+        CacheEntry<T> entry = new CacheEntry<>(obj, weigh(id, obj), System.nanoTime());
+        synchronized (evictionLock) {
+            CacheEntry<T> previousEntry = cache.put(id, entry);
+            accessOrder.put(id, entry);
+            totalWeight += entry.weight;
+            if (previousEntry != null) {
+                totalWeight -= previousEntry.weight;
+            }
+            evictIfNeeded(id);
+        }
+    }
+
+    protected int weigh(String id, T obj) {
+        if (weigher == null) {
+            return 1;
+        }
+        return Math.max(1, weigher.weigh(id, obj));
+    }
+
+    /**
+     * Evicts the least recently used entries until the total weight is within the limit again. The entry with the given id is never evicted.
+     */
+    protected void evictIfNeeded(String addedId) {
+        Iterator<Map.Entry<String, CacheEntry<T>>> eldestEntries = accessOrder.entrySet().iterator();
+        while (totalWeight > limit && eldestEntries.hasNext()) {
+            Map.Entry<String, CacheEntry<T>> eldestEntry = eldestEntries.next();
+            String eldestId = eldestEntry.getKey();
+            if (eldestId.equals(addedId)) {
+                continue;
+            }
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace("Cache limit is reached, {} will be evicted", eldestId);
+            }
+            eldestEntries.remove();
+            cache.remove(eldestId);
+            totalWeight -= eldestEntry.getValue().weight;
+            evictionCount.increment();
+        }
     }
 
     @Override
     public void remove(String id) {
-        cache.remove(id);
+        if (id == null) {
+            return;
+        }
+
+        if (limit <= 0) {
+            cache.remove(id);
+            return;
+        }
+
+        synchronized (evictionLock) {
+            CacheEntry<T> removedEntry = cache.remove(id);
+            accessOrder.remove(id);
+            if (removedEntry != null) {
+                totalWeight -= removedEntry.weight;
+            }
+        }
     }
 
     @Override
     public boolean contains(String id) {
-        return cache.containsKey(id);
+        return id != null && cache.containsKey(id);
     }
 
     @Override
     public void clear() {
-        cache.clear();
+        synchronized (evictionLock) {
+            cache.clear();
+            accessOrder.clear();
+            totalWeight = 0;
+        }
+    }
+
+    @Override
+    public void recordLoad(long loadTimeInNanos) {
+        loadCount.increment();
+        totalLoadTime.add(loadTimeInNanos);
     }
 
     // For testing purposes only
     public Collection<T> getAll() {
-        return cache.values();
+        Collection<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
     }
 
     // For testing purposes only
@@ -93,4 +207,57 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
         return cache.size();
     }
 
+    // Statistics
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getTotalLoadTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalLoadTime.sum());
+    }
+
+    public long getTotalWeight() {
+        if (limit <= 0) {
+            return cache.size();
+        }
+        synchronized (evictionLock) {
+            return totalWeight;
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public DeploymentCacheWeigher<T> getWeigher() {
+        return weigher;
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final T value;
+        protected final int weight;
+        protected volatile long lastAccessTime;
+
+        public CacheEntry(T value, int weight, long lastAccessTime) {
+            this.value = value;
+            this.weight = weight;
+            this.lastAccessTime = lastAccessTime;
+        }
+
+    }
+
 }
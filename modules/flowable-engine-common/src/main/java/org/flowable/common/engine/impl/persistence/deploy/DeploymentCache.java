@@ -28,5 +28,12 @@ public interface DeploymentCache<T> {
     void remove(String id);
 
     void clear();
+
+    /**
+     * Called by the deployment managers after a cache miss caused a (re)deployment of the cached object.
+     * Implementations can use this to keep load statistics. Does nothing by default.
+     */
+    default void recordLoad(long loadTimeInNanos) {
+    }
     
 }
@@ -27,6 +27,7 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     protected boolean isInserted;
     protected boolean isUpdated;
     protected boolean isDeleted;
+    protected boolean isDirty;
     
     protected Object originalPersistentState;
 
@@ -85,6 +86,21 @@ public abstract class AbstractEntity implements Entity, HasRevision {
         this.isDeleted = isDeleted;
     }
 
+    /**
+     * Only used by {@link DirtyTrackingEntity} implementations: to be called in every mutator of a field that is part of the persistent state.
+     */
+    protected void markDirty() {
+        this.isDirty = true;
+    }
+
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    public void setDirty(boolean isDirty) {
+        this.isDirty = isDirty;
+    }
+
     @Override
     public Object getOriginalPersistentState() {
         return originalPersistentState;
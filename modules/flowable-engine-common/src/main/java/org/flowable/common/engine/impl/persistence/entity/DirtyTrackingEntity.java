@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that keeps track of changes to its persistent state itself, by marking itself dirty in every mutator of a persistent field.
+ *
+ * When entity dirty tracking is enabled, a flush only builds and compares the persistent state of the entities that are dirty.
+ * Entities not implementing this interface are always compared with the persistent state snapshot taken when they were loaded.
+ */
+public interface DirtyTrackingEntity extends Entity {
+
+    /**
+     * @return true if a persistent field of this entity was changed since it was put in the entity cache.
+     */
+    boolean isDirty();
+
+    void setDirty(boolean isDirty);
+
+}
@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Map;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -24,6 +26,7 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.variable.api.delegate.VariableScope;
 
 /**
@@ -42,6 +45,12 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * Cache of the compiled scripts, keyed by language and script source, used for the cached engines that implement {@link Compilable}.
+     * No scripts are compiled when not set.
+     */
+    protected DeploymentCache<CompiledScript> compiledScriptCache;
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -84,12 +93,44 @@ public class ScriptingEngines {
     protected Object evaluate(String script, String language, Bindings bindings) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
+            CompiledScript compiledScript = getCompiledScript(script, language, scriptEngine);
+            if (compiledScript != null) {
+                return compiledScript.eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    protected CompiledScript getCompiledScript(String script, String language, ScriptEngine scriptEngine) throws ScriptException {
+        // A compiled script belongs to the engine that compiled it, so only scripts of the cached (thread-safe) engines are compiled.
+        // The juel engine binds the variables of the script context when compiling, so its scripts can't be reused with other bindings.
+        if (compiledScriptCache == null || DEFAULT_SCRIPTING_LANGUAGE.equals(language)
+                || !(scriptEngine instanceof Compilable) || cachedEngines.get(language) != scriptEngine) {
+            return null;
+        }
+
+        String cacheKey = language + ':' + script;
+        CompiledScript compiledScript = compiledScriptCache.get(cacheKey);
+        if (compiledScript == null) {
+            long startTime = System.nanoTime();
+            compiledScript = ((Compilable) scriptEngine).compile(script);
+            compiledScriptCache.add(cacheKey, compiledScript);
+            compiledScriptCache.recordLoad(System.nanoTime() - startTime);
+        }
+        return compiledScript;
+    }
+
+    /**
+     * Removes all compiled scripts from the cache, e.g. when a deployment is removed.
+     */
+    public void clearCompiledScriptCache() {
+        if (compiledScriptCache != null) {
+            compiledScriptCache.clear();
+        }
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -146,4 +187,12 @@ public class ScriptingEngines {
     public void setScriptBindingsFactory(ScriptBindingsFactory scriptBindingsFactory) {
         this.scriptBindingsFactory = scriptBindingsFactory;
     }
+
+    public DeploymentCache<CompiledScript> getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    public void setCompiledScriptCache(DeploymentCache<CompiledScript> compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+    }
 }
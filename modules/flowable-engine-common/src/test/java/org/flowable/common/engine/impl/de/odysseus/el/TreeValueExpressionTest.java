@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.de.odysseus.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.flowable.common.engine.impl.de.odysseus.el.util.SimpleContext;
+import org.flowable.common.engine.impl.de.odysseus.el.util.SimpleResolver;
+import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TreeValueExpressionTest {
+
+    protected SimpleContext context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SimpleResolver resolver = new SimpleResolver();
+        context = new SimpleContext(resolver);
+        context.setFunction("math", "max", Math.class.getMethod("max", int.class, int.class));
+        context.setFunction("string", "join", String.class.getMethod("join", CharSequence.class, CharSequence[].class));
+        resolver.getRootPropertyResolver().setProperty("intValue", 5);
+        resolver.getRootPropertyResolver().setProperty("longValue", 5L);
+        resolver.getRootPropertyResolver().setProperty("doubleValue", 4.5);
+        resolver.getRootPropertyResolver().setProperty("name", "kermit");
+        resolver.getRootPropertyResolver().setProperty("flag", Boolean.TRUE);
+        resolver.getRootPropertyResolver().setProperty("nullValue", null);
+        resolver.getRootPropertyResolver().setProperty("list", Arrays.asList("a", "b"));
+        resolver.getRootPropertyResolver().setProperty("person", new Person("gonzo", 3));
+    }
+
+    @Test
+    void compiledAfterThreshold() {
+        ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl();
+        expressionFactory.setCompileThreshold(2);
+        TreeValueExpression expression = expressionFactory.createValueExpression(context, "${intValue > 1 && name == 'kermit'}", Object.class);
+
+        assertThat(expression.getValue(context)).isEqualTo(true);
+        assertThat(expression.getValue(context)).isEqualTo(true);
+        assertThat(expression.isCompiled()).isFalse();
+        assertThat(expression.getValue(context)).isEqualTo(true);
+        assertThat(expression.isCompiled()).isTrue();
+        assertThat(expression.getValue(context)).isEqualTo(true);
+    }
+
+    @Test
+    void notCompiledByDefault() {
+        ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl();
+        TreeValueExpression expression = expressionFactory.createValueExpression(context, "${intValue > 1}", Object.class);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(expression.getValue(context)).isEqualTo(true);
+        }
+        assertThat(expression.isCompiled()).isFalse();
+    }
+
+    @Test
+    void compiledExpressionsEvaluateLikeInterpretedExpressions() {
+        ExpressionFactoryImpl interpretingFactory = new ExpressionFactoryImpl();
+        ExpressionFactoryImpl compilingFactory = new ExpressionFactoryImpl();
+        compilingFactory.setCompileThreshold(0);
+
+        List<String> expressions = Arrays.asList(
+                "${intValue == 5}", "${intValue == longValue}", "${intValue != '5'}", "${intValue < 6}", "${longValue >= 5}",
+                "${intValue > doubleValue}", "${doubleValue <= 4.5}", "${name == 'kermit'}", "${name < 'piggy'}", "${name > nullValue}",
+                "${nullValue == null}", "${flag && name == 'kermit'}", "${!flag || intValue lt 2}", "${'true' and flag}",
+                "${intValue + longValue * 2}", "${intValue / 2}", "${intValue % 3 - 1}", "${-intValue}", "${empty nullValue}",
+                "${not empty list}", "${flag ? name : 'other'}", "Hello ${name}, you are ${person.age}", "${person.name}",
+                "${list[1]}", "${math:max(intValue, person.age)}", "${math:max('7', 2)}", "${string:join('-', name, 'piggy')}",
+                "${(intValue + 1) * 2 eq 12}", "plain text");
+
+        for (String expressionText : expressions) {
+            TreeValueExpression interpreted = interpretingFactory.createValueExpression(context, expressionText, Object.class);
+            TreeValueExpression compiled = compilingFactory.createValueExpression(context, expressionText, Object.class);
+
+            assertThat(compiled.getValue(context)).as(expressionText).isEqualTo(interpreted.getValue(context));
+            assertThat(compiled.isCompiled()).as(expressionText).isTrue();
+        }
+    }
+
+    @Test
+    void compiledExpressionCoercesToExpectedType() {
+        ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl();
+        expressionFactory.setCompileThreshold(0);
+
+        assertThat(expressionFactory.createValueExpression(context, "${intValue + 1}", String.class).getValue(context)).isEqualTo("6");
+        assertThat(expressionFactory.createValueExpression(context, "${name}", Boolean.class).getValue(context)).isEqualTo(false);
+    }
+
+    @Test
+    void compiledExpressionWithUnknownIdentifier() {
+        ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl();
+        expressionFactory.setCompileThreshold(0);
+        TreeValueExpression expression = expressionFactory.createValueExpression(context, "${unknown == 5}", Object.class);
+
+        assertThatThrownBy(() -> expression.getValue(context))
+                .isInstanceOf(PropertyNotFoundException.class)
+                .hasMessageContaining("unknown");
+    }
+
+    public static class Person {
+
+        protected String name;
+        protected int age;
+
+        public Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+    }
+
+}
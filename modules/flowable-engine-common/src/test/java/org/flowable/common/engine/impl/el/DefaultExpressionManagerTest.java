@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.javax.el.ELResolver;
+import org.junit.jupiter.api.Test;
+
+class DefaultExpressionManagerTest {
+
+    @Test
+    void sharedResolversAreReusedAcrossEvaluations() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.<Object, Object>singletonMap("greeter", new Greeter()));
+        Expression expression = expressionManager.createExpression("${greeter.greet(name)} ${greeter.punctuation}");
+
+        assertThat(expression.getValue(variables("name", "Kermit"))).isEqualTo("Hello Kermit !");
+        ELResolver sharedElResolver = expressionManager.getSharedElResolver();
+        assertThat(expression.getValue(variables("name", "Gonzo"))).isEqualTo("Hello Gonzo !");
+        assertThat(expressionManager.getSharedElResolver()).isSameAs(sharedElResolver);
+    }
+
+    @Test
+    void sharedResolversAreRecreatedWhenBeansChange() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.<Object, Object>singletonMap("greeter", new Greeter()));
+        ELResolver sharedElResolver = expressionManager.getSharedElResolver();
+
+        Greeter otherGreeter = new Greeter();
+        otherGreeter.setPunctuation("?");
+        expressionManager.setBeans(Collections.<Object, Object>singletonMap("greeter", otherGreeter));
+
+        assertThat(expressionManager.getSharedElResolver()).isNotSameAs(sharedElResolver);
+        assertThat(expressionManager.createExpression("${greeter.punctuation}").getValue(variables("name", "Kermit"))).isEqualTo("?");
+    }
+
+    protected VariableContainerWrapper variables(String name, Object value) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put(name, value);
+        return new VariableContainerWrapper(variables);
+    }
+
+    public static class Greeter {
+
+        protected String punctuation = "!";
+
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+
+        public String getPunctuation() {
+            return punctuation;
+        }
+
+        public void setPunctuation(String punctuation) {
+            this.punctuation = punctuation;
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheImplTest {
+
+    @Test
+    void findBySuperType() {
+        EntityCacheSessionFactory sessionFactory = new EntityCacheSessionFactory();
+        EntityCacheImpl entityCache = (EntityCacheImpl) sessionFactory.openSession(null);
+        TestEntityImpl entity = new TestEntityImpl("1", "test");
+        entityCache.put(entity, true);
+
+        assertThat(entityCache.findInCache(TestEntityImpl.class, "1")).isSameAs(entity);
+        assertThat(entityCache.findInCache(TestEntity.class, "1")).isSameAs(entity);
+        assertThat(entityCache.findInCache(TestEntity.class)).containsExactly(entity);
+        assertThat(sessionFactory.getResolvedEntityClasses()).containsEntry(TestEntity.class, TestEntityImpl.class);
+
+        // A new cache of the same factory uses the resolved class
+        EntityCacheImpl otherEntityCache = (EntityCacheImpl) sessionFactory.openSession(null);
+        assertThat(otherEntityCache.findInCache(TestEntity.class, "1")).isNull();
+        assertThat(otherEntityCache.findInCache(TestEntity.class)).isEmpty();
+        otherEntityCache.put(entity, false);
+        assertThat(otherEntityCache.findInCache(TestEntity.class, "1")).isSameAs(entity);
+    }
+
+    @Test
+    void resolvedClassesAreNotSharedBetweenFactories() {
+        EntityCacheSessionFactory sessionFactory = new EntityCacheSessionFactory();
+        EntityCacheImpl entityCache = (EntityCacheImpl) sessionFactory.openSession(null);
+        entityCache.put(new TestEntityImpl("1", "test"), true);
+        assertThat(entityCache.findInCache(TestEntity.class, "1")).isNotNull();
+
+        EntityCacheSessionFactory otherSessionFactory = new EntityCacheSessionFactory();
+        assertThat(sessionFactory.getResolvedEntityClasses()).containsKey(TestEntity.class);
+        assertThat(otherSessionFactory.getResolvedEntityClasses()).isEmpty();
+    }
+
+    @Test
+    void detectChanges() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        TestEntityImpl entity = new TestEntityImpl("1", "test");
+        CachedEntity cachedEntity = entityCache.put(entity, true);
+
+        assertThat(cachedEntity.getOriginalPersistentState()).isInstanceOf(PersistentStateSnapshot.class);
+        assertThat(cachedEntity.hasChanged()).isFalse();
+
+        entity.setName("changed");
+        assertThat(cachedEntity.hasChanged()).isTrue();
+
+        entity.setName("test");
+        assertThat(cachedEntity.hasChanged()).isFalse();
+
+        entity.setDescription("new key");
+        assertThat(cachedEntity.hasChanged()).isTrue();
+    }
+
+    @Test
+    void notStoredStateIsAlwaysChanged() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        TestEntityImpl entity = new TestEntityImpl("1", "test");
+        CachedEntity cachedEntity = entityCache.put(entity, false);
+
+        assertThat(cachedEntity.hasChanged()).isTrue();
+        assertThat((Map<?, ?>) entity.getOriginalPersistentState()).isEmpty();
+    }
+
+    @Test
+    void snapshotBehavesAsMap() {
+        Map<String, Object> state = new HashMap<>();
+        state.put("name", "test");
+        state.put("revision", 3);
+        state.put("nullValue", null);
+
+        Object snapshot = PersistentStateSnapshot.of(state);
+        assertThat(snapshot).isInstanceOf(PersistentStateSnapshot.class);
+        assertThat(snapshot).isEqualTo(state);
+        assertThat(state).isEqualTo(snapshot);
+        assertThat(((Map<?, ?>) snapshot).get("name")).isEqualTo("test");
+        assertThat(((Map<?, ?>) snapshot).containsKey("nullValue")).isTrue();
+        assertThat(((PersistentStateSnapshot) snapshot).isSameState(new HashMap<>(state))).isTrue();
+
+        Map<String, Object> otherState = new HashMap<>(state);
+        otherState.remove("nullValue");
+        otherState.put("otherKey", null);
+        assertThat(((PersistentStateSnapshot) snapshot).isSameState(otherState)).isFalse();
+
+        assertThat(PersistentStateSnapshot.of("not a map")).isEqualTo("not a map");
+    }
+
+    interface TestEntity {
+    }
+
+    static class TestEntityImpl extends AbstractEntity implements TestEntity {
+
+        protected String name;
+        protected String description;
+
+        TestEntityImpl(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "";
+        }
+
+        @Override
+        public Object getPersistentState() {
+            Map<String, Object> persistentState = new HashMap<>();
+            persistentState.put("name", name);
+            if (description != null) {
+                persistentState.put("description", description);
+            }
+            return persistentState;
+        }
+    }
+
+}
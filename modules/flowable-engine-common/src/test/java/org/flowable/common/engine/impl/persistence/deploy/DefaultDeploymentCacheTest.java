@@ -0,0 +1,171 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class DefaultDeploymentCacheTest {
+
+    @Test
+    void unlimitedCache() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get("id42")).isEqualTo("value42");
+        assertThat(cache.contains("id99")).isTrue();
+        assertThat(cache.get(null)).isNull();
+        assertThat(cache.contains(null)).isFalse();
+        assertThat(cache.getEvictionCount()).isZero();
+
+        cache.remove("id42");
+        assertThat(cache.get("id42")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void limitedCacheEvictsLeastRecentlyUsed() throws Exception {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>(3);
+        cache.add("a", "A");
+        sleepBeyondAccessTimeResolution();
+        cache.add("b", "B");
+        sleepBeyondAccessTimeResolution();
+        cache.add("c", "C");
+        sleepBeyondAccessTimeResolution();
+
+        // 'a' becomes the most recently used entry, so 'b' is the eldest
+        assertThat(cache.get("a")).isEqualTo("A");
+        sleepBeyondAccessTimeResolution();
+
+        cache.add("d", "D");
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.contains("d")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+        // Replacing an existing entry doesn't evict anything
+        cache.add("d", "D2");
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("d")).isEqualTo("D2");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void weighedCache() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>(10, (id, value) -> value.length());
+        cache.add("a", "aaaa");
+        cache.add("b", "bbbb");
+        assertThat(cache.getTotalWeight()).isEqualTo(8);
+
+        cache.add("c", "cccc");
+        assertThat(cache.getTotalWeight()).isLessThanOrEqualTo(10);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains("c")).isTrue();
+
+        // An entry heavier than the limit is still cached, the other entries are evicted
+        cache.add("d", "dddddddddddddddd");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("d")).isNotNull();
+
+        cache.remove("d");
+        assertThat(cache.getTotalWeight()).isZero();
+    }
+
+    @Test
+    void weighedCacheTracksWeightOfReplacedEntries() throws Exception {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>(10, (id, value) -> value.length());
+        cache.add("a", "aa");
+        sleepBeyondAccessTimeResolution();
+        cache.add("b", "bb");
+        sleepBeyondAccessTimeResolution();
+        cache.add("c", "cc");
+        sleepBeyondAccessTimeResolution();
+        assertThat(cache.get("a")).isEqualTo("aa");
+
+        // Replacing 'c' with a heavier value evicts the least recently used entry 'b' only
+        cache.add("c", "ccccccc");
+        assertThat(cache.getTotalWeight()).isEqualTo(9);
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+        cache.add("c", "c");
+        assertThat(cache.getTotalWeight()).isEqualTo(3);
+
+        cache.clear();
+        assertThat(cache.getTotalWeight()).isZero();
+        cache.add("d", "dddd");
+        assertThat(cache.getTotalWeight()).isEqualTo(4);
+    }
+
+    @Test
+    void loadStatistics() {
+        DefaultDeploymentCache<String> cache = new DefaultDeploymentCache<>(5);
+        cache.recordLoad(TimeUnit.MILLISECONDS.toNanos(3));
+        cache.recordLoad(TimeUnit.MILLISECONDS.toNanos(4));
+
+        assertThat(cache.getLoadCount()).isEqualTo(2);
+        assertThat(cache.getTotalLoadTimeInMillis()).isEqualTo(7);
+    }
+
+    @Test
+    void concurrentAccessRespectsLimit() throws Exception {
+        DefaultDeploymentCache<Integer> cache = new DefaultDeploymentCache<>(50);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        String id = "id" + ((i * 8 + offset) % 200);
+                        if (cache.get(id) == null) {
+                            cache.add(id, i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.getTotalWeight()).isEqualTo(cache.size());
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(8000);
+    }
+
+    protected void sleepBeyondAccessTimeResolution() throws InterruptedException {
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(DefaultDeploymentCache.ACCESS_TIME_RESOLUTION_NANOS) + 2);
+    }
+
+}
@@ -14,11 +14,14 @@ package org.flowable.engine.impl.agenda;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.CompensateEventDefinition;
+import org.flowable.bpmn.model.ExtensionElement;
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.SequenceFlow;
@@ -54,6 +57,12 @@ import org.slf4j.LoggerFactory;
  */
 public class ContinueProcessOperation extends AbstractOperation {
 
+    /**
+     * Extension element of a flow node with the comma separated names of the variables the flow node reads,
+     * which are then fetched in one query before the flow node is executed.
+     */
+    public static final String PREFETCH_VARIABLES_EXTENSION_ELEMENT = "prefetchVariables";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ContinueProcessOperation.class);
 
     protected boolean forceSynchronousOperation;
@@ -135,6 +144,8 @@ public class ContinueProcessOperation extends AbstractOperation {
     }
 
     protected void executeSynchronous(FlowNode flowNode) {
+        prefetchVariables(flowNode);
+
         CommandContextUtil.getActivityInstanceEntityManager(commandContext).recordActivityStart(execution);
 
         // Execution listener: event 'start'
@@ -165,6 +176,28 @@ public class ContinueProcessOperation extends AbstractOperation {
         }
     }
 
+    protected void prefetchVariables(FlowNode flowNode) {
+        List<ExtensionElement> prefetchVariablesElements = flowNode.getExtensionElements().get(PREFETCH_VARIABLES_EXTENSION_ELEMENT);
+        if (prefetchVariablesElements == null || prefetchVariablesElements.isEmpty()) {
+            return;
+        }
+
+        Set<String> variableNames = new LinkedHashSet<>();
+        for (ExtensionElement prefetchVariablesElement : prefetchVariablesElements) {
+            if (prefetchVariablesElement.getElementText() != null) {
+                for (String variableName : prefetchVariablesElement.getElementText().split(",")) {
+                    if (!variableName.trim().isEmpty()) {
+                        variableNames.add(variableName.trim());
+                    }
+                }
+            }
+        }
+
+        if (!variableNames.isEmpty()) {
+            CommandContextUtil.getExecutionEntityManager(commandContext).prefetchVariables(execution, variableNames);
+        }
+    }
+
     protected void executeAsynchronous(FlowNode flowNode) {
         JobService jobService = CommandContextUtil.getJobService(commandContext);
         
@@ -319,6 +319,10 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
             setLoopVariable(execution, collectionElementVariable, value);
         }
 
+        planContinueMultiInstance(execution, multiInstanceRootExecution, loopCounter);
+    }
+
+    protected void planContinueMultiInstance(DelegateExecution execution, ExecutionEntity multiInstanceRootExecution, int loopCounter) {
         execution.setCurrentFlowElement(activity);
         CommandContextUtil.getAgenda().planContinueMultiInstanceOperation((ExecutionEntity) execution, multiInstanceRootExecution, loopCounter);
     }
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.bpmn.behavior;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Activity;
@@ -29,9 +30,12 @@ import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceChunkJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
@@ -41,6 +45,21 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
     private static final long serialVersionUID = 1L;
 
+    protected static final String NUMBER_OF_COMPLETED_INSTANCES_IN_CHUNK = "nrOfCompletedInstancesInChunk";
+
+    /**
+     * When larger than zero, the instances are not all created in the transaction that starts the multi-instance activity,
+     * but in chunks of this size, each in its own async job.
+     * <p>
+     * A completed instance is counted on a variable of its chunk on the multi-instance root, which is only added to the
+     * nrOfCompletedInstances and nrOfActiveInstances variables when all instances of the chunk are completed.
+     * The completion condition is evaluated with the counts of all chunks, the instances themselves see the counts of the completed chunks.
+     * <p>
+     * Every chunk job resolves the collection again, so it needs to give the same elements in the same order every time,
+     * e.g. by referring to a process variable.
+     */
+    protected int chunkSize;
+
     public ParallelMultiInstanceBehavior(Activity activity, AbstractBpmnActivityBehavior originalActivityBehavior) {
         super(activity, originalActivityBehavior);
     }
@@ -59,6 +78,12 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES, 0);
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfInstances);
 
+        if (chunkSize > 0 && nrOfInstances > 0) {
+            multiInstanceRootExecution.setActive(false);
+            scheduleInstanceChunk((ExecutionEntity) multiInstanceRootExecution, 0);
+            return nrOfInstances;
+        }
+
         List<ExecutionEntity> concurrentExecutions = new ArrayList<>();
         for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
             ExecutionEntity concurrentExecution = CommandContextUtil.getExecutionEntityManager()
@@ -98,6 +123,76 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         return nrOfInstances;
     }
 
+    /**
+     * Creates the instances from the given loop counter on, up to the chunk size, and schedules an async job for the next chunk if there are instances left.
+     */
+    public void createInstanceChunk(ExecutionEntity multiInstanceRootExecution, int startLoopCounter) {
+        int nrOfInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES);
+        int nrOfCompletedInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES);
+        int nrOfActiveInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES);
+        int endLoopCounter = Math.min(startLoopCounter + chunkSize, nrOfInstances);
+
+        // The collection is resolved once per chunk instead of once per instance, see the chunkSize
+        List<Object> collectionElements = null;
+        if (usesCollection() && collectionElementVariable != null) {
+            collectionElements = new ArrayList<>(resolveAndValidateCollection(multiInstanceRootExecution));
+        }
+
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
+        List<ExecutionEntity> concurrentExecutions = new ArrayList<>(endLoopCounter - startLoopCounter);
+        for (int loopCounter = startLoopCounter; loopCounter < endLoopCounter; loopCounter++) {
+            ExecutionEntity concurrentExecution = executionEntityManager.createChildExecution(multiInstanceRootExecution);
+            concurrentExecution.setCurrentFlowElement(activity);
+            concurrentExecution.setActive(true);
+            concurrentExecution.setScope(false);
+
+            concurrentExecutions.add(concurrentExecution);
+            logLoopDetails(concurrentExecution, "initialized", loopCounter, nrOfCompletedInstances, nrOfActiveInstances, nrOfInstances);
+        }
+
+        // As for the non-chunked instances, all executions of the chunk are created before the activities are executed
+        for (int loopCounter = startLoopCounter; loopCounter < endLoopCounter; loopCounter++) {
+            ExecutionEntity concurrentExecution = concurrentExecutions.get(loopCounter - startLoopCounter);
+            if (concurrentExecution.isActive() 
+                    && !concurrentExecution.isEnded() 
+                    && !concurrentExecution.getParent().isEnded()) {
+
+                if (collectionElements != null) {
+                    setLoopVariable(concurrentExecution, collectionElementVariable, 
+                            loopCounter < collectionElements.size() ? collectionElements.get(loopCounter) : null);
+                }
+                planContinueMultiInstance(concurrentExecution, multiInstanceRootExecution, loopCounter);
+            }
+        }
+
+        if (endLoopCounter < nrOfInstances && !multiInstanceRootExecution.isEnded()) {
+            scheduleInstanceChunk(multiInstanceRootExecution, endLoopCounter);
+        }
+    }
+
+    protected void scheduleInstanceChunk(ExecutionEntity multiInstanceRootExecution, int startLoopCounter) {
+        JobService jobService = CommandContextUtil.getJobService();
+
+        JobEntity job = jobService.createJob();
+        job.setExecutionId(multiInstanceRootExecution.getId());
+        job.setProcessInstanceId(multiInstanceRootExecution.getProcessInstanceId());
+        job.setProcessDefinitionId(multiInstanceRootExecution.getProcessDefinitionId());
+        job.setElementId(activity.getId());
+        job.setElementName(activity.getName());
+        job.setJobHandlerType(ParallelMultiInstanceChunkJobHandler.TYPE);
+        job.setJobHandlerConfiguration(String.valueOf(startLoopCounter));
+
+        // Inherit tenant id (if applicable)
+        if (multiInstanceRootExecution.getTenantId() != null) {
+            job.setTenantId(multiInstanceRootExecution.getTenantId());
+        }
+
+        multiInstanceRootExecution.getJobs().add(job);
+
+        jobService.createAsyncJob(job, activity.isExclusive());
+        jobService.scheduleAsyncJob(job);
+    }
+
     /**
      * Called when the wrapped {@link ActivityBehavior} calls the {@link AbstractBpmnActivityBehavior#leave(DelegateExecution)} method. Handles the completion of one of the parallel instances
      */
@@ -105,7 +200,9 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
     public void leave(DelegateExecution execution) {
 
         boolean zeroNrOfInstances = false;
-        if (resolveNrOfInstances(execution) == 0) {
+        // With chunks, the number of instances is read from the counter instead of resolving the collection again for every instance
+        int resolvedNrOfInstances = chunkSize > 0 ? getLoopVariable(execution, NUMBER_OF_INSTANCES) : resolveNrOfInstances(execution);
+        if (resolvedNrOfInstances == 0) {
             // Empty collection, just leave.
             zeroNrOfInstances = true;
             super.leave(execution); // Plan the default leave
@@ -113,13 +210,21 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
         int loopCounter = getLoopVariable(execution, getCollectionElementIndexVariable());
         int nrOfInstances = getLoopVariable(execution, NUMBER_OF_INSTANCES);
-        int nrOfCompletedInstances = getLoopVariable(execution, NUMBER_OF_COMPLETED_INSTANCES) + 1;
-        int nrOfActiveInstances = getLoopVariable(execution, NUMBER_OF_ACTIVE_INSTANCES) - 1;
+        int nrOfCompletedInstances;
+        int nrOfActiveInstances;
         
         DelegateExecution miRootExecution = getMultiInstanceRootExecution(execution);
-        if (miRootExecution != null) { // will be null in case of empty collection
-            setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
-            setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+        if (chunkSize > 0 && miRootExecution != null) {
+            nrOfCompletedInstances = countCompletedChunkInstance(miRootExecution, loopCounter, nrOfInstances);
+            nrOfActiveInstances = nrOfInstances - nrOfCompletedInstances;
+
+        } else {
+            nrOfCompletedInstances = getLoopVariable(execution, NUMBER_OF_COMPLETED_INSTANCES) + 1;
+            nrOfActiveInstances = getLoopVariable(execution, NUMBER_OF_ACTIVE_INSTANCES) - 1;
+            if (miRootExecution != null) { // will be null in case of empty collection
+                setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+                setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+            }
         }
 
         CommandContextUtil.getActivityInstanceEntityManager().recordActivityEnd((ExecutionEntity) execution, null);
@@ -135,11 +240,24 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         if (executionEntity.getParent() != null) {
 
             executionEntity.inactivate();
-            lockFirstParentScope(executionEntity);
 
-            boolean isCompletionConditionSatisfied = completionConditionSatisfied(execution.getParent());
+            // With chunks, concurrently completing instances of the same chunk conflict on the counter variable of the chunk
+            // and the instances completing a chunk conflict on the counters of the multi-instance root
+            boolean isCompletionConditionSatisfied;
+            if (chunkSize > 0) {
+                isCompletionConditionSatisfied = chunkCompletionConditionSatisfied(execution.getParent(), nrOfCompletedInstances, nrOfActiveInstances);
+            } else {
+                lockFirstParentScope(executionEntity);
+                isCompletionConditionSatisfied = completionConditionSatisfied(execution.getParent());
+            }
+
             if (nrOfCompletedInstances >= nrOfInstances || isCompletionConditionSatisfied) {
 
+                if (chunkSize > 0) {
+                    setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+                    setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+                }
+
                 ExecutionEntity leavingExecution = null;
                 if (nrOfInstances > 0) {
                     leavingExecution = executionEntity.getParent();
@@ -180,6 +298,55 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         }
     }
 
+    /**
+     * Counts the completed instance on the counter of its chunk. When this completes the chunk, the counter is added to
+     * the nrOfCompletedInstances and nrOfActiveInstances of the multi-instance root and removed.
+     *
+     * @return the number of completed instances of all chunks
+     */
+    protected int countCompletedChunkInstance(DelegateExecution miRootExecution, int loopCounter, int nrOfInstances) {
+        int chunkStartLoopCounter = loopCounter - loopCounter % chunkSize;
+        int nrOfChunkInstances = Math.min(chunkSize, nrOfInstances - chunkStartLoopCounter);
+        String chunkCounterVariableName = NUMBER_OF_COMPLETED_INSTANCES_IN_CHUNK + (chunkStartLoopCounter / chunkSize);
+
+        Integer nrOfCompletedChunkInstances = (Integer) miRootExecution.getVariableLocal(chunkCounterVariableName);
+        nrOfCompletedChunkInstances = nrOfCompletedChunkInstances != null ? nrOfCompletedChunkInstances + 1 : 1;
+        if (nrOfCompletedChunkInstances >= nrOfChunkInstances) {
+            int nrOfCompletedInstances = getLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES) + nrOfCompletedChunkInstances;
+            setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+            setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfInstances - nrOfCompletedInstances);
+            miRootExecution.removeVariableLocal(chunkCounterVariableName);
+        } else {
+            setLoopVariable(miRootExecution, chunkCounterVariableName, nrOfCompletedChunkInstances);
+        }
+
+        int nrOfCompletedInstances = getLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES);
+        for (Map.Entry<String, Object> variable : miRootExecution.getVariablesLocal().entrySet()) {
+            if (variable.getKey().startsWith(NUMBER_OF_COMPLETED_INSTANCES_IN_CHUNK) && variable.getValue() instanceof Integer) {
+                nrOfCompletedInstances += (Integer) variable.getValue();
+            }
+        }
+        return nrOfCompletedInstances;
+    }
+
+    /**
+     * Evaluates the completion condition with the counts of all chunks instead of the counts of the completed chunks.
+     */
+    protected boolean chunkCompletionConditionSatisfied(DelegateExecution miRootExecution, int nrOfCompletedInstances, int nrOfActiveInstances) {
+        if (completionCondition == null) {
+            return false;
+        }
+
+        miRootExecution.setTransientVariableLocal(NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+        miRootExecution.setTransientVariableLocal(NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+        try {
+            return completionConditionSatisfied(miRootExecution);
+        } finally {
+            miRootExecution.removeTransientVariableLocal(NUMBER_OF_COMPLETED_INSTANCES);
+            miRootExecution.removeTransientVariableLocal(NUMBER_OF_ACTIVE_INSTANCES);
+        }
+    }
+
     protected Activity verifyCompensation(DelegateExecution execution, ExecutionEntity executionToUse, Activity activity) {
         boolean hasCompensation = false;
         if (activity instanceof Transaction) {
@@ -258,4 +425,12 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
         parentScopeExecution.forceUpdate();
     }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
 }
@@ -17,9 +17,11 @@ import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.BaseElement;
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.MultiInstanceLoopCharacteristics;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.engine.impl.bpmn.behavior.AbstractBpmnActivityBehavior;
 import org.flowable.engine.impl.bpmn.behavior.MultiInstanceActivityBehavior;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
@@ -77,6 +79,15 @@ public abstract class AbstractActivityBpmnParseHandler<T extends FlowNode> exten
             miActivityBehavior.setCollectionElementIndexVariable(loopCharacteristics.getElementIndexVariable());
         }
 
+        // flowable:chunkSize
+        if (StringUtils.isNotEmpty(loopCharacteristics.getChunkSize()) && miActivityBehavior instanceof ParallelMultiInstanceBehavior) {
+            try {
+                ((ParallelMultiInstanceBehavior) miActivityBehavior).setChunkSize(Integer.parseInt(loopCharacteristics.getChunkSize().trim()));
+            } catch (NumberFormatException e) {
+                throw new FlowableException("Invalid chunk size '" + loopCharacteristics.getChunkSize() + "' for multi-instance activity " + modelActivity.getId(), e);
+            }
+        }
+
         // flowable:collectionParser
         if (loopCharacteristics.getHandler() != null) {
             miActivityBehavior.setHandler(loopCharacteristics.getHandler().clone());
@@ -28,6 +28,16 @@ public class PerformanceSettings {
      */
     protected boolean enableEagerExecutionTreeFetching = false;
 
+    /**
+     * The number of lookups of related executions (child executions, sub process instances, ...) within the same execution tree
+     * that can be done in one command before the whole execution tree is fetched in one roundtrip, together with the tasks,
+     * timer jobs and event subscriptions of its process instances. All further lookups in that tree are then answered from the cache.
+     *
+     * Contrary to <code>enableEagerExecutionTreeFetching</code>, this does not need to be enabled on the process definition.
+     * A value of zero or less disables fetching the execution tree on demand.
+     */
+    protected int executionTreeFetchThreshold = 5;
+
     /**
      * Keeps a count on each execution that holds how many variables, jobs, tasks, event subscriptions, etc. the execution has.
      * 
@@ -69,6 +79,14 @@ public class PerformanceSettings {
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
 
+    public int getExecutionTreeFetchThreshold() {
+        return executionTreeFetchThreshold;
+    }
+
+    public void setExecutionTreeFetchThreshold(int executionTreeFetchThreshold) {
+        this.executionTreeFetchThreshold = executionTreeFetchThreshold;
+    }
+
     public boolean isEnableExecutionRelationshipCounts() {
         return enableExecutionRelationshipCounts;
     }
@@ -16,9 +16,11 @@ package org.flowable.engine.impl.cfg;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +37,7 @@ import org.apache.ibatis.transaction.TransactionFactory;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
 import org.apache.ibatis.transaction.managed.ManagedTransactionFactory;
 import org.apache.ibatis.type.JdbcType;
+import org.flowable.batch.api.Batch;
 import org.flowable.batch.service.BatchServiceConfiguration;
 import org.flowable.batch.service.impl.db.BatchDbSchemaManager;
 import org.flowable.common.engine.api.FlowableException;
@@ -81,11 +84,11 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
-import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
-import org.flowable.common.engine.impl.persistence.cache.EntityCache;
-import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheSessionFactory;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
@@ -254,7 +257,9 @@ import org.flowable.engine.impl.jobexecutor.AsyncCompleteCallActivityJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupPartitionJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceChunkJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
@@ -265,6 +270,7 @@ import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManagerImpl;
@@ -274,6 +280,7 @@ import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManager;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntityImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
@@ -289,12 +296,14 @@ import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManager;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ResourceEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.TableDataManager;
@@ -367,6 +376,7 @@ import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobBinaryHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
@@ -393,6 +403,8 @@ import org.flowable.variable.service.impl.db.IbatisVariableTypeHandler;
 import org.flowable.variable.service.impl.db.VariableDbSchemaManager;
 import org.flowable.variable.service.impl.types.BooleanType;
 import org.flowable.variable.service.impl.types.ByteArrayType;
+import org.flowable.variable.service.impl.types.CompressedJsonType;
+import org.flowable.variable.service.impl.types.CompressedSerializableType;
 import org.flowable.variable.service.impl.types.DateType;
 import org.flowable.variable.service.impl.types.DefaultVariableTypes;
 import org.flowable.variable.service.impl.types.DoubleType;
@@ -490,6 +502,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected boolean isAsyncHistoryEnabled;
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
+    protected boolean isAsyncHistoryBinaryEncodingEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
@@ -532,6 +545,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DeploymentManager deploymentManager;
 
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+    protected DeploymentCacheWeigher<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher; // By default, the limit is the number of process definitions
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
@@ -605,6 +619,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected BlockingQueue<Runnable> asyncExecutorThreadPoolQueue;
 
+    /**
+     * If true, every async job is executed on its own virtual thread (Java 21 or higher) instead of on the thread pool, which suits jobs that mostly wait on I/O.
+     * The thread pool and queue settings are then not used, the number of jobs executing at the same time is limited by {@link #asyncExecutorMaxConcurrentJobs}.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorVirtualThreadMode;
+
+    /**
+     * The maximum number of async jobs executing at the same time when {@link #asyncExecutorVirtualThreadMode} is enabled. Default value = 1000.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorMaxConcurrentJobs = 1000;
+
     /**
      * The time (in seconds) that is waited to gracefully shut down the threadpool used for job execution when the a shutdown on the executor (or process engine) is requested. Default value = 60.
      * <p>
@@ -652,6 +681,47 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime;
 
+    /**
+     * If true, the acquisition threads adapt to the load: the number of jobs fetched per query grows while full pages are acquired
+     * (bounded by the free capacity of the executor), the wait time doubles on every consecutive empty acquisition
+     * (up to {@link #asyncExecutorMaxAsyncJobAcquireWaitTime} and {@link #asyncExecutorMaxTimerJobAcquireWaitTime})
+     * and optimistic locking conflicts with other nodes are retried after a randomized, growing wait time.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorAdaptiveJobAcquisition;
+
+    /**
+     * The maximum time (in milliseconds) the async job acquisition thread waits when {@link #asyncExecutorAdaptiveJobAcquisition} is enabled. Default value = 60 seconds.
+     */
+    protected int asyncExecutorMaxAsyncJobAcquireWaitTime = 60 * 1000;
+
+    /**
+     * The maximum time (in milliseconds) the timer acquisition thread waits when {@link #asyncExecutorAdaptiveJobAcquisition} is enabled. Default value = 60 seconds.
+     * Note that a timer can fire up to this amount of time late when no timers were due for a while.
+     */
+    protected int asyncExecutorMaxTimerJobAcquireWaitTime = 60 * 1000;
+
+    /**
+     * If true, the timer acquisition thread also acquires the timers due within the next {@link #asyncExecutorTimerJobWheelLookAheadTime} milliseconds
+     * and keeps them in an in-memory timing wheel, which moves them to executable jobs at their due date instead of at the next acquisition.
+     * The timers stay locked meanwhile, so the timers of a node that goes down are acquired again by another node once their lock expires.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerJobWheelEnabled;
+
+    /**
+     * The time (in milliseconds) ahead of their due date the timers are acquired when {@link #asyncExecutorTimerJobWheelEnabled} is enabled.
+     * Should be at least {@link #asyncExecutorDefaultTimerJobAcquireWaitTime}. Default value = 10 seconds.
+     */
+    protected int asyncExecutorTimerJobWheelLookAheadTime = 10 * 1000;
+
+    /**
+     * The precision (in milliseconds) of the timing wheel when {@link #asyncExecutorTimerJobWheelEnabled} is enabled. Default value = 100 milliseconds.
+     */
+    protected int asyncExecutorTimerJobWheelTick = 100;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it. While doing this, the 'name' of the lock owner is written into a column of the job.
      * <p>
@@ -744,6 +814,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
 
     protected String jobExecutionScope;
+
+    /**
+     * If true, async and timer jobs are acquired with 'select ... for update skip locked' on databases supporting it (Postgres 9.5+, Oracle, MySQL 8+),
+     * so concurrent acquisitions on different nodes get disjoint sets of jobs instead of colliding on the lock update.
+     * Other databases keep using the regular acquisition queries.
+     */
+    protected boolean skipLockedJobAcquisitionEnabled;
+
+    /**
+     * If true, every new job gets one of {@link #jobBucketCount} partition buckets (based on its process or case instance)
+     * and the async executor of every node only acquires the jobs of the buckets it has leased.
+     * The buckets are divided evenly between the active nodes. The leases of a node that goes down expire
+     * after {@link #asyncExecutorJobBucketLeaseTime} milliseconds, after which its buckets are taken over by the other nodes.
+     */
+    protected boolean jobPartitioningEnabled;
+    protected int jobBucketCount = 64;
+    protected int asyncExecutorJobBucketLeaseTime = 60 * 1000;
     protected String historyJobExecutionScope;
     
     protected String asyncExecutorTenantId = AbstractEngineConfiguration.NO_TENANT_ID;
@@ -755,6 +842,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
     protected HistoryCleaningManager historyCleaningManager;
 
+    /**
+     * The number of historic process instances (with their related history data) that are deleted per transaction by the history cleanup.
+     */
+    protected int historyCleaningBatchSize = 100;
+
+    /**
+     * The number of async jobs the history cleanup is split in. Every job deletes the instances that ended in its own end time range,
+     * so the jobs can run in parallel on different nodes. The progress is tracked in a batch of type {@link Batch#HISTORIC_PROCESS_DELETE_TYPE}.
+     */
+    protected int historyCleaningPartitionCount = 4;
+
+    /**
+     * The maximum number of historic process instances deleted per second by the history cleanup, divided over its jobs.
+     * 0 or less means the history cleanup is not throttled.
+     */
+    protected int historyCleaningMaxInstancesPerSecond;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -817,15 +921,40 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * When true, new json variables that don't fit in a string column and new serializable variables are stored with the compressed
+     * {@link CompressedJsonType} and {@link CompressedSerializableType}. Existing variables keep their type and stay readable.
+     * Engines of older versions can't read the compressed variables, so this is false by default.
+     */
+    protected boolean compressedVariableTypesEnabled;
+
+    /**
+     * The minimum number of bytes of the serialized value of a compressed variable type before it is actually compressed.
+     */
+    protected int variableCompressionThreshold = 1024;
+
     protected ExpressionManager expressionManager;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
+    /**
+     * Whether the scripts of script engines that implement {@link javax.script.Compilable} are compiled once and cached,
+     * instead of being parsed and compiled again on every evaluation.
+     */
+    protected boolean isCompiledScriptCacheEnabled = true;
+    protected int compiledScriptCacheSize = 1000;
+
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    /**
+     * The number of evaluations of a cached expression after which it is compiled instead of interpreted.
+     * A negative value (the default) never compiles expressions.
+     */
+    protected int expressionCompileThreshold = -1;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected StartProcessInstanceInterceptor startProcessInstanceInterceptor;
@@ -1367,7 +1496,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 addSessionFactory(new AgendaSessionFactory(agendaFactory));
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            addSessionFactory(new EntityCacheSessionFactory());
 
             commandContextFactory.setSessionFactories(sessionFactories);
 
@@ -1401,6 +1530,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (isBulkInsertEnabled && "oracle".equals(databaseType)) {
             dbSqlSessionFactory.getBulkInserteableEntityClasses().remove(EventLogEntryEntityImpl.class);
         }
+
+        // Bulk updates of entities that can be kept in the shared entity cache
+        dbSqlSessionFactory.getUpdateStatementEntityClasses().put("updateProcessDefinitionTenantIdForDeploymentId", ProcessDefinitionEntityImpl.class);
+    }
+
+    @Override
+    protected Set<Class<? extends Entity>> getDefaultSharedEntityCacheClasses() {
+        // Properties are not included: next.dbid is updated for every block of ids
+        return new HashSet<>(Arrays.asList(ProcessDefinitionEntityImpl.class, DeploymentEntityImpl.class, ResourceEntityImpl.class));
     }
 
     public void initAsyncHistorySessionFactory() {
@@ -1606,7 +1744,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Async history job config
             jobServiceConfiguration.setJobTypeAsyncHistory(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             jobServiceConfiguration.setJobTypeAsyncHistoryZipped(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
+            jobServiceConfiguration.setJobTypeAsyncHistoryBinary(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_BINARY);
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
+            jobServiceConfiguration.setAsyncHistoryBinaryEncodingEnabled(isAsyncHistoryBinaryEncodingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
 
@@ -1615,6 +1755,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setHistoryJobProcessors(this.historyJobProcessors);
 
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
+            this.jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(this.skipLockedJobAcquisitionEnabled);
+            this.jobServiceConfiguration.setJobPartitioningEnabled(this.jobPartitioningEnabled);
+            this.jobServiceConfiguration.setJobBucketCount(this.jobBucketCount);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
 
             this.jobServiceConfiguration.init();
@@ -1705,7 +1848,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<>();
             } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
+                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit, processDefinitionCacheWeigher);
             }
         }
     }
@@ -1972,6 +2115,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncContinuationJobHandler asyncContinuationJobHandler = new AsyncContinuationJobHandler();
         jobHandlers.put(asyncContinuationJobHandler.getType(), asyncContinuationJobHandler);
 
+        ParallelMultiInstanceChunkJobHandler parallelMultiInstanceChunkJobHandler = new ParallelMultiInstanceChunkJobHandler();
+        jobHandlers.put(parallelMultiInstanceChunkJobHandler.getType(), parallelMultiInstanceChunkJobHandler);
+
         AsyncTriggerJobHandler asyncTriggerJobHandler = new AsyncTriggerJobHandler();
         jobHandlers.put(asyncTriggerJobHandler.getType(), asyncTriggerJobHandler);
 
@@ -1996,6 +2142,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         BpmnHistoryCleanupJobHandler bpmnHistoryCleanupJobHandler = new BpmnHistoryCleanupJobHandler();
         jobHandlers.put(bpmnHistoryCleanupJobHandler.getType(), bpmnHistoryCleanupJobHandler);
 
+        BpmnHistoryCleanupPartitionJobHandler bpmnHistoryCleanupPartitionJobHandler = new BpmnHistoryCleanupPartitionJobHandler();
+        jobHandlers.put(bpmnHistoryCleanupPartitionJobHandler.getType(), bpmnHistoryCleanupPartitionJobHandler);
+
         ProcessInstanceMigrationJobHandler processInstanceMigrationJobHandler = new ProcessInstanceMigrationJobHandler();
         jobHandlers.put(processInstanceMigrationJobHandler.getType(), processInstanceMigrationJobHandler);
         
@@ -2029,6 +2178,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
+            AsyncHistoryJobBinaryHandler asyncHistoryJobBinaryHandler = new AsyncHistoryJobBinaryHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_BINARY);
+            allHistoryJsonTransformers.forEach(asyncHistoryJobBinaryHandler::addHistoryJsonTransformer);
+            asyncHistoryJobBinaryHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            historyJobHandlers.put(asyncHistoryJobBinaryHandler.getType(), asyncHistoryJobBinaryHandler);
+
             if (getCustomHistoryJobHandlers() != null) {
                 for (HistoryJobHandler customJobHandler : getCustomHistoryJobHandlers()) {
                     historyJobHandlers.put(customJobHandler.getType(), customJobHandler);
@@ -2101,6 +2255,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             }
             defaultAsyncExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
 
+            // Virtual threads
+            defaultAsyncExecutor.setVirtualThreadMode(asyncExecutorVirtualThreadMode);
+            defaultAsyncExecutor.setMaxConcurrentJobs(asyncExecutorMaxConcurrentJobs);
+
             // Thread flags
             defaultAsyncExecutor.setAsyncJobAcquisitionEnabled(isAsyncExecutorAsyncJobAcquisitionEnabled);
             defaultAsyncExecutor.setTimerJobAcquisitionEnabled(isAsyncExecutorTimerJobAcquisitionEnabled);
@@ -2113,6 +2271,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
 
+            // Adaptive acquisition
+            defaultAsyncExecutor.setAdaptiveJobAcquisition(asyncExecutorAdaptiveJobAcquisition);
+            defaultAsyncExecutor.setMaxAsyncJobAcquireWaitTimeInMillis(asyncExecutorMaxAsyncJobAcquireWaitTime);
+            defaultAsyncExecutor.setMaxTimerJobAcquireWaitTimeInMillis(asyncExecutorMaxTimerJobAcquireWaitTime);
+
+            // Timer job wheel
+            defaultAsyncExecutor.setTimerJobWheelEnabled(asyncExecutorTimerJobWheelEnabled);
+            defaultAsyncExecutor.setTimerJobWheelLookAheadInMillis(asyncExecutorTimerJobWheelLookAheadTime);
+            defaultAsyncExecutor.setTimerJobWheelTickInMillis(asyncExecutorTimerJobWheelTick);
+
+            // Job partitioning
+            defaultAsyncExecutor.setJobPartitioningEnabled(jobPartitioningEnabled);
+            defaultAsyncExecutor.setJobBucketLeaseTimeInMillis(asyncExecutorJobBucketLeaseTime);
+
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
@@ -2291,8 +2463,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
             variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
+            if (compressedVariableTypesEnabled) {
+                variableTypes.addType(new CompressedJsonType(getMaxLengthString() + 1, objectMapper, variableCompressionThreshold));
+            }
             variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
             variableTypes.addType(new ByteArrayType());
+            if (compressedVariableTypesEnabled) {
+                variableTypes.addType(new CompressedSerializableType(serializableVariableTypeTrackDeserializedObjects, variableCompressionThreshold));
+            }
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
                 for (VariableType customVariableType : customPostVariableTypes) {
@@ -2342,6 +2520,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+
+        if (isCompiledScriptCacheEnabled && scriptingEngines.getCompiledScriptCache() == null) {
+            scriptingEngines.setCompiledScriptCache(new DefaultDeploymentCache<>(compiledScriptCacheSize));
+        }
     }
 
     public void initExpressionManager() {
@@ -2352,6 +2534,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
+            processExpressionManager.setExpressionCompileThreshold(expressionCompileThreshold);
 
             expressionManager = processExpressionManager;
         }
@@ -2415,9 +2598,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             VariableType jpaType = variableTypes.getVariableType(JPAEntityVariableType.TYPE_NAME);
             // Add JPA-type
             if (jpaType == null) {
-                // We try adding the variable right before SerializableType, if
-                // available
-                int serializableIndex = variableTypes.getTypeIndex(SerializableType.TYPE_NAME);
+                // We try adding the variable right before CompressedSerializableType or SerializableType, if
+                // available, as these accept any serializable entity
+                int serializableIndex = variableTypes.getTypeIndex(CompressedSerializableType.TYPE_NAME);
+                if (serializableIndex == -1) {
+                    serializableIndex = variableTypes.getTypeIndex(SerializableType.TYPE_NAME);
+                }
                 if (serializableIndex > -1) {
                     variableTypes.addType(new JPAEntityVariableType(), serializableIndex);
                 } else {
@@ -2919,6 +3105,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     @Override
     public VariableTypes getVariableTypes() {
         return variableTypes;
@@ -3010,6 +3214,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public boolean isCompressedVariableTypesEnabled() {
+        return compressedVariableTypesEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setCompressedVariableTypesEnabled(boolean compressedVariableTypesEnabled) {
+        this.compressedVariableTypesEnabled = compressedVariableTypesEnabled;
+        return this;
+    }
+
+    public int getVariableCompressionThreshold() {
+        return variableCompressionThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setVariableCompressionThreshold(int variableCompressionThreshold) {
+        this.variableCompressionThreshold = variableCompressionThreshold;
+        return this;
+    }
+
     @Override
     public ExpressionManager getExpressionManager() {
         return expressionManager;
@@ -3048,6 +3270,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getExpressionCompileThreshold() {
+        return expressionCompileThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setExpressionCompileThreshold(int expressionCompileThreshold) {
+        this.expressionCompileThreshold = expressionCompileThreshold;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3462,6 +3693,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public DeploymentCacheWeigher<ProcessDefinitionCacheEntry> getProcessDefinitionCacheWeigher() {
+        return processDefinitionCacheWeigher;
+    }
+
+    /**
+     * Sets the weigher for the process definition cache. When set, the process definition cache limit is the maximum total weight
+     * of the cached process definitions (e.g. the number of flow elements with {@link ProcessDefinitionCacheEntryWeigher}).
+     */
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWeigher(DeploymentCacheWeigher<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher) {
+        this.processDefinitionCacheWeigher = processDefinitionCacheWeigher;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3659,6 +3903,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setExecutionTreeFetchThreshold(int executionTreeFetchThreshold) {
+        this.performanceSettings.setExecutionTreeFetchThreshold(executionTreeFetchThreshold);
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setEnableExecutionRelationshipCounts(boolean enableExecutionRelationshipCounts) {
         this.performanceSettings.setEnableExecutionRelationshipCounts(enableExecutionRelationshipCounts);
         return this;
@@ -4016,6 +4265,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncHistoryBinaryEncodingEnabled() {
+        return isAsyncHistoryBinaryEncodingEnabled;
+    }
+
+    /**
+     * Writes the data of async history jobs in a compact binary format instead of json,
+     * see {@link org.flowable.job.service.impl.history.async.util.AsyncHistoryBinaryCodec}.
+     * Takes precedence over the gzip compression of the json. Jobs that were created with another format can still be handled.
+     */
+    public ProcessEngineConfigurationImpl setAsyncHistoryBinaryEncodingEnabled(boolean isAsyncHistoryBinaryEncodingEnabled) {
+        this.isAsyncHistoryBinaryEncodingEnabled = isAsyncHistoryBinaryEncodingEnabled;
+        return this;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
@@ -4432,6 +4695,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorVirtualThreadMode() {
+        return asyncExecutorVirtualThreadMode;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreadMode(boolean asyncExecutorVirtualThreadMode) {
+        this.asyncExecutorVirtualThreadMode = asyncExecutorVirtualThreadMode;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentJobs() {
+        return asyncExecutorMaxConcurrentJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrentJobs(int asyncExecutorMaxConcurrentJobs) {
+        this.asyncExecutorMaxConcurrentJobs = asyncExecutorMaxConcurrentJobs;
+        return this;
+    }
+
     public long getAsyncExecutorSecondsToWaitOnShutdown() {
         return asyncExecutorSecondsToWaitOnShutdown;
     }
@@ -4486,6 +4767,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorAdaptiveJobAcquisition() {
+        return asyncExecutorAdaptiveJobAcquisition;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveJobAcquisition(boolean asyncExecutorAdaptiveJobAcquisition) {
+        this.asyncExecutorAdaptiveJobAcquisition = asyncExecutorAdaptiveJobAcquisition;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxAsyncJobAcquireWaitTime() {
+        return asyncExecutorMaxAsyncJobAcquireWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxAsyncJobAcquireWaitTime(int asyncExecutorMaxAsyncJobAcquireWaitTime) {
+        this.asyncExecutorMaxAsyncJobAcquireWaitTime = asyncExecutorMaxAsyncJobAcquireWaitTime;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxTimerJobAcquireWaitTime() {
+        return asyncExecutorMaxTimerJobAcquireWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxTimerJobAcquireWaitTime(int asyncExecutorMaxTimerJobAcquireWaitTime) {
+        this.asyncExecutorMaxTimerJobAcquireWaitTime = asyncExecutorMaxTimerJobAcquireWaitTime;
+        return this;
+    }
+
+    public boolean isAsyncExecutorTimerJobWheelEnabled() {
+        return asyncExecutorTimerJobWheelEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobWheelEnabled(boolean asyncExecutorTimerJobWheelEnabled) {
+        this.asyncExecutorTimerJobWheelEnabled = asyncExecutorTimerJobWheelEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerJobWheelLookAheadTime() {
+        return asyncExecutorTimerJobWheelLookAheadTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobWheelLookAheadTime(int asyncExecutorTimerJobWheelLookAheadTime) {
+        this.asyncExecutorTimerJobWheelLookAheadTime = asyncExecutorTimerJobWheelLookAheadTime;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerJobWheelTick() {
+        return asyncExecutorTimerJobWheelTick;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobWheelTick(int asyncExecutorTimerJobWheelTick) {
+        this.asyncExecutorTimerJobWheelTick = asyncExecutorTimerJobWheelTick;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -4576,6 +4911,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isSkipLockedJobAcquisitionEnabled() {
+        return skipLockedJobAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setSkipLockedJobAcquisitionEnabled(boolean skipLockedJobAcquisitionEnabled) {
+        this.skipLockedJobAcquisitionEnabled = skipLockedJobAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isJobPartitioningEnabled() {
+        return jobPartitioningEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setJobPartitioningEnabled(boolean jobPartitioningEnabled) {
+        this.jobPartitioningEnabled = jobPartitioningEnabled;
+        return this;
+    }
+
+    public int getJobBucketCount() {
+        return jobBucketCount;
+    }
+
+    public ProcessEngineConfigurationImpl setJobBucketCount(int jobBucketCount) {
+        this.jobBucketCount = jobBucketCount;
+        return this;
+    }
+
+    public int getAsyncExecutorJobBucketLeaseTime() {
+        return asyncExecutorJobBucketLeaseTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobBucketLeaseTime(int asyncExecutorJobBucketLeaseTime) {
+        this.asyncExecutorJobBucketLeaseTime = asyncExecutorJobBucketLeaseTime;
+        return this;
+    }
+
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
     }
@@ -4811,4 +5182,31 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public void setHistoryCleaningManager(HistoryCleaningManager historyCleaningManager) {
         this.historyCleaningManager = historyCleaningManager;
     }
+
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
+
+    public int getHistoryCleaningPartitionCount() {
+        return historyCleaningPartitionCount;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningPartitionCount(int historyCleaningPartitionCount) {
+        this.historyCleaningPartitionCount = historyCleaningPartitionCount;
+        return this;
+    }
+
+    public int getHistoryCleaningMaxInstancesPerSecond() {
+        return historyCleaningMaxInstancesPerSecond;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningMaxInstancesPerSecond(int historyCleaningMaxInstancesPerSecond) {
+        this.historyCleaningMaxInstancesPerSecond = historyCleaningMaxInstancesPerSecond;
+        return this;
+    }
 }
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.entitylink.api.history.HistoricEntityLinkService;
+import org.flowable.identitylink.service.HistoricIdentityLinkService;
+import org.flowable.task.service.HistoricTaskService;
+
+/**
+ * Deletes at most chunkSize historic process instances matching the query, together with all their related history data,
+ * using bulk deletes on the ids of the instances.
+ * Returns the number of deleted historic process instances, so the caller knows whether more are left.
+ */
+public class DeleteHistoricProcessInstancesChunkCmd implements Command<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected HistoricProcessInstanceQueryImpl historicProcessInstanceQuery;
+    protected int chunkSize;
+
+    public DeleteHistoricProcessInstancesChunkCmd(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, int chunkSize) {
+        this.historicProcessInstanceQuery = historicProcessInstanceQuery;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        if (historicProcessInstanceQuery == null) {
+            throw new FlowableIllegalArgumentException("query is null");
+        }
+        if (chunkSize <= 0) {
+            throw new FlowableIllegalArgumentException("chunk size must be greater than 0");
+        }
+
+        List<HistoricProcessInstance> historicProcessInstances = historicProcessInstanceQuery.listPage(0, chunkSize);
+        if (historicProcessInstances.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> processInstanceIds = new HashSet<>();
+        for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+            processInstanceIds.add(historicProcessInstance.getId());
+        }
+
+        // The bulk deletes are flushed in entity dependency order, so the task identity links are deleted before the task instances they are selected by
+        HistoricIdentityLinkService historicIdentityLinkService = CommandContextUtil.getHistoricIdentityLinkService();
+        historicIdentityLinkService.deleteHistoricTaskIdentityLinksForProcessInstanceIds(processInstanceIds);
+        historicIdentityLinkService.deleteHistoricProcessIdentityLinksForProcessInstanceIds(processInstanceIds);
+
+        HistoricEntityLinkService historicEntityLinkService = CommandContextUtil.getHistoricEntityLinkService();
+        if (historicEntityLinkService != null) {
+            historicEntityLinkService.deleteHistoricEntityLinksForScopeIdsAndScopeType(processInstanceIds, ScopeTypes.BPMN);
+        }
+
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+        historicTaskService.deleteHistoricTaskLogEntriesForProcessInstanceIds(processInstanceIds);
+        historicTaskService.deleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+
+        CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).deleteHistoricActivityInstancesForProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricVariableService().deleteHistoricVariableInstancesForProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricDetailEntityManager(commandContext).deleteHistoricDetailForProcessInstanceIds(processInstanceIds);
+
+        HistoricProcessInstanceQueryImpl processInstanceIdsQuery = new HistoricProcessInstanceQueryImpl();
+        processInstanceIdsQuery.processInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).deleteHistoricProcessInstances(processInstanceIdsQuery);
+
+        return historicProcessInstances.size();
+    }
+
+}
@@ -65,7 +65,7 @@ public class ProcessExpressionManager extends VariableScopeExpressionManager {
             }
         }
         
-        if (beanElResolverIndex > 0) {
+        if (beanElResolverIndex >= 0) {
             elResolvers.add(beanElResolverIndex, new DynamicBeanPropertyELResolver(ItemInstance.class, "getFieldValue", "setFieldValue"));
         }
     }
@@ -12,21 +12,44 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
-import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.BatchQueryImpl;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
-import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
-import org.flowable.engine.impl.cmd.DeleteHistoricProcessInstancesCmd;
-import org.flowable.engine.impl.cmd.DeleteRelatedDataOfRemovedHistoricProcessInstancesCmd;
-import org.flowable.engine.impl.cmd.DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
 import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
+/**
+ * Starts the history cleanup by splitting the end time range of the historic process instances to clean
+ * into {@link ProcessEngineConfigurationImpl#getHistoryCleaningPartitionCount()} partitions,
+ * each deleted by its own {@link BpmnHistoryCleanupPartitionJobHandler} job. The progress is tracked in a batch with a part per partition.
+ * As long as a previous cleanup is still running, no new cleanup is started.
+ * Parts of which the partition job was moved to the dead letter jobs or deleted are marked as failed, so they don't block the cleanup forever.
+ */
 public class BpmnHistoryCleanupJobHandler implements JobHandler {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnHistoryCleanupJobHandler.class);
+
     public static final String TYPE = "bpmn-history-cleanup";
 
     @Override
@@ -36,14 +59,107 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
 
     @Override
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
-        CommandConfig config = new CommandConfig().transactionRequiresNew();
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
-        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
-        
-        HistoricProcessInstanceQueryImpl historicProcessInstanceQuery = processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery();
-        commandExecutor.execute(config, new DeleteHistoricProcessInstancesCmd(historicProcessInstanceQuery));
-        commandExecutor.execute(config, new DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd());
-        commandExecutor.execute(config, new DeleteRelatedDataOfRemovedHistoricProcessInstancesCmd());
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+
+        List<Batch> runningBatches = batchService.findBatchesByQueryCriteria(new BatchQueryImpl()
+                .batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                .status(BpmnHistoryCleanupPartitionJobHandler.STATUS_IN_PROGRESS));
+        if (!runningBatches.isEmpty()) {
+            Set<String> scheduledBatchPartIds = findScheduledBatchPartIds(processEngineConfiguration.getObjectMapper(), commandContext);
+            boolean partitionsRunning = false;
+            for (Batch runningBatch : runningBatches) {
+                if (failUnscheduledBatchParts(runningBatch, scheduledBatchPartIds, batchService)) {
+                    partitionsRunning = true;
+                } else {
+                    BpmnHistoryCleanupPartitionJobHandler.completeBatch(runningBatch, processEngineConfiguration, batchService);
+                }
+            }
+
+            if (partitionsRunning) {
+                return;
+            }
+        }
+
+        List<HistoricProcessInstance> oldestInstances = createCleaningQuery(processEngineConfiguration).orderByProcessInstanceEndTime().asc().listPage(0, 1);
+        if (oldestInstances.isEmpty()) {
+            return;
+        }
+        List<HistoricProcessInstance> newestInstances = createCleaningQuery(processEngineConfiguration).orderByProcessInstanceEndTime().desc().listPage(0, 1);
+
+        long finishedAfter = oldestInstances.get(0).getEndTime().getTime();
+        long finishedBefore = newestInstances.get(0).getEndTime().getTime();
+        int partitionCount = Math.max(processEngineConfiguration.getHistoryCleaningPartitionCount(), 1);
+        long partitionSize = (finishedBefore - finishedAfter) / partitionCount + 1;
+
+        ObjectNode batchDocument = processEngineConfiguration.getObjectMapper().createObjectNode();
+        batchDocument.put("finishedAfter", finishedAfter);
+        batchDocument.put("finishedBefore", finishedBefore);
+        batchDocument.put("partitionCount", partitionCount);
+        Batch batch = batchService.createBatchBuilder().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                .searchKey(TYPE)
+                .status(BpmnHistoryCleanupPartitionJobHandler.STATUS_IN_PROGRESS)
+                .batchDocumentJson(batchDocument.toString())
+                .create();
+
+        for (long partitionStart = finishedAfter; partitionStart <= finishedBefore; partitionStart += partitionSize) {
+            // Both ends of the range are inclusive
+            long partitionEnd = Math.min(partitionStart + partitionSize - 1, finishedBefore);
+            BatchPart batchPart = batchService.createBatchPart(batch, BpmnHistoryCleanupPartitionJobHandler.STATUS_WAITING, null, null, ScopeTypes.BPMN);
+            BpmnHistoryCleanupPartitionJobHandler.scheduleJob(BpmnHistoryCleanupPartitionJobHandler.getHandlerCfg(processEngineConfiguration.getObjectMapper(),
+                    batchPart.getId(), partitionStart, partitionEnd, partitionCount), commandContext);
+        }
     }
-    
+
+    /**
+     * Marks the waiting parts of the batch without a partition job as failed.
+     * Returns whether the batch still has waiting parts with a partition job.
+     */
+    protected boolean failUnscheduledBatchParts(Batch batch, Set<String> scheduledBatchPartIds, BatchService batchService) {
+        boolean partitionsRunning = false;
+        for (BatchPart batchPart : BpmnHistoryCleanupPartitionJobHandler.findWaitingBatchParts(batch.getId(), batchService)) {
+            if (scheduledBatchPartIds.contains(batchPart.getId())) {
+                partitionsRunning = true;
+            } else {
+                LOGGER.warn("History cleanup partition {} of batch {} has no pending job, marking it as failed", batchPart.getId(), batch.getId());
+                batchService.completeBatchPart(batchPart.getId(), BpmnHistoryCleanupPartitionJobHandler.STATUS_FAILED, null);
+            }
+        }
+        return partitionsRunning;
+    }
+
+    /**
+     * Returns the batch parts of the partition jobs that are executable or waiting for a retry.
+     * A partition job continues in a new job in the same transaction, so a running partition always has one of these.
+     */
+    protected Set<String> findScheduledBatchPartIds(ObjectMapper objectMapper, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        Set<String> batchPartIds = new HashSet<>();
+        for (Job job : jobService.createJobQuery().handlerType(BpmnHistoryCleanupPartitionJobHandler.TYPE).list()) {
+            addBatchPartId(job, objectMapper, batchPartIds);
+        }
+        // Partition jobs waiting for a retry are timer jobs
+        for (Job job : jobService.createTimerJobQuery().handlerType(BpmnHistoryCleanupPartitionJobHandler.TYPE).list()) {
+            addBatchPartId(job, objectMapper, batchPartIds);
+        }
+        return batchPartIds;
+    }
+
+    protected void addBatchPartId(Job job, ObjectMapper objectMapper, Set<String> batchPartIds) {
+        try {
+            String batchPartId = objectMapper.readTree(job.getJobHandlerConfiguration()).path(BpmnHistoryCleanupPartitionJobHandler.CFG_LABEL_BATCH_PART_ID).asText(null);
+            if (batchPartId != null) {
+                batchPartIds.add(batchPartId);
+            }
+        } catch (IOException e) {
+            throw new FlowableException("Invalid history cleanup partition job configuration " + job.getJobHandlerConfiguration(), e);
+        }
+    }
+
+    protected HistoricProcessInstanceQueryImpl createCleaningQuery(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        HistoricProcessInstanceQueryImpl query = processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery();
+        query.finished();
+        return query;
+    }
+
 }
@@ -0,0 +1,230 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.DeleteHistoricProcessInstancesChunkCmd;
+import org.flowable.engine.impl.cmd.DeleteRelatedDataOfRemovedHistoricProcessInstancesCmd;
+import org.flowable.engine.impl.cmd.DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic process instances of the history cleanup that ended within the end time range of one partition.
+ *
+ * The instances are deleted in chunks of {@link ProcessEngineConfigurationImpl#getHistoryCleaningBatchSize()}, each in its own transaction,
+ * optionally throttled to {@link ProcessEngineConfigurationImpl#getHistoryCleaningMaxInstancesPerSecond()}.
+ * To stay well within the lock time of the job, the handler stops after half of the async job lock time and
+ * continues in a new job, so a large cleanup never holds a single job for hours and resumes where it stopped after a failure.
+ */
+public class BpmnHistoryCleanupPartitionJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnHistoryCleanupPartitionJobHandler.class);
+
+    public static final String TYPE = "bpmn-history-cleanup-partition";
+
+    public static final String STATUS_WAITING = "waiting";
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String STATUS_FAILED = "failed";
+
+    protected static final String CFG_LABEL_BATCH_PART_ID = "batchPartId";
+    protected static final String CFG_LABEL_FINISHED_AFTER = "finishedAfter";
+    protected static final String CFG_LABEL_FINISHED_BEFORE = "finishedBefore";
+    protected static final String CFG_LABEL_PARTITION_COUNT = "partitionCount";
+    protected static final String CFG_LABEL_DELETED_INSTANCES = "deletedInstances";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = new CommandConfig().transactionRequiresNew();
+
+        JsonNode handlerCfg = readHandlerCfg(configuration, processEngineConfiguration.getObjectMapper());
+        String batchPartId = handlerCfg.path(CFG_LABEL_BATCH_PART_ID).asText(null);
+        long finishedAfter = handlerCfg.path(CFG_LABEL_FINISHED_AFTER).asLong();
+        long finishedBefore = handlerCfg.path(CFG_LABEL_FINISHED_BEFORE).asLong();
+        int partitionCount = Math.max(handlerCfg.path(CFG_LABEL_PARTITION_COUNT).asInt(1), 1);
+        long deletedInstances = handlerCfg.path(CFG_LABEL_DELETED_INSTANCES).asLong();
+
+        int batchSize = Math.max(processEngineConfiguration.getHistoryCleaningBatchSize(), 1);
+        int maxInstancesPerSecond = processEngineConfiguration.getHistoryCleaningMaxInstancesPerSecond();
+        if (maxInstancesPerSecond > 0) {
+            maxInstancesPerSecond = Math.max(maxInstancesPerSecond / partitionCount, 1);
+        }
+
+        long startTime = System.currentTimeMillis();
+        long maxRunTime = getMaxRunTimeInMillis(processEngineConfiguration);
+        boolean completed = false;
+        while (!completed && System.currentTimeMillis() - startTime < maxRunTime) {
+            long chunkStartTime = System.currentTimeMillis();
+            HistoricProcessInstanceQueryImpl query = createPartitionQuery(processEngineConfiguration, finishedAfter, finishedBefore);
+            int deletedInChunk = commandExecutor.execute(commandConfig, new DeleteHistoricProcessInstancesChunkCmd(query, batchSize));
+            deletedInstances += deletedInChunk;
+            completed = deletedInChunk < batchSize;
+
+            if (!completed && maxInstancesPerSecond > 0) {
+                throttle(chunkStartTime, deletedInChunk, maxInstancesPerSecond);
+            }
+        }
+
+        if (completed) {
+            LOGGER.debug("History cleanup partition {} completed, deleted {} historic process instances", batchPartId, deletedInstances);
+            completePartition(batchPartId, deletedInstances, processEngineConfiguration, commandContext);
+
+        } else {
+            LOGGER.debug("History cleanup partition {} deleted {} historic process instances so far, continuing in a new job", batchPartId, deletedInstances);
+            ObjectNode continuationCfg = ((ObjectNode) handlerCfg).put(CFG_LABEL_DELETED_INSTANCES, deletedInstances);
+            scheduleJob(continuationCfg.toString(), commandContext);
+        }
+    }
+
+    protected HistoricProcessInstanceQueryImpl createPartitionQuery(ProcessEngineConfigurationImpl processEngineConfiguration, long finishedAfter, long finishedBefore) {
+        HistoricProcessInstanceQueryImpl query = processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery();
+        // The range of the partition is always within the range of the cleaning query at the time the partitions were created
+        if (query.getFinishedAfter() == null || query.getFinishedAfter().getTime() < finishedAfter) {
+            query.finishedAfter(new Date(finishedAfter));
+        }
+        if (query.getFinishedBefore() == null || query.getFinishedBefore().getTime() > finishedBefore) {
+            query.finishedBefore(new Date(finishedBefore));
+        }
+        return query;
+    }
+
+    protected long getMaxRunTimeInMillis(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        if (asyncExecutor != null && asyncExecutor.getAsyncJobLockTimeInMillis() > 0) {
+            return asyncExecutor.getAsyncJobLockTimeInMillis() / 2;
+        }
+        return 5 * 60 * 1000 / 2;
+    }
+
+    protected void throttle(long chunkStartTime, int deletedInChunk, int maxInstancesPerSecond) {
+        long minChunkTime = deletedInChunk * 1000L / maxInstancesPerSecond;
+        long waitTime = minChunkTime - (System.currentTimeMillis() - chunkStartTime);
+        if (waitTime > 0) {
+            try {
+                Thread.sleep(waitTime);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    protected void completePartition(String batchPartId, long deletedInstances, ProcessEngineConfigurationImpl processEngineConfiguration,
+            CommandContext commandContext) {
+
+        if (batchPartId == null) {
+            return;
+        }
+
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        ObjectNode resultNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        resultNode.put(CFG_LABEL_DELETED_INSTANCES, deletedInstances);
+        BatchPart batchPart = batchService.completeBatchPart(batchPartId, STATUS_COMPLETED, resultNode.toString());
+
+        // When the last parts complete concurrently, the batch is completed by the next run of the history cleanup timer job instead
+        for (BatchPart waitingBatchPart : findWaitingBatchParts(batchPart.getBatchId(), batchService)) {
+            if (!waitingBatchPart.getId().equals(batchPartId)) {
+                return;
+            }
+        }
+
+        completeBatch(batchService.getBatch(batchPart.getBatchId()), processEngineConfiguration, batchService);
+    }
+
+    /**
+     * Returns the parts of the batch that are not completed yet. The status of a batch part is only stored when it completes,
+     * so the waiting parts are the ones without a complete time.
+     */
+    public static List<BatchPart> findWaitingBatchParts(String batchId, BatchService batchService) {
+        List<BatchPart> waitingBatchParts = new ArrayList<>();
+        for (BatchPart batchPart : batchService.findBatchPartsByBatchId(batchId)) {
+            if (batchPart.getCompleteTime() == null) {
+                waitingBatchParts.add(batchPart);
+            }
+        }
+        return waitingBatchParts;
+    }
+
+    public static void completeBatch(Batch batch, ProcessEngineConfigurationImpl processEngineConfiguration, BatchService batchService) {
+        BatchEntity batchEntity = (BatchEntity) batch;
+        batchEntity.setStatus(STATUS_COMPLETED);
+        batchEntity.setCompleteTime(processEngineConfiguration.getClock().getCurrentTime());
+        batchService.updateBatch(batchEntity);
+
+        // The partitions delete the related data by the ids of the deleted instances,
+        // the sweeps remove the data left behind by instances that were deleted in another way
+        CommandConfig commandConfig = new CommandConfig().transactionRequiresNew();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(commandConfig, new DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd());
+        commandExecutor.execute(commandConfig, new DeleteRelatedDataOfRemovedHistoricProcessInstancesCmd());
+    }
+
+    public static void scheduleJob(String handlerCfg, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(TYPE);
+        job.setJobHandlerConfiguration(handlerCfg);
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    public static String getHandlerCfg(ObjectMapper objectMapper, String batchPartId, long finishedAfter, long finishedBefore, int partitionCount) {
+        ObjectNode handlerCfg = objectMapper.createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_PART_ID, batchPartId);
+        handlerCfg.put(CFG_LABEL_FINISHED_AFTER, finishedAfter);
+        handlerCfg.put(CFG_LABEL_FINISHED_BEFORE, finishedBefore);
+        handlerCfg.put(CFG_LABEL_PARTITION_COUNT, partitionCount);
+        handlerCfg.put(CFG_LABEL_DELETED_INSTANCES, 0L);
+        return handlerCfg.toString();
+    }
+
+    protected JsonNode readHandlerCfg(String configuration, ObjectMapper objectMapper) {
+        try {
+            return objectMapper.readTree(configuration);
+        } catch (IOException e) {
+            throw new FlowableException("Invalid history cleanup partition job configuration " + configuration, e);
+        }
+    }
+
+}
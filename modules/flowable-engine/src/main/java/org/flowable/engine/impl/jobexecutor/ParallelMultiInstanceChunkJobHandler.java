@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * Creates one chunk of the instances of a parallel multi-instance activity with a chunk size.
+ * The job is created for the multi-instance root execution, the configuration holds the loop counter of the first instance of the chunk.
+ */
+public class ParallelMultiInstanceChunkJobHandler implements JobHandler {
+
+    public static final String TYPE = "parallel-multi-instance-chunk";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ExecutionEntity multiInstanceRootExecution = (ExecutionEntity) variableScope;
+        FlowElement flowElement = multiInstanceRootExecution.getCurrentFlowElement();
+        if (!(flowElement instanceof Activity) || !(((Activity) flowElement).getBehavior() instanceof ParallelMultiInstanceBehavior)) {
+            throw new FlowableException("Execution " + multiInstanceRootExecution.getId() + " is not at a parallel multi-instance activity");
+        }
+
+        ParallelMultiInstanceBehavior multiInstanceBehavior = (ParallelMultiInstanceBehavior) ((Activity) flowElement).getBehavior();
+        multiInstanceBehavior.createInstanceChunk(multiInstanceRootExecution, Integer.parseInt(configuration));
+    }
+
+}
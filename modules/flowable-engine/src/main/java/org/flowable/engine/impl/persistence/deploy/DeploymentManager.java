@@ -125,9 +125,11 @@ public class DeploymentManager {
                 return Flowable5Util.getFlowable5CompatibilityHandler().resolveProcessDefinition(processDefinition);
             }
 
+            long loadStartTime = System.nanoTime();
             DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
             deploy(deployment, null);
+            processDefinitionCache.recordLoad(System.nanoTime() - loadStartTime);
             cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
 
             if (cachedProcessDefinition == null) {
@@ -216,6 +218,11 @@ public class DeploymentManager {
 
         appResourceCache.remove(deploymentId);
         knowledgeBaseCache.remove(deploymentId);
+
+        // The compiled scripts aren't tracked per deployment
+        if (processEngineConfiguration.getScriptingEngines() != null) {
+            processEngineConfiguration.getScriptingEngines().clearCompiledScriptCache();
+        }
     }
 
     // getters and setters
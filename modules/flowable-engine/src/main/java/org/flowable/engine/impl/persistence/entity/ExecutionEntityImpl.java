@@ -27,6 +27,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
@@ -50,7 +51,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -295,6 +296,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
             this.activityId = null;
             this.activityName = null;
         }
+        markDirty();
     }
 
     @Override
@@ -340,6 +342,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setBusinessKey(String businessKey) {
         this.businessKey = businessKey;
+        markDirty();
     }
 
     @Override
@@ -352,6 +355,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -451,6 +455,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         } else {
             this.parentId = null;
         }
+        markDirty();
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -462,6 +467,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     
     public void setSuperExecutionId(String superExecutionId) {
         this.superExecutionId = superExecutionId;
+        markDirty();
     }
 
     @Override
@@ -482,6 +488,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         } else {
             this.superExecutionId = null;
         }
+        markDirty();
     }
 
     protected void ensureSuperExecutionInitialized() {
@@ -528,6 +535,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         } else {
             this.rootProcessInstanceId = null;
         }
+        markDirty();
     }
 
     @Override
@@ -538,6 +546,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
         this.rootProcessInstanceId = rootProcessInstanceId;
+        markDirty();
     }
 
     // scopes ///////////////////////////////////////////////////////////////////
@@ -550,11 +559,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setScope(boolean isScope) {
         this.isScope = isScope;
+        markDirty();
     }
 
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        markDirty();
     }
 
     // VariableScopeImpl methods //////////////////////////////////////////////////////////////////
@@ -840,6 +851,22 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         }
     }
 
+    /**
+     * Initializes the tasks, timer jobs and event subscriptions of this execution with the ones fetched together with its execution tree,
+     * unless they have been initialized before.
+     */
+    public void initializeRelatedEntities(List<TaskEntity> tasks, List<TimerJobEntity> timerJobs, List<EventSubscriptionEntity> eventSubscriptions) {
+        if (this.tasks == null) {
+            this.tasks = tasks;
+        }
+        if (this.timerJobs == null) {
+            this.timerJobs = timerJobs;
+        }
+        if (this.eventSubscriptions == null) {
+            this.eventSubscriptions = eventSubscriptions;
+        }
+    }
+
     // referenced task entities ///////////////////////////////////////////////////
 
     protected void ensureTasksInitialized() {
@@ -888,6 +915,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setParentId(String parentId) {
         this.parentId = parentId;
+        markDirty();
     }
 
     @Override
@@ -897,6 +925,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     
     public void setActivityId(String activityId) {
         this.activityId = activityId;
+        markDirty();
     }
 
     @Override
@@ -907,6 +936,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setConcurrent(boolean isConcurrent) {
         this.isConcurrent = isConcurrent;
+        markDirty();
     }
 
     @Override
@@ -917,11 +947,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setActive(boolean isActive) {
         this.isActive = isActive;
+        markDirty();
     }
 
     @Override
     public void inactivate() {
         this.isActive = false;
+        markDirty();
     }
 
     @Override
@@ -962,6 +994,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        markDirty();
     }
 
     @Override
@@ -977,6 +1010,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setEventScope(boolean isEventScope) {
         this.isEventScope = isEventScope;
+        markDirty();
     }
 
     @Override
@@ -987,6 +1021,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
         this.isMultiInstanceRoot = isMultiInstanceRoot;
+        markDirty();
     }
 
     @Override
@@ -997,6 +1032,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        markDirty();
     }
 
     @Override
@@ -1016,6 +1052,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setName(String name) {
         this.name = name;
+        markDirty();
     }
 
     @Override
@@ -1070,6 +1107,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setLockTime(Date lockTime) {
         this.lockTime = lockTime;
+        markDirty();
     }
 
     @Override
@@ -1112,6 +1150,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setStartActivityId(String startActivityId) {
         this.startActivityId = startActivityId;
+        markDirty();
     }
 
     @Override
@@ -1122,6 +1161,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setStartUserId(String startUserId) {
         this.startUserId = startUserId;
+        markDirty();
     }
 
     @Override
@@ -1132,6 +1172,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setStartTime(Date startTime) {
         this.startTime = startTime;
+        markDirty();
     }
 
     @Override
@@ -1142,6 +1183,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
         this.eventSubscriptionCount = eventSubscriptionCount;
+        markDirty();
     }
 
     @Override
@@ -1152,6 +1194,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setTaskCount(int taskCount) {
         this.taskCount = taskCount;
+        markDirty();
     }
 
     @Override
@@ -1162,6 +1205,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setJobCount(int jobCount) {
         this.jobCount = jobCount;
+        markDirty();
     }
 
     @Override
@@ -1172,6 +1216,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setTimerJobCount(int timerJobCount) {
         this.timerJobCount = timerJobCount;
+        markDirty();
     }
 
     @Override
@@ -1182,6 +1227,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
         this.suspendedJobCount = suspendedJobCount;
+        markDirty();
     }
 
     @Override
@@ -1192,6 +1238,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
         this.deadLetterJobCount = deadLetterJobCount;
+        markDirty();
     }
 
     @Override
@@ -1202,6 +1249,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setVariableCount(int variableCount) {
         this.variableCount = variableCount;
+        markDirty();
     }
 
     @Override
@@ -1212,6 +1260,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
         this.identityLinkCount = identityLinkCount;
+        markDirty();
     }
     
     @Override
@@ -1222,6 +1271,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setCallbackId(String callbackId) {
         this.callbackId = callbackId;
+        markDirty();
     }
 
     @Override
@@ -1232,6 +1282,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setCallbackType(String callbackType) {
         this.callbackType = callbackType;
+        markDirty();
     }
 
     protected String getRelatedActivityInstanceId(ExecutionEntity sourceExecution) {
@@ -108,4 +108,10 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     void clearProcessInstanceLockTime(String processInstanceId);
 
+    /**
+     * Fetches the variables with the given names of the execution and all its parent executions in one query,
+     * so that getting these variables from the execution doesn't need any further call to the database.
+     */
+    void prefetchVariables(ExecutionEntity executionEntity, Collection<String> variableNames);
+
 }
\ No newline at end of file
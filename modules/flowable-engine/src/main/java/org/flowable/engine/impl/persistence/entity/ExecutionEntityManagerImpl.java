@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -66,6 +67,7 @@ import org.flowable.job.service.JobService;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayRef;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -949,6 +951,35 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         executionDataManager.clearProcessInstanceLockTime(processInstanceId);
     }
 
+    @Override
+    public void prefetchVariables(ExecutionEntity executionEntity, Collection<String> variableNames) {
+        // Executions that fetched all their variables already don't need to prefetch, the lookup continues with their parent without a query
+        Map<String, VariableScopeImpl> variableScopes = new LinkedHashMap<>();
+        ExecutionEntity currentExecution = executionEntity;
+        while (currentExecution != null) {
+            if (currentExecution instanceof VariableScopeImpl && !((VariableScopeImpl) currentExecution).isVariableInstancesInitialized()) {
+                variableScopes.put(currentExecution.getId(), (VariableScopeImpl) currentExecution);
+            }
+            currentExecution = currentExecution.getParent();
+        }
+
+        if (variableScopes.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<VariableInstanceEntity>> variableInstancesByExecutionId = new HashMap<>();
+        List<VariableInstanceEntity> variableInstances = CommandContextUtil.getVariableService()
+                .findVariableInstancesByExecutionIdsAndNames(variableScopes.keySet(), variableNames);
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            variableInstancesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), executionId -> new ArrayList<>()).add(variableInstance);
+        }
+
+        for (Map.Entry<String, VariableScopeImpl> variableScopeEntry : variableScopes.entrySet()) {
+            variableScopeEntry.getValue().internalSetPrefetchedVariableInstances(variableNames,
+                    variableInstancesByExecutionId.getOrDefault(variableScopeEntry.getKey(), Collections.emptyList()));
+        }
+    }
+
     @Override
     public String updateProcessInstanceBusinessKey(ExecutionEntity executionEntity, String businessKey) {
         if (executionEntity.isProcessInstanceType() && businessKey != null) {
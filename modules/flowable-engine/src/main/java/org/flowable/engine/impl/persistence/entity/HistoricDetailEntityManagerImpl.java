@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -140,6 +141,11 @@ public class HistoricDetailEntityManagerImpl extends AbstractEntityManager<Histo
     public void deleteHistoricDetailForNonExistingProcessInstances() {
         historicDetailDataManager.deleteHistoricDetailForNonExistingProcessInstances();
     }
+    
+    @Override
+    public void deleteHistoricDetailForProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicDetailDataManager.deleteHistoricDetailForProcessInstanceIds(processInstanceIds);
+    }
 
     @Override
     public List<HistoricDetail> findHistoricDetailsByNativeQuery(Map<String, Object> parameterMap) {
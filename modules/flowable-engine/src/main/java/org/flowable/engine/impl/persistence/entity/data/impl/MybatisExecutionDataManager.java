@@ -12,15 +12,20 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
@@ -41,15 +46,21 @@ import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.Inacti
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.InactiveExecutionsInActivityMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ProcessInstancesByProcessDefinitionMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SubProcessInstanceExecutionBySuperExecutionIdMatcher;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
 /**
  * @author Joram Barrez
  */
 public class MybatisExecutionDataManager extends AbstractProcessDataManager<ExecutionEntity> implements ExecutionDataManager {
 
+    protected static final String EXECUTION_TREE_LOOKUPS_ATTRIBUTE = "executionTreeLookups";
+
     protected PerformanceSettings performanceSettings;
 
     protected CachedEntityMatcher<ExecutionEntity> executionsByParentIdMatcher = new ExecutionsByParentExecutionIdEntityMatcher();
@@ -130,9 +141,95 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         return true;
     }
 
+    /**
+     * Checks whether lookups related to the execution can be answered from the cache, because its execution tree has been fetched
+     * eagerly (see {@link #isExecutionTreeFetched(String)}) or on demand (see {@link #isExecutionTreeFetchedOnDemand(String)}).
+     */
+    protected boolean isExecutionTreeAvailable(String executionId) {
+        return isExecutionTreeFetched(executionId) || isExecutionTreeFetchedOnDemand(executionId);
+    }
+
+    /**
+     * Counts the lookups of related executions within the execution tree of the (cached) execution during the current command.
+     * Once more lookups than the {@link PerformanceSettings#getExecutionTreeFetchThreshold()} are done, the whole execution tree
+     * is fetched in one query and all further lookups within that tree are answered from the cache.
+     * 
+     * @return True if the tree has been fetched in the current command, false otherwise.
+     */
+    protected boolean isExecutionTreeFetchedOnDemand(String executionId) {
+        int executionTreeFetchThreshold = performanceSettings.getExecutionTreeFetchThreshold();
+        if (executionTreeFetchThreshold <= 0) {
+            return false;
+        }
+
+        ExecutionEntity executionEntity = getEntityCache().findInCache(getManagedEntityClass(), executionId);
+        CommandContext commandContext = Context.getCommandContext();
+        if (executionEntity == null || executionEntity.getRootProcessInstanceId() == null || commandContext == null) {
+            return false;
+        }
+
+        ExecutionTreeLookups executionTreeLookups = (ExecutionTreeLookups) commandContext.getAttribute(EXECUTION_TREE_LOOKUPS_ATTRIBUTE);
+        if (executionTreeLookups == null) {
+            executionTreeLookups = new ExecutionTreeLookups();
+            commandContext.addAttribute(EXECUTION_TREE_LOOKUPS_ATTRIBUTE, executionTreeLookups);
+        }
+
+        String rootProcessInstanceId = executionEntity.getRootProcessInstanceId();
+        if (executionTreeLookups.isFetched(rootProcessInstanceId)) {
+            return true;
+        }
+
+        if (executionTreeLookups.countLookup(rootProcessInstanceId) <= executionTreeFetchThreshold) {
+            return false;
+        }
+
+        fetchExecutionTree(rootProcessInstanceId);
+        executionTreeLookups.markFetched(rootProcessInstanceId);
+        return true;
+    }
+
+    /**
+     * Fetches all executions with the given root process instance into the cache in one query. The tasks, timer jobs and
+     * event subscriptions of the process instances in the tree are fetched with one query per type and are set on the
+     * executions, so that navigating to them doesn't need a query per execution.
+     */
+    protected void fetchExecutionTree(String rootProcessInstanceId) {
+        List<ExecutionEntity> executions = getList("selectExecutionsByRootProcessInstanceId", rootProcessInstanceId, executionsByRootProcessInstanceMatcher, true);
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (ExecutionEntity execution : executions) {
+            if (execution.isProcessInstanceType()) {
+                processInstanceIds.add(execution.getId());
+            }
+        }
+        if (processInstanceIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<TaskEntity>> tasksByExecutionId = new HashMap<>();
+        for (TaskEntity task : CommandContextUtil.getTaskService().findTasksByProcessInstanceIds(processInstanceIds)) {
+            tasksByExecutionId.computeIfAbsent(task.getExecutionId(), key -> new ArrayList<>(1)).add(task);
+        }
+        Map<String, List<TimerJobEntity>> timerJobsByExecutionId = new HashMap<>();
+        for (TimerJobEntity timerJob : CommandContextUtil.getTimerJobService().findTimerJobsByProcessInstanceIds(processInstanceIds)) {
+            timerJobsByExecutionId.computeIfAbsent(timerJob.getExecutionId(), key -> new ArrayList<>(1)).add(timerJob);
+        }
+        Map<String, List<EventSubscriptionEntity>> eventSubscriptionsByExecutionId = new HashMap<>();
+        for (EventSubscriptionEntity eventSubscription : CommandContextUtil.getEventSubscriptionService().findEventSubscriptionsByProcessInstanceIds(processInstanceIds)) {
+            eventSubscriptionsByExecutionId.computeIfAbsent(eventSubscription.getExecutionId(), key -> new ArrayList<>(1)).add(eventSubscription);
+        }
+
+        for (ExecutionEntity execution : executions) {
+            ((ExecutionEntityImpl) execution).initializeRelatedEntities(
+                    tasksByExecutionId.getOrDefault(execution.getId(), new ArrayList<>(1)),
+                    timerJobsByExecutionId.getOrDefault(execution.getId(), new ArrayList<>(1)),
+                    eventSubscriptionsByExecutionId.getOrDefault(execution.getId(), new ArrayList<>(1)));
+        }
+    }
+
     @Override
     public ExecutionEntity findSubProcessInstanceBySuperExecutionId(final String superExecutionId) {
-        boolean treeFetched = isExecutionTreeFetched(superExecutionId);
+        boolean treeFetched = isExecutionTreeAvailable(superExecutionId);
         return getEntity("selectSubProcessInstanceBySuperExecutionId",
                 superExecutionId,
                 subProcessInstanceBySuperExecutionIdMatcher,
@@ -141,7 +238,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     @Override
     public List<ExecutionEntity> findChildExecutionsByParentExecutionId(final String parentExecutionId) {
-        if (isExecutionTreeFetched(parentExecutionId)) {
+        if (isExecutionTreeAvailable(parentExecutionId)) {
             return getListFromCache(executionsByParentIdMatcher, parentExecutionId);
         } else {
             return getList("selectExecutionsByParentExecutionId", parentExecutionId, executionsByParentIdMatcher, true);
@@ -150,7 +247,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     @Override
     public List<ExecutionEntity> findChildExecutionsByProcessInstanceId(final String processInstanceId) {
-        if (isExecutionTreeFetched(processInstanceId)) {
+        if (isExecutionTreeAvailable(processInstanceId)) {
             return getListFromCache(executionsByProcessInstanceIdMatcher, processInstanceId);
         } else {
             return getList("selectChildExecutionsByProcessInstanceId", processInstanceId, executionsByProcessInstanceIdMatcher, true);
@@ -163,7 +260,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         parameters.put("parentExecutionId", parentExecutionId);
         parameters.put("activityIds", activityIds);
 
-        if (isExecutionTreeFetched(parentExecutionId)) {
+        if (isExecutionTreeAvailable(parentExecutionId)) {
             return getListFromCache(executionsByParentExecutionIdAndActivityIdEntityMatcher, parameters);
         } else {
             return getList("selectExecutionsByParentExecutionAndActivityIds", parameters, executionsByParentExecutionIdAndActivityIdEntityMatcher, true);
@@ -172,7 +269,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     @Override
     public List<ExecutionEntity> findExecutionsByRootProcessInstanceId(final String rootProcessInstanceId) {
-        if (isExecutionTreeFetched(rootProcessInstanceId)) {
+        if (isExecutionTreeAvailable(rootProcessInstanceId)) {
             return getListFromCache(executionsByRootProcessInstanceMatcher, rootProcessInstanceId);
         } else {
             return getList("selectExecutionsByRootProcessInstanceId", rootProcessInstanceId, executionsByRootProcessInstanceMatcher, true);
@@ -181,7 +278,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     @Override
     public List<ExecutionEntity> findExecutionsByProcessInstanceId(final String processInstanceId) {
-        if (isExecutionTreeFetched(processInstanceId)) {
+        if (isExecutionTreeAvailable(processInstanceId)) {
             return getListFromCache(executionByProcessInstanceMatcher, processInstanceId);
         } else {
             return getList("selectExecutionsByProcessInstanceId", processInstanceId, executionByProcessInstanceMatcher, true);
@@ -194,7 +291,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         params.put("processInstanceId", processInstanceId);
         params.put("isActive", false);
 
-        if (isExecutionTreeFetched(processInstanceId)) {
+        if (isExecutionTreeAvailable(processInstanceId)) {
             return getListFromCache(inactiveExecutionsByProcInstMatcher, params);
         } else {
             return getList("selectInactiveExecutionsForProcessInstance", params, inactiveExecutionsByProcInstMatcher, true);
@@ -208,7 +305,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         params.put("processInstanceId", processInstanceId);
         params.put("isActive", false);
 
-        if (isExecutionTreeFetched(processInstanceId)) {
+        if (isExecutionTreeAvailable(processInstanceId)) {
             return getListFromCache(inactiveExecutionsInActivityAndProcInstMatcher, params);
         } else {
             return getList("selectInactiveExecutionsInActivityAndProcessInstance", params, inactiveExecutionsInActivityAndProcInstMatcher, true);
@@ -340,5 +437,27 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         params.put("id", processInstanceId);
         getDbSqlSession().update("clearProcessInstanceLockTime", params);
     }
-    
+
+    /**
+     * Keeps track, per root process instance id, of the lookups of related executions within one command.
+     */
+    protected static class ExecutionTreeLookups {
+
+        protected Map<String, Integer> lookupCounts = new HashMap<>();
+        protected Set<String> fetchedRootProcessInstanceIds = new HashSet<>();
+
+        public int countLookup(String rootProcessInstanceId) {
+            return lookupCounts.merge(rootProcessInstanceId, 1, Integer::sum);
+        }
+
+        public boolean isFetched(String rootProcessInstanceId) {
+            return fetchedRootProcessInstanceIds.contains(rootProcessInstanceId);
+        }
+
+        public void markFetched(String rootProcessInstanceId) {
+            fetchedRootProcessInstanceIds.add(rootProcessInstanceId);
+        }
+
+    }
+
 }
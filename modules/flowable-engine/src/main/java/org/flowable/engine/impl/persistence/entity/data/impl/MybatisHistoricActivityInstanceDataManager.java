@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -108,5 +109,12 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
     public void deleteHistoricActivityInstancesForNonExistingProcessInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesForNonExistingProcessInstances", null, HistoricActivityInstanceEntityImpl.class);
     }
+    
+    @Override
+    public void deleteHistoricActivityInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesForProcessInstanceIds", params, HistoricActivityInstanceEntityImpl.class);
+    }
 
 }
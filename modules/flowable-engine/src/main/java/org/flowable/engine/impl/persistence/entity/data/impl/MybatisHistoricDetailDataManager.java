@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -102,4 +104,11 @@ public class MybatisHistoricDetailDataManager extends AbstractProcessDataManager
     public void deleteHistoricDetailForNonExistingProcessInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricDetailForNonExistingProcessInstances", null, HistoricDetailEntity.class);
     }
+    
+    @Override
+    public void deleteHistoricDetailForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricDetailForProcessInstanceIds", params, HistoricDetailEntity.class);
+    }
 }
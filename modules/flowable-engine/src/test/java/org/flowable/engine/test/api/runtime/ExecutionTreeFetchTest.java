@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityImpl;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntityImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ExecutionTreeFetchTest extends PluggableFlowableTestCase {
+
+    protected int originalExecutionTreeFetchThreshold;
+
+    @BeforeEach
+    public void setUp() {
+        originalExecutionTreeFetchThreshold = processEngineConfiguration.getPerformanceSettings().getExecutionTreeFetchThreshold();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        processEngineConfiguration.setExecutionTreeFetchThreshold(originalExecutionTreeFetchThreshold);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/ExecutionTreeFetchTest.bpmn20.xml")
+    public void testTreeFetchedAfterThreshold() {
+        processEngineConfiguration.setExecutionTreeFetchThreshold(3);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("executionTreeFetch");
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+            ExecutionEntity processInstanceEntity = executionEntityManager.findById(processInstance.getId());
+            List<ExecutionEntity> childExecutions = executionEntityManager.collectChildren(processInstanceEntity);
+            assertThat(childExecutions).hasSize(12);
+
+            // The tasks and timer jobs are fetched together with the execution tree and set on the executions
+            EntityCache entityCache = CommandContextUtil.getEntityCache(commandContext);
+            assertThat(entityCache.findInCache(TaskEntityImpl.class)).hasSize(10);
+            assertThat(entityCache.findInCache(TimerJobEntityImpl.class)).hasSize(1);
+            for (ExecutionEntity childExecution : childExecutions) {
+                if ("review".equals(childExecution.getActivityId()) && !childExecution.isMultiInstanceRoot()) {
+                    assertThat(childExecution.getTasks()).hasSize(1);
+                    assertThat(childExecution.getTimerJobs()).isEmpty();
+                } else if ("waitTimer".equals(childExecution.getActivityId())) {
+                    assertThat(childExecution.getTimerJobs()).hasSize(1);
+                }
+            }
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/ExecutionTreeFetchTest.bpmn20.xml")
+    public void testTimerJobsByProcessInstanceIdUseEntityCache() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("executionTreeFetch");
+
+        managementService.executeCommand(commandContext -> {
+            TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+            List<TimerJobEntity> timerJobs = timerJobService.findTimerJobsByProcessInstanceId(processInstance.getId());
+            assertThat(timerJobs).hasSize(1);
+
+            // A timer job deleted in the same command must not be returned by the next lookup
+            timerJobService.deleteTimerJob(timerJobs.get(0));
+            assertThat(timerJobService.findTimerJobsByProcessInstanceId(processInstance.getId())).isEmpty();
+            assertThat(timerJobService.findTimerJobsByProcessInstanceIds(Collections.singletonList(processInstance.getId()))).isEmpty();
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/ExecutionTreeFetchTest.bpmn20.xml")
+    public void testTreeNotFetchedWhenDisabled() {
+        processEngineConfiguration.setExecutionTreeFetchThreshold(0);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("executionTreeFetch");
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+            ExecutionEntity processInstanceEntity = executionEntityManager.findById(processInstance.getId());
+            assertThat(executionEntityManager.collectChildren(processInstanceEntity)).hasSize(12);
+
+            EntityCache entityCache = CommandContextUtil.getEntityCache(commandContext);
+            assertThat(entityCache.findInCache(TaskEntityImpl.class)).isEmpty();
+            assertThat(entityCache.findInCache(TimerJobEntityImpl.class)).isEmpty();
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/ExecutionTreeFetchTest.bpmn20.xml")
+    public void testCompleteAndDeleteWithTreeFetch() {
+        processEngineConfiguration.setExecutionTreeFetchThreshold(1);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("executionTreeFetch");
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(10);
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("review").count()).isZero();
+
+        managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+        managementService.executeJob(managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+        assertProcessEnded(processInstance.getId());
+
+        ProcessInstance otherProcessInstance = runtimeService.startProcessInstanceByKey("executionTreeFetch");
+        runtimeService.deleteProcessInstance(otherProcessInstance.getId(), "test");
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(otherProcessInstance.getId()).count()).isZero();
+        assertThat(taskService.createTaskQuery().processInstanceId(otherProcessInstance.getId()).count()).isZero();
+        assertThat(managementService.createTimerJobQuery().processInstanceId(otherProcessInstance.getId()).count()).isZero();
+    }
+
+}
@@ -0,0 +1,144 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.impl.types.CompressedJsonType;
+import org.flowable.variable.service.impl.types.CompressedSerializableType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+public class CompressedVariableTypesTest extends PluggableFlowableTestCase {
+
+    protected CompressedJsonType compressedJsonType;
+    protected CompressedSerializableType compressedSerializableType;
+    protected String deploymentId;
+
+    @BeforeEach
+    public void setUp() {
+        addCompressedTypes();
+        deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        // The deployment is deleted while the compressed types are still known, as that also deletes the variables
+        repositoryService.deleteDeployment(deploymentId, true);
+        removeCompressedTypes();
+    }
+
+    protected void addCompressedTypes() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        compressedJsonType = new CompressedJsonType(processEngineConfiguration.getMaxLengthString() + 1, processEngineConfiguration.getObjectMapper(), 100);
+        compressedSerializableType = new CompressedSerializableType(true, 100);
+        variableTypes.addType(compressedJsonType, variableTypes.getTypeIndex("longJson"));
+        variableTypes.addType(compressedSerializableType, variableTypes.getTypeIndex("serializable"));
+    }
+
+    protected void removeCompressedTypes() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        variableTypes.removeType(compressedJsonType);
+        variableTypes.removeType(compressedSerializableType);
+    }
+
+    @Test
+    public void testCompressedVariables() {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("bigJson", createBigJson());
+        vars.put("bigList", createBigList());
+        vars.put("smallList", new ArrayList<>(Collections.singletonList("a")));
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", vars);
+
+        Map<String, VariableInstance> variableInstances = runtimeService.getVariableInstances(processInstance.getId());
+        assertThat(variableInstances.get("bigJson").getTypeName()).isEqualTo(CompressedJsonType.TYPE_NAME);
+        assertThat(variableInstances.get("bigList").getTypeName()).isEqualTo(CompressedSerializableType.TYPE_NAME);
+        assertThat(variableInstances.get("smallList").getTypeName()).isEqualTo(CompressedSerializableType.TYPE_NAME);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "bigJson")).isEqualTo(createBigJson());
+        assertThat(runtimeService.getVariable(processInstance.getId(), "bigList")).isEqualTo(createBigList());
+        assertThat(runtimeService.getVariable(processInstance.getId(), "smallList")).isEqualTo(Collections.singletonList("a"));
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            List<HistoricVariableInstance> historicVariableInstances = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId()).orderByVariableName().asc().list();
+            assertThat(historicVariableInstances)
+                    .extracting(HistoricVariableInstance::getVariableTypeName)
+                    .containsExactly(CompressedJsonType.TYPE_NAME, CompressedSerializableType.TYPE_NAME, CompressedSerializableType.TYPE_NAME);
+            assertThat(historicVariableInstances.get(0).getValue()).isEqualTo(createBigJson());
+            assertThat(historicVariableInstances.get(1).getValue()).isEqualTo(createBigList());
+        }
+    }
+
+    @Test
+    public void testUncompressedVariablesStayReadable() {
+        removeCompressedTypes();
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("bigList", createBigList()));
+        addCompressedTypes();
+
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "bigList").getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "bigList")).isEqualTo(createBigList());
+
+        runtimeService.setVariable(processInstance.getId(), "bigList", createBigList());
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "bigList").getTypeName()).isEqualTo(CompressedSerializableType.TYPE_NAME);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "bigList")).isEqualTo(createBigList());
+    }
+
+    @Test
+    public void testCompressedBytesAreSmaller() {
+        ArrayList<String> bigList = createBigList();
+        byte[] serializedBytes = new SerializableType().serialize(bigList, null);
+        byte[] compressedBytes = compressedSerializableType.serialize(bigList, null);
+
+        assertThat(compressedBytes.length).isLessThan(serializedBytes.length / 2);
+        assertThat(compressedSerializableType.deserialize(compressedBytes, null)).isEqualTo(bigList);
+
+        byte[] uncompressedBytes = new CompressedSerializableType(false, -1).serialize(bigList, null);
+        assertThat(uncompressedBytes.length).isEqualTo(serializedBytes.length + 1);
+        assertThat(compressedSerializableType.deserialize(uncompressedBytes, null)).isEqualTo(bigList);
+    }
+
+    protected JsonNode createBigJson() {
+        ArrayNode arrayNode = processEngineConfiguration.getObjectMapper().createArrayNode();
+        for (int i = 0; i < 500; i++) {
+            arrayNode.addObject().put("orderLine", i).put("product", "product " + i).put("quantity", i % 7);
+        }
+        return arrayNode;
+    }
+
+    protected ArrayList<String> createBigList() {
+        ArrayList<String> list = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            list.add("order line " + i);
+        }
+        return list;
+    }
+
+}
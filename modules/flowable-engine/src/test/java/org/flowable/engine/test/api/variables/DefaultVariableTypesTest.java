@@ -0,0 +1,161 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.types.BooleanType;
+import org.flowable.variable.service.impl.types.DateType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.IntegerType;
+import org.flowable.variable.service.impl.types.LongStringType;
+import org.flowable.variable.service.impl.types.LongType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.StringType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DefaultVariableTypesTest {
+
+    protected DefaultVariableTypes variableTypes;
+
+    @BeforeEach
+    public void setUp() {
+        variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(new StringType(10));
+        variableTypes.addType(new LongStringType(11));
+        variableTypes.addType(new BooleanType());
+        variableTypes.addType(new IntegerType());
+        variableTypes.addType(new LongType());
+        variableTypes.addType(new DateType());
+        variableTypes.addType(new SerializableType());
+    }
+
+    @Test
+    public void testTypeIsCachedPerClass() {
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo("integer");
+        assertThat(variableTypes.findVariableType(2).getTypeName()).isEqualTo("integer");
+        assertThat(variableTypes.findVariableType(3L).getTypeName()).isEqualTo("long");
+        assertThat(variableTypes.findVariableType(new Date()).getTypeName()).isEqualTo("date");
+        assertThat(variableTypes.findVariableType(new ArrayList<>()).getTypeName()).isEqualTo("serializable");
+        assertThat(variableTypes.findVariableType(new ArrayList<>()).getTypeName()).isEqualTo("serializable");
+
+        assertThat(variableTypes.getTypeCacheMissCount()).isEqualTo(4);
+        assertThat(variableTypes.getTypeCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testValueDependentTypes() {
+        assertThat(variableTypes.findVariableType("short").getTypeName()).isEqualTo("string");
+        assertThat(variableTypes.findVariableType("a much longer value").getTypeName()).isEqualTo("longString");
+        assertThat(variableTypes.findVariableType("short").getTypeName()).isEqualTo("string");
+        assertThat(variableTypes.findVariableType(null).getTypeName()).isEqualTo("null");
+        assertThat(variableTypes.findVariableType(null).getTypeName()).isEqualTo("null");
+
+        assertThat(variableTypes.getTypeCacheMissCount()).isEqualTo(2);
+        assertThat(variableTypes.getTypeCacheHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testCustomTypesAreAskedForEveryValue() {
+        variableTypes.addType(new PositiveIntegerType(), 0);
+
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo("positiveInteger");
+        assertThat(variableTypes.findVariableType(-1).getTypeName()).isEqualTo("integer");
+        assertThat(variableTypes.findVariableType(2).getTypeName()).isEqualTo("positiveInteger");
+    }
+
+    @Test
+    public void testSubclassesOfBuiltInTypesAreAskedForEveryValue() {
+        variableTypes.addType(new NonEmptyListType(), 0);
+
+        assertThat(variableTypes.findVariableType(new ArrayList<>(Collections.singletonList("a"))).getTypeName()).isEqualTo("nonEmptyList");
+        assertThat(variableTypes.findVariableType(new ArrayList<>()).getTypeName()).isEqualTo("serializable");
+        assertThat(variableTypes.findVariableType(new ArrayList<>(Collections.singletonList("b"))).getTypeName()).isEqualTo("nonEmptyList");
+    }
+
+    @Test
+    public void testCacheIsClearedWhenTypesChange() {
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo("integer");
+
+        variableTypes.removeType(variableTypes.getVariableType("integer"));
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo("serializable");
+
+        variableTypes.setTypesList(Collections.singletonList(new IntegerType()));
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo("integer");
+    }
+
+    @Test
+    public void testCacheStatisticsOnServiceConfiguration() {
+        VariableServiceConfiguration variableServiceConfiguration = new VariableServiceConfiguration("test");
+        variableServiceConfiguration.setVariableTypes(variableTypes);
+
+        variableTypes.findVariableType(true);
+        variableTypes.findVariableType(false);
+
+        assertThat(variableServiceConfiguration.getVariableTypeCacheMissCount()).isEqualTo(1);
+        assertThat(variableServiceConfiguration.getVariableTypeCacheHitCount()).isEqualTo(1);
+    }
+
+    protected static class NonEmptyListType extends SerializableType {
+
+        @Override
+        public String getTypeName() {
+            return "nonEmptyList";
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof List && !((List<?>) value).isEmpty();
+        }
+    }
+
+    protected static class PositiveIntegerType implements VariableType {
+
+        @Override
+        public String getTypeName() {
+            return "positiveInteger";
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof Integer && (Integer) value > 0;
+        }
+
+        @Override
+        public void setValue(Object value, ValueFields valueFields) {
+            valueFields.setLongValue(value != null ? ((Integer) value).longValue() : null);
+        }
+
+        @Override
+        public Object getValue(ValueFields valueFields) {
+            return valueFields.getLongValue() != null ? valueFields.getLongValue().intValue() : null;
+        }
+    }
+
+}
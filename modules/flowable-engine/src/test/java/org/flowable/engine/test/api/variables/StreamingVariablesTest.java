@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Collections;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.junit.jupiter.api.Test;
+
+public class StreamingVariablesTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStreamVariable() {
+        byte[] document = createDocument(100000, 1);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+                Collections.singletonMap("document", new ByteArrayInputStream(document)));
+
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "document").getTypeName()).isEqualTo("bytes");
+        assertThat((byte[]) runtimeService.getVariable(processInstance.getId(), "document")).isEqualTo(document);
+        assertThat(readVariableStream(processInstance.getId(), "document")).isEqualTo(document);
+        assertThat(readVariableChannel(processInstance.getId(), "document")).isEqualTo(document);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId()).variableName("document").singleResult();
+            assertThat((byte[]) historicVariableInstance.getValue()).isEqualTo(document);
+            assertThat(readHistoricVariableStream(historicVariableInstance.getId())).isEqualTo(document);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReplaceVariableWithStream() {
+        byte[] document = createDocument(1000, 1);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("document", document));
+
+        byte[] newDocument = createDocument(5000, 2);
+        runtimeService.setVariable(processInstance.getId(), "document", new ByteArrayInputStream(newDocument));
+        assertThat((byte[]) runtimeService.getVariable(processInstance.getId(), "document")).isEqualTo(newDocument);
+        assertThat(readVariableStream(processInstance.getId(), "document")).isEqualTo(newDocument);
+
+        byte[] otherDocument = createDocument(3000, 3);
+        runtimeService.setVariable(processInstance.getId(), "document", otherDocument);
+        assertThat(readVariableStream(processInstance.getId(), "document")).isEqualTo(otherDocument);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId()).variableName("document").singleResult();
+            assertThat((byte[]) historicVariableInstance.getValue()).isEqualTo(otherDocument);
+        }
+
+        // Deleting the process instance deletes the byte arrays that were inserted from the streams, which is verified by the db clean check
+        runtimeService.deleteProcessInstance(processInstance.getId(), null);
+    }
+
+    protected byte[] readVariableStream(String executionId, String variableName) {
+        return managementService.executeCommand(commandContext -> {
+            VariableInstance variableInstance = CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId).getVariableInstance(variableName);
+            try (InputStream bytesStream = variableInstance.getBytesStream()) {
+                return IoUtil.readInputStream(bytesStream, variableName);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    protected byte[] readVariableChannel(String executionId, String variableName) {
+        return managementService.executeCommand(commandContext -> {
+            VariableInstance variableInstance = CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId).getVariableInstance(variableName);
+            try (ReadableByteChannel bytesChannel = variableInstance.getBytesChannel()) {
+                ByteBuffer buffer = ByteBuffer.allocate(200000);
+                while (bytesChannel.read(buffer) >= 0) {
+                    // read until the end of the channel
+                }
+                byte[] bytes = new byte[buffer.position()];
+                buffer.flip();
+                buffer.get(bytes);
+                return bytes;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    protected byte[] readHistoricVariableStream(String historicVariableInstanceId) {
+        return managementService.executeCommand(commandContext -> {
+            HistoricVariableInstanceEntity historicVariableInstance = CommandContextUtil.getHistoricVariableService()
+                    .getHistoricVariableInstance(historicVariableInstanceId);
+            try (InputStream bytesStream = historicVariableInstance.getBytesStream()) {
+                return IoUtil.readInputStream(bytesStream, historicVariableInstanceId);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    protected byte[] createDocument(int size, int seed) {
+        byte[] document = new byte[size];
+        for (int i = 0; i < size; i++) {
+            document[i] = (byte) (i * seed);
+        }
+        return document;
+    }
+
+}
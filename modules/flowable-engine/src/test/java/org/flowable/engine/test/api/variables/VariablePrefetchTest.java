@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VariablePrefetchTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    public void resetDelegate() {
+        ReadVariablesDelegate.variables.clear();
+        ReadVariablesDelegate.variableInstancesInitialized.clear();
+    }
+
+    @Test
+    @Deployment
+    public void testPrefetchDeclaredVariables() {
+        startProcessAndCompleteWaitTask();
+
+        assertThat(ReadVariablesDelegate.variables).containsOnly(entry("a", "valueA"), entry("b", "valueB"), entry("c", null));
+        // None of the executions had to fetch all their variables to find the variables
+        assertThat(ReadVariablesDelegate.variableInstancesInitialized).containsExactly(false, false, false, false);
+    }
+
+    @Test
+    @Deployment
+    public void testWithoutPrefetch() {
+        startProcessAndCompleteWaitTask();
+
+        assertThat(ReadVariablesDelegate.variables).containsOnly(entry("a", "valueA"), entry("b", "valueB"), entry("c", null));
+        assertThat(ReadVariablesDelegate.variableInstancesInitialized).containsExactly(true, true, true, true);
+    }
+
+    protected void startProcessAndCompleteWaitTask() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("variablePrefetch", Collections.singletonMap("a", "valueA"));
+        Execution outerSubProcessExecution = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId())
+                .activityId("outerSubProcess").singleResult();
+        runtimeService.setVariableLocal(outerSubProcessExecution.getId(), "b", "valueB");
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("secondWaitTask");
+    }
+
+    public static class ReadVariablesDelegate implements JavaDelegate {
+
+        public static Map<String, Object> variables = new HashMap<>();
+        public static List<Boolean> variableInstancesInitialized = new ArrayList<>();
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            for (String variableName : new String[] { "a", "b", "c" }) {
+                variables.put(variableName, execution.getVariable(variableName));
+            }
+
+            ExecutionEntity currentExecution = (ExecutionEntity) execution;
+            while (currentExecution != null) {
+                variableInstancesInitialized.add(((VariableScopeImpl) currentExecution).isVariableInstancesInitialized());
+                currentExecution = currentExecution.getParent();
+            }
+        }
+    }
+
+}
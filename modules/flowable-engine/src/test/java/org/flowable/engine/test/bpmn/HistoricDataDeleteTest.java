@@ -12,17 +12,22 @@
  */
 package org.flowable.engine.test.bpmn;
 
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
 
+import org.flowable.batch.api.Batch;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupPartitionJobHandler;
 import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -177,6 +182,8 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
     public void testHistoryCleanupTimerJob() {
         try {
             processEngineConfiguration.setEnableHistoryCleaning(true);
+            processEngineConfiguration.setHistoryCleaningBatchSize(3);
+            processEngineConfiguration.setHistoryCleaningPartitionCount(2);
             Clock clock = processEngineConfiguration.getClock();
             Calendar cal = clock.getCurrentCalendar();
             cal.add(Calendar.DAY_OF_YEAR, -400);
@@ -197,6 +204,9 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
                 for (int i = 0; i < 10; i++) {
                     Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
                     taskService.setVariableLocal(task.getId(), "taskVar", "taskValue" + (i + 1));
+                    // Spread the end times, so every partition of the history cleanup gets instances to delete
+                    cal.add(Calendar.HOUR_OF_DAY, 1);
+                    clock.setCurrentCalendar(cal);
                     taskService.complete(task.getId());
                 }
                         
@@ -209,6 +219,22 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
                 
                 assertEquals(1, managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).count());
                 
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                assertEquals(BpmnHistoryCleanupPartitionJobHandler.STATUS_IN_PROGRESS, batch.getStatus());
+                assertEquals(20, historyService.createHistoricProcessInstanceQuery().count());
+                
+                List<Job> partitionJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupPartitionJobHandler.TYPE).list();
+                assertEquals(2, partitionJobs.size());
+                for (Job partitionJob : partitionJobs) {
+                    managementService.executeJob(partitionJob.getId());
+                }
+                
+                assertEquals(0, managementService.createJobQuery().handlerType(BpmnHistoryCleanupPartitionJobHandler.TYPE).count());
+                batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                assertEquals(BpmnHistoryCleanupPartitionJobHandler.STATUS_COMPLETED, batch.getStatus());
+                assertNotNull(batch.getCompleteTime());
+                managementService.deleteBatch(batch.getId());
+                
                 assertEquals(10, historyService.createHistoricProcessInstanceQuery().count());
                 assertEquals(30, historyService.createHistoricActivityInstanceQuery().count());
                 assertEquals(10, historyService.createHistoricTaskInstanceQuery().count());
@@ -233,6 +259,88 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
         
         } finally {
             processEngineConfiguration.setEnableHistoryCleaning(false);
+            processEngineConfiguration.setHistoryCleaningBatchSize(100);
+            processEngineConfiguration.setHistoryCleaningPartitionCount(4);
+            processEngineConfiguration.resetClock();
+        }
+    }
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupFailsPartitionsWithoutJob() {
+        try {
+            processEngineConfiguration.setEnableHistoryCleaning(true);
+            processEngineConfiguration.setHistoryCleaningPartitionCount(2);
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                processInstanceIds.add(processInstance.getId());
+                cal.add(Calendar.HOUR_OF_DAY, 1);
+                clock.setCurrentCalendar(cal);
+                taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+
+                managementService.handleHistoryCleanupTimerJob();
+                String cleanupJobId = managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId();
+                managementService.executeJob(managementService.moveTimerToExecutableJob(cleanupJobId).getId());
+
+                List<Job> partitionJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupPartitionJobHandler.TYPE).list();
+                assertEquals(2, partitionJobs.size());
+                Job deadLetterJob = managementService.moveJobToDeadLetterJob(partitionJobs.get(0).getId());
+                managementService.executeJob(partitionJobs.get(1).getId());
+
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                assertEquals(BpmnHistoryCleanupPartitionJobHandler.STATUS_IN_PROGRESS, batch.getStatus());
+
+                // The history of an instance that was removed without its related data
+                String orphanedProcessInstanceId = processInstanceIds.get(0);
+                managementService.executeCommand(commandContext -> {
+                    try (Statement statement = CommandContextUtil.getDbSqlSession(commandContext).getSqlSession().getConnection().createStatement()) {
+                        statement.executeUpdate("delete from " + processEngineConfiguration.getDatabaseTablePrefix()
+                                + "ACT_HI_PROCINST where ID_ = '" + orphanedProcessInstanceId + "'");
+                    } catch (SQLException e) {
+                        throw new RuntimeException(e);
+                    }
+                    return null;
+                });
+                assertTrue(historyService.createHistoricActivityInstanceQuery().processInstanceId(orphanedProcessInstanceId).count() > 0);
+
+                // The next cleanup fails the part of the dead letter job, completes the batch and starts a new cleanup
+                cleanupJobId = managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId();
+                managementService.executeJob(managementService.moveTimerToExecutableJob(cleanupJobId).getId());
+
+                batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+                assertEquals(BpmnHistoryCleanupPartitionJobHandler.STATUS_COMPLETED, batch.getStatus());
+                assertEquals(1, managementService.findBatchPartsByBatchIdAndStatus(batch.getId(), BpmnHistoryCleanupPartitionJobHandler.STATUS_FAILED).size());
+                assertEquals(1, managementService.findBatchPartsByBatchIdAndStatus(batch.getId(), BpmnHistoryCleanupPartitionJobHandler.STATUS_COMPLETED).size());
+                assertEquals(0, historyService.createHistoricActivityInstanceQuery().processInstanceId(orphanedProcessInstanceId).count());
+                assertEquals(0, historyService.createHistoricTaskInstanceQuery().processInstanceId(orphanedProcessInstanceId).count());
+
+                List<Batch> runningBatches = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                        .status(BpmnHistoryCleanupPartitionJobHandler.STATUS_IN_PROGRESS).list();
+                assertEquals(1, runningBatches.size());
+                for (Job partitionJob : managementService.createJobQuery().handlerType(BpmnHistoryCleanupPartitionJobHandler.TYPE).list()) {
+                    managementService.executeJob(partitionJob.getId());
+                }
+                assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+
+                managementService.deleteDeadLetterJob(deadLetterJob.getId());
+                for (Batch cleanupBatch : managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).list()) {
+                    managementService.deleteBatch(cleanupBatch.getId());
+                }
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            processEngineConfiguration.setEnableHistoryCleaning(false);
+            processEngineConfiguration.setHistoryCleaningPartitionCount(4);
             processEngineConfiguration.resetClock();
         }
     }
@@ -16,9 +16,11 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
+import org.flowable.batch.api.Batch;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupPartitionJobHandler;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.ResourceFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -67,6 +69,14 @@ public class HistoricDataEngineDeleteTest extends ResourceFlowableTestCase {
                 
                 assertEquals(1, managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).count());
                 
+                for (Job partitionJob : managementService.createJobQuery().handlerType(BpmnHistoryCleanupPartitionJobHandler.TYPE).list()) {
+                    managementService.executeJob(partitionJob.getId());
+                }
+                
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                assertEquals(BpmnHistoryCleanupPartitionJobHandler.STATUS_COMPLETED, batch.getStatus());
+                managementService.deleteBatch(batch.getId());
+                
                 assertEquals(10, historyService.createHistoricProcessInstanceQuery().count());
                 assertEquals(30, historyService.createHistoricActivityInstanceQuery().count());
                 assertEquals(10, historyService.createHistoricTaskInstanceQuery().count());
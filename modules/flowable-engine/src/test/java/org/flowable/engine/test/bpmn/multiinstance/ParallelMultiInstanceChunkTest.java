@@ -0,0 +1,178 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.multiinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceChunkJobHandler;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class ParallelMultiInstanceChunkTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment
+    public void testUserTaskChunks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("chunkedMultiInstance", createVariables(25, 25));
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        executeChunkJob(processInstance);
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(10);
+        executeChunkJob(processInstance);
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(20);
+        executeChunkJob(processInstance);
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(25);
+        for (Task task : tasks) {
+            int loopCounter = (Integer) taskService.getVariable(task.getId(), "loopCounter");
+            assertThat(task.getAssignee()).isEqualTo("user" + loopCounter);
+        }
+
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+
+        Task afterReviewTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(afterReviewTask.getTaskDefinitionKey()).isEqualTo("afterReview");
+        taskService.complete(afterReviewTask.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/ParallelMultiInstanceChunkTest.testUserTaskChunks.bpmn20.xml")
+    public void testCompletionConditionWithPendingChunks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("chunkedMultiInstance", createVariables(25, 2));
+
+        executeChunkJob(processInstance);
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(10);
+
+        taskService.complete(tasks.get(0).getId());
+        taskService.complete(tasks.get(1).getId());
+
+        // The job for the next chunk is removed together with the multi-instance root execution
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        Task afterReviewTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(afterReviewTask.getTaskDefinitionKey()).isEqualTo("afterReview");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/ParallelMultiInstanceChunkTest.testUserTaskChunks.bpmn20.xml")
+    public void testCompletedInstancesCountedPerChunk() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("chunkedMultiInstance", createVariables(15, 15));
+        executeChunkJob(processInstance);
+        executeChunkJob(processInstance);
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(15);
+        String miRootExecutionId = runtimeService.createExecutionQuery().executionId(tasks.get(0).getExecutionId()).singleResult().getParentId();
+
+        List<Task> firstChunkTasks = new ArrayList<>();
+        List<Task> secondChunkTasks = new ArrayList<>();
+        for (Task task : tasks) {
+            int loopCounter = (Integer) taskService.getVariable(task.getId(), "loopCounter");
+            (loopCounter < 10 ? firstChunkTasks : secondChunkTasks).add(task);
+        }
+
+        // Only the counter of the chunk is updated until all instances of the chunk are completed
+        for (int i = 0; i < 9; i++) {
+            taskService.complete(firstChunkTasks.get(i).getId());
+        }
+        taskService.complete(secondChunkTasks.get(0).getId());
+        assertThat(runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstancesInChunk0")).isEqualTo(9);
+        assertThat(runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstancesInChunk1")).isEqualTo(1);
+        assertThat(runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstances")).isEqualTo(0);
+        assertThat(runtimeService.getVariableLocal(miRootExecutionId, "nrOfActiveInstances")).isEqualTo(15);
+
+        taskService.complete(firstChunkTasks.get(9).getId());
+        assertThat(runtimeService.hasVariableLocal(miRootExecutionId, "nrOfCompletedInstancesInChunk0")).isFalse();
+        assertThat(runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstances")).isEqualTo(10);
+        assertThat(runtimeService.getVariableLocal(miRootExecutionId, "nrOfActiveInstances")).isEqualTo(5);
+
+        for (int i = 1; i < secondChunkTasks.size(); i++) {
+            taskService.complete(secondChunkTasks.get(i).getId());
+        }
+        Task afterReviewTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(afterReviewTask.getTaskDefinitionKey()).isEqualTo("afterReview");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/ParallelMultiInstanceChunkTest.testUserTaskChunks.bpmn20.xml")
+    public void testCompletionConditionCountsInstancesOfAllChunks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("chunkedMultiInstance", createVariables(25, 3));
+        executeChunkJob(processInstance);
+        executeChunkJob(processInstance);
+
+        // Completing instances of different chunks, none of the chunks is completed
+        List<String> firstChunkTaskIds = new ArrayList<>();
+        List<String> secondChunkTaskIds = new ArrayList<>();
+        for (Task task : taskService.createTaskQuery().processInstanceId(processInstance.getId()).list()) {
+            int loopCounter = (Integer) taskService.getVariable(task.getId(), "loopCounter");
+            (loopCounter < 10 ? firstChunkTaskIds : secondChunkTaskIds).add(task.getId());
+        }
+        taskService.complete(firstChunkTaskIds.get(0));
+        taskService.complete(secondChunkTaskIds.get(0));
+        taskService.complete(firstChunkTaskIds.get(1));
+
+        Task afterReviewTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(afterReviewTask.getTaskDefinitionKey()).isEqualTo("afterReview");
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    @Deployment
+    public void testServiceTaskChunks() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("sum", 0);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("chunkedMultiInstance", variables);
+
+        executeChunkJob(processInstance);
+        executeChunkJob(processInstance);
+        executeChunkJob(processInstance);
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "sum")).isEqualTo(0 + 1 + 2 + 3 + 4 + 5 + 6);
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("afterCount");
+    }
+
+    protected void executeChunkJob(ProcessInstance processInstance) {
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(job).isNotNull();
+        assertThat(job.getJobHandlerType()).isEqualTo(ParallelMultiInstanceChunkJobHandler.TYPE);
+        managementService.executeJob(job.getId());
+    }
+
+    protected Map<String, Object> createVariables(int nrOfAssignees, int stopAfter) {
+        List<String> assignees = new ArrayList<>();
+        for (int i = 0; i < nrOfAssignees; i++) {
+            assignees.add("user" + i);
+        }
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("assignees", assignees);
+        variables.put("stopAfter", stopAfter);
+        return variables;
+    }
+
+}
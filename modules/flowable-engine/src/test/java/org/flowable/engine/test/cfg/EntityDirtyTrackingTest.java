@@ -0,0 +1,155 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.cmd.SetTaskVariablesCmd;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityDirtyTrackingTest {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setupProcessEngine() {
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:entityDirtyTrackingTest");
+        processEngineConfiguration.setEntityDirtyTrackingEnabled(true);
+        // The task variable count would mark the task dirty on every variable insert, hiding a missing forced update
+        processEngineConfiguration.setEnableTaskRelationshipCounts(false);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy();
+    }
+
+    @AfterEach
+    public void shutdownProcessEngine() {
+        processEngine.close();
+    }
+
+    @Test
+    public void testLoadedEntitiesAreNotDirty() {
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess",
+                Collections.singletonMap("myVar", "test"));
+        Task task = processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        processEngine.getManagementService().executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            TaskEntity taskEntity = CommandContextUtil.getTaskService().getTask(task.getId());
+            VariableInstanceEntity variable = (VariableInstanceEntity) execution.getVariableInstanceLocal("myVar");
+
+            assertThat((DirtyTrackingEntity) execution).extracting(DirtyTrackingEntity::isDirty).isEqualTo(false);
+            assertThat((DirtyTrackingEntity) taskEntity).extracting(DirtyTrackingEntity::isDirty).isEqualTo(false);
+            assertThat((DirtyTrackingEntity) variable).extracting(DirtyTrackingEntity::isDirty).isEqualTo(false);
+
+            taskEntity.setAssignee("kermit");
+            variable.setValue("changed");
+            assertThat((DirtyTrackingEntity) taskEntity).extracting(DirtyTrackingEntity::isDirty).isEqualTo(true);
+            assertThat((DirtyTrackingEntity) variable).extracting(DirtyTrackingEntity::isDirty).isEqualTo(true);
+            return null;
+        });
+
+        assertThat(processEngine.getTaskService().createTaskQuery().taskId(task.getId()).singleResult().getAssignee()).isEqualTo("kermit");
+        assertThat(processEngine.getRuntimeService().getVariable(processInstance.getId(), "myVar")).isEqualTo("changed");
+    }
+
+    @Test
+    public void testReadOnlyCommandDoesNotUpdate() {
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+        Task task = processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        int taskRevision = getTaskRevision(task.getId());
+
+        processEngine.getManagementService().executeCommand(commandContext -> {
+            CommandContextUtil.getExecutionEntityManager(commandContext).findChildExecutionsByProcessInstanceId(processInstance.getId());
+            CommandContextUtil.getTaskService().getTask(task.getId());
+            return null;
+        });
+        assertThat(getTaskRevision(task.getId())).isEqualTo(taskRevision);
+
+        processEngine.getTaskService().claim(task.getId(), "kermit");
+        assertThat(getTaskRevision(task.getId())).isEqualTo(taskRevision + 1);
+
+        processEngine.getTaskService().complete(task.getId());
+        assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    public void testConcurrentTaskVariableInsertsConflict() throws Exception {
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+        Task task = processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        // Both commands insert the same new variable, only the forced update of the task revision makes one of them fail
+        CyclicBarrier startBarrier = new CyclicBarrier(2);
+        CyclicBarrier endBarrier = new CyclicBarrier(2);
+        List<Exception> exceptions = Collections.synchronizedList(new ArrayList<>());
+        Runnable setVariable = () -> {
+            try {
+                processEngine.getManagementService().executeCommand(commandContext -> {
+                    await(startBarrier);
+                    new SetTaskVariablesCmd(task.getId(), Collections.singletonMap("var", "test"), true).execute(commandContext);
+                    await(endBarrier);
+                    return null;
+                });
+            } catch (Exception e) {
+                exceptions.add(e);
+            }
+        };
+
+        Thread firstThread = new Thread(setVariable);
+        Thread secondThread = new Thread(setVariable);
+        firstThread.start();
+        secondThread.start();
+        firstThread.join();
+        secondThread.join();
+
+        assertThat(exceptions).hasSize(1);
+        assertThat(exceptions.get(0)).isInstanceOf(FlowableOptimisticLockingException.class);
+        assertThat(processEngine.getTaskService().getVariablesLocal(task.getId())).containsOnlyKeys("var");
+    }
+
+    protected void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (InterruptedException | BrokenBarrierException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected int getTaskRevision(String taskId) {
+        return processEngine.getManagementService().executeCommand(commandContext -> CommandContextUtil.getTaskService().getTask(taskId).getRevision());
+    }
+
+}
@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcBatchFlushTest {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setupProcessEngine() {
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:jdbcBatchFlushTest");
+        processEngineConfiguration.setJdbcBatchFlushEnabled(true);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy();
+    }
+
+    @AfterEach
+    public void shutdownProcessEngine() {
+        processEngine.close();
+    }
+
+    @Test
+    public void testBatchedUpdatesAndDeletes() {
+        assertThat(processEngineConfiguration.getDbSqlSessionFactory().isJdbcBatchFlushEnabled()).isTrue();
+
+        for (int i = 0; i < 5; i++) {
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+        }
+        List<String> taskIds = processEngine.getTaskService().createTaskQuery().list().stream().map(Task::getId).collect(Collectors.toList());
+        assertThat(taskIds).hasSize(5);
+
+        processEngine.getManagementService().executeCommand(commandContext -> {
+            for (String taskId : taskIds) {
+                TaskEntity task = CommandContextUtil.getTaskService().getTask(taskId);
+                task.setName("Batched " + taskId);
+            }
+            return null;
+        });
+
+        for (String taskId : taskIds) {
+            Task task = processEngine.getTaskService().createTaskQuery().taskId(taskId).singleResult();
+            assertThat(task.getName()).isEqualTo("Batched " + taskId);
+        }
+
+        // Deleting a process instance deletes multiple executions in one flush
+        processEngine.getRuntimeService().createProcessInstanceQuery().list()
+                .forEach(processInstance -> processEngine.getRuntimeService().deleteProcessInstance(processInstance.getId(), "test"));
+        assertThat(processEngine.getRuntimeService().createExecutionQuery().count()).isZero();
+        assertThat(processEngine.getTaskService().createTaskQuery().count()).isZero();
+    }
+
+    @Test
+    public void testOptimisticLockingInBatchedUpdate() {
+        processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+        processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+        List<String> taskIds = processEngine.getTaskService().createTaskQuery().list().stream().map(Task::getId).collect(Collectors.toList());
+
+        assertThatThrownBy(() -> processEngine.getManagementService().executeCommand(commandContext -> {
+            for (String taskId : taskIds) {
+                TaskEntity task = CommandContextUtil.getTaskService().getTask(taskId);
+                task.setName("Outer transaction");
+            }
+
+            // Concurrent change to one of the tasks, committed before the outer transaction flushes
+            processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), innerCommandContext -> {
+                TaskEntity task = CommandContextUtil.getTaskService().getTask(taskIds.get(1));
+                task.setName("Inner transaction");
+                return null;
+            });
+
+            return null;
+        })).isInstanceOf(FlowableOptimisticLockingException.class);
+
+        assertThat(processEngine.getTaskService().createTaskQuery().taskId(taskIds.get(0)).singleResult().getName()).isNotEqualTo("Outer transaction");
+        assertThat(processEngine.getTaskService().createTaskQuery().taskId(taskIds.get(1)).singleResult().getName()).isEqualTo("Inner transaction");
+    }
+
+}
@@ -0,0 +1,154 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.cmd.AcquireJobBucketLeasesCmd;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.cmd.ReleaseJobBucketLeasesCmd;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JobPartitioningTest {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setupProcessEngine() {
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:jobPartitioningTest");
+        processEngineConfiguration.setJobPartitioningEnabled(true);
+        processEngineConfiguration.setJobBucketCount(8);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml")
+                .deploy();
+    }
+
+    @AfterEach
+    public void shutdownProcessEngine() {
+        processEngineConfiguration.getClock().reset();
+        processEngine.close();
+    }
+
+    @Test
+    public void testAcquisitionFiltersByBucket() {
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+        ManagementService managementService = processEngine.getManagementService();
+
+        Integer bucket = managementService.executeCommand(commandContext -> {
+            TimerJobEntity timerJob = CommandContextUtil.getTimerJobService(commandContext)
+                    .findTimerJobsByProcessInstanceId(processInstance.getId()).get(0);
+            return timerJob.getBucket();
+        });
+        assertThat(bucket).isEqualTo(Math.floorMod(processInstance.getId().hashCode(), 8));
+
+        List<Integer> otherBuckets = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            if (i != bucket) {
+                otherBuckets.add(i);
+            }
+        }
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(System.currentTimeMillis() + 10 * 60 * 1000));
+        int maxResults = processEngineConfiguration.getAsyncExecutor().getMaxTimerJobsPerAcquisition();
+        AcquiredTimerJobEntities acquiredTimerJobs = managementService.executeCommand(
+                new AcquireTimerJobsCmd(processEngineConfiguration.getAsyncExecutor(), maxResults, otherBuckets));
+        assertThat(acquiredTimerJobs.size()).isZero();
+        acquiredTimerJobs = managementService.executeCommand(
+                new AcquireTimerJobsCmd(processEngineConfiguration.getAsyncExecutor(), maxResults, Collections.<Integer>emptyList()));
+        assertThat(acquiredTimerJobs.size()).isZero();
+        acquiredTimerJobs = managementService.executeCommand(
+                new AcquireTimerJobsCmd(processEngineConfiguration.getAsyncExecutor(), maxResults, Collections.singletonList(bucket)));
+        assertThat(acquiredTimerJobs.size()).isEqualTo(1);
+
+        // The executable job keeps the bucket of the timer job
+        managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().singleResult().getId());
+
+        AcquiredJobEntities acquiredJobs = managementService.executeCommand(
+                new AcquireJobsCmd(processEngineConfiguration.getAsyncExecutor(), Integer.MAX_VALUE, 10, otherBuckets,
+                        processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager()));
+        assertThat(acquiredJobs.size()).isZero();
+        acquiredJobs = managementService.executeCommand(
+                new AcquireJobsCmd(processEngineConfiguration.getAsyncExecutor(), Integer.MAX_VALUE, 10, Collections.singletonList(bucket),
+                        processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager()));
+        assertThat(acquiredJobs.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testJobsWithoutBucketAreAcquiredByEveryNode() {
+        processEngineConfiguration.getJobServiceConfiguration().setJobPartitioningEnabled(false);
+        processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+        processEngineConfiguration.getJobServiceConfiguration().setJobPartitioningEnabled(true);
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(System.currentTimeMillis() + 10 * 60 * 1000));
+        AcquiredTimerJobEntities acquiredTimerJobs = processEngine.getManagementService().executeCommand(
+                new AcquireTimerJobsCmd(processEngineConfiguration.getAsyncExecutor(), 10, Collections.<Integer>emptyList()));
+        assertThat(acquiredTimerJobs.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testBucketLeases() {
+        ManagementService managementService = processEngine.getManagementService();
+
+        assertThat(managementService.executeCommand(new AcquireJobBucketLeasesCmd(ScopeTypes.BPMN, "nodeA", 8, 60000)))
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+
+        // All buckets are leased by nodeA, nodeB takes over a single one so nodeA notices it
+        assertThat(managementService.executeCommand(new AcquireJobBucketLeasesCmd(ScopeTypes.BPMN, "nodeB", 8, 60000))).hasSize(1);
+        assertThat(managementService.executeCommand(new AcquireJobBucketLeasesCmd(ScopeTypes.BPMN, "nodeA", 8, 60000))).hasSize(4);
+
+        // nodeB takes over the buckets released by nodeA
+        List<Integer> nodeBBuckets = managementService.executeCommand(new AcquireJobBucketLeasesCmd(ScopeTypes.BPMN, "nodeB", 8, 60000));
+        assertThat(nodeBBuckets).hasSize(4);
+        List<Integer> nodeABuckets = managementService.executeCommand(new AcquireJobBucketLeasesCmd(ScopeTypes.BPMN, "nodeA", 8, 60000));
+        assertThat(nodeABuckets).hasSize(4).doesNotContainAnyElementsOf(nodeBBuckets);
+
+        // Once nodeA stops, nodeB gets all buckets
+        managementService.executeCommand(new ReleaseJobBucketLeasesCmd(ScopeTypes.BPMN, "nodeA"));
+        assertThat(managementService.executeCommand(new AcquireJobBucketLeasesCmd(ScopeTypes.BPMN, "nodeB", 8, 60000)))
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    public void testExpiredBucketLeasesAreTakenOver() {
+        ManagementService managementService = processEngine.getManagementService();
+        assertThat(managementService.executeCommand(new AcquireJobBucketLeasesCmd(ScopeTypes.BPMN, "nodeA", 8, 60000))).hasSize(8);
+
+        // nodeA crashed without releasing its leases
+        processEngineConfiguration.getClock().setCurrentTime(new Date(System.currentTimeMillis() + 2 * 60 * 1000));
+        assertThat(managementService.executeCommand(new AcquireJobBucketLeasesCmd(ScopeTypes.BPMN, "nodeB", 8, 60000)))
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+    }
+
+}
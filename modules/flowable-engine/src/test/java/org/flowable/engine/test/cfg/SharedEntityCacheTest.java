@@ -0,0 +1,188 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheImpl;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SharedEntityCacheTest {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected ProcessEngine processEngine;
+    protected List<String> invalidatedIds = new ArrayList<>();
+    protected String processDefinitionId;
+
+    @BeforeEach
+    public void setupProcessEngine() {
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:sharedEntityCacheTest");
+        processEngineConfiguration.setSharedEntityCacheEnabled(true);
+        processEngineConfiguration.setSharedEntityCacheInvalidationListeners(Collections.singletonList((entityClass, id) -> invalidatedIds.add(id)));
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy();
+        processDefinitionId = processEngine.getRepositoryService().createProcessDefinitionQuery().singleResult().getId();
+        getSharedEntityCache().evictAll();
+        invalidatedIds.clear();
+    }
+
+    @AfterEach
+    public void shutdownProcessEngine() {
+        processEngine.close();
+    }
+
+    @Test
+    public void testEntityServedFromSharedCache() {
+        ProcessDefinitionEntity first = findProcessDefinition();
+        assertThat(getSharedEntityCache().getMissCount()).isEqualTo(1);
+        assertThat(getSharedEntityCache().size()).isEqualTo(1);
+
+        ProcessDefinitionEntity second = findProcessDefinition();
+        assertThat(getSharedEntityCache().getHitCount()).isEqualTo(1);
+
+        // Every command gets its own copy
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getId()).isEqualTo(processDefinitionId);
+        assertThat(second.getKey()).isEqualTo("oneTaskProcess");
+        assertThat(second.getRevision()).isEqualTo(first.getRevision());
+        assertThat(second.getDeploymentId()).isEqualTo(first.getDeploymentId());
+    }
+
+    @Test
+    public void testSuspendInvalidatesCachedEntity() {
+        assertThat(findProcessDefinition().isSuspended()).isFalse();
+
+        processEngine.getRepositoryService().suspendProcessDefinitionById(processDefinitionId);
+        assertThat(invalidatedIds).containsExactly(processDefinitionId);
+        assertThat(findProcessDefinition().isSuspended()).isTrue();
+
+        processEngine.getRepositoryService().activateProcessDefinitionById(processDefinitionId);
+        assertThat(findProcessDefinition().isSuspended()).isFalse();
+    }
+
+    @Test
+    public void testChangesOfFailedCommandAreNotCached() {
+        findProcessDefinition();
+
+        assertThatThrownBy(() -> processEngine.getManagementService().executeCommand(commandContext -> {
+            ProcessDefinitionEntity processDefinition = CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId);
+            processDefinition.setCategory("changed");
+            throw new FlowableException("rollback");
+        })).isInstanceOf(FlowableException.class);
+
+        assertThat(findProcessDefinition().getCategory()).isNotEqualTo("changed");
+    }
+
+    @Test
+    public void testCachedEntityIsInvalidatedAfterCommit() {
+        findProcessDefinition();
+        List<String> invalidatedIdsBeforeCommit = new ArrayList<>();
+
+        processEngine.getManagementService().executeCommand(commandContext -> {
+            ProcessDefinitionEntity processDefinition = CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId);
+            processDefinition.setCategory("changed");
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTING,
+                    transactionCommandContext -> invalidatedIdsBeforeCommit.addAll(invalidatedIds));
+            return null;
+        });
+
+        // The changes are flushed before committing, but the cached entity may only be invalidated once they are visible to other transactions
+        assertThat(invalidatedIdsBeforeCommit).isEmpty();
+        assertThat(invalidatedIds).containsExactly(processDefinitionId);
+        assertThat(findProcessDefinition().getCategory()).isEqualTo("changed");
+    }
+
+    @Test
+    public void testCachedEntityIsInvalidatedAfterRollback() {
+        findProcessDefinition();
+
+        assertThatThrownBy(() -> processEngine.getManagementService().executeCommand(commandContext -> {
+            ProcessDefinitionEntity processDefinition = CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId);
+            processDefinition.setCategory("changed");
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTING, transactionCommandContext -> {
+                throw new FlowableException("rollback");
+            });
+            return null;
+        })).isInstanceOf(FlowableException.class);
+
+        assertThat(invalidatedIds).containsExactly(processDefinitionId);
+        assertThat(findProcessDefinition().getCategory()).isNotEqualTo("changed");
+    }
+
+    @Test
+    public void testDeleteDeploymentInvalidatesCachedEntities() {
+        String deploymentId = findProcessDefinition().getDeploymentId();
+
+        processEngine.getRepositoryService().deleteDeployment(deploymentId, true);
+        assertThat(getSharedEntityCache().size()).isZero();
+        assertThat(findProcessDefinition()).isNull();
+    }
+
+    @Test
+    public void testJobLockTimeUpdateKeepsCachedEntities() {
+        findProcessDefinition();
+        String processInstanceId = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess").getId();
+        invalidatedIds.clear();
+
+        processEngine.getManagementService().executeCommand(commandContext -> {
+            CommandContextUtil.getExecutionEntityManager(commandContext).updateProcessInstanceLockTime(processInstanceId);
+            CommandContextUtil.getExecutionEntityManager(commandContext).clearProcessInstanceLockTime(processInstanceId);
+            return null;
+        });
+
+        assertThat(invalidatedIds).isEmpty();
+        assertThat(getSharedEntityCache().size()).isEqualTo(1);
+        long hitCount = getSharedEntityCache().getHitCount();
+        findProcessDefinition();
+        assertThat(getSharedEntityCache().getHitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    public void testRegisteredBulkUpdateInvalidatesCachedEntities() {
+        String deploymentId = findProcessDefinition().getDeploymentId();
+
+        processEngine.getRepositoryService().changeDeploymentTenantId(deploymentId, "myTenant");
+        assertThat(invalidatedIds).containsNull();
+        assertThat(findProcessDefinition().getTenantId()).isEqualTo("myTenant");
+    }
+
+    protected ProcessDefinitionEntity findProcessDefinition() {
+        return processEngine.getManagementService().executeCommand(commandContext -> CommandContextUtil.getDbSqlSession(commandContext)
+                .selectById(ProcessDefinitionEntityImpl.class, processDefinitionId));
+    }
+
+    protected SharedEntityCacheImpl getSharedEntityCache() {
+        return (SharedEntityCacheImpl) processEngineConfiguration.getSharedEntityCache();
+    }
+
+}
@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Date;
+
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SkipLockedJobAcquisitionTest {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setupProcessEngine() {
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:skipLockedJobAcquisitionTest");
+        processEngineConfiguration.setSkipLockedJobAcquisitionEnabled(true);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml")
+                .deploy();
+    }
+
+    @AfterEach
+    public void shutdownProcessEngine() {
+        processEngine.close();
+    }
+
+    @Test
+    public void testFallbackWhenSkipLockedNotSupported() {
+        assertThat(processEngineConfiguration.getJobServiceConfiguration().isSkipLockedJobAcquisitionEnabled()).isTrue();
+
+        processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+        processEngineConfiguration.getClock().setCurrentTime(new Date(System.currentTimeMillis() + 10 * 60 * 1000));
+
+        AcquiredTimerJobEntities acquiredTimerJobs = processEngine.getManagementService()
+                .executeCommand(new AcquireTimerJobsCmd(processEngineConfiguration.getAsyncExecutor()));
+        assertThat(acquiredTimerJobs.size()).isEqualTo(1);
+        assertThat(processEngineConfiguration.getDbSqlSessionFactory().getSkipLockedSupported()).isFalse();
+
+        Job timerJob = processEngine.getManagementService().createTimerJobQuery().singleResult();
+        processEngine.getManagementService().moveTimerToExecutableJob(timerJob.getId());
+
+        AcquiredJobEntities acquiredJobs = processEngine.getManagementService()
+                .executeCommand(new AcquireJobsCmd(processEngineConfiguration.getAsyncExecutor()));
+        assertThat(acquiredJobs.size()).isEqualTo(1);
+
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    public void testSkipLockedSupportDetection() throws SQLException {
+        assertThat(isSkipLockedSupported("postgres", "PostgreSQL", "9.4", 9, 4)).isFalse();
+        assertThat(isSkipLockedSupported("postgres", "PostgreSQL", "9.5", 9, 5)).isTrue();
+        assertThat(isSkipLockedSupported("postgres", "PostgreSQL", "12.1", 12, 1)).isTrue();
+        assertThat(isSkipLockedSupported("mysql", "MySQL", "5.7.30", 5, 7)).isFalse();
+        assertThat(isSkipLockedSupported("mysql", "MySQL", "8.0.20", 8, 0)).isTrue();
+        assertThat(isSkipLockedSupported("mysql", "MariaDB", "10.5.8-MariaDB", 10, 5)).isFalse();
+        assertThat(isSkipLockedSupported("mysql", "MariaDB", "10.6.3-MariaDB", 10, 6)).isTrue();
+        assertThat(isSkipLockedSupported("oracle", "Oracle", "12.2", 12, 2)).isTrue();
+        assertThat(isSkipLockedSupported("h2", "H2", "1.4.200", 1, 4)).isFalse();
+        assertThat(isSkipLockedSupported("mssql", "Microsoft SQL Server", "14.00", 14, 0)).isFalse();
+    }
+
+    protected boolean isSkipLockedSupported(String databaseType, String productName, String productVersion, int majorVersion, int minorVersion)
+            throws SQLException {
+
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn(productName);
+        when(metaData.getDatabaseProductVersion()).thenReturn(productVersion);
+        when(metaData.getDatabaseMajorVersion()).thenReturn(majorVersion);
+        when(metaData.getDatabaseMinorVersion()).thenReturn(minorVersion);
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+
+        DbSqlSessionFactory dbSqlSessionFactory = new DbSqlSessionFactory(false);
+        dbSqlSessionFactory.setDatabaseType(databaseType);
+        return dbSqlSessionFactory.isSkipLockedSupported(connection);
+    }
+
+}
@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.job.service.impl.asyncexecutor.JobAcquisitionStrategy;
+import org.junit.jupiter.api.Test;
+
+public class JobAcquisitionStrategyTest {
+
+    @Test
+    public void testStaticAcquisition() {
+        JobAcquisitionStrategy strategy = new JobAcquisitionStrategy();
+
+        assertThat(strategy.getPageSize(10, 100)).isEqualTo(10);
+        assertThat(strategy.jobsAcquired(10, 0, 5000, 100)).isZero();
+        assertThat(strategy.getPageSize(10, 100)).isEqualTo(10);
+        assertThat(strategy.jobsAcquired(0, 0, 5000, 100)).isEqualTo(5000);
+        assertThat(strategy.jobsAcquired(0, 0, 5000, 100)).isEqualTo(5000);
+        assertThat(strategy.jobsAcquired(3, 2, 5000, 100)).isEqualTo(100);
+        assertThat(strategy.lockConflict(5000)).isEqualTo(5000);
+
+        assertThat(strategy.getPageSize(10, 4)).isEqualTo(4);
+
+        assertThat(strategy.getAcquisitionCount()).isEqualTo(4);
+        assertThat(strategy.getAcquiredJobCount()).isEqualTo(13);
+        assertThat(strategy.getEmptyAcquisitionCount()).isEqualTo(2);
+        assertThat(strategy.getRejectedJobCount()).isEqualTo(2);
+        assertThat(strategy.getLockConflictCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testAdaptivePageSize() {
+        JobAcquisitionStrategy strategy = new JobAcquisitionStrategy(true, 60000);
+
+        assertThat(strategy.getPageSize(10, 1000)).isEqualTo(10);
+        strategy.jobsAcquired(10, 0, 5000, 100);
+        assertThat(strategy.getPageSize(10, 1000)).isEqualTo(20);
+        strategy.jobsAcquired(20, 0, 5000, 100);
+        assertThat(strategy.getPageSize(10, 1000)).isEqualTo(40);
+        strategy.jobsAcquired(40, 0, 5000, 100);
+        assertThat(strategy.getPageSize(10, 1000)).isEqualTo(40);
+
+        // Never more than the free capacity
+        assertThat(strategy.getPageSize(10, 25)).isEqualTo(25);
+
+        // Back to the configured page size once the backlog is gone
+        strategy.jobsAcquired(7, 0, 5000, 100);
+        assertThat(strategy.getPageSize(10, 1000)).isEqualTo(10);
+    }
+
+    @Test
+    public void testAdaptiveWaitTime() {
+        JobAcquisitionStrategy strategy = new JobAcquisitionStrategy(true, 30000);
+
+        strategy.getPageSize(10, 1000);
+        assertThat(strategy.jobsAcquired(0, 0, 5000, 100)).isEqualTo(5000);
+        assertThat(strategy.jobsAcquired(0, 0, 5000, 100)).isEqualTo(10000);
+        assertThat(strategy.jobsAcquired(0, 0, 5000, 100)).isEqualTo(20000);
+        assertThat(strategy.jobsAcquired(0, 0, 5000, 100)).isEqualTo(30000);
+        assertThat(strategy.jobsAcquired(0, 0, 5000, 100)).isEqualTo(30000);
+        assertThat(strategy.getCurrentWaitTimeInMillis()).isEqualTo(30000);
+
+        // Found jobs again
+        assertThat(strategy.jobsAcquired(2, 0, 5000, 100)).isEqualTo(5000);
+        assertThat(strategy.jobsAcquired(0, 0, 5000, 100)).isEqualTo(5000);
+    }
+
+    @Test
+    public void testAdaptiveLockConflictBackoff() {
+        JobAcquisitionStrategy strategy = new JobAcquisitionStrategy(true, 30000);
+        strategy.setLockConflictWaitTimeInMillis(200);
+
+        assertThat(strategy.lockConflict(5000)).isBetween(100L, 200L);
+        assertThat(strategy.lockConflict(5000)).isBetween(200L, 400L);
+        assertThat(strategy.lockConflict(5000)).isBetween(400L, 800L);
+
+        // A successful acquisition resets the backoff
+        strategy.getPageSize(10, 1000);
+        strategy.jobsAcquired(1, 0, 5000, 100);
+        assertThat(strategy.lockConflict(5000)).isBetween(100L, 200L);
+        assertThat(strategy.getLockConflictCount()).isEqualTo(4);
+    }
+
+}
@@ -0,0 +1,176 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.TimerJobWheel;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityImpl;
+import org.junit.jupiter.api.Test;
+
+public class TimerJobWheelTest {
+
+    @Test
+    public void testTimerJobsAreReturnedWhenDue() {
+        TimerJobWheel wheel = new TimerJobWheel(100, 8, 10000);
+        TimerJobEntity inCurrentTick = createTimerJob("inCurrentTick", 10050);
+        TimerJobEntity inFirstWheel = createTimerJob("inFirstWheel", 10420);
+        TimerJobEntity inOverflowWheel = createTimerJob("inOverflowWheel", 12345);
+        TimerJobEntity inSecondOverflowWheel = createTimerJob("inSecondOverflowWheel", 20000);
+        wheel.add(inSecondOverflowWheel);
+        wheel.add(inFirstWheel);
+        wheel.add(inOverflowWheel);
+        wheel.add(inCurrentTick);
+        assertThat(wheel.size()).isEqualTo(4);
+
+        assertThat(wheel.advanceClock(10049)).isEmpty();
+        assertThat(wheel.getWaitTimeInMillis(10049)).isEqualTo(1);
+        assertThat(wheel.advanceClock(10050)).containsExactly(inCurrentTick);
+
+        assertThat(wheel.advanceClock(10419)).isEmpty();
+        assertThat(wheel.getWaitTimeInMillis(10419)).isEqualTo(1);
+        assertThat(wheel.advanceClock(10420)).containsExactly(inFirstWheel);
+
+        // Cascaded down from the overflow wheel
+        assertThat(wheel.advanceClock(12300)).isEmpty();
+        assertThat(wheel.getWaitTimeInMillis(12300)).isEqualTo(45);
+        assertThat(wheel.advanceClock(12345)).containsExactly(inOverflowWheel);
+
+        assertThat(wheel.advanceClock(19999)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceClock(25000)).containsExactly(inSecondOverflowWheel);
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.getWaitTimeInMillis(25000)).isEqualTo(-1);
+    }
+
+    @Test
+    public void testTimerJobsAlreadyDue() {
+        TimerJobWheel wheel = new TimerJobWheel(100, 8, 10000);
+        TimerJobEntity overdue = createTimerJob("overdue", 5000);
+        wheel.add(overdue);
+        assertThat(wheel.advanceClock(10000)).containsExactly(overdue);
+    }
+
+    @Test
+    public void testRemoveAll() {
+        TimerJobWheel wheel = new TimerJobWheel(100, 8, 10000);
+        wheel.add(createTimerJob("one", 10050));
+        wheel.add(createTimerJob("two", 10500));
+        wheel.add(createTimerJob("three", 50000));
+
+        assertThat(wheel.removeAll()).extracting(TimerJobEntity::getId).containsExactlyInAnyOrder("one", "two", "three");
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advanceClock(60000)).isEmpty();
+    }
+
+    @Test
+    public void testTimerFiresBeforeNextAcquisition() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = createProcessEngineConfiguration("timerJobWheelTestFires");
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        try {
+            processEngine.getRepositoryService().createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/jobexecutor/JobProcessorTest.testIntermediateTimer.bpmn20.xml")
+                    .deploy();
+            processEngine.getRuntimeService().startProcessInstanceByKey("intermediateTimer");
+
+            // The first acquisition picks up the timer, which is only due in 5 seconds, the next acquisition is only after a minute
+            long start = System.currentTimeMillis();
+            processEngineConfiguration.getAsyncExecutor().start();
+
+            Job timerJob = processEngine.getManagementService().createTimerJobQuery().singleResult();
+            waitUntil(() -> getLockOwner(processEngine, timerJob.getId()) != null, 10000);
+            assertThat(timerJob.getDuedate()).isAfter(new Date());
+
+            waitUntil(() -> processEngine.getTaskService().createTaskQuery().count() == 1, 20000);
+            assertThat(System.currentTimeMillis() - start).isLessThan(20000);
+
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testScheduledTimersAreUnlockedOnShutdown() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = createProcessEngineConfiguration("timerJobWheelTestShutdown");
+        processEngineConfiguration.setAsyncExecutorTimerJobWheelLookAheadTime(10 * 60 * 1000);
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        try {
+            processEngine.getRepositoryService().createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/jobexecutor/AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml")
+                    .deploy();
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+
+            Job timerJob = processEngine.getManagementService().createTimerJobQuery().singleResult();
+            processEngineConfiguration.getAsyncExecutor().start();
+            waitUntil(() -> getLockOwner(processEngine, timerJob.getId()) != null, 10000);
+
+            processEngineConfiguration.getAsyncExecutor().shutdown();
+            assertThat(processEngine.getManagementService().createTimerJobQuery().count()).isEqualTo(1);
+            assertThat(getLockOwner(processEngine, timerJob.getId())).isNull();
+
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    protected ProcessEngineConfigurationImpl createProcessEngineConfiguration(String databaseName) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:" + databaseName);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncExecutorDefaultTimerJobAcquireWaitTime(60 * 1000);
+        processEngineConfiguration.setAsyncExecutorTimerJobWheelEnabled(true);
+        processEngineConfiguration.setAsyncExecutorTimerJobWheelLookAheadTime(60 * 1000);
+        processEngineConfiguration.setAsyncExecutorTimerJobWheelTick(50);
+        return processEngineConfiguration;
+    }
+
+    protected String getLockOwner(ProcessEngine processEngine, String timerJobId) {
+        return processEngine.getManagementService().executeCommand(commandContext -> {
+            TimerJobEntity timerJob = CommandContextUtil.getTimerJobService(commandContext).findTimerJobById(timerJobId);
+            return timerJob != null ? timerJob.getLockOwner() : null;
+        });
+    }
+
+    protected TimerJobEntity createTimerJob(String id, long dueTime) {
+        TimerJobEntity timerJob = new TimerJobEntityImpl();
+        timerJob.setId(id);
+        timerJob.setDuedate(new Date(dueTime));
+        return timerJob;
+    }
+
+    protected void waitUntil(Condition condition, long maxWaitTimeInMillis) {
+        long end = System.currentTimeMillis() + maxWaitTimeInMillis;
+        while (!condition.isMet() && System.currentTimeMillis() < end) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        assertThat(condition.isMet()).isTrue();
+    }
+
+    protected interface Condition {
+
+        boolean isMet();
+    }
+
+}
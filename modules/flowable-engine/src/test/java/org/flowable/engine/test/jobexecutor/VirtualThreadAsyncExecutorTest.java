@@ -0,0 +1,118 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the virtual thread mode of the {@link DefaultAsyncJobExecutor}.
+ */
+public class VirtualThreadAsyncExecutorTest {
+
+    protected ThreadRecordingAsyncExecutor asyncExecutor;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setUp() {
+        // Only one job is allowed to execute at the same time
+        asyncExecutor = new ThreadRecordingAsyncExecutor();
+        asyncExecutor.setVirtualThreadMode(true);
+        asyncExecutor.setMaxConcurrentJobs(1);
+        asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50);
+        asyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-VirtualThreadAsyncExecutorTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+        processEngineConfiguration.setAsyncExecutor(asyncExecutor);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+        processEngine.close();
+    }
+
+    @Test
+    public void testVirtualThreadModeExecution() {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml")
+                .deploy();
+
+        // Jobs that can't be executed right away are unacquired and picked up again later
+        for (int i = 0; i < 5; i++) {
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncScript");
+        }
+        JobTestHelper.waitForJobExecutorToProcessAllJobsAndExecutableTimerJobs(processEngine.getProcessEngineConfiguration(),
+                processEngine.getManagementService(), 10000L, 1000L, false);
+
+        assertThat(processEngine.getManagementService().createJobQuery().count()).isZero();
+        assertThat(processEngine.getTaskService().createTaskQuery().taskName("Task after script").count()).isEqualTo(5);
+
+        assertThat(asyncExecutor.getExecutedJobCount()).isEqualTo(5);
+        assertThat(asyncExecutor.getInFlightJobCount()).isZero();
+        assertThat(asyncExecutor.getRemainingCapacity()).isEqualTo(1);
+        assertThat(asyncExecutor.getOfferedJobCount().get()).isEqualTo(5 + asyncExecutor.getRejectedJobCount());
+        assertThat(asyncExecutor.getTotalJobStartLatencyInMillis()).isNotNegative();
+
+        // Every job runs on a thread of its own, threads are never reused
+        assertThat(asyncExecutor.getJobThreads()).hasSize(5);
+    }
+
+    static class ThreadRecordingAsyncExecutor extends DefaultAsyncJobExecutor {
+
+        protected AtomicInteger offeredJobCount = new AtomicInteger();
+        protected Set<Thread> jobThreads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean executeAsyncJob(JobInfo job) {
+            offeredJobCount.incrementAndGet();
+            return super.executeAsyncJob(job);
+        }
+
+        @Override
+        protected boolean executeAsyncJob(JobInfo job, Runnable runnable) {
+            return super.executeAsyncJob(job, () -> {
+                jobThreads.add(Thread.currentThread());
+                runnable.run();
+            });
+        }
+
+        public AtomicInteger getOfferedJobCount() {
+            return offeredJobCount;
+        }
+
+        public Set<Thread> getJobThreads() {
+            return jobThreads;
+        }
+    }
+
+}
@@ -15,6 +15,7 @@ package org.flowable.examples.bpmn.scripttask;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import groovy.lang.MissingPropertyException;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -24,6 +25,8 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.script.CompiledScript;
+
 /**
  * @author Joram Barrez
  * @author Christian Stettler
@@ -150,6 +153,32 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());
     }
 
+    @Test
+    public void testCompiledScriptCache() {
+        DefaultDeploymentCache<CompiledScript> compiledScriptCache = (DefaultDeploymentCache<CompiledScript>) processEngineConfiguration
+                .getScriptingEngines().getCompiledScriptCache();
+        compiledScriptCache.clear();
+        long hitCount = compiledScriptCache.getHitCount();
+
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/examples/bpmn/scripttask/ScriptTaskTest.testCompiledScriptCache.bpmn20.xml")
+                .deploy()
+                .getId();
+
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testCompiledScriptCache", CollectionUtil.map("a", i, "b", 40));
+            assertEquals(40 + i, ((Number) historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId()).variableName("sum").singleResult().getValue()).intValue());
+        }
+
+        // The script is compiled once and reused by the next executions
+        assertEquals(1, compiledScriptCache.size());
+        assertEquals(hitCount + 2, compiledScriptCache.getHitCount());
+
+        repositoryService.deleteDeployment(deploymentId, true);
+        assertEquals(0, compiledScriptCache.size());
+    }
+
     protected void verifyExceptionInStacktrace(Exception rootException, Class<?> expectedExceptionClass) {
         Throwable expectedException = rootException;
         boolean found = false;
@@ -0,0 +1,155 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryBinaryCodec;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class AsyncHistoryBinaryEncodingTest extends CustomConfigurationFlowableTestCase {
+
+    public AsyncHistoryBinaryEncodingTest() {
+        super("asyncHistoryBinaryEncodingTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        processEngineConfiguration.setAsyncHistoryBinaryEncodingEnabled(true);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncHistoryBinaryEncodingEnabled(true);
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+    }
+
+    @Test
+    public void testOneTaskProcess() {
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        taskService.complete(taskService.createTaskQuery().singleResult().getId());
+
+        List<HistoryJob> jobs = managementService.createHistoryJobQuery().list();
+        assertThat(jobs).hasSize(2);
+        for (HistoryJob job : jobs) {
+            assertThat(job.getJobHandlerType()).isEqualTo(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_BINARY);
+            byte[] bytes = managementService.executeCommand(commandContext -> ((HistoryJobEntity) job).getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
+            assertThat(AsyncHistoryBinaryCodec.isBinaryEncoded(bytes)).isTrue();
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicProcessInstance).isNotNull();
+        assertThat(historicProcessInstance.getEndTime()).isNotNull();
+
+        HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicTaskInstance.getName()).isNotNull();
+        assertThat(historicTaskInstance.getEndTime()).isNotNull();
+        assertThat(historicTaskInstance.getDurationInMillis()).isNotNull();
+
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(5);
+        assertThat(historyService.createHistoricTaskLogEntryQuery().processInstanceId(processInstanceId).count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testJsonAndBinaryJobsMixed() {
+        deployOneTaskTestProcess();
+
+        // Jobs created before enabling the binary encoding keep their json format
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncHistoryBinaryEncodingEnabled(false);
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncHistoryBinaryEncodingEnabled(true);
+        taskService.complete(taskService.createTaskQuery().singleResult().getId());
+
+        assertThat(managementService.createHistoryJobQuery().list())
+                .extracting(HistoryJob::getJobHandlerType)
+                .containsExactlyInAnyOrder(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY,
+                        HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_BINARY);
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicProcessInstance.getStartTime()).isNotNull();
+        assertThat(historicProcessInstance.getEndTime()).isNotNull();
+        assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime()).isNotNull();
+    }
+
+    @Test
+    public void testCodecRoundTrip() throws Exception {
+        ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
+        ArrayNode arrayNode = objectMapper.createArrayNode();
+        for (int i = 0; i < 3; i++) {
+            ObjectNode historyNode = arrayNode.addObject();
+            historyNode.put("type", "activity-start");
+            ObjectNode dataNode = historyNode.putObject("data");
+            dataNode.put("id", "activity-" + i);
+            dataNode.put("intValue", -i);
+            dataNode.put("longValue", Long.MAX_VALUE - i);
+            dataNode.put("doubleValue", 1.5 * i);
+            dataNode.put("booleanValue", i % 2 == 0);
+            dataNode.putNull("nullValue");
+            dataNode.put("unicode", "héllo 世界");
+            dataNode.put("longText", String.join("", Collections.nCopies(100, "text")));
+            dataNode.putArray("list").add(1).add("two");
+        }
+
+        byte[] bytes = AsyncHistoryBinaryCodec.encode(arrayNode);
+        assertThat(bytes.length).isLessThan(objectMapper.writeValueAsBytes(arrayNode).length);
+
+        JsonNode decodedNode = AsyncHistoryBinaryCodec.decode(bytes, objectMapper.getNodeFactory());
+        assertThat(decodedNode).isEqualTo(arrayNode);
+        assertThat(decodedNode.get(1).get("data").get("intValue").isInt()).isTrue();
+        assertThat(decodedNode.get(1).get("data").get("longValue").isLong()).isTrue();
+
+        assertThatThrownBy(() -> AsyncHistoryBinaryCodec.decode("[]".getBytes(StandardCharsets.UTF_8), objectMapper.getNodeFactory()))
+                .isInstanceOf(FlowableException.class);
+        assertThatThrownBy(() -> AsyncHistoryBinaryCodec.decode(Arrays.copyOf(bytes, bytes.length - 5), objectMapper.getNodeFactory()))
+                .isInstanceOf(FlowableException.class);
+    }
+
+}
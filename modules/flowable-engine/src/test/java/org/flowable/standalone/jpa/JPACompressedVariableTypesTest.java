@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.impl.types.CompressedSerializableType;
+import org.flowable.variable.service.impl.types.EntityManagerSession;
+import org.flowable.variable.service.impl.types.EntityManagerSessionFactory;
+import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
+import org.flowable.variable.service.impl.types.JPAEntityVariableType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("jpa")
+public class JPACompressedVariableTypesTest extends ResourceFlowableTestCase {
+
+    public JPACompressedVariableTypesTest() {
+        super("org/flowable/standalone/jpa/flowable.compressed.cfg.xml");
+    }
+
+    @Test
+    public void testJpaTypesAreRegisteredBeforeCompressedSerializableType() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        int compressedSerializableIndex = variableTypes.getTypeIndex(CompressedSerializableType.TYPE_NAME);
+        assertThat(compressedSerializableIndex).isGreaterThan(-1);
+        assertThat(variableTypes.getTypeIndex(JPAEntityVariableType.TYPE_NAME)).isBetween(0, compressedSerializableIndex);
+        assertThat(variableTypes.getTypeIndex(JPAEntityListVariableType.TYPE_NAME)).isBetween(0, compressedSerializableIndex);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStoreJPAEntityListAsVariable() {
+        EntityManagerFactory entityManagerFactory = ((EntityManagerSessionFactory) processEngineConfiguration.getSessionFactories()
+                .get(EntityManagerSession.class)).getEntityManagerFactory();
+        EntityManager manager = entityManagerFactory.createEntityManager();
+        manager.getTransaction().begin();
+        FieldAccessJPAEntity entity = new FieldAccessJPAEntity();
+        entity.setId(1L);
+        entity.setValue("value1");
+        manager.persist(entity);
+        manager.flush();
+        manager.getTransaction().commit();
+        manager.close();
+
+        // An ArrayList is serializable, so the list type must come first to store the list as references to the entities
+        List<FieldAccessJPAEntity> entities = new ArrayList<>(Collections.singletonList(entity));
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+                Collections.<String, Object>singletonMap("entities", entities));
+
+        VariableInstance variableInstance = runtimeService.getVariableInstance(processInstance.getId(), "entities");
+        assertThat(variableInstance.getTypeName()).isEqualTo(JPAEntityListVariableType.TYPE_NAME);
+
+        Object value = runtimeService.getVariable(processInstance.getId(), "entities");
+        assertThat(value).isInstanceOf(List.class);
+        assertThat((List<?>) value).hasSize(1);
+        assertThat(((FieldAccessJPAEntity) ((List<?>) value).get(0)).getValue()).isEqualTo("value1");
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -89,6 +90,11 @@ public class HistoricEntityLinkServiceImpl extends CommonServiceImpl<EntityLinkS
     public void deleteHistoricEntityLinksForNonExistingCaseInstances() {
         getHistoricEntityLinkEntityManager().deleteHistoricEntityLinksForNonExistingCaseInstances();
     }
+    
+    @Override
+    public void deleteHistoricEntityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricEntityLinkEntityManager().deleteHistoricEntityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricEntityLinkEntityManager getHistoricEntityLinkEntityManager() {
         return configuration.getHistoricEntityLinkEntityManager();
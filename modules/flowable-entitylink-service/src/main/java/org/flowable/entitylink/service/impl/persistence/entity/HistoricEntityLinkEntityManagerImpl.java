@@ -13,6 +13,7 @@
 
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -77,6 +78,11 @@ public class HistoricEntityLinkEntityManagerImpl extends AbstractEntityManager<H
     public void deleteHistoricEntityLinksForNonExistingCaseInstances() {
         historicEntityLinkDataManager.deleteHistoricEntityLinksForNonExistingCaseInstances();
     }
+    
+    @Override
+    public void deleteHistoricEntityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        historicEntityLinkDataManager.deleteHistoricEntityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricEntityLinkDataManager getHistoricEntityLinkDataManager() {
         return historicEntityLinkDataManager;
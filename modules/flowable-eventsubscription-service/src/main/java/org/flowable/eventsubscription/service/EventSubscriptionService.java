@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.eventsubscription.api.EventSubscription;
@@ -35,6 +36,8 @@ public interface EventSubscriptionService {
     
     List<EventSubscriptionEntity> findEventSubscriptionsByExecution(String executionId);
     
+    List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId);
     
     List<EventSubscriptionEntity> findEventSubscriptionsBySubScopeId(String subScopeId);
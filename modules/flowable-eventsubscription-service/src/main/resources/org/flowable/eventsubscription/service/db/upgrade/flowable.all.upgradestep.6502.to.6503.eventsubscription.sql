@@ -0,0 +1 @@
+update ACT_GE_PROPERTY set VALUE_ = '6.5.0.3' where NAME_ = 'eventsubscription.schema.version';
@@ -27,6 +27,7 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
 import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.form.api.FormEngineConfigurationApi;
 import org.flowable.form.api.FormManagementService;
@@ -124,6 +125,7 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
     protected DeploymentManager deploymentManager;
 
     protected int formDefinitionCacheLimit = -1; // By default, no limit
+    protected DeploymentCacheWeigher<FormDefinitionCacheEntry> formDefinitionCacheWeigher; // By default, the limit is the number of form definitions
     protected DeploymentCache<FormDefinitionCacheEntry> formDefinitionCache;
 
     public static FormEngineConfiguration createFormEngineConfigurationFromResourceDefault() {
@@ -369,7 +371,7 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
             if (formDefinitionCacheLimit <= 0) {
                 formDefinitionCache = new DefaultDeploymentCache<>();
             } else {
-                formDefinitionCache = new DefaultDeploymentCache<>(formDefinitionCacheLimit);
+                formDefinitionCache = new DefaultDeploymentCache<>(formDefinitionCacheLimit, formDefinitionCacheWeigher);
             }
         }
 
@@ -501,6 +503,18 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public DeploymentCacheWeigher<FormDefinitionCacheEntry> getFormDefinitionCacheWeigher() {
+        return formDefinitionCacheWeigher;
+    }
+
+    /**
+     * Sets the weigher for the form definition cache. When set, the form definition cache limit is the maximum total weight of the cached form definitions.
+     */
+    public FormEngineConfiguration setFormDefinitionCacheWeigher(DeploymentCacheWeigher<FormDefinitionCacheEntry> formDefinitionCacheWeigher) {
+        this.formDefinitionCacheWeigher = formDefinitionCacheWeigher;
+        return this;
+    }
+
     public DeploymentCache<FormDefinitionCacheEntry> getFormDefinitionCache() {
         return formDefinitionCache;
     }
@@ -132,6 +132,7 @@ public class DeploymentManager {
         FormDefinitionCacheEntry cachedForm = formCache.get(formDefinitionId);
 
         if (cachedForm == null) {
+            long loadStartTime = System.nanoTime();
             FormDeploymentEntity deployment = engineConfig.getDeploymentEntityManager().findById(deploymentId);
             List<FormResourceEntity> resources = engineConfig.getResourceEntityManager().findResourcesByDeploymentId(deploymentId);
             for (FormResourceEntity resource : resources) {
@@ -140,6 +141,7 @@ public class DeploymentManager {
 
             deployment.setNew(false);
             deploy(deployment);
+            formCache.recordLoad(System.nanoTime() - loadStartTime);
             cachedForm = formCache.get(formDefinitionId);
 
             if (cachedForm == null) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
@@ -50,4 +51,12 @@ public interface HistoricIdentityLinkService {
     void deleteHistoricCaseIdentityLinksForNonExistingInstances();
     
     void deleteHistoricTaskIdentityLinksForNonExistingInstances();
+    
+    void deleteHistoricProcessIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricTaskIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
+    void deleteHistoricTaskIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -99,6 +100,26 @@ public class HistoricIdentityLinkServiceImpl extends CommonServiceImpl<IdentityL
     public void deleteHistoricTaskIdentityLinksForNonExistingInstances() {
         getHistoricIdentityLinkEntityManager().deleteHistoricTaskIdentityLinksForNonExistingInstances();
     }
+    
+    @Override
+    public void deleteHistoricProcessIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricProcessIdentityLinksForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricTaskIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricTaskIdentityLinksForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+    
+    @Override
+    public void deleteHistoricTaskIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricTaskIdentityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricIdentityLinkEntityManager getHistoricIdentityLinkEntityManager() {
         return configuration.getHistoricIdentityLinkEntityManager();
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -40,5 +41,13 @@ public interface HistoricIdentityLinkEntityManager extends EntityManager<Histori
     void deleteHistoricCaseIdentityLinksForNonExistingInstances();
     
     void deleteHistoricTaskIdentityLinksForNonExistingInstances();
+    
+    void deleteHistoricProcessIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricTaskIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
+    void deleteHistoricTaskIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -101,6 +102,26 @@ public class HistoricIdentityLinkEntityManagerImpl extends AbstractEntityManager
     public void deleteHistoricTaskIdentityLinksForNonExistingInstances() {
         historicIdentityLinkDataManager.deleteHistoricTaskIdentityLinksForNonExistingInstances();
     }
+    
+    @Override
+    public void deleteHistoricProcessIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicIdentityLinkDataManager.deleteHistoricProcessIdentityLinksForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricTaskIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicIdentityLinkDataManager.deleteHistoricTaskIdentityLinksForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        historicIdentityLinkDataManager.deleteHistoricIdentityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+    
+    @Override
+    public void deleteHistoricTaskIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        historicIdentityLinkDataManager.deleteHistoricTaskIdentityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricIdentityLinkDataManager getHistoricIdentityLinkDataManager() {
         return historicIdentityLinkDataManager;
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -91,4 +92,34 @@ public class MybatisHistoricIdentityLinkDataManager extends AbstractDataManager<
     public void deleteHistoricTaskIdentityLinksForNonExistingInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricTaskIdentityLinks", null, HistoricIdentityLinkEntityImpl.class);
     }
+    
+    @Override
+    public void deleteHistoricProcessIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricProcessIdentityLinksForProcessInstanceIds", parameters, HistoricIdentityLinkEntityImpl.class);
+    }
+    
+    @Override
+    public void deleteHistoricTaskIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricTaskIdentityLinksForProcessInstanceIds", parameters, HistoricIdentityLinkEntityImpl.class);
+    }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("scopeIds", scopeIds);
+        parameters.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricIdentityLinksForScopeIdsAndScopeType", parameters, HistoricIdentityLinkEntityImpl.class);
+    }
+    
+    @Override
+    public void deleteHistoricTaskIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("scopeIds", scopeIds);
+        parameters.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricTaskIdentityLinksForScopeIdsAndScopeType", parameters, HistoricIdentityLinkEntityImpl.class);
+    }
 }
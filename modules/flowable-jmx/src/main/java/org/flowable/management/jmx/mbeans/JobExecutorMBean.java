@@ -13,7 +13,9 @@
 package org.flowable.management.jmx.mbeans;
 
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.JobAcquisitionStrategy;
 import org.flowable.management.jmx.annotations.ManagedAttribute;
 import org.flowable.management.jmx.annotations.ManagedOperation;
 import org.flowable.management.jmx.annotations.ManagedResource;
@@ -45,4 +47,72 @@ public class JobExecutorMBean {
 
     }
 
+    @ManagedAttribute(description = "number of async job acquisition queries done")
+    public long getAsyncJobAcquisitionCount() {
+        JobAcquisitionStrategy strategy = getAsyncJobAcquisitionStrategy();
+        return strategy != null ? strategy.getAcquisitionCount() : 0L;
+    }
+
+    @ManagedAttribute(description = "number of async jobs acquired")
+    public long getAcquiredAsyncJobCount() {
+        JobAcquisitionStrategy strategy = getAsyncJobAcquisitionStrategy();
+        return strategy != null ? strategy.getAcquiredJobCount() : 0L;
+    }
+
+    @ManagedAttribute(description = "number of async job acquisition queries that returned no jobs")
+    public long getEmptyAsyncJobAcquisitionCount() {
+        JobAcquisitionStrategy strategy = getAsyncJobAcquisitionStrategy();
+        return strategy != null ? strategy.getEmptyAcquisitionCount() : 0L;
+    }
+
+    @ManagedAttribute(description = "number of async job acquisitions that failed because another node acquired the same jobs")
+    public long getAsyncJobAcquisitionLockConflictCount() {
+        JobAcquisitionStrategy strategy = getAsyncJobAcquisitionStrategy();
+        return strategy != null ? strategy.getLockConflictCount() : 0L;
+    }
+
+    @ManagedAttribute(description = "number of jobs per async job acquisition query")
+    public int getAsyncJobAcquisitionPageSize() {
+        JobAcquisitionStrategy strategy = getAsyncJobAcquisitionStrategy();
+        return strategy != null ? strategy.getCurrentPageSize() : 0;
+    }
+
+    @ManagedAttribute(description = "current wait time in milliseconds between async job acquisition queries")
+    public long getAsyncJobAcquireWaitTimeInMillis() {
+        JobAcquisitionStrategy strategy = getAsyncJobAcquisitionStrategy();
+        return strategy != null ? strategy.getCurrentWaitTimeInMillis() : 0L;
+    }
+
+    @ManagedAttribute(description = "number of timer job acquisition queries done")
+    public long getTimerJobAcquisitionCount() {
+        JobAcquisitionStrategy strategy = getTimerJobAcquisitionStrategy();
+        return strategy != null ? strategy.getAcquisitionCount() : 0L;
+    }
+
+    @ManagedAttribute(description = "number of timer jobs acquired")
+    public long getAcquiredTimerJobCount() {
+        JobAcquisitionStrategy strategy = getTimerJobAcquisitionStrategy();
+        return strategy != null ? strategy.getAcquiredJobCount() : 0L;
+    }
+
+    @ManagedAttribute(description = "number of timer job acquisitions that failed because another node acquired the same jobs")
+    public long getTimerJobAcquisitionLockConflictCount() {
+        JobAcquisitionStrategy strategy = getTimerJobAcquisitionStrategy();
+        return strategy != null ? strategy.getLockConflictCount() : 0L;
+    }
+
+    @ManagedAttribute(description = "current wait time in milliseconds between timer job acquisition queries")
+    public long getTimerJobAcquireWaitTimeInMillis() {
+        JobAcquisitionStrategy strategy = getTimerJobAcquisitionStrategy();
+        return strategy != null ? strategy.getCurrentWaitTimeInMillis() : 0L;
+    }
+
+    protected JobAcquisitionStrategy getAsyncJobAcquisitionStrategy() {
+        return jobExecutor instanceof AbstractAsyncExecutor ? ((AbstractAsyncExecutor) jobExecutor).getAsyncJobAcquisitionStrategy() : null;
+    }
+
+    protected JobAcquisitionStrategy getTimerJobAcquisitionStrategy() {
+        return jobExecutor instanceof AbstractAsyncExecutor ? ((AbstractAsyncExecutor) jobExecutor).getTimerJobAcquisitionStrategy() : null;
+    }
+
 }
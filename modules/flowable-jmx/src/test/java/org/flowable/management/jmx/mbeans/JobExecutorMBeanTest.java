@@ -17,6 +17,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +31,8 @@ import javax.management.modelmbean.ModelMBean;
 
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.JobAcquisitionStrategy;
 import org.flowable.management.jmx.DefaultManagementMBeanAssembler;
 import org.flowable.management.jmx.ManagementMBeanAssembler;
 import org.junit.Before;
@@ -86,6 +89,29 @@ public class JobExecutorMBeanTest {
 
     }
 
+    @Test
+    public void testAcquisitionStatistics() {
+        assertEquals(0L, jobExecutorMbean.getAsyncJobAcquisitionCount());
+
+        DefaultAsyncJobExecutor asyncExecutor = mock(DefaultAsyncJobExecutor.class);
+        JobAcquisitionStrategy asyncJobAcquisitionStrategy = new JobAcquisitionStrategy();
+        asyncJobAcquisitionStrategy.getPageSize(5, 100);
+        asyncJobAcquisitionStrategy.jobsAcquired(5, 0, 10000, 0);
+        asyncJobAcquisitionStrategy.jobsAcquired(0, 0, 10000, 0);
+        asyncJobAcquisitionStrategy.lockConflict(10000);
+        when(asyncExecutor.getAsyncJobAcquisitionStrategy()).thenReturn(asyncJobAcquisitionStrategy);
+        when(processEngineConfiguration.getAsyncExecutor()).thenReturn(asyncExecutor);
+
+        JobExecutorMBean mbean = new JobExecutorMBean(processEngineConfiguration);
+        assertEquals(2L, mbean.getAsyncJobAcquisitionCount());
+        assertEquals(5L, mbean.getAcquiredAsyncJobCount());
+        assertEquals(1L, mbean.getEmptyAsyncJobAcquisitionCount());
+        assertEquals(1L, mbean.getAsyncJobAcquisitionLockConflictCount());
+        assertEquals(5, mbean.getAsyncJobAcquisitionPageSize());
+        assertEquals(10000L, mbean.getAsyncJobAcquireWaitTimeInMillis());
+        assertEquals(0L, mbean.getTimerJobAcquisitionCount());
+    }
+
     ManagementMBeanAssembler assembler = new DefaultManagementMBeanAssembler();
 
     @Test
@@ -96,7 +122,7 @@ public class JobExecutorMBeanTest {
         MBeanInfo beanInfo = modelBean.getMBeanInfo();
         assertNotNull(beanInfo);
         assertNotNull(beanInfo.getOperations());
-        assertEquals(2, beanInfo.getOperations().length);
+        assertEquals(12, beanInfo.getOperations().length);
         int counter = 0;
 
         for (MBeanOperationInfo op : beanInfo.getOperations()) {
@@ -112,7 +138,7 @@ public class JobExecutorMBeanTest {
 
         // check attributes
         assertNotNull(beanInfo.getAttributes());
-        assertEquals(1, beanInfo.getAttributes().length);
+        assertEquals(11, beanInfo.getAttributes().length);
 
         counter = 0;
 
@@ -111,6 +111,9 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
     
     protected String jobExecutionScope;
+    protected boolean skipLockedJobAcquisitionEnabled;
+    protected boolean jobPartitioningEnabled;
+    protected int jobBucketCount = 64;
     protected Map<String, JobHandler> jobHandlers;
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
@@ -125,8 +128,10 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     
     protected String jobTypeAsyncHistory;
     protected String jobTypeAsyncHistoryZipped;
+    protected String jobTypeAsyncHistoryBinary;
     
     protected boolean asyncHistoryJsonGzipCompressionEnabled;
+    protected boolean asyncHistoryBinaryEncodingEnabled;
     protected boolean asyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
@@ -425,6 +430,33 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.jobExecutionScope = jobExecutionScope;
         return this;
     }
+
+    public boolean isSkipLockedJobAcquisitionEnabled() {
+        return skipLockedJobAcquisitionEnabled;
+    }
+
+    public JobServiceConfiguration setSkipLockedJobAcquisitionEnabled(boolean skipLockedJobAcquisitionEnabled) {
+        this.skipLockedJobAcquisitionEnabled = skipLockedJobAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isJobPartitioningEnabled() {
+        return jobPartitioningEnabled;
+    }
+
+    public JobServiceConfiguration setJobPartitioningEnabled(boolean jobPartitioningEnabled) {
+        this.jobPartitioningEnabled = jobPartitioningEnabled;
+        return this;
+    }
+
+    public int getJobBucketCount() {
+        return jobBucketCount;
+    }
+
+    public JobServiceConfiguration setJobBucketCount(int jobBucketCount) {
+        this.jobBucketCount = jobBucketCount;
+        return this;
+    }
     
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
@@ -615,6 +647,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.jobTypeAsyncHistoryZipped = jobTypeAsyncHistoryZipped;
     }
 
+    public String getJobTypeAsyncHistoryBinary() {
+        return jobTypeAsyncHistoryBinary;
+    }
+
+    public void setJobTypeAsyncHistoryBinary(String jobTypeAsyncHistoryBinary) {
+        this.jobTypeAsyncHistoryBinary = jobTypeAsyncHistoryBinary;
+    }
+
     public boolean isAsyncHistoryJsonGzipCompressionEnabled() {
         return asyncHistoryJsonGzipCompressionEnabled;
     }
@@ -623,6 +663,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.asyncHistoryJsonGzipCompressionEnabled = asyncHistoryJsonGzipCompressionEnabled;
     }
 
+    public boolean isAsyncHistoryBinaryEncodingEnabled() {
+        return asyncHistoryBinaryEncodingEnabled;
+    }
+
+    public void setAsyncHistoryBinaryEncodingEnabled(boolean asyncHistoryBinaryEncodingEnabled) {
+        this.asyncHistoryBinaryEncodingEnabled = asyncHistoryBinaryEncodingEnabled;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return asyncHistoryJsonGroupingEnabled;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
@@ -33,6 +34,8 @@ public interface TimerJobService {
     
     List<TimerJobEntity> findTimerJobsByProcessInstanceId(String processInstanceId);
     
+    List<TimerJobEntity> findTimerJobsByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String type, String processDefinitionId);
     
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionKeyNoTenantId(String type, String processDefinitionKey);
@@ -48,6 +48,11 @@ public class TimerJobServiceImpl extends ServiceImpl implements TimerJobService
         return getTimerJobEntityManager().findJobsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<TimerJobEntity> findTimerJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getTimerJobEntityManager().findJobsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String type, String processDefinitionId) {
         return getTimerJobEntityManager().findJobsByTypeAndProcessDefinitionId(type, processDefinitionId);
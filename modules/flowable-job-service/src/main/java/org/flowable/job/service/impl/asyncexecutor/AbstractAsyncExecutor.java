@@ -12,14 +12,18 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.UUID;
 
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
+import org.flowable.job.service.impl.cmd.UnacquireTimerJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +61,25 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultQueueSizeFullWaitTime;
 
+    protected boolean isAdaptiveJobAcquisition;
+    protected int maxAsyncJobAcquireWaitTimeInMillis = 60 * 1000;
+    protected int maxTimerJobAcquireWaitTimeInMillis = 60 * 1000;
+    protected JobAcquisitionStrategy asyncJobAcquisitionStrategy;
+    protected JobAcquisitionStrategy timerJobAcquisitionStrategy;
+
+    protected boolean isJobPartitioningEnabled;
+    protected int jobBucketLeaseTimeInMillis = 60 * 1000;
+    protected String jobBucketLeasesRunnableName;
+    protected AcquireJobBucketLeasesRunnable jobBucketLeasesRunnable;
+    protected JobBucketLeases jobBucketLeases;
+
+    protected boolean isTimerJobWheelEnabled;
+    protected int timerJobWheelLookAheadInMillis = 10 * 1000;
+    protected int timerJobWheelTickInMillis = 100;
+    protected String timerJobWheelRunnableName;
+    protected TimerJobWheelRunnable timerJobWheelRunnable;
+    protected TimerJobWheel timerJobWheel;
+
     protected String lockOwner = UUID.randomUUID().toString();
     protected int timerLockTimeInMillis = 5 * 60 * 1000;
     protected int asyncJobLockTimeInMillis = 5 * 60 * 1000;
@@ -96,6 +119,21 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         jobServiceConfiguration.getCommandExecutor().execute(new UnacquireOwnedJobsCmd(lockOwner, tenantId));
     }
 
+    /** Unlocks the timer jobs that were acquired ahead of time but not yet executed, so other executors can acquire them right away */
+    protected void unlockScheduledTimerJobs() {
+        if (timerJobWheel == null) {
+            return;
+        }
+
+        List<String> timerJobIds = new ArrayList<>();
+        for (TimerJobEntity timerJob : timerJobWheel.removeAll()) {
+            timerJobIds.add(timerJob.getId());
+        }
+        if (!timerJobIds.isEmpty()) {
+            jobServiceConfiguration.getCommandExecutor().execute(new UnacquireTimerJobsCmd(lockOwner, timerJobIds));
+        }
+    }
+
     protected Runnable createRunnableForJob(final JobInfo job) {
         if (executeAsyncRunnableFactory == null) {
             return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
@@ -146,6 +184,70 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
                     acquireRunnableThreadName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-async-jobs";
             asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse);
         }
+
+        initializeJobAcquisitionStrategies();
+        initializeJobBucketLeases();
+        initializeTimerJobWheel();
+    }
+
+    protected void initializeJobAcquisitionStrategies() {
+        // The strategies are kept across restarts of the executor, so the acquisition statistics are not lost
+        if (asyncJobAcquisitionStrategy == null) {
+            asyncJobAcquisitionStrategy = new JobAcquisitionStrategy(isAdaptiveJobAcquisition, maxAsyncJobAcquireWaitTimeInMillis);
+        }
+        if (timerJobAcquisitionStrategy == null) {
+            timerJobAcquisitionStrategy = new JobAcquisitionStrategy(isAdaptiveJobAcquisition, maxTimerJobAcquireWaitTimeInMillis);
+        }
+
+        if (asyncJobsDueRunnable != null) {
+            asyncJobsDueRunnable.setAcquisitionStrategy(asyncJobAcquisitionStrategy);
+        }
+        if (timerJobRunnable != null) {
+            timerJobRunnable.setAcquisitionStrategy(timerJobAcquisitionStrategy);
+        }
+    }
+
+    protected void initializeJobBucketLeases() {
+        if (!isJobPartitioningEnabled) {
+            return;
+        }
+
+        if (jobBucketLeases == null) {
+            jobBucketLeases = new JobBucketLeases();
+        }
+
+        if (jobBucketLeasesRunnable == null) {
+            String leasesRunnableName = jobBucketLeasesRunnableName != null ?
+                    jobBucketLeasesRunnableName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-job-bucket-leases";
+            jobBucketLeasesRunnable = new AcquireJobBucketLeasesRunnable(leasesRunnableName, this, jobBucketLeases);
+        }
+
+        if (asyncJobsDueRunnable != null) {
+            asyncJobsDueRunnable.setJobBucketLeases(jobBucketLeases);
+        }
+        if (timerJobRunnable != null) {
+            timerJobRunnable.setJobBucketLeases(jobBucketLeases);
+        }
+    }
+
+    protected void initializeTimerJobWheel() {
+        if (!isTimerJobWheelEnabled || timerJobRunnable == null) {
+            return;
+        }
+
+        if (timerJobWheel == null) {
+            timerJobWheel = new TimerJobWheel(timerJobWheelTickInMillis, TimerJobWheel.DEFAULT_WHEEL_SIZE,
+                    jobServiceConfiguration.getClock().getCurrentTime().getTime());
+        }
+
+        if (timerJobWheelRunnable == null) {
+            String wheelRunnableName = timerJobWheelRunnableName != null ?
+                    timerJobWheelRunnableName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-timer-job-wheel";
+            timerJobWheelRunnable = new TimerJobWheelRunnable(wheelRunnableName, this, jobServiceConfiguration.getJobManager(), timerJobWheel);
+        }
+
+        timerJobRunnable.setTimerJobWheelRunnable(timerJobWheelRunnable);
+        timerJobRunnable.setTimerJobLookAheadInMillis(timerJobWheelLookAheadInMillis);
     }
 
     protected abstract void startAdditionalComponents();
@@ -181,10 +283,18 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         if (resetExpiredJobsRunnable != null) {
             resetExpiredJobsRunnable.stop();
         }
+        if (jobBucketLeasesRunnable != null) {
+            jobBucketLeasesRunnable.stop();
+        }
+        if (timerJobWheelRunnable != null) {
+            timerJobWheelRunnable.stop();
+        }
 
         timerJobRunnable = null;
         asyncJobsDueRunnable = null;
         resetExpiredJobsRunnable = null;
+        jobBucketLeasesRunnable = null;
+        timerJobWheelRunnable = null;
     }
 
     protected abstract void shutdownAdditionalComponents();
@@ -307,6 +417,134 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.defaultQueueSizeFullWaitTime = defaultQueueSizeFullWaitTime;
     }
 
+    public boolean isAdaptiveJobAcquisition() {
+        return isAdaptiveJobAcquisition;
+    }
+
+    public void setAdaptiveJobAcquisition(boolean isAdaptiveJobAcquisition) {
+        this.isAdaptiveJobAcquisition = isAdaptiveJobAcquisition;
+    }
+
+    public int getMaxAsyncJobAcquireWaitTimeInMillis() {
+        return maxAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    public void setMaxAsyncJobAcquireWaitTimeInMillis(int maxAsyncJobAcquireWaitTimeInMillis) {
+        this.maxAsyncJobAcquireWaitTimeInMillis = maxAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    public int getMaxTimerJobAcquireWaitTimeInMillis() {
+        return maxTimerJobAcquireWaitTimeInMillis;
+    }
+
+    public void setMaxTimerJobAcquireWaitTimeInMillis(int maxTimerJobAcquireWaitTimeInMillis) {
+        this.maxTimerJobAcquireWaitTimeInMillis = maxTimerJobAcquireWaitTimeInMillis;
+    }
+
+    public JobAcquisitionStrategy getAsyncJobAcquisitionStrategy() {
+        return asyncJobAcquisitionStrategy;
+    }
+
+    public void setAsyncJobAcquisitionStrategy(JobAcquisitionStrategy asyncJobAcquisitionStrategy) {
+        this.asyncJobAcquisitionStrategy = asyncJobAcquisitionStrategy;
+    }
+
+    public JobAcquisitionStrategy getTimerJobAcquisitionStrategy() {
+        return timerJobAcquisitionStrategy;
+    }
+
+    public void setTimerJobAcquisitionStrategy(JobAcquisitionStrategy timerJobAcquisitionStrategy) {
+        this.timerJobAcquisitionStrategy = timerJobAcquisitionStrategy;
+    }
+
+    public boolean isJobPartitioningEnabled() {
+        return isJobPartitioningEnabled;
+    }
+
+    public void setJobPartitioningEnabled(boolean isJobPartitioningEnabled) {
+        this.isJobPartitioningEnabled = isJobPartitioningEnabled;
+    }
+
+    public int getJobBucketLeaseTimeInMillis() {
+        return jobBucketLeaseTimeInMillis;
+    }
+
+    public void setJobBucketLeaseTimeInMillis(int jobBucketLeaseTimeInMillis) {
+        this.jobBucketLeaseTimeInMillis = jobBucketLeaseTimeInMillis;
+    }
+
+    public String getJobBucketLeasesRunnableName() {
+        return jobBucketLeasesRunnableName;
+    }
+
+    public void setJobBucketLeasesRunnableName(String jobBucketLeasesRunnableName) {
+        this.jobBucketLeasesRunnableName = jobBucketLeasesRunnableName;
+    }
+
+    public AcquireJobBucketLeasesRunnable getJobBucketLeasesRunnable() {
+        return jobBucketLeasesRunnable;
+    }
+
+    public void setJobBucketLeasesRunnable(AcquireJobBucketLeasesRunnable jobBucketLeasesRunnable) {
+        this.jobBucketLeasesRunnable = jobBucketLeasesRunnable;
+    }
+
+    public JobBucketLeases getJobBucketLeases() {
+        return jobBucketLeases;
+    }
+
+    public void setJobBucketLeases(JobBucketLeases jobBucketLeases) {
+        this.jobBucketLeases = jobBucketLeases;
+    }
+
+    public boolean isTimerJobWheelEnabled() {
+        return isTimerJobWheelEnabled;
+    }
+
+    public void setTimerJobWheelEnabled(boolean isTimerJobWheelEnabled) {
+        this.isTimerJobWheelEnabled = isTimerJobWheelEnabled;
+    }
+
+    public int getTimerJobWheelLookAheadInMillis() {
+        return timerJobWheelLookAheadInMillis;
+    }
+
+    public void setTimerJobWheelLookAheadInMillis(int timerJobWheelLookAheadInMillis) {
+        this.timerJobWheelLookAheadInMillis = timerJobWheelLookAheadInMillis;
+    }
+
+    public int getTimerJobWheelTickInMillis() {
+        return timerJobWheelTickInMillis;
+    }
+
+    public void setTimerJobWheelTickInMillis(int timerJobWheelTickInMillis) {
+        this.timerJobWheelTickInMillis = timerJobWheelTickInMillis;
+    }
+
+    public String getTimerJobWheelRunnableName() {
+        return timerJobWheelRunnableName;
+    }
+
+    public void setTimerJobWheelRunnableName(String timerJobWheelRunnableName) {
+        this.timerJobWheelRunnableName = timerJobWheelRunnableName;
+    }
+
+    public TimerJobWheelRunnable getTimerJobWheelRunnable() {
+        return timerJobWheelRunnable;
+    }
+
+    public void setTimerJobWheelRunnable(TimerJobWheelRunnable timerJobWheelRunnable) {
+        this.timerJobWheelRunnable = timerJobWheelRunnable;
+    }
+
+    public TimerJobWheel getTimerJobWheel() {
+        return timerJobWheel;
+    }
+
+    public void setTimerJobWheel(TimerJobWheel timerJobWheel) {
+        this.timerJobWheel = timerJobWheel;
+    }
+
     public void setAsyncJobsDueRunnable(AcquireAsyncJobsDueRunnable asyncJobsDueRunnable) {
         this.asyncJobsDueRunnable = asyncJobsDueRunnable;
     }
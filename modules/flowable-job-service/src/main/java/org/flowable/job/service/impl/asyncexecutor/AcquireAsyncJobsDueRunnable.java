@@ -35,6 +35,8 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected String name;
     protected final AsyncExecutor asyncExecutor;
     protected final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected JobAcquisitionStrategy acquisitionStrategy = new JobAcquisitionStrategy();
+    protected JobBucketLeases jobBucketLeases;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -81,29 +83,28 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
-            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+            int pageSize = acquisitionStrategy.getPageSize(asyncExecutor.getMaxAsyncJobsDuePerAcquisition(), remainingCapacity);
+            List<Integer> jobBuckets = jobBucketLeases != null ? jobBucketLeases.getOwnedBuckets() : null;
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, pageSize, jobBuckets, jobEntityManager));
 
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
             LOGGER.debug("Jobs acquired: {}, rejected: {}, for engine {}", acquiredJobs.size(), rejectedJobs.size(), asyncExecutor.getJobServiceConfiguration().getEngineName());
-            if (rejectedJobs.size() > 0) {
-                // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
-                return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
-            }
-            if (acquiredJobs.size() >= asyncExecutor.getMaxAsyncJobsDuePerAcquisition()) {
-                // the maximum amount of jobs were acquired, so we can expect more.
-                return 0L;
-            }
+
+            // some jobs rejected means the queue was full, a full page means more jobs can be expected
+            return acquisitionStrategy.jobsAcquired(acquiredJobs.size(), rejectedJobs.size(),
+                    asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis(), asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis());
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Optimistic locking exception during async job acquisition. If you have multiple async executors running against the same database, this exception means that this thread tried to acquire a due async job, which already was acquired by another async executor acquisition thread.This is expected behavior in a clustered environment. You can ignore this message if you indeed have multiple async executor acquisition threads running against the same database. for engine {}. Exception message: {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), optimisticLockingException.getMessage());
             }
+            return acquisitionStrategy.lockConflict(asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+
         } catch (Throwable e) {
             LOGGER.error("exception for engine {} during async job acquisition: {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), e.getMessage(), e);
+            return acquisitionStrategy.acquisitionFailed(asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
         }
-
-        return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
     protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
@@ -152,4 +153,20 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         }
     }
 
+    public JobAcquisitionStrategy getAcquisitionStrategy() {
+        return acquisitionStrategy;
+    }
+
+    public void setAcquisitionStrategy(JobAcquisitionStrategy acquisitionStrategy) {
+        this.acquisitionStrategy = acquisitionStrategy;
+    }
+
+    public JobBucketLeases getJobBucketLeases() {
+        return jobBucketLeases;
+    }
+
+    public void setJobBucketLeases(JobBucketLeases jobBucketLeases) {
+        this.jobBucketLeases = jobBucketLeases;
+    }
+
 }
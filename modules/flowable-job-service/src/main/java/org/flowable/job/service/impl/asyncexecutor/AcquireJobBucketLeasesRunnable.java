@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.job.service.impl.cmd.AcquireJobBucketLeasesCmd;
+import org.flowable.job.service.impl.cmd.ReleaseJobBucketLeasesCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runnable that periodically renews the job bucket leases of an async executor, when job partitioning is enabled.
+ *
+ * Every job gets a bucket when it is created and every node only acquires the jobs of the buckets it has leased.
+ * The leases are renewed at a third of the lease time. When a node goes down, its leases expire and the buckets
+ * are leased by the remaining nodes, similar to how the {@link ResetExpiredJobsRunnable} makes expired jobs available again.
+ * The leases are kept per job execution scope, so the process and CMMN engines sharing a database each lease all buckets.
+ */
+public class AcquireJobBucketLeasesRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AcquireJobBucketLeasesRunnable.class);
+
+    protected final String name;
+    protected final AbstractAsyncExecutor asyncExecutor;
+    protected final JobBucketLeases jobBucketLeases;
+
+    protected volatile boolean isInterrupted;
+    protected final Object MONITOR = new Object();
+    protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+
+    public AcquireJobBucketLeasesRunnable(String name, AbstractAsyncExecutor asyncExecutor, JobBucketLeases jobBucketLeases) {
+        this.name = name;
+        this.asyncExecutor = asyncExecutor;
+        this.jobBucketLeases = jobBucketLeases;
+    }
+
+    @Override
+    public synchronized void run() {
+        LOGGER.info("starting to acquire job bucket leases for engine {}", asyncExecutor.getJobServiceConfiguration().getEngineName());
+        Thread.currentThread().setName(name);
+
+        while (!isInterrupted) {
+
+            acquireLeases();
+
+            try {
+
+                synchronized (MONITOR) {
+                    if (!isInterrupted) {
+                        isWaiting.set(true);
+                        MONITOR.wait(Math.max(asyncExecutor.getJobBucketLeaseTimeInMillis() / 3, 1));
+                    }
+                }
+
+            } catch (InterruptedException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("job bucket lease wait interrupted");
+                }
+            } finally {
+                isWaiting.set(false);
+            }
+
+        }
+
+        releaseLeases();
+
+        LOGGER.info("stopped acquiring job bucket leases for engine {}", asyncExecutor.getJobServiceConfiguration().getEngineName());
+    }
+
+    public void acquireLeases() {
+        try {
+            List<Integer> ownedBuckets = asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(
+                    new AcquireJobBucketLeasesCmd(getLeaseScopeType(), asyncExecutor.getLockOwner(),
+                            asyncExecutor.getJobServiceConfiguration().getJobBucketCount(), asyncExecutor.getJobBucketLeaseTimeInMillis()));
+
+            if (!ownedBuckets.equals(jobBucketLeases.getOwnedBuckets())) {
+                LOGGER.debug("Job bucket leases for engine {} changed to {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), ownedBuckets);
+            }
+            jobBucketLeases.setOwnedBuckets(ownedBuckets);
+
+        } catch (Throwable e) {
+            // The current leases are kept: they will be renewed on the next run, before they expire
+            LOGGER.error("exception during acquiring job bucket leases: {} for engine {}", e.getMessage(),
+                    asyncExecutor.getJobServiceConfiguration().getEngineName(), e);
+        }
+    }
+
+    public void releaseLeases() {
+        jobBucketLeases.setOwnedBuckets(Collections.emptyList());
+        try {
+            asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(
+                    new ReleaseJobBucketLeasesCmd(getLeaseScopeType(), asyncExecutor.getLockOwner()));
+        } catch (Throwable e) {
+            LOGGER.warn("exception during releasing job bucket leases: {} for engine {}", e.getMessage(),
+                    asyncExecutor.getJobServiceConfiguration().getEngineName(), e);
+        }
+    }
+
+    /**
+     * The job execution scope of the engine, with the process engine's default (no scope) mapped to {@link ScopeTypes#BPMN}.
+     */
+    protected String getLeaseScopeType() {
+        String jobExecutionScope = asyncExecutor.getJobServiceConfiguration().getJobExecutionScope();
+        return jobExecutionScope != null ? jobExecutionScope : ScopeTypes.BPMN;
+    }
+
+    public void stop() {
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+}
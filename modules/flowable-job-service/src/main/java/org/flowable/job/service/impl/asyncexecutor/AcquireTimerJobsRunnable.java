@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -33,6 +35,10 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected final AsyncExecutor asyncExecutor;
     protected final JobManager jobManager;
+    protected JobAcquisitionStrategy acquisitionStrategy = new JobAcquisitionStrategy();
+    protected JobBucketLeases jobBucketLeases;
+    protected TimerJobWheelRunnable timerJobWheelRunnable;
+    protected long timerJobLookAheadInMillis;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -55,26 +61,31 @@ public class AcquireTimerJobsRunnable implements Runnable {
         while (!isInterrupted) {
 
             try {
-                final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
-
-                commandExecutor.execute(new Command<Void>() {
-
-                    @Override
-                    public Void execute(CommandContext commandContext) {
-                        for (TimerJobEntity job : acquiredJobs.getJobs()) {
-                            jobManager.moveTimerJobToExecutableJob(job);
+                int pageSize = acquisitionStrategy.getPageSize(asyncExecutor.getMaxTimerJobsPerAcquisition(), Integer.MAX_VALUE);
+                int maxResults = acquisitionStrategy.isAdaptive() ? pageSize : asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+                List<Integer> jobBuckets = jobBucketLeases != null ? jobBucketLeases.getOwnedBuckets() : null;
+                long lookAheadInMillis = timerJobWheelRunnable != null ? timerJobLookAheadInMillis : 0L;
+                AcquireTimerJobsCmd acquireTimerJobsCmd = new AcquireTimerJobsCmd(asyncExecutor, maxResults, jobBuckets, lookAheadInMillis);
+                final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(acquireTimerJobsCmd);
+
+                final List<TimerJobEntity> dueJobs = scheduleTimerJobsNotYetDue(acquiredJobs);
+                if (!dueJobs.isEmpty()) {
+                    commandExecutor.execute(new Command<Void>() {
+
+                        @Override
+                        public Void execute(CommandContext commandContext) {
+                            for (TimerJobEntity job : dueJobs) {
+                                jobManager.moveTimerJobToExecutableJob(job);
+                            }
+                            return null;
                         }
-                        return null;
-                    }
-                });
-
-                // if all jobs were executed
-                millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
-                int jobsAcquired = acquiredJobs.size();
-                if (jobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
-                    millisToWait = 0;
+                    });
                 }
 
+                // no wait if a full page was acquired, as more timers can be expected
+                millisToWait = acquisitionStrategy.jobsAcquired(acquiredJobs.size(), 0,
+                        asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis(), asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis());
+
             } catch (FlowableOptimisticLockingException optimisticLockingException) {
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("Optimistic locking exception during timer job acquisition. If you have multiple timer executors running against the same database, "
@@ -83,9 +94,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
                             + "You can ignore this message if you indeed have multiple timer executor acquisition threads running against the same database. " + "Exception message: {}",
                             optimisticLockingException.getMessage());
                 }
+                millisToWait = acquisitionStrategy.lockConflict(millisToWait);
+
             } catch (Throwable e) {
                 LOGGER.error("exception during timer job acquisition: {}", e.getMessage(), e);
-                millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+                millisToWait = acquisitionStrategy.acquisitionFailed(asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis());
             }
 
             if (millisToWait > 0) {
@@ -116,6 +129,24 @@ public class AcquireTimerJobsRunnable implements Runnable {
         LOGGER.info("stopped async job due acquisition");
     }
 
+    /**
+     * Hands over the acquired timer jobs that are not yet due to the timer job wheel, which executes them once due.
+     *
+     * @return the timer jobs that are due
+     */
+    protected List<TimerJobEntity> scheduleTimerJobsNotYetDue(AcquiredTimerJobEntities acquiredJobs) {
+        List<TimerJobEntity> dueJobs = new ArrayList<>(acquiredJobs.size());
+        long now = asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+        for (TimerJobEntity job : acquiredJobs.getJobs()) {
+            if (timerJobWheelRunnable != null && job.getDuedate() != null && job.getDuedate().getTime() > now) {
+                timerJobWheelRunnable.schedule(job);
+            } else {
+                dueJobs.add(job);
+            }
+        }
+        return dueJobs;
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -132,4 +163,36 @@ public class AcquireTimerJobsRunnable implements Runnable {
     public void setMillisToWait(long millisToWait) {
         this.millisToWait = millisToWait;
     }
+
+    public JobAcquisitionStrategy getAcquisitionStrategy() {
+        return acquisitionStrategy;
+    }
+
+    public void setAcquisitionStrategy(JobAcquisitionStrategy acquisitionStrategy) {
+        this.acquisitionStrategy = acquisitionStrategy;
+    }
+
+    public JobBucketLeases getJobBucketLeases() {
+        return jobBucketLeases;
+    }
+
+    public void setJobBucketLeases(JobBucketLeases jobBucketLeases) {
+        this.jobBucketLeases = jobBucketLeases;
+    }
+
+    public TimerJobWheelRunnable getTimerJobWheelRunnable() {
+        return timerJobWheelRunnable;
+    }
+
+    public void setTimerJobWheelRunnable(TimerJobWheelRunnable timerJobWheelRunnable) {
+        this.timerJobWheelRunnable = timerJobWheelRunnable;
+    }
+
+    public long getTimerJobLookAheadInMillis() {
+        return timerJobLookAheadInMillis;
+    }
+
+    public void setTimerJobLookAheadInMillis(long timerJobLookAheadInMillis) {
+        this.timerJobLookAheadInMillis = timerJobLookAheadInMillis;
+    }
 }
@@ -15,9 +15,14 @@ package org.flowable.job.service.impl.asyncexecutor;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.common.engine.impl.context.Context;
@@ -66,6 +71,16 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
      */
     protected Thread resetExpiredJobThread;
 
+    /**
+     * Thread responsible for leasing the job partition buckets, when job partitioning is enabled.
+     */
+    protected Thread jobBucketLeasesThread;
+
+    /**
+     * Thread responsible for executing the timer jobs acquired ahead of time, when the timer job wheel is enabled.
+     */
+    protected Thread timerJobWheelThread;
+
     /**
      * The minimal number of threads that are kept alive in the threadpool for
      * job execution
@@ -109,8 +124,35 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     protected String threadPoolNamingPattern = "flowable-async-job-executor-thread-%d";
 
+    /**
+     * If true, every job is executed on its own virtual thread (requires Java 21 or higher), instead of on the thread pool.
+     * Meant for jobs that mostly wait on I/O. The number of jobs executing at the same time is limited by {@link #maxConcurrentJobs}:
+     * the core/max pool size and queue settings are not used in this mode.
+     * On older Java versions, a new platform thread is created per job instead.
+     */
+    protected boolean isVirtualThreadMode;
+
+    /**
+     * The maximum number of jobs executing at the same time in virtual thread mode.
+     * When reached, newly offered jobs are rejected (and unacquired) just like when the thread pool queue is full.
+     */
+    protected int maxConcurrentJobs = 1000;
+
+    protected String virtualThreadNamePrefix = "flowable-async-job-executor-virtual-thread-";
+
+    /** Permits for the jobs executing in virtual thread mode */
+    protected Semaphore concurrentJobsSemaphore;
+
+    protected LongAdder executedJobCount = new LongAdder();
+    protected LongAdder rejectedJobCount = new LongAdder();
+    protected LongAdder totalJobStartLatencyInNanos = new LongAdder();
+
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
+        if (concurrentJobsSemaphore != null) {
+            return executeAsyncJobWithConcurrencyLimit(job, runnable);
+        }
+
         try {
             executorService.execute(runnable);
             return true;
@@ -122,6 +164,36 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected boolean executeAsyncJobWithConcurrencyLimit(final JobInfo job, final Runnable runnable) {
+        if (!concurrentJobsSemaphore.tryAcquire()) {
+            rejectedJobCount.increment();
+            unacquireJobAfterRejection(job);
+
+            // Maximum number of concurrent jobs reached, returning false so (if wanted) the acquiring can be throttled
+            return false;
+        }
+
+        final long offerTime = System.nanoTime();
+        try {
+            executorService.execute(() -> {
+                totalJobStartLatencyInNanos.add(System.nanoTime() - offerTime);
+                try {
+                    runnable.run();
+                } finally {
+                    executedJobCount.increment();
+                    concurrentJobsSemaphore.release();
+                }
+            });
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            concurrentJobsSemaphore.release();
+            rejectedJobCount.increment();
+            unacquireJobAfterRejection(job);
+            return false;
+        }
+    }
+
     protected void unacquireJobAfterRejection(final JobInfo job) {
         // When a RejectedExecutionException is caught, this means that the
         // queue for holding the jobs that are to be executed is full and can't store more.
@@ -151,6 +223,9 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     protected void startAdditionalComponents() {
+        // Before the acquisition threads, so the first acquisition already uses the leased buckets
+        startJobBucketLeasesThread();
+
         if (!isMessageQueueMode) {
             initAsyncJobExecutionThreadPool();
             startJobAcquisitionThread();
@@ -161,6 +236,7 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
 
         if (timerRunnableNeeded) {
+            startTimerJobWheelThread();
             startTimerAcquisitionThread();
         }
         startResetExpiredJobsThread();
@@ -168,8 +244,10 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     protected void shutdownAdditionalComponents() {
+        stopJobBucketLeasesThread();
         stopResetExpiredJobsThread();
         stopTimerAcquisitionThread();
+        stopTimerJobWheelThread();
         stopJobAcquisitionThread();
         stopExecutingAsyncJobs();
 
@@ -180,6 +258,11 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     }
 
     protected void initAsyncJobExecutionThreadPool() {
+        if (isVirtualThreadMode) {
+            initVirtualThreadJobExecution();
+            return;
+        }
+
         if (threadPoolQueue == null) {
             LOGGER.info("Creating thread pool queue of size {}", queueSize);
             threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
@@ -193,6 +276,56 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected void initVirtualThreadJobExecution() {
+        if (concurrentJobsSemaphore == null) {
+            concurrentJobsSemaphore = new Semaphore(maxConcurrentJobs);
+        }
+
+        if (executorService == null) {
+            LOGGER.info("Creating virtual thread per job executor service with maximum {} concurrent jobs", maxConcurrentJobs);
+            ThreadFactory threadFactory = createVirtualThreadFactory();
+            if (threadFactory != null) {
+                executorService = createThreadPerTaskExecutor(threadFactory);
+            }
+
+            if (executorService == null) {
+                LOGGER.warn("Virtual threads are not supported by this Java version, a new platform thread will be used for every job");
+                // Threads are not kept alive after their job, so every job gets a new thread
+                executorService = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+                        new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build());
+            }
+        }
+    }
+
+    /**
+     * @return an executor service that starts a new thread of the given factory for every job, or null if the running Java version does not support it.
+     */
+    protected ExecutorService createThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        try {
+            // Virtual threads are cheap to create and must not be pooled, Executors.newThreadPerTaskExecutor() exists as of Java 21
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return a factory for named virtual threads, or null if the running Java version does not support virtual threads.
+     */
+    protected ThreadFactory createVirtualThreadFactory() {
+        try {
+            // Using reflection, as the job service is compiled for Java versions without virtual threads
+            Object threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> virtualThreadBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            threadBuilder = virtualThreadBuilderClass.getMethod("name", String.class, long.class).invoke(threadBuilder, virtualThreadNamePrefix, 0L);
+            return (ThreadFactory) virtualThreadBuilderClass.getMethod("factory").invoke(threadBuilder);
+
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
     protected void stopExecutingAsyncJobs() {
         if (executorService != null) {
 
@@ -278,6 +411,56 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    /** Acquires the initial job bucket leases and starts the thread renewing them */
+    protected void startJobBucketLeasesThread() {
+        if (jobBucketLeasesRunnable != null) {
+            jobBucketLeasesRunnable.acquireLeases();
+
+            if (jobBucketLeasesThread == null) {
+                jobBucketLeasesThread = new Thread(jobBucketLeasesRunnable);
+            }
+            jobBucketLeasesThread.start();
+        }
+    }
+
+    /** Stops the job bucket leases thread, which releases the leases of this executor */
+    protected void stopJobBucketLeasesThread() {
+        if (jobBucketLeasesThread != null) {
+            try {
+                jobBucketLeasesThread.join();
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the job bucket leases thread to terminate", e);
+            }
+
+            jobBucketLeasesThread = null;
+        }
+    }
+
+    protected void startTimerJobWheelThread() {
+        if (isTimerJobAcquisitionEnabled && timerJobWheelRunnable != null) {
+            if (timerJobWheelThread == null) {
+                timerJobWheelThread = new Thread(timerJobWheelRunnable);
+            }
+            timerJobWheelThread.start();
+        }
+    }
+
+    /** Stops the timer job wheel thread and unlocks the timer jobs it did not execute yet */
+    protected void stopTimerJobWheelThread() {
+        if (timerJobWheelThread != null) {
+            try {
+                timerJobWheelThread.join();
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the timer job wheel thread to terminate", e);
+            }
+
+            timerJobWheelThread = null;
+        }
+
+        // After the timer acquisition thread has stopped, as it adds the timer jobs to the wheel
+        unlockScheduledTimerJobs();
+    }
+
     public boolean isAsyncJobAcquisitionEnabled() {
         return isAsyncJobAcquisitionEnabled;
     }
@@ -326,13 +509,32 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.resetExpiredJobThread = resetExpiredJobThread;
     }
 
+    public Thread getJobBucketLeasesThread() {
+        return jobBucketLeasesThread;
+    }
+
+    public void setJobBucketLeasesThread(Thread jobBucketLeasesThread) {
+        this.jobBucketLeasesThread = jobBucketLeasesThread;
+    }
+
+    public Thread getTimerJobWheelThread() {
+        return timerJobWheelThread;
+    }
+
+    public void setTimerJobWheelThread(Thread timerJobWheelThread) {
+        this.timerJobWheelThread = timerJobWheelThread;
+    }
+
     public int getQueueSize() {
         return queueSize;
     }
 
     @Override
     public int getRemainingCapacity() {
-        if (threadPoolQueue != null) {
+        if (concurrentJobsSemaphore != null) {
+            return concurrentJobsSemaphore.availablePermits();
+
+        } else if (threadPoolQueue != null) {
             return threadPoolQueue.remainingCapacity();
         } else {
             // return plenty of remaining capacity if there's no thread pool queue
@@ -400,6 +602,59 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.executorService = executorService;
     }
 
+    public boolean isVirtualThreadMode() {
+        return isVirtualThreadMode;
+    }
+
+    public void setVirtualThreadMode(boolean isVirtualThreadMode) {
+        this.isVirtualThreadMode = isVirtualThreadMode;
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public String getVirtualThreadNamePrefix() {
+        return virtualThreadNamePrefix;
+    }
+
+    public void setVirtualThreadNamePrefix(String virtualThreadNamePrefix) {
+        this.virtualThreadNamePrefix = virtualThreadNamePrefix;
+    }
+
+    /**
+     * @return the number of jobs currently executing in virtual thread mode.
+     */
+    public int getInFlightJobCount() {
+        return concurrentJobsSemaphore != null ? maxConcurrentJobs - concurrentJobsSemaphore.availablePermits() : 0;
+    }
+
+    /**
+     * @return the number of jobs that finished executing in virtual thread mode.
+     */
+    public long getExecutedJobCount() {
+        return executedJobCount.sum();
+    }
+
+    /**
+     * @return the number of jobs that were rejected in virtual thread mode, because the maximum number of concurrent jobs was reached.
+     */
+    public long getRejectedJobCount() {
+        return rejectedJobCount.sum();
+    }
+
+    /**
+     * @return the total time between handing jobs to the executor service and the jobs starting to execute (the submit-to-start latency), in virtual thread mode.
+     * This doesn't include the time jobs waited to be acquired.
+     */
+    public long getTotalJobStartLatencyInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalJobStartLatencyInNanos.sum());
+    }
+
     public String getThreadPoolNamingPattern() {
         return threadPoolNamingPattern;
     }
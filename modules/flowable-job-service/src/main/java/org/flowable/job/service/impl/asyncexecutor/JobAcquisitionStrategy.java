@@ -0,0 +1,229 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Determines the page size of a job acquisition and how long an acquisition thread waits before the next one,
+ * and keeps statistics about the acquisitions done so far.
+ *
+ * When not adaptive, the behavior is the static one: a page of (at most) the configured maximum jobs per acquisition,
+ * no wait when a full page was acquired and the default wait time otherwise.
+ *
+ * When adaptive:
+ * <ul>
+ * <li>the page size doubles (up to {@link #getMaxPageSizeMultiplier()} times the configured maximum) while full pages are acquired,
+ * but never exceeds the free capacity of the executor;</li>
+ * <li>the wait time doubles on every consecutive empty acquisition, up to {@link #getMaxWaitTimeInMillis()};</li>
+ * <li>on an optimistic locking conflict with another node, the wait time backs off exponentially starting from
+ * {@link #getLockConflictWaitTimeInMillis()}, with a random jitter so competing nodes don't retry in lockstep.</li>
+ * </ul>
+ *
+ * An instance is used by one acquisition thread at a time; the statistics can be read from any thread.
+ */
+public class JobAcquisitionStrategy {
+
+    protected boolean adaptive;
+    protected long maxWaitTimeInMillis = 60 * 1000;
+    protected long lockConflictWaitTimeInMillis = 250;
+    protected int maxPageSizeMultiplier = 4;
+
+    protected int pageSizeMultiplier = 1;
+    protected int consecutiveEmptyAcquisitions;
+    protected int consecutiveLockConflicts;
+    protected int maxJobsPerAcquisition;
+
+    protected final AtomicLong acquisitionCount = new AtomicLong();
+    protected final AtomicLong acquiredJobCount = new AtomicLong();
+    protected final AtomicLong emptyAcquisitionCount = new AtomicLong();
+    protected final AtomicLong rejectedJobCount = new AtomicLong();
+    protected final AtomicLong lockConflictCount = new AtomicLong();
+    protected final AtomicLong errorCount = new AtomicLong();
+    protected volatile int currentPageSize;
+    protected volatile long currentWaitTimeInMillis;
+
+    public JobAcquisitionStrategy() {
+    }
+
+    public JobAcquisitionStrategy(boolean adaptive, long maxWaitTimeInMillis) {
+        this.adaptive = adaptive;
+        this.maxWaitTimeInMillis = maxWaitTimeInMillis;
+    }
+
+    /**
+     * @return the number of jobs to acquire in the next acquisition.
+     */
+    public int getPageSize(int maxJobsPerAcquisition, int remainingCapacity) {
+        this.maxJobsPerAcquisition = maxJobsPerAcquisition;
+
+        int pageSize = maxJobsPerAcquisition;
+        if (adaptive) {
+            pageSize = (int) Math.min(Integer.MAX_VALUE, (long) maxJobsPerAcquisition * pageSizeMultiplier);
+        }
+        currentPageSize = Math.max(1, Math.min(pageSize, remainingCapacity));
+        return currentPageSize;
+    }
+
+    /**
+     * Registers a successful acquisition.
+     *
+     * @return the time to wait before the next acquisition.
+     */
+    public long jobsAcquired(int acquiredJobs, int rejectedJobs, long defaultWaitTimeInMillis, long queueFullWaitTimeInMillis) {
+        acquisitionCount.incrementAndGet();
+        acquiredJobCount.addAndGet(acquiredJobs);
+        rejectedJobCount.addAndGet(rejectedJobs);
+        consecutiveLockConflicts = 0;
+
+        if (acquiredJobs == 0) {
+            emptyAcquisitionCount.incrementAndGet();
+        }
+
+        long waitTime;
+        if (rejectedJobs > 0) {
+            // the executor is saturated: fetching more won't help
+            pageSizeMultiplier = 1;
+            consecutiveEmptyAcquisitions = 0;
+            waitTime = queueFullWaitTimeInMillis;
+
+        } else if (acquiredJobs >= (adaptive ? currentPageSize : maxJobsPerAcquisition)) {
+            // a full page was acquired, so more jobs can be expected
+            if (adaptive && pageSizeMultiplier < maxPageSizeMultiplier) {
+                pageSizeMultiplier = Math.min(maxPageSizeMultiplier, pageSizeMultiplier * 2);
+            }
+            consecutiveEmptyAcquisitions = 0;
+            waitTime = 0L;
+
+        } else if (adaptive && acquiredJobs == 0) {
+            pageSizeMultiplier = 1;
+            consecutiveEmptyAcquisitions++;
+            waitTime = getBackoffWaitTime(defaultWaitTimeInMillis, consecutiveEmptyAcquisitions);
+
+        } else {
+            pageSizeMultiplier = 1;
+            consecutiveEmptyAcquisitions = 0;
+            waitTime = defaultWaitTimeInMillis;
+        }
+
+        currentWaitTimeInMillis = waitTime;
+        return waitTime;
+    }
+
+    /**
+     * Registers an acquisition that failed because another node acquired (some of) the same jobs concurrently.
+     *
+     * @param fallbackWaitTimeInMillis the wait time to use when not adaptive
+     * @return the time to wait before the next acquisition.
+     */
+    public long lockConflict(long fallbackWaitTimeInMillis) {
+        lockConflictCount.incrementAndGet();
+
+        long waitTime = fallbackWaitTimeInMillis;
+        if (adaptive) {
+            consecutiveLockConflicts++;
+            long backoffWaitTime = getBackoffWaitTime(lockConflictWaitTimeInMillis, consecutiveLockConflicts);
+            long halfWaitTime = backoffWaitTime / 2;
+            waitTime = halfWaitTime + ThreadLocalRandom.current().nextLong(backoffWaitTime - halfWaitTime + 1);
+        }
+
+        currentWaitTimeInMillis = waitTime;
+        return waitTime;
+    }
+
+    /**
+     * Registers an acquisition that failed for any other reason.
+     *
+     * @return the time to wait before the next acquisition.
+     */
+    public long acquisitionFailed(long defaultWaitTimeInMillis) {
+        errorCount.incrementAndGet();
+        pageSizeMultiplier = 1;
+        currentWaitTimeInMillis = defaultWaitTimeInMillis;
+        return defaultWaitTimeInMillis;
+    }
+
+    protected long getBackoffWaitTime(long baseWaitTimeInMillis, int attempt) {
+        long waitTime = baseWaitTimeInMillis;
+        for (int i = 1; i < attempt && waitTime > 0 && waitTime < maxWaitTimeInMillis; i++) {
+            waitTime *= 2;
+        }
+        return Math.max(0L, Math.min(waitTime, Math.max(maxWaitTimeInMillis, baseWaitTimeInMillis)));
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public long getMaxWaitTimeInMillis() {
+        return maxWaitTimeInMillis;
+    }
+
+    public void setMaxWaitTimeInMillis(long maxWaitTimeInMillis) {
+        this.maxWaitTimeInMillis = maxWaitTimeInMillis;
+    }
+
+    public long getLockConflictWaitTimeInMillis() {
+        return lockConflictWaitTimeInMillis;
+    }
+
+    public void setLockConflictWaitTimeInMillis(long lockConflictWaitTimeInMillis) {
+        this.lockConflictWaitTimeInMillis = lockConflictWaitTimeInMillis;
+    }
+
+    public int getMaxPageSizeMultiplier() {
+        return maxPageSizeMultiplier;
+    }
+
+    public void setMaxPageSizeMultiplier(int maxPageSizeMultiplier) {
+        this.maxPageSizeMultiplier = maxPageSizeMultiplier;
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitionCount.get();
+    }
+
+    public long getAcquiredJobCount() {
+        return acquiredJobCount.get();
+    }
+
+    public long getEmptyAcquisitionCount() {
+        return emptyAcquisitionCount.get();
+    }
+
+    public long getRejectedJobCount() {
+        return rejectedJobCount.get();
+    }
+
+    public long getLockConflictCount() {
+        return lockConflictCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    public int getCurrentPageSize() {
+        return currentPageSize;
+    }
+
+    public long getCurrentWaitTimeInMillis() {
+        return currentWaitTimeInMillis;
+    }
+
+}
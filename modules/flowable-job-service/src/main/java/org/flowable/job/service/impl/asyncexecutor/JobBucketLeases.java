@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The job partition buckets currently leased by an async executor, shared between the {@link AcquireJobBucketLeasesRunnable}
+ * that maintains them and the acquisition runnables that only acquire jobs of these buckets.
+ */
+public class JobBucketLeases {
+
+    protected volatile List<Integer> ownedBuckets = Collections.emptyList();
+
+    /**
+     * @return the owned buckets, never null. Jobs without a bucket are acquired regardless of the owned buckets.
+     */
+    public List<Integer> getOwnedBuckets() {
+        return ownedBuckets;
+    }
+
+    public void setOwnedBuckets(List<Integer> ownedBuckets) {
+        this.ownedBuckets = Collections.unmodifiableList(ownedBuckets);
+    }
+
+}
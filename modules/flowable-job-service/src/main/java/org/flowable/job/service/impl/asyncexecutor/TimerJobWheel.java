@@ -0,0 +1,195 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Hierarchical timing wheel holding the timer jobs that were acquired before they are due.
+ *
+ * The first wheel has a slot per tick. Timer jobs due beyond the range of a wheel go to an overflow wheel,
+ * of which a slot covers the full range of the wheel below. When the time advances, the slots that were passed are emptied
+ * and their timer jobs are moved down to the lower wheels, until they end up in the current tick and are returned once due.
+ * Scheduling and expiring a timer job is done in constant time, independent of the number of scheduled timer jobs.
+ */
+public class TimerJobWheel {
+
+    public static final int DEFAULT_WHEEL_SIZE = 64;
+
+    protected final long tickDurationInMillis;
+    protected final int wheelSize;
+    protected final Wheel wheel;
+
+    /** The timer jobs due within the current tick of the first wheel */
+    protected final List<TimerJobEntity> currentTickTimerJobs = new ArrayList<>();
+
+    protected int size;
+
+    public TimerJobWheel(long tickDurationInMillis, int wheelSize, long startTimeInMillis) {
+        this.tickDurationInMillis = tickDurationInMillis;
+        this.wheelSize = wheelSize;
+        this.wheel = new Wheel(tickDurationInMillis, wheelSize, startTimeInMillis);
+    }
+
+    /**
+     * Schedules the timer job. A timer job that is already due is returned by the next {@link #advanceClock(long)}.
+     */
+    public synchronized void add(TimerJobEntity timerJob) {
+        schedule(timerJob);
+        size++;
+    }
+
+    protected void schedule(TimerJobEntity timerJob) {
+        if (!wheel.add(timerJob)) {
+            currentTickTimerJobs.add(timerJob);
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time and returns the timer jobs that are due by then.
+     */
+    public synchronized List<TimerJobEntity> advanceClock(long timeInMillis) {
+        List<TimerJobEntity> releasedTimerJobs = new ArrayList<>(currentTickTimerJobs);
+        currentTickTimerJobs.clear();
+        wheel.advanceClock(timeInMillis, releasedTimerJobs);
+
+        List<TimerJobEntity> dueTimerJobs = new ArrayList<>();
+        for (TimerJobEntity timerJob : releasedTimerJobs) {
+            if (timerJob.getDuedate().getTime() <= timeInMillis) {
+                dueTimerJobs.add(timerJob);
+                size--;
+            } else {
+                schedule(timerJob);
+            }
+        }
+        return dueTimerJobs;
+    }
+
+    /**
+     * @return the time until the wheel should be advanced again, or -1 if no timer jobs are scheduled.
+     */
+    public synchronized long getWaitTimeInMillis(long timeInMillis) {
+        if (size == 0) {
+            return -1;
+        }
+
+        long nextTime = wheel.currentTime + tickDurationInMillis;
+        for (TimerJobEntity timerJob : currentTickTimerJobs) {
+            nextTime = Math.min(nextTime, timerJob.getDuedate().getTime());
+        }
+        return Math.max(nextTime - timeInMillis, 1);
+    }
+
+    /**
+     * Removes and returns all the scheduled timer jobs.
+     */
+    public synchronized List<TimerJobEntity> removeAll() {
+        List<TimerJobEntity> timerJobs = new ArrayList<>(currentTickTimerJobs);
+        currentTickTimerJobs.clear();
+        wheel.removeAll(timerJobs);
+        size = 0;
+        return timerJobs;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public long getTickDurationInMillis() {
+        return tickDurationInMillis;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    protected static class Wheel {
+
+        protected final long tickDurationInMillis;
+        protected final int wheelSize;
+        protected final long intervalInMillis;
+        protected final List<List<TimerJobEntity>> slots;
+        protected long currentTime;
+        protected int size;
+        protected Wheel overflowWheel;
+
+        protected Wheel(long tickDurationInMillis, int wheelSize, long startTimeInMillis) {
+            this.tickDurationInMillis = tickDurationInMillis;
+            this.wheelSize = wheelSize;
+            this.intervalInMillis = tickDurationInMillis * wheelSize;
+            this.currentTime = startTimeInMillis - (startTimeInMillis % tickDurationInMillis);
+            this.slots = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                slots.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * @return false if the timer job is due within the current tick of this wheel
+         */
+        protected boolean add(TimerJobEntity timerJob) {
+            long dueTime = timerJob.getDuedate().getTime();
+            if (dueTime < currentTime + tickDurationInMillis) {
+                return false;
+
+            } else if (dueTime < currentTime + intervalInMillis) {
+                slots.get((int) ((dueTime / tickDurationInMillis) % wheelSize)).add(timerJob);
+                size++;
+                return true;
+
+            } else {
+                if (overflowWheel == null) {
+                    overflowWheel = new Wheel(intervalInMillis, wheelSize, currentTime);
+                }
+                return overflowWheel.add(timerJob);
+            }
+        }
+
+        protected void advanceClock(long timeInMillis, List<TimerJobEntity> releasedTimerJobs) {
+            while (timeInMillis >= currentTime + tickDurationInMillis) {
+                if (size == 0) {
+                    currentTime = timeInMillis - (timeInMillis % tickDurationInMillis);
+                    break;
+                }
+
+                currentTime += tickDurationInMillis;
+                List<TimerJobEntity> slot = slots.get((int) ((currentTime / tickDurationInMillis) % wheelSize));
+                if (!slot.isEmpty()) {
+                    releasedTimerJobs.addAll(slot);
+                    size -= slot.size();
+                    slot.clear();
+                }
+            }
+
+            if (overflowWheel != null) {
+                overflowWheel.advanceClock(timeInMillis, releasedTimerJobs);
+            }
+        }
+
+        protected void removeAll(List<TimerJobEntity> timerJobs) {
+            for (List<TimerJobEntity> slot : slots) {
+                timerJobs.addAll(slot);
+                slot.clear();
+            }
+            size = 0;
+
+            if (overflowWheel != null) {
+                overflowWheel.removeAll(timerJobs);
+            }
+        }
+    }
+
+}
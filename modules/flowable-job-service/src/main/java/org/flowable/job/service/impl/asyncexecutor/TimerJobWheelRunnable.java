@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runnable that moves the timer jobs acquired ahead of time by the {@link AcquireTimerJobsRunnable} to executable jobs
+ * at the moment they become due, using a {@link TimerJobWheel}.
+ *
+ * The timer jobs stay locked by the async executor while they are in the wheel. When the node goes down,
+ * the locks expire and the timer jobs are acquired again through the regular timer job acquisition.
+ */
+public class TimerJobWheelRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerJobWheelRunnable.class);
+
+    protected final String name;
+    protected final AsyncExecutor asyncExecutor;
+    protected final JobManager jobManager;
+    protected final TimerJobWheel timerJobWheel;
+
+    protected volatile boolean isInterrupted;
+    protected final Object MONITOR = new Object();
+    protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+
+    public TimerJobWheelRunnable(String name, AsyncExecutor asyncExecutor, JobManager jobManager, TimerJobWheel timerJobWheel) {
+        this.name = name;
+        this.asyncExecutor = asyncExecutor;
+        this.jobManager = jobManager;
+        this.timerJobWheel = timerJobWheel;
+    }
+
+    @Override
+    public synchronized void run() {
+        LOGGER.info("starting to execute timer jobs of the timer job wheel for engine {}", asyncExecutor.getJobServiceConfiguration().getEngineName());
+        Thread.currentThread().setName(name);
+
+        while (!isInterrupted) {
+
+            try {
+                for (TimerJobEntity timerJob : timerJobWheel.advanceClock(getCurrentTimeInMillis())) {
+                    moveTimerJobToExecutableJob(timerJob);
+                }
+
+            } catch (Throwable e) {
+                LOGGER.error("exception during executing timer jobs of the timer job wheel: {} for engine {}", e.getMessage(),
+                        asyncExecutor.getJobServiceConfiguration().getEngineName(), e);
+            }
+
+            try {
+
+                synchronized (MONITOR) {
+                    if (!isInterrupted) {
+                        long waitTime = timerJobWheel.getWaitTimeInMillis(getCurrentTimeInMillis());
+                        isWaiting.set(true);
+                        // Without scheduled timer jobs, wait until a timer job is scheduled
+                        MONITOR.wait(waitTime < 0 ? 0 : waitTime);
+                    }
+                }
+
+            } catch (InterruptedException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("timer job wheel wait interrupted");
+                }
+            } finally {
+                isWaiting.set(false);
+            }
+        }
+
+        LOGGER.info("stopped executing timer jobs of the timer job wheel for engine {}", asyncExecutor.getJobServiceConfiguration().getEngineName());
+    }
+
+    /**
+     * Schedules a timer job that was acquired, and so locked, before its due date.
+     */
+    public void schedule(TimerJobEntity timerJob) {
+        synchronized (MONITOR) {
+            timerJobWheel.add(timerJob);
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+    protected void moveTimerJobToExecutableJob(final TimerJobEntity timerJob) {
+        try {
+            asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    jobManager.moveTimerJobToExecutableJob(timerJob);
+                    return null;
+                }
+            });
+
+        } catch (FlowableOptimisticLockingException e) {
+            // The timer job was deleted or changed (e.g. the process instance ended) after it was acquired
+            LOGGER.debug("Timer job {} was changed after it was scheduled in the timer job wheel, it is not executed", timerJob.getId());
+
+        } catch (Throwable e) {
+            // The timer job stays locked and will be acquired again once the lock expires
+            LOGGER.error("exception during moving timer job {} of the timer job wheel to an executable job: {}", timerJob.getId(), e.getMessage(), e);
+        }
+    }
+
+    protected long getCurrentTimeInMillis() {
+        return asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+    }
+
+    public void stop() {
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+    public TimerJobWheel getTimerJobWheel() {
+        return timerJobWheel;
+    }
+
+}
@@ -0,0 +1,165 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.JobBucketLease;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+/**
+ * Renews the job bucket leases of the given lock owner in the given job execution scope and leases or releases buckets so the owner ends up with its fair share:
+ * the number of buckets divided by the number of nodes currently holding a lease in that scope.
+ * The scopes are leased independently, so the engines sharing a database each spread all buckets over their own nodes.
+ * Returns the buckets owned by the lock owner afterwards.
+ */
+public class AcquireJobBucketLeasesCmd implements Command<List<Integer>> {
+
+    protected final String scopeType;
+    protected final String lockOwner;
+    protected final int bucketCount;
+    protected final int leaseTimeInMillis;
+
+    public AcquireJobBucketLeasesCmd(String scopeType, String lockOwner, int bucketCount, int leaseTimeInMillis) {
+        this.scopeType = scopeType;
+        this.lockOwner = lockOwner;
+        this.bucketCount = bucketCount;
+        this.leaseTimeInMillis = leaseTimeInMillis;
+    }
+
+    @Override
+    public List<Integer> execute(CommandContext commandContext) {
+        DbSqlSession dbSqlSession = CommandContextUtil.getDbSqlSession(commandContext);
+        Date now = CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime();
+        Date leaseExpirationTime = new Date(now.getTime() + leaseTimeInMillis);
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeType", scopeType);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", leaseExpirationTime);
+        params.put("now", now);
+
+        List<JobBucketLease> leases = dbSqlSession.getSqlSession().selectList("selectJobBucketLeases", params);
+        if (createMissingLeases(dbSqlSession, leases)) {
+            leases = dbSqlSession.getSqlSession().selectList("selectJobBucketLeases", params);
+        }
+
+        Map<String, List<JobBucketLease>> activeLeasesByOwner = new HashMap<>();
+        activeLeasesByOwner.put(lockOwner, new ArrayList<>());
+        List<Integer> ownedBuckets = new ArrayList<>();
+        List<JobBucketLease> availableLeases = new ArrayList<>();
+        for (JobBucketLease lease : leases) {
+            if (lease.getBucket() >= bucketCount) {
+                continue;
+            }
+
+            if (lease.isExpired(now)) {
+                availableLeases.add(lease);
+            } else {
+                activeLeasesByOwner.computeIfAbsent(lease.getLockOwner(), owner -> new ArrayList<>()).add(lease);
+                if (lease.isOwnedBy(lockOwner, now)) {
+                    ownedBuckets.add(lease.getBucket());
+                }
+            }
+        }
+
+        int fairShare = (bucketCount + activeLeasesByOwner.size() - 1) / activeLeasesByOwner.size();
+
+        if (!ownedBuckets.isEmpty()) {
+            dbSqlSession.getSqlSession().update("renewJobBucketLeases", params);
+        }
+
+        if (ownedBuckets.size() > fairShare) {
+            // Another node joined: give up the surplus, it will be leased by the nodes below their fair share
+            while (ownedBuckets.size() > fairShare) {
+                params.put("bucket", ownedBuckets.remove(ownedBuckets.size() - 1));
+                dbSqlSession.getSqlSession().update("releaseJobBucketLease", params);
+            }
+
+        } else if (ownedBuckets.size() < fairShare) {
+            // Shuffled so nodes starting at the same time don't all compete for the same buckets
+            Collections.shuffle(availableLeases);
+            for (JobBucketLease lease : availableLeases) {
+                if (ownedBuckets.size() >= fairShare) {
+                    break;
+                }
+
+                params.put("bucket", lease.getBucket());
+                params.put("revision", lease.getRevision());
+                if (dbSqlSession.getSqlSession().update("leaseJobBucket", params) == 1) {
+                    ownedBuckets.add(lease.getBucket());
+                }
+            }
+
+            if (ownedBuckets.isEmpty()) {
+                // Nothing free: take one bucket from the busiest node, so the other nodes see this one and release their surplus
+                JobBucketLease lease = findLeaseToTakeOver(activeLeasesByOwner, fairShare);
+                if (lease != null) {
+                    params.put("bucket", lease.getBucket());
+                    params.put("revision", lease.getRevision());
+                    if (dbSqlSession.getSqlSession().update("leaseJobBucket", params) == 1) {
+                        ownedBuckets.add(lease.getBucket());
+                    }
+                }
+            }
+        }
+
+        Collections.sort(ownedBuckets);
+        return ownedBuckets;
+    }
+
+    protected JobBucketLease findLeaseToTakeOver(Map<String, List<JobBucketLease>> activeLeasesByOwner, int fairShare) {
+        List<JobBucketLease> busiestOwnerLeases = null;
+        for (Map.Entry<String, List<JobBucketLease>> entry : activeLeasesByOwner.entrySet()) {
+            if (!entry.getKey().equals(lockOwner) && (busiestOwnerLeases == null || entry.getValue().size() > busiestOwnerLeases.size())) {
+                busiestOwnerLeases = entry.getValue();
+            }
+        }
+
+        if (busiestOwnerLeases != null && busiestOwnerLeases.size() > fairShare) {
+            return busiestOwnerLeases.get(busiestOwnerLeases.size() - 1);
+        }
+        return null;
+    }
+
+    protected boolean createMissingLeases(DbSqlSession dbSqlSession, List<JobBucketLease> leases) {
+        if (leases.size() >= bucketCount) {
+            return false;
+        }
+
+        Set<Integer> existingBuckets = new HashSet<>();
+        for (JobBucketLease lease : leases) {
+            existingBuckets.add(lease.getBucket());
+        }
+
+        boolean created = false;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            if (!existingBuckets.contains(bucket)) {
+                dbSqlSession.getSqlSession().insert("insertJobBucketLease", new JobBucketLease(scopeType, bucket));
+                created = true;
+            }
+        }
+        return created;
+    }
+
+}
@@ -32,25 +32,50 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
 
     private final AsyncExecutor asyncExecutor;
     private final int remainingCapacity;
+    private final int maxResults;
+    private final List<Integer> jobBuckets;
     private final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     
     public AcquireJobsCmd(AsyncExecutor asyncExecutor) {
         this.asyncExecutor = asyncExecutor;
         this.remainingCapacity = Integer.MAX_VALUE;
+        this.maxResults = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        this.jobBuckets = null;
         this.jobEntityManager = asyncExecutor.getJobServiceConfiguration().getJobEntityManager(); // backwards compatibility
     }
 
     public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.asyncExecutor = asyncExecutor;
         this.remainingCapacity = remainingCapacity;
+        this.maxResults = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        this.jobBuckets = null;
+        this.jobEntityManager = jobEntityManager;
+    }
+
+    /**
+     * Acquires a page of the given size, instead of the configured maximum async jobs due per acquisition.
+     */
+    public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, int maxResults, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this(asyncExecutor, remainingCapacity, maxResults, null, jobEntityManager);
+    }
+
+    /**
+     * Only acquires the jobs of the given partition buckets (and the jobs without a bucket), unless the buckets are null.
+     */
+    public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, int maxResults, List<Integer> jobBuckets,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this.asyncExecutor = asyncExecutor;
+        this.remainingCapacity = remainingCapacity;
+        this.maxResults = maxResults;
+        this.jobBuckets = jobBuckets;
         this.jobEntityManager = jobEntityManager;
     }
 
     @Override
     public AcquiredJobEntities execute(CommandContext commandContext) {
-        int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        int pageSize = Math.min(remainingCapacity, maxResults);
 
-        List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, maxResults)); 
+        List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(jobBuckets, new Page(0, pageSize));
         AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
 
         for (JobInfoEntity job : jobs) {
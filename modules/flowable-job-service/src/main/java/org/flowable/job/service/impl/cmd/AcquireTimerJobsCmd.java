@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -30,16 +31,42 @@ import org.flowable.job.service.impl.util.CommandContextUtil;
 public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
 
     private final AsyncExecutor asyncExecutor;
+    private final int maxResults;
+    private final List<Integer> jobBuckets;
+    private final long lookAheadInMillis;
 
     public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor) {
+        this(asyncExecutor, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+    }
+
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, int maxResults) {
+        this(asyncExecutor, maxResults, null);
+    }
+
+    /**
+     * Only acquires the timer jobs of the given partition buckets (and the timer jobs without a bucket), unless the buckets are null.
+     */
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, int maxResults, List<Integer> jobBuckets) {
+        this(asyncExecutor, maxResults, jobBuckets, 0L);
+    }
+
+    /**
+     * Also acquires the timer jobs that become due within the given look ahead time.
+     * These stay locked until their due date plus the async job lock time, so they can be scheduled in memory until they are due.
+     */
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, int maxResults, List<Integer> jobBuckets, long lookAheadInMillis) {
         this.asyncExecutor = asyncExecutor;
+        this.maxResults = maxResults;
+        this.jobBuckets = jobBuckets;
+        this.lookAheadInMillis = lookAheadInMillis;
     }
 
     @Override
     public AcquiredTimerJobEntities execute(CommandContext commandContext) {
         AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
+        Date now = CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime();
         List<TimerJobEntity> timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
-                .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+                .findTimerJobsToExecute(jobBuckets, new Date(now.getTime() + lookAheadInMillis), new Page(0, maxResults));
         
         for (TimerJobEntity job : timerJobs) {
             lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
@@ -55,7 +82,13 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         // try to lock, as the revision will not match.
 
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
-        gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
+        Date now = CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime();
+        if (job.getDuedate() != null && job.getDuedate().after(now)) {
+            // Timer acquired ahead of time: keep it locked until it is due and executed
+            gregorianCalendar.setTime(job.getDuedate());
+        } else {
+            gregorianCalendar.setTime(now);
+        }
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
         job.setLockOwner(asyncExecutor.getLockOwner());
         job.setLockExpirationTime(gregorianCalendar.getTime());
@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+/**
+ * Releases all job bucket leases of the given lock owner in the given job execution scope, so other nodes can take over the buckets without waiting for the leases to expire.
+ */
+public class ReleaseJobBucketLeasesCmd implements Command<Void> {
+
+    protected final String scopeType;
+    protected final String lockOwner;
+
+    public ReleaseJobBucketLeasesCmd(String scopeType, String lockOwner) {
+        this.scopeType = scopeType;
+        this.lockOwner = lockOwner;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeType", scopeType);
+        params.put("lockOwner", lockOwner);
+        CommandContextUtil.getDbSqlSession(commandContext).getSqlSession().update("releaseJobBucketLeases", params);
+        return null;
+    }
+
+}
@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Collection;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+/**
+ * Removes the lock of the given timer jobs, if they are still locked by the given lock owner,
+ * so they can be acquired again by any async executor.
+ */
+public class UnacquireTimerJobsCmd implements Command<Void> {
+
+    private final String lockOwner;
+    private final Collection<String> timerJobIds;
+
+    public UnacquireTimerJobsCmd(String lockOwner, Collection<String> timerJobIds) {
+        this.lockOwner = lockOwner;
+        this.timerJobIds = timerJobIds;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        TimerJobEntityManager timerJobEntityManager = CommandContextUtil.getTimerJobEntityManager(commandContext);
+        for (String timerJobId : timerJobIds) {
+            TimerJobEntity timerJob = timerJobEntityManager.findById(timerJobId);
+            if (timerJob != null && lockOwner.equals(timerJob.getLockOwner())) {
+                timerJob.setLockOwner(null);
+                timerJob.setLockExpirationTime(null);
+            }
+        }
+        return null;
+    }
+}
@@ -23,6 +23,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryBinaryCodec;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -80,9 +81,14 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
 
     protected void addJsonToJob(CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration, HistoryJobEntity jobEntity, JsonNode rootObjectNode, boolean applyCompression) {
         try {
-            byte[] bytes = jobServiceConfiguration.getObjectMapper().writeValueAsBytes(rootObjectNode);
-            if (applyCompression) {
-                bytes = compress(bytes);
+            byte[] bytes;
+            if (isBinaryEncodingEnabled(jobServiceConfiguration)) {
+                bytes = AsyncHistoryBinaryCodec.encode(rootObjectNode);
+            } else {
+                bytes = jobServiceConfiguration.getObjectMapper().writeValueAsBytes(rootObjectNode);
+                if (applyCompression) {
+                    bytes = compress(bytes);
+                }
             }
             jobEntity.setAdvancedJobHandlerConfigurationBytes(bytes);
         } catch (JsonProcessingException e) {
@@ -101,8 +107,15 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
         }
     }
 
+    protected boolean isBinaryEncodingEnabled(JobServiceConfiguration jobServiceConfiguration) {
+        return jobServiceConfiguration.isAsyncHistoryBinaryEncodingEnabled() && jobServiceConfiguration.getJobTypeAsyncHistoryBinary() != null;
+    }
+
     protected String getJobType(JobServiceConfiguration jobServiceConfiguration, boolean groupingEnabled) {
-        if (groupingEnabled) {
+        if (isBinaryEncodingEnabled(jobServiceConfiguration)) {
+            // The job type records the encoding of the job data, so jobs created before changing the setting can still be handled
+            return jobServiceConfiguration.getJobTypeAsyncHistoryBinary();
+        } else if (groupingEnabled) {
             return jobServiceConfiguration.isAsyncHistoryJsonGzipCompressionEnabled() ?
                 jobServiceConfiguration.getJobTypeAsyncHistoryZipped() : jobServiceConfiguration.getJobTypeAsyncHistory();
         } else {
@@ -20,7 +20,9 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.HistoryJobQueryImpl;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryBinaryCodec;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
 import org.flowable.job.service.impl.util.CommandContextUtil;
@@ -92,10 +94,16 @@ public class AsyncHistoryJobMessageReceiver {
     }
     
     protected JsonNode getHistoryJobData(CommandContext commandContext, HistoryJobEntity job) {
-        ObjectMapper objectMapper = CommandContextUtil.getJobServiceConfiguration(commandContext).getObjectMapper();
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
+        ObjectMapper objectMapper = jobServiceConfiguration.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+            byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
+            if (job.getJobHandlerType() != null && job.getJobHandlerType().equals(jobServiceConfiguration.getJobTypeAsyncHistoryBinary())) {
+                return AsyncHistoryBinaryCodec.decode(bytes, objectMapper.getNodeFactory());
+            }
+
             try {
-                return objectMapper.readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
+                return objectMapper.readTree(bytes);
             } catch (IOException e) {
                 throw new FlowableException("Could not deserialize json for history job data", e);
             }
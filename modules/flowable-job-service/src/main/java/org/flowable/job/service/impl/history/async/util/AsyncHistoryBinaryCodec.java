@@ -0,0 +1,375 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.util;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A compact binary encoding of the json of async history jobs, used instead of the json text when async history binary encoding is enabled.
+ *
+ * Numbers and lengths are written as varints. Field names and short string values are written once per payload
+ * and referenced by their index afterwards, so the field names repeated in every history object of a grouped job are only written once.
+ * Decoding returns the same json tree as parsing the json text, so the payload can be handled by all existing history json transformers.
+ */
+public class AsyncHistoryBinaryCodec {
+
+    protected static final byte[] MAGIC = { 'F', 'A', 'H' };
+    protected static final byte VERSION = 1;
+
+    protected static final int MAX_INTERNED_STRING_LENGTH = 64;
+
+    protected static final byte TYPE_NULL = 0;
+    protected static final byte TYPE_FALSE = 1;
+    protected static final byte TYPE_TRUE = 2;
+    protected static final byte TYPE_INT = 3;
+    protected static final byte TYPE_LONG = 4;
+    protected static final byte TYPE_FLOAT = 5;
+    protected static final byte TYPE_DOUBLE = 6;
+    protected static final byte TYPE_BIG_INTEGER = 7;
+    protected static final byte TYPE_BIG_DECIMAL = 8;
+    protected static final byte TYPE_STRING = 9;
+    protected static final byte TYPE_BINARY = 10;
+    protected static final byte TYPE_ARRAY = 11;
+    protected static final byte TYPE_OBJECT = 12;
+
+    // String references: a new interned string, a string that is not interned or an index into the interned strings (offset by 2)
+    protected static final int STRING_NEW = 0;
+    protected static final int STRING_LITERAL = 1;
+
+    public static boolean isBinaryEncoded(byte[] bytes) {
+        return bytes != null && bytes.length > MAGIC.length && bytes[0] == MAGIC[0] && bytes[1] == MAGIC[1] && bytes[2] == MAGIC[2];
+    }
+
+    public static byte[] encode(JsonNode jsonNode) {
+        Encoder encoder = new Encoder();
+        encoder.writeBytes(MAGIC, 0, MAGIC.length);
+        encoder.writeByte(VERSION);
+        encoder.writeNode(jsonNode);
+        return encoder.toByteArray();
+    }
+
+    public static JsonNode decode(byte[] bytes, JsonNodeFactory jsonNodeFactory) {
+        if (!isBinaryEncoded(bytes)) {
+            throw new FlowableException("Async history data is not binary encoded");
+        }
+        if (bytes[MAGIC.length] != VERSION) {
+            throw new FlowableException("Unsupported async history binary encoding version " + bytes[MAGIC.length]);
+        }
+
+        Decoder decoder = new Decoder(bytes, MAGIC.length + 1, jsonNodeFactory);
+        JsonNode jsonNode = decoder.readNode();
+        if (decoder.position != bytes.length) {
+            throw new FlowableException("Unexpected data after async history binary payload at position " + decoder.position);
+        }
+        return jsonNode;
+    }
+
+    protected static class Encoder {
+
+        protected byte[] buffer = new byte[1024];
+        protected int position;
+        protected Map<String, Integer> strings = new HashMap<>();
+
+        public void writeNode(JsonNode jsonNode) {
+            if (jsonNode == null || jsonNode.isNull() || jsonNode.isMissingNode()) {
+                writeByte(TYPE_NULL);
+
+            } else if (jsonNode.isBoolean()) {
+                writeByte(jsonNode.booleanValue() ? TYPE_TRUE : TYPE_FALSE);
+
+            } else if (jsonNode.isInt() || jsonNode.isShort()) {
+                writeByte(TYPE_INT);
+                writeSignedVarLong(jsonNode.intValue());
+
+            } else if (jsonNode.isLong()) {
+                writeByte(TYPE_LONG);
+                writeSignedVarLong(jsonNode.longValue());
+
+            } else if (jsonNode.isFloat()) {
+                writeByte(TYPE_FLOAT);
+                writeFixedInt(Float.floatToIntBits(jsonNode.floatValue()));
+
+            } else if (jsonNode.isDouble()) {
+                writeByte(TYPE_DOUBLE);
+                long bits = Double.doubleToLongBits(jsonNode.doubleValue());
+                writeFixedInt((int) (bits >>> 32));
+                writeFixedInt((int) bits);
+
+            } else if (jsonNode.isBigInteger()) {
+                writeByte(TYPE_BIG_INTEGER);
+                writeUtf8(jsonNode.bigIntegerValue().toString());
+
+            } else if (jsonNode.isBigDecimal()) {
+                writeByte(TYPE_BIG_DECIMAL);
+                writeUtf8(jsonNode.decimalValue().toString());
+
+            } else if (jsonNode.isTextual()) {
+                writeByte(TYPE_STRING);
+                writeString(jsonNode.textValue());
+
+            } else if (jsonNode.isBinary()) {
+                writeByte(TYPE_BINARY);
+                byte[] bytes = getBinaryValue(jsonNode);
+                writeVarInt(bytes.length);
+                writeBytes(bytes, 0, bytes.length);
+
+            } else if (jsonNode.isArray()) {
+                writeByte(TYPE_ARRAY);
+                writeVarInt(jsonNode.size());
+                for (JsonNode element : jsonNode) {
+                    writeNode(element);
+                }
+
+            } else if (jsonNode.isObject()) {
+                writeByte(TYPE_OBJECT);
+                writeVarInt(jsonNode.size());
+                Iterator<Map.Entry<String, JsonNode>> fields = jsonNode.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    writeString(field.getKey());
+                    writeNode(field.getValue());
+                }
+
+            } else {
+                throw new FlowableException("Unsupported json node type " + jsonNode.getNodeType() + " for async history binary encoding");
+            }
+        }
+
+        protected byte[] getBinaryValue(JsonNode jsonNode) {
+            try {
+                return jsonNode.binaryValue();
+            } catch (IOException e) {
+                throw new FlowableException("Could not read binary json node", e);
+            }
+        }
+
+        protected void writeString(String value) {
+            if (value.length() > MAX_INTERNED_STRING_LENGTH) {
+                writeVarInt(STRING_LITERAL);
+                writeUtf8(value);
+                return;
+            }
+
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarInt(index + 2);
+            } else {
+                strings.put(value, strings.size());
+                writeVarInt(STRING_NEW);
+                writeUtf8(value);
+            }
+        }
+
+        protected void writeUtf8(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        protected void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        protected void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        protected void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        protected void writeFixedInt(int value) {
+            ensureCapacity(4);
+            buffer[position++] = (byte) (value >>> 24);
+            buffer[position++] = (byte) (value >>> 16);
+            buffer[position++] = (byte) (value >>> 8);
+            buffer[position++] = (byte) value;
+        }
+
+        protected void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        protected void writeBytes(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, position, length);
+            position += length;
+        }
+
+        protected void ensureCapacity(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    protected static class Decoder {
+
+        protected byte[] bytes;
+        protected int position;
+        protected JsonNodeFactory jsonNodeFactory;
+        protected List<String> strings = new ArrayList<>();
+
+        public Decoder(byte[] bytes, int position, JsonNodeFactory jsonNodeFactory) {
+            this.bytes = bytes;
+            this.position = position;
+            this.jsonNodeFactory = jsonNodeFactory;
+        }
+
+        public JsonNode readNode() {
+            byte type = readByte();
+            switch (type) {
+                case TYPE_NULL:
+                    return jsonNodeFactory.nullNode();
+                case TYPE_FALSE:
+                    return jsonNodeFactory.booleanNode(false);
+                case TYPE_TRUE:
+                    return jsonNodeFactory.booleanNode(true);
+                case TYPE_INT:
+                    return jsonNodeFactory.numberNode((int) readSignedVarLong());
+                case TYPE_LONG:
+                    return jsonNodeFactory.numberNode(readSignedVarLong());
+                case TYPE_FLOAT:
+                    return jsonNodeFactory.numberNode(Float.intBitsToFloat(readFixedInt()));
+                case TYPE_DOUBLE:
+                    long bits = ((long) readFixedInt() << 32) | (readFixedInt() & 0xFFFFFFFFL);
+                    return jsonNodeFactory.numberNode(Double.longBitsToDouble(bits));
+                case TYPE_BIG_INTEGER:
+                    return jsonNodeFactory.numberNode(new BigInteger(readUtf8()));
+                case TYPE_BIG_DECIMAL:
+                    return jsonNodeFactory.numberNode(new BigDecimal(readUtf8()));
+                case TYPE_STRING:
+                    return jsonNodeFactory.textNode(readString());
+                case TYPE_BINARY:
+                    int length = readLength();
+                    byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+                    position += length;
+                    return jsonNodeFactory.binaryNode(value);
+                case TYPE_ARRAY:
+                    int elementCount = readLength();
+                    ArrayNode arrayNode = jsonNodeFactory.arrayNode();
+                    for (int i = 0; i < elementCount; i++) {
+                        arrayNode.add(readNode());
+                    }
+                    return arrayNode;
+                case TYPE_OBJECT:
+                    int fieldCount = readLength();
+                    ObjectNode objectNode = jsonNodeFactory.objectNode();
+                    for (int i = 0; i < fieldCount; i++) {
+                        String fieldName = readString();
+                        objectNode.set(fieldName, readNode());
+                    }
+                    return objectNode;
+                default:
+                    throw new FlowableException("Unknown async history binary type " + type + " at position " + (position - 1));
+            }
+        }
+
+        protected String readString() {
+            int reference = readVarInt();
+            if (reference == STRING_LITERAL) {
+                return readUtf8();
+
+            } else if (reference == STRING_NEW) {
+                String value = readUtf8();
+                strings.add(value);
+                return value;
+
+            } else {
+                int index = reference - 2;
+                if (index < 0 || index >= strings.size()) {
+                    throw new FlowableException("Invalid async history binary string reference " + reference + " at position " + position);
+                }
+                return strings.get(index);
+            }
+        }
+
+        protected String readUtf8() {
+            int length = readLength();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        protected int readLength() {
+            int length = readVarInt();
+            if (length < 0 || length > bytes.length - position) {
+                throw new FlowableException("Invalid async history binary length " + length + " at position " + position);
+            }
+            return length;
+        }
+
+        protected long readSignedVarLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        protected int readVarInt() {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new FlowableException("Invalid async history binary varint at position " + position);
+            }
+            return (int) value;
+        }
+
+        protected long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new FlowableException("Invalid async history binary varint at position " + position);
+        }
+
+        protected int readFixedInt() {
+            return ((readByte() & 0xFF) << 24) | ((readByte() & 0xFF) << 16) | ((readByte() & 0xFF) << 8) | (readByte() & 0xFF);
+        }
+
+        protected byte readByte() {
+            if (position >= bytes.length) {
+                throw new FlowableException("Unexpected end of async history binary payload");
+            }
+            return bytes[position++];
+        }
+    }
+
+}
@@ -104,5 +104,24 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         }
     }
 
+    /**
+     * Determines the partition bucket of a new job, when job partitioning is enabled.
+     * All jobs of a process or case instance end up in the same bucket, so they are acquired by the same node.
+     */
+    protected Integer determineJobBucket(AbstractRuntimeJobEntity jobEntity) {
+        if (!getJobServiceConfiguration().isJobPartitioningEnabled()) {
+            return null;
+        }
+
+        String partitionKey = jobEntity.getProcessInstanceId();
+        if (partitionKey == null) {
+            partitionKey = jobEntity.getScopeId();
+        }
+        if (partitionKey == null) {
+            partitionKey = jobEntity.getId();
+        }
+        return Math.floorMod(partitionKey.hashCode(), getJobServiceConfiguration().getJobBucketCount());
+    }
+
     protected abstract DataManager<EntityImpl> getDataManager();
 }
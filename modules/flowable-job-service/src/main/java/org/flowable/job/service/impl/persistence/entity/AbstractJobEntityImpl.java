@@ -96,6 +96,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setCreateTime(Date createTime) {
         this.createTime = createTime;
+        markDirty();
     }
 
     @Override
@@ -106,6 +107,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setDuedate(Date duedate) {
         this.duedate = duedate;
+        markDirty();
     }
 
     @Override
@@ -126,6 +128,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setRetries(int retries) {
         this.retries = retries;
+        markDirty();
     }
 
     @Override
@@ -156,6 +159,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        markDirty();
     }
     
     @Override
@@ -166,6 +170,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setElementId(String elementId) {
         this.elementId = elementId;
+        markDirty();
     }
 
     @Override
@@ -176,6 +181,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setElementName(String elementName) {
         this.elementName = elementName;
+        markDirty();
     }
 
     @Override
@@ -256,6 +262,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setJobHandlerType(String jobHandlerType) {
         this.jobHandlerType = jobHandlerType;
+        markDirty();
     }
 
     @Override
@@ -284,6 +291,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
             customValuesByteArrayRef = new JobByteArrayRef();
         }
         customValuesByteArrayRef.setValue("jobCustomValues", customValues);
+        markDirty();
     }
 
     @Override
@@ -318,6 +326,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
         }
 
         exceptionByteArrayRef.setValue("stacktrace", exception);
+        markDirty();
     }
 
     @Override
@@ -328,6 +337,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     @Override
     public void setExceptionMessage(String exceptionMessage) {
         this.exceptionMessage = StringUtils.abbreviate(exceptionMessage, JobInfo.MAX_EXCEPTION_MESSAGE_LENGTH);
+        markDirty();
     }
 
     @Override
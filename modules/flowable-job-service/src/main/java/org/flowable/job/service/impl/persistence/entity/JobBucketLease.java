@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * A row of the job bucket lease table: the node that currently owns a job partition bucket of a job execution scope, and until when.
+ * This is not an entity, as leases are always read and written with direct statements.
+ */
+public class JobBucketLease implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String scopeType;
+    protected int bucket;
+    protected int revision;
+    protected String lockOwner;
+    protected Date lockExpirationTime;
+
+    public JobBucketLease() {
+    }
+
+    public JobBucketLease(String scopeType, int bucket) {
+        this.scopeType = scopeType;
+        this.bucket = bucket;
+    }
+
+    public boolean isOwnedBy(String lockOwner, Date now) {
+        return lockOwner.equals(this.lockOwner) && !isExpired(now);
+    }
+
+    public boolean isExpired(Date now) {
+        return lockOwner == null || lockExpirationTime == null || !lockExpirationTime.after(now);
+    }
+
+    public String getScopeType() {
+        return scopeType;
+    }
+
+    public void setScopeType(String scopeType) {
+        this.scopeType = scopeType;
+    }
+
+    public int getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(int bucket) {
+        this.bucket = bucket;
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    public void setRevision(int revision) {
+        this.revision = revision;
+    }
+
+    public String getLockOwner() {
+        return lockOwner;
+    }
+
+    public void setLockOwner(String lockOwner) {
+        this.lockOwner = lockOwner;
+    }
+
+    public Date getLockExpirationTime() {
+        return lockExpirationTime;
+    }
+
+    public void setLockExpirationTime(Date lockExpirationTime) {
+        this.lockExpirationTime = lockExpirationTime;
+    }
+
+    @Override
+    public String toString() {
+        return "JobBucketLease [scopeType=" + scopeType + ", bucket=" + bucket + ", lockOwner=" + lockOwner + ", lockExpirationTime=" + lockExpirationTime + "]";
+    }
+
+}
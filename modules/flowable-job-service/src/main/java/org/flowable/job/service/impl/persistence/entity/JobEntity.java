@@ -20,4 +20,11 @@ package org.flowable.job.service.impl.persistence.entity;
  */
 public interface JobEntity extends JobInfoEntity, AbstractRuntimeJobEntity {
 
+    /**
+     * The partition bucket of the job, only set when job partitioning is enabled.
+     */
+    Integer getBucket();
+
+    void setBucket(Integer bucket);
+
 }
@@ -15,18 +15,21 @@ package org.flowable.job.service.impl.persistence.entity;
 import java.util.Date;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
+
 /**
  * Job entity.
  *
  * @author Joram Barrez
  * @author Tijs Rademakers
  */
-public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
+public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
     protected String lockOwner;
     protected Date lockExpirationTime;
+    protected Integer bucket;
 
     @Override
     @SuppressWarnings("unchecked")
@@ -48,6 +51,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
     @Override
     public void setLockOwner(String claimedBy) {
         this.lockOwner = claimedBy;
+        markDirty();
     }
 
     @Override
@@ -58,6 +62,17 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
         this.lockExpirationTime = claimedUntil;
+        markDirty();
+    }
+
+    @Override
+    public Integer getBucket() {
+        return bucket;
+    }
+
+    @Override
+    public void setBucket(Integer bucket) {
+        this.bucket = bucket;
     }
 
     @Override
@@ -63,6 +63,9 @@ public class JobEntityManagerImpl extends JobInfoEntityManagerImpl<JobEntity> im
 
         jobEntity.setCreateTime(getJobServiceConfiguration().getClock().getCurrentTime());
         super.insert(jobEntity, fireCreateEvent);
+
+        // After the insert, as the id is only assigned by then
+        jobEntity.setBucket(determineJobBucket(jobEntity));
         return true;
     }
 
@@ -26,6 +26,12 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(Page page);
 
+    /**
+     * Returns {@link JobEntity} that are eligible to be executed, limited to the given partition buckets and the jobs without a bucket.
+     * When the buckets are null, this is the same as {@link #findJobsToExecute(Page)}.
+     */
+    List<T> findJobsToExecute(List<Integer> jobBuckets, Page page);
+
     /**
      * Returns all {@link JobEntity} instances related to on ExecutionEntity.
      */
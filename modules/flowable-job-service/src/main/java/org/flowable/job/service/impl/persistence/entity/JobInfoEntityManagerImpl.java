@@ -44,6 +44,11 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity> extends
         return jobDataManager.findJobsToExecute(page);
     }
 
+    @Override
+    public List<T> findJobsToExecute(List<Integer> jobBuckets, Page page) {
+        return jobDataManager.findJobsToExecute(jobBuckets, page);
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return jobDataManager.findJobsByExecutionId(executionId);
@@ -29,4 +29,11 @@ public interface TimerJobEntity extends AbstractRuntimeJobEntity {
     Date getLockExpirationTime();
 
     void setLockExpirationTime(Date claimedUntil);
+
+    /**
+     * The partition bucket of the timer job, only set when job partitioning is enabled.
+     */
+    Integer getBucket();
+
+    void setBucket(Integer bucket);
 }
@@ -15,17 +15,20 @@ package org.flowable.job.service.impl.persistence.entity;
 import java.util.Date;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
+
 /**
  * TimerJob entity, necessary for persistence.
  *
  * @author Tijs Rademakers
  */
-public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJobEntity {
+public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJobEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
     protected String lockOwner;
     protected Date lockExpirationTime;
+    protected Integer bucket;
 
     @SuppressWarnings("unchecked")
     @Override
@@ -47,6 +50,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
     @Override
     public void setLockOwner(String claimedBy) {
         this.lockOwner = claimedBy;
+        markDirty();
     }
 
     @Override
@@ -57,6 +61,17 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
         this.lockExpirationTime = claimedUntil;
+        markDirty();
+    }
+
+    @Override
+    public Integer getBucket() {
+        return bucket;
+    }
+
+    @Override
+    public void setBucket(Integer bucket) {
+        this.bucket = bucket;
     }
 
     @Override
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -40,6 +42,13 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Returns the {@link TimerJobEntity} instances that are due before the given date, limited to the given partition buckets and the timer jobs without a bucket.
+     * When the buckets are null and the date is the current time, this is the same as {@link #findTimerJobsToExecute(Page)}.
+     * Timer jobs of which the lock has expired are returned as well, as the node that locked them has gone down.
+     */
+    List<TimerJobEntity> findTimerJobsToExecute(List<Integer> jobBuckets, Date maxDueDate, Page page);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
@@ -67,6 +76,11 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findJobsByProcessInstanceId(String id);
 
+    /**
+     * Returns all {@link TimerJobEntity} instances related to one of the given process instances.
+     */
+    List<TimerJobEntity> findJobsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     /**
      * Returns all {@link TimerJobEntity} for the given scope and subscope.
      */
@@ -14,6 +14,7 @@
 package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -66,6 +67,11 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         return jobDataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> findTimerJobsToExecute(List<Integer> jobBuckets, Date maxDueDate, Page page) {
+        return jobDataManager.findTimerJobsToExecute(jobBuckets, maxDueDate, page);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return jobDataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
@@ -91,6 +97,11 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         return jobDataManager.findJobsByProcessInstanceId(id);
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return jobDataManager.findJobsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByScopeIdAndSubScopeId(String scopeId, String subScopeId) {
         return jobDataManager.findJobsByScopeIdAndSubScopeId(scopeId, subScopeId);
@@ -136,6 +147,9 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
 
         jobEntity.setCreateTime(getJobServiceConfiguration().getClock().getCurrentTime());
         super.insert(jobEntity, fireCreateEvent);
+
+        // After the insert, as the id is only assigned by then
+        jobEntity.setBucket(determineJobBucket(jobEntity));
         return true;
     }
 
@@ -66,6 +66,12 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
     }
 
+    @Override
+    public List<HistoryJobEntity> findJobsToExecute(List<Integer> jobBuckets, Page page) {
+        // History jobs are not partitioned
+        return findJobsToExecute(page);
+    }
+
     @Override
     public List<HistoryJobEntity> findJobsByExecutionId(final String executionId) {
         return getDbSqlSession().selectList("selectHistoryJobsByExecutionId", executionId);
@@ -58,12 +58,24 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<JobEntity> findJobsToExecute(Page page) {
+        return findJobsToExecute(null, page);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsToExecute(List<Integer> jobBuckets, Page page) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("jobBuckets", jobBuckets);
+
+        // Skipping the rows locked by other nodes means every node gets a disjoint set of jobs, instead of colliding on the lock update
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        if (jobServiceConfiguration.isSkipLockedJobAcquisitionEnabled() && dbSqlSession.isSkipLockedSupported()) {
+            return dbSqlSession.selectList("selectJobsToExecuteSkipLocked", params, page);
+        }
         
-        return getDbSqlSession().selectList("selectJobsToExecute", params, page);
+        return dbSqlSession.selectList("selectJobsToExecute", params, page);
     }
 
     @Override
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +29,8 @@ import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.TimerJobDataManager;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.TimerJobsByExecutionIdMatcher;
+import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.TimerJobsByProcessInstanceIdMatcher;
+import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.TimerJobsByProcessInstanceIdsMatcher;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.TimerJobsByScopeIdAndSubScopeIdMatcher;
 
 /**
@@ -41,6 +44,10 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     
     protected CachedEntityMatcher<TimerJobEntity> timerJobsByExecutionIdMatcher = new TimerJobsByExecutionIdMatcher();
 
+    protected CachedEntityMatcher<TimerJobEntity> timerJobsByProcessInstanceIdMatcher = new TimerJobsByProcessInstanceIdMatcher();
+
+    protected CachedEntityMatcher<TimerJobEntity> timerJobsByProcessInstanceIdsMatcher = new TimerJobsByProcessInstanceIdsMatcher();
+
     protected CachedEntityMatcher<TimerJobEntity> timerJobsByScopeIdAndSubScopeIdMatcher = new TimerJobsByScopeIdAndSubScopeIdMatcher();
 
     public MybatisTimerJobDataManager(JobServiceConfiguration jobServiceConfiguration) {
@@ -70,16 +77,28 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findTimerJobsToExecute(Page page) {
-        Map<String, Object> params = new HashMap<>(2);
+        return findTimerJobsToExecute(null, jobServiceConfiguration.getClock().getCurrentTime(), page);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findTimerJobsToExecute(List<Integer> jobBuckets, Date maxDueDate, Page page) {
+        Map<String, Object> params = new HashMap<>(5);
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
+        params.put("jobBuckets", jobBuckets);
         
         Date now = jobServiceConfiguration.getClock().getCurrentTime();
         params.put("now", now);
+        params.put("maxDueDate", maxDueDate);
+
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        if (jobServiceConfiguration.isSkipLockedJobAcquisitionEnabled() && dbSqlSession.isSkipLockedSupported()) {
+            return dbSqlSession.selectList("selectTimerJobsToExecuteSkipLocked", params, page);
+        }
         
-        return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
+        return dbSqlSession.selectList("selectTimerJobsToExecute", params, page);
     }
 
     @Override
@@ -105,9 +124,20 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByProcessInstanceId(final String processInstanceId) {
-        return getDbSqlSession().selectList("selectTimerJobsByProcessInstanceId", processInstanceId);
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        
+        // If the process instance has been inserted in the same command execution as this query, there can't be any in the database
+        if (isEntityInserted(dbSqlSession, "execution", processInstanceId)) {
+            return getListFromCache(timerJobsByProcessInstanceIdMatcher, processInstanceId);
+        }
+        
+        return getList(dbSqlSession, "selectTimerJobsByProcessInstanceId", processInstanceId, timerJobsByProcessInstanceIdMatcher, true);
+    }
+
+    @Override
+    public List<TimerJobEntity> findJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getList(getDbSqlSession(), "selectTimerJobsByProcessInstanceIds", processInstanceIds, timerJobsByProcessInstanceIdsMatcher, true);
     }
 
     @Override
@@ -24,6 +24,7 @@ CREATE TABLE ACT_RU_JOB (
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp,
     TENANT_ID_ varchar(255) default '',
+    BUCKET_ integer,
     primary key (ID_)
 );
 
@@ -53,6 +54,7 @@ CREATE TABLE ACT_RU_TIMER_JOB (
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp,
     TENANT_ID_ varchar(255) default '',
+    BUCKET_ integer,
     primary key (ID_)
 );
 
@@ -198,6 +200,18 @@ alter table ACT_RU_DEADLETTER_JOB
     references ACT_GE_BYTEARRAY (ID_);
 
 
-insert into ACT_GE_PROPERTY values ('job.schema.version', '6.5.0.2', 1);
+CREATE TABLE ACT_RU_JOB_BUCKET_LEASE (
+    SCOPE_TYPE_ varchar(255) NOT NULL,
+    BUCKET_ integer NOT NULL,
+    REV_ integer,
+    LOCK_OWNER_ varchar(255),
+    LOCK_EXP_TIME_ timestamp,
+    primary key (SCOPE_TYPE_, BUCKET_)
+);
+
+create index ACT_IDX_JOB_BUCKET on ACT_RU_JOB(BUCKET_);
+create index ACT_IDX_TJOB_BUCKET on ACT_RU_TIMER_JOB(BUCKET_);
+
+insert into ACT_GE_PROPERTY values ('job.schema.version', '6.5.0.3', 1);
 
 -- force-commit
\ No newline at end of file
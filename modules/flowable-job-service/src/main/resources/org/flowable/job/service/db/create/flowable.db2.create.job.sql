@@ -24,6 +24,7 @@ create table ACT_RU_JOB (
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp,
     TENANT_ID_ varchar(255) default '',
+    BUCKET_ integer,
     primary key (ID_)
 );
 
@@ -53,6 +54,7 @@ create table ACT_RU_TIMER_JOB (
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp,
     TENANT_ID_ varchar(255) default '',
+    BUCKET_ integer,
     primary key (ID_)
 );
 
@@ -195,4 +197,16 @@ create index ACT_IDX_DJOB_SCOPE on ACT_RU_DEADLETTER_JOB(SCOPE_ID_, SCOPE_TYPE_)
 create index ACT_IDX_DJOB_SUB_SCOPE on ACT_RU_DEADLETTER_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_DJOB_SCOPE_DEF on ACT_RU_DEADLETTER_JOB(SCOPE_DEFINITION_ID_, SCOPE_TYPE_); 
 
-insert into ACT_GE_PROPERTY values ('job.schema.version', '6.5.0.2', 1);
\ No newline at end of file
+create table ACT_RU_JOB_BUCKET_LEASE (
+    SCOPE_TYPE_ varchar(255) not null,
+    BUCKET_ integer not null,
+    REV_ integer,
+    LOCK_OWNER_ varchar(255),
+    LOCK_EXP_TIME_ timestamp,
+    primary key (SCOPE_TYPE_, BUCKET_)
+);
+
+create index ACT_IDX_JOB_BUCKET on ACT_RU_JOB(BUCKET_);
+create index ACT_IDX_TJOB_BUCKET on ACT_RU_TIMER_JOB(BUCKET_);
+
+insert into ACT_GE_PROPERTY values ('job.schema.version', '6.5.0.3', 1);
\ No newline at end of file
@@ -3,5 +3,6 @@ drop table if exists act_ru_timer_job cascade;
 drop table if exists act_ru_suspended_job cascade;
 drop table if exists act_ru_deadletter_job cascade;
 drop table if exists act_ru_history_job cascade;
+drop table if exists act_ru_job_bucket_lease cascade;
 
 -- force-commit
\ No newline at end of file
@@ -10,9 +10,12 @@ drop index if exists ACT_IDX_SJOB_SCOPE_DEF;
 drop index if exists ACT_IDX_DJOB_SCOPE;
 drop index if exists ACT_IDX_DJOB_SUB_SCOPE;
 drop index if exists ACT_IDX_DJOB_SCOPE_DEF;  
+drop index if exists ACT_IDX_JOB_BUCKET;
+drop index if exists ACT_IDX_TJOB_BUCKET;
 
 drop table if exists ACT_RU_JOB cascade constraints;
 drop table if exists ACT_RU_TIMER_JOB cascade constraints;
 drop table if exists ACT_RU_SUSPENDED_JOB cascade constraints;
 drop table if exists ACT_RU_DEADLETTER_JOB cascade constraints;
+drop table if exists ACT_RU_JOB_BUCKET_LEASE cascade constraints;
 drop table if exists ACT_RU_HISTORY_JOB cascade constraints;
\ No newline at end of file
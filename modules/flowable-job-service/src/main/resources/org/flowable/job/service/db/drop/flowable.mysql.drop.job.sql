@@ -10,6 +10,8 @@ drop index ACT_IDX_SJOB_SCOPE_DEF on ACT_RU_SUSPENDED_JOB;
 drop index ACT_IDX_DJOB_SCOPE on ACT_RU_DEADLETTER_JOB;
 drop index ACT_IDX_DJOB_SUB_SCOPE on ACT_RU_DEADLETTER_JOB;
 drop index ACT_IDX_DJOB_SCOPE_DEF on ACT_RU_DEADLETTER_JOB;   
+drop index ACT_IDX_JOB_BUCKET on ACT_RU_JOB;
+drop index ACT_IDX_TJOB_BUCKET on ACT_RU_TIMER_JOB;
 
 alter table ACT_RU_JOB
     drop foreign key ACT_FK_JOB_EXCEPTION;
@@ -39,4 +41,5 @@ drop table if exists ACT_RU_JOB;
 drop table if exists ACT_RU_TIMER_JOB;
 drop table if exists ACT_RU_SUSPENDED_JOB;
 drop table if exists ACT_RU_DEADLETTER_JOB;
+drop table if exists ACT_RU_JOB_BUCKET_LEASE;
 drop table if exists ACT_RU_HISTORY_JOB;
\ No newline at end of file
@@ -10,6 +10,8 @@ drop index ACT_IDX_SJOB_SCOPE_DEF;
 drop index ACT_IDX_DJOB_SCOPE;
 drop index ACT_IDX_DJOB_SUB_SCOPE;
 drop index ACT_IDX_DJOB_SCOPE_DEF; 
+drop index ACT_IDX_JOB_BUCKET;
+drop index ACT_IDX_TJOB_BUCKET;
 
 drop index ACT_IDX_JOB_EXCEPTION;
 drop index ACT_IDX_JOB_CUSTOM_VAL_ID;
@@ -52,3 +54,4 @@ drop table ACT_RU_TIMER_JOB;
 drop table ACT_RU_SUSPENDED_JOB;
 drop table ACT_RU_DEADLETTER_JOB;
 drop table ACT_RU_HISTORY_JOB;
+drop table ACT_RU_JOB_BUCKET_LEASE;
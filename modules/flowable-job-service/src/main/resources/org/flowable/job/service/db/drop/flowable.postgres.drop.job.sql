@@ -2,4 +2,5 @@ drop table if exists ACT_RU_JOB cascade;
 drop table if exists ACT_RU_TIMER_JOB cascade;
 drop table if exists ACT_RU_SUSPENDED_JOB cascade;
 drop table if exists ACT_RU_DEADLETTER_JOB cascade;
+drop table if exists ACT_RU_JOB_BUCKET_LEASE cascade;
 drop table if exists ACT_RU_HISTORY_JOB cascade;
\ No newline at end of file
@@ -0,0 +1,16 @@
+alter table ACT_RU_JOB add BUCKET_ int;
+alter table ACT_RU_TIMER_JOB add BUCKET_ int;
+
+create index ACT_IDX_JOB_BUCKET on ACT_RU_JOB(BUCKET_);
+create index ACT_IDX_TJOB_BUCKET on ACT_RU_TIMER_JOB(BUCKET_);
+
+create table ACT_RU_JOB_BUCKET_LEASE (
+    SCOPE_TYPE_ nvarchar(255) NOT NULL,
+    BUCKET_ int NOT NULL,
+    REV_ int,
+    LOCK_OWNER_ nvarchar(255),
+    LOCK_EXP_TIME_ datetime,
+    primary key (SCOPE_TYPE_, BUCKET_)
+);
+
+update ACT_GE_PROPERTY set VALUE_ = '6.5.0.3' where NAME_ = 'job.schema.version';
\ No newline at end of file
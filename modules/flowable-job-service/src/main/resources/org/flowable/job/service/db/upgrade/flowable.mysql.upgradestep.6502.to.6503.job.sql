@@ -0,0 +1,16 @@
+alter table ACT_RU_JOB add column BUCKET_ integer;
+alter table ACT_RU_TIMER_JOB add column BUCKET_ integer;
+
+create index ACT_IDX_JOB_BUCKET on ACT_RU_JOB(BUCKET_);
+create index ACT_IDX_TJOB_BUCKET on ACT_RU_TIMER_JOB(BUCKET_);
+
+create table ACT_RU_JOB_BUCKET_LEASE (
+    SCOPE_TYPE_ varchar(255) NOT NULL,
+    BUCKET_ integer NOT NULL,
+    REV_ integer,
+    LOCK_OWNER_ varchar(255),
+    LOCK_EXP_TIME_ timestamp(3) NULL,
+    primary key (SCOPE_TYPE_, BUCKET_)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
+
+update ACT_GE_PROPERTY set VALUE_ = '6.5.0.3' where NAME_ = 'job.schema.version';
\ No newline at end of file
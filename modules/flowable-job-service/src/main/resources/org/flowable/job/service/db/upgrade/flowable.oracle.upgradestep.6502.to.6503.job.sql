@@ -0,0 +1,16 @@
+alter table ACT_RU_JOB add BUCKET_ INTEGER;
+alter table ACT_RU_TIMER_JOB add BUCKET_ INTEGER;
+
+create index ACT_IDX_JOB_BUCKET on ACT_RU_JOB(BUCKET_);
+create index ACT_IDX_TJOB_BUCKET on ACT_RU_TIMER_JOB(BUCKET_);
+
+create table ACT_RU_JOB_BUCKET_LEASE (
+    SCOPE_TYPE_ NVARCHAR2(255) NOT NULL,
+    BUCKET_ INTEGER NOT NULL,
+    REV_ INTEGER,
+    LOCK_OWNER_ NVARCHAR2(255),
+    LOCK_EXP_TIME_ TIMESTAMP(6),
+    primary key (SCOPE_TYPE_, BUCKET_)
+);
+
+update ACT_GE_PROPERTY set VALUE_ = '6.5.0.3' where NAME_ = 'job.schema.version';
\ No newline at end of file
@@ -85,7 +85,13 @@ public class ProcessEngineEndpoint {
         // Process definition cache
         DeploymentCache<ProcessDefinitionCacheEntry> deploymentCache = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getProcessDefinitionCache();
         if (deploymentCache instanceof DefaultDeploymentCache) {
-            metrics.put("cachedProcessDefinitionCount", ((DefaultDeploymentCache) deploymentCache).size());
+            DefaultDeploymentCache<ProcessDefinitionCacheEntry> defaultDeploymentCache = (DefaultDeploymentCache<ProcessDefinitionCacheEntry>) deploymentCache;
+            metrics.put("cachedProcessDefinitionCount", defaultDeploymentCache.size());
+            metrics.put("processDefinitionCacheHitCount", defaultDeploymentCache.getHitCount());
+            metrics.put("processDefinitionCacheMissCount", defaultDeploymentCache.getMissCount());
+            metrics.put("processDefinitionCacheEvictionCount", defaultDeploymentCache.getEvictionCount());
+            metrics.put("processDefinitionCacheLoadCount", defaultDeploymentCache.getLoadCount());
+            metrics.put("processDefinitionCacheTotalLoadTime", defaultDeploymentCache.getTotalLoadTimeInMillis());
         }
         return metrics;
     }
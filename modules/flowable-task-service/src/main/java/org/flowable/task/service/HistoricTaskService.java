@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -84,9 +85,17 @@ public interface HistoricTaskService {
     
     void deleteHistoricTaskLogEntriesForNonExistingCaseInstances();
     
+    void deleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricTaskLogEntriesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
     void deleteHistoricTaskInstances(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
     void deleteHistoricTaskInstancesForNonExistingProcessInstances();
     
     void deleteHistoricTaskInstancesForNonExistingCaseInstances();
+    
+    void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricTaskInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
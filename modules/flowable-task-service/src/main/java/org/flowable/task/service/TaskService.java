@@ -17,6 +17,7 @@ import org.flowable.task.api.TaskBuilder;
 import org.flowable.task.api.TaskQuery;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,6 +34,8 @@ public interface TaskService {
     
     List<TaskEntity> findTasksByProcessInstanceId(String processInstanceId);
     
+    List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     List<Task> findTasksByParentTaskId(String parentTaskId);
     
     List<TaskEntity> findTasksBySubScopeIdScopeType(String subScopeId, String scopeType);
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -209,6 +210,20 @@ public class HistoricTaskServiceImpl extends CommonServiceImpl<TaskServiceConfig
         }
     }
     
+    @Override
+    public void deleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        if (this.configuration.isEnableHistoricTaskLogging()) {
+            getHistoricTaskLogEntryEntityManager().deleteHistoricTaskLogEntriesForProcessInstanceIds(processInstanceIds);
+        }
+    }
+    
+    @Override
+    public void deleteHistoricTaskLogEntriesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        if (this.configuration.isEnableHistoricTaskLogging()) {
+            getHistoricTaskLogEntryEntityManager().deleteHistoricTaskLogEntriesForScopeIdsAndScopeType(scopeIds, scopeType);
+        }
+    }
+    
     @Override
     public void deleteHistoricTaskInstances(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
         getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstances(historicTaskInstanceQuery);
@@ -223,6 +238,16 @@ public class HistoricTaskServiceImpl extends CommonServiceImpl<TaskServiceConfig
     public void deleteHistoricTaskInstancesForNonExistingCaseInstances() {
         getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesForNonExistingCaseInstances();
     }
+    
+    @Override
+    public void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricTaskInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     @Override
     public NativeHistoricTaskLogEntryQuery createNativeHistoricTaskLogEntryQuery(CommandExecutor commandExecutor) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -48,6 +49,11 @@ public class TaskServiceImpl extends CommonServiceImpl<TaskServiceConfiguration>
         return getTaskEntityManager().findTasksByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getTaskEntityManager().findTasksByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public List<Task> findTasksByParentTaskId(String parentTaskId) {
         return getTaskEntityManager().findTasksByParentTaskId(parentTaskId);
@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -106,6 +107,16 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
     public void deleteHistoricTaskInstancesForNonExistingCaseInstances() {
         historicTaskInstanceDataManager.deleteHistoricTaskInstancesForNonExistingCaseInstances();
     }
+    
+    @Override
+    public void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicTaskInstanceDataManager.deleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricTaskInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        historicTaskInstanceDataManager.deleteHistoricTaskInstancesForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricTaskInstanceDataManager getHistoricTaskInstanceDataManager() {
         return historicTaskInstanceDataManager;
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -91,6 +92,16 @@ public class HistoricTaskLogEntryEntityManagerImpl extends AbstractEntityManager
     public void deleteHistoricTaskLogEntriesForNonExistingCaseInstances() {
         getDataManager().deleteHistoricTaskLogEntriesForNonExistingCaseInstances();
     }
+    
+    @Override
+    public void deleteHistoricTaskLogEntriesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDataManager().deleteHistoricTaskLogEntriesForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricTaskLogEntriesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getDataManager().deleteHistoricTaskLogEntriesForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     @Override
     public void createHistoricTaskLogEntry(HistoricTaskLogEntryBuilder historicTaskLogEntryBuilder) {
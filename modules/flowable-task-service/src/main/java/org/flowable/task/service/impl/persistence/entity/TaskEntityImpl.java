@@ -28,6 +28,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
@@ -48,7 +49,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity implements TaskEntity, CountingTaskEntity, Serializable {
+public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity implements TaskEntity, CountingTaskEntity, DirtyTrackingEntity, Serializable {
 
     public static final String DELETE_REASON_COMPLETED = "completed";
     public static final String DELETE_REASON_DELETED = "deleted";
@@ -186,6 +187,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        markDirty();
     }
 
     // variables //////////////////////////////////////////////////////////////////
@@ -261,11 +263,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setName(String taskName) {
         this.name = taskName;
+        markDirty();
     }
 
     @Override
     public void setDescription(String description) {
         this.description = description;
+        markDirty();
     }
 
     @Override
@@ -273,6 +277,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
         this.originalAssignee = this.assignee;
         this.assignee = assignee;
         assigneeUpdatedCount++;
+        markDirty();
     }
     
     @Override
@@ -285,11 +290,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
             this.assignee = assignee;
             assigneeUpdatedCount++;
         }
+        markDirty();
     }
 
     @Override
     public void setOwner(String owner) {
         this.owner = owner;
+        markDirty();
     }
     
     @Override
@@ -300,21 +307,25 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
         } else {
             this.owner = owner;
         }
+        markDirty();
     }
 
     @Override
     public void setDueDate(Date dueDate) {
         this.dueDate = dueDate;
+        markDirty();
     }
 
     @Override
     public void setPriority(int priority) {
         this.priority = priority;
+        markDirty();
     }
 
     @Override
     public void setCategory(String category) {
         this.category = category;
+        markDirty();
     }
 
     @Override
@@ -362,6 +373,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setParentTaskId(String parentTaskId) {
         this.parentTaskId = parentTaskId;
+        markDirty();
     }
 
     @Override
@@ -372,6 +384,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setFormKey(String formKey) {
         this.formKey = formKey;
+        markDirty();
     }
 
     // Override from VariableScopeImpl
@@ -458,6 +471,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setCreateTime(Date createTime) {
         this.createTime = createTime;
+        markDirty();
     }
 
     @Override
@@ -478,6 +492,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -488,6 +503,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setTaskDefinitionId(String taskDefinitionId) {
         this.taskDefinitionId = taskDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -498,6 +514,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        markDirty();
     }
 
     @Override
@@ -508,6 +525,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setSubScopeId(String subScopeId) {
         this.subScopeId = subScopeId;
+        markDirty();
     }
 
     @Override
@@ -518,6 +536,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
+        markDirty();
     }
 
     @Override
@@ -528,6 +547,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
         this.scopeDefinitionId = scopeDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -552,6 +572,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setTaskDefinitionKey(String taskDefinitionKey) {
         this.taskDefinitionKey = taskDefinitionKey;
+        markDirty();
     }
 
     @Override
@@ -577,11 +598,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        markDirty();
     }
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
+        markDirty();
     }
 
     @Override
@@ -651,6 +674,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setDelegationState(DelegationState delegationState) {
         this.delegationState = delegationState;
+        markDirty();
     }
 
     public String getDelegationStateString() { // Needed for Activiti 5 compatibility, not exposed in interface
@@ -659,6 +683,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     public void setDelegationStateString(String delegationStateString) {
         this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
+        markDirty();
     }
 
     @Override
@@ -700,6 +725,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        markDirty();
     }
 
     @Override
@@ -778,6 +804,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setClaimTime(Date claimTime) {
         this.claimTime = claimTime;
+        markDirty();
     }
 
     @Override
@@ -793,11 +820,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        markDirty();
     }
 
     @Override
     public void setVariableCount(int variableCount) {
         this.variableCount = variableCount;
+        markDirty();
     }
 
     @Override
@@ -808,6 +837,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
         this.identityLinkCount = identityLinkCount;
+        markDirty();
     }
 
     @Override
@@ -823,6 +853,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     @Override
     public void setSubTaskCount(int subTaskCount) {
         this.subTaskCount = subTaskCount;
+        markDirty();
     }
     
 }
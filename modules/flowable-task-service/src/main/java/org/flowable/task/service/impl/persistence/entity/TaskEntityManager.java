@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -38,6 +39,8 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
     List<TaskEntity> findTasksByExecutionId(String executionId);
 
     List<TaskEntity> findTasksByProcessInstanceId(String processInstanceId);
+
+    List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds);
     
     List<TaskEntity> findTasksByScopeIdAndScopeType(String scopeId, String scopeType);
     
@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -165,6 +166,11 @@ public class TaskEntityManagerImpl extends AbstractEntityManager<TaskEntity> imp
     public List<TaskEntity> findTasksByProcessInstanceId(String processInstanceId) {
         return taskDataManager.findTasksByProcessInstanceId(processInstanceId);
     }
+
+    @Override
+    public List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return taskDataManager.findTasksByProcessInstanceIds(processInstanceIds);
+    }
     
     @Override
     public List<TaskEntity> findTasksByScopeIdAndScopeType(String scopeId, String scopeType) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +29,8 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
     List<TaskEntity> findTasksByExecutionId(final String executionId);
 
     List<TaskEntity> findTasksByProcessInstanceId(String processInstanceId);
+
+    List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds);
     
     List<TaskEntity> findTasksByScopeIdAndScopeType(String scopeId, String scopeType);
     
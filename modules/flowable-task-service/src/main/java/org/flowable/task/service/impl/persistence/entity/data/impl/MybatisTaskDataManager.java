@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +28,7 @@ import org.flowable.task.service.impl.persistence.entity.TaskEntityImpl;
 import org.flowable.task.service.impl.persistence.entity.data.TaskDataManager;
 import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.TasksByExecutionIdMatcher;
 import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.TasksByProcessInstanceIdMatcher;
+import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.TasksByProcessInstanceIdsMatcher;
 import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.TasksByScopeIdAndScopeTypeMatcher;
 import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.TasksBySubScopeIdAndScopeTypeMatcher;
 import org.flowable.task.service.impl.util.CommandContextUtil;
@@ -39,6 +41,8 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
     protected CachedEntityMatcher<TaskEntity> tasksByExecutionIdMatcher = new TasksByExecutionIdMatcher();
     
     protected CachedEntityMatcher<TaskEntity> tasksByProcessInstanceIdMatcher = new TasksByProcessInstanceIdMatcher();
+    
+    protected CachedEntityMatcher<TaskEntity> tasksByProcessInstanceIdsMatcher = new TasksByProcessInstanceIdsMatcher();
 
     protected CachedEntityMatcher<TaskEntity> tasksBySubScopeIdAndScopeTypeMatcher = new TasksBySubScopeIdAndScopeTypeMatcher();
     
@@ -78,6 +82,11 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
 
         return getList(dbSqlSession, "selectTasksByProcessInstanceId", processInstanceId, tasksByProcessInstanceIdMatcher, true);
     }
+
+    @Override
+    public List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getList(getDbSqlSession(), "selectTasksByProcessInstanceIds", processInstanceIds, tasksByProcessInstanceIdsMatcher, true);
+    }
     
     @Override
     public List<TaskEntity> findTasksByScopeIdAndScopeType(String scopeId, String scopeType) {
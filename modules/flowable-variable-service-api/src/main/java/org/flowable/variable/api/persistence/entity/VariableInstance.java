@@ -12,6 +12,11 @@
  */
 package org.flowable.variable.api.persistence.entity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
 import org.flowable.variable.api.types.ValueFields;
 
 /**
@@ -50,4 +55,24 @@ public interface VariableInstance extends ValueFields {
     
     void setScopeType(String scopeType);
 
+    /**
+     * Returns a stream over the bytes of a variable that is stored in a byte array, or null if the variable has no bytes.
+     * Unlike {@link #getBytes()} and {@link #getValue()}, the bytes of a persisted variable are read from the database while the stream is read,
+     * so the stream can only be used within the command that retrieved the variable instance and should be closed after use.
+     */
+    default InputStream getBytesStream() {
+        byte[] bytes = getBytes();
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+    /**
+     * Returns a channel over the bytes of a variable that is stored in a byte array, or null if the variable has no bytes.
+     *
+     * @see #getBytesStream()
+     */
+    default ReadableByteChannel getBytesChannel() {
+        InputStream bytesStream = getBytesStream();
+        return bytesStream != null ? Channels.newChannel(bytesStream) : null;
+    }
+
 }
@@ -42,6 +42,25 @@ public interface VariableType {
      */
     boolean isAbleToStore(Object value);
 
+    /**
+     * <p>
+     * Indicates if {@link #isAbleToStore(Object)} gives the same result for all values of the same class, with <code>null</code> counting as a class of its own.
+     * </p>
+     * <p>
+     * If so, the result is cached per class of the value when looking up the type of a variable value.
+     * Otherwise, e.g. when the result depends on the length of the value, {@link #isAbleToStore(Object)} is called for every value.
+     * </p>
+     * <p>
+     * A subclass can override {@link #isAbleToStore(Object)}, so the built-in types only return true for their own class
+     * and a subclass has to declare this again itself.
+     * </p>
+     * 
+     * @return whether {@link #isAbleToStore(Object)} only depends on the class of the value.
+     */
+    default boolean isAbleToStoreDeterminedByClass() {
+        return false;
+    }
+
     /**
      * Stores the specified value in the supplied {@link ValueFields}.
      */
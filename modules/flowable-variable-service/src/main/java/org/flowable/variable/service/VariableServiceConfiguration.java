@@ -29,6 +29,7 @@ import org.flowable.variable.service.impl.persistence.entity.data.VariableInstan
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisHistoricVariableInstanceDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisVariableByteArrayDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisVariableInstanceDataManager;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
 
 /**
  * @author Tijs Rademakers
@@ -199,6 +200,20 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
         this.variableTypes = variableTypes;
         return this;
     }
+
+    /**
+     * @return the number of variable type lookups answered from the type cache of the {@link DefaultVariableTypes}, 0 for other variable types.
+     */
+    public long getVariableTypeCacheHitCount() {
+        return variableTypes instanceof DefaultVariableTypes ? ((DefaultVariableTypes) variableTypes).getTypeCacheHitCount() : 0;
+    }
+
+    /**
+     * @return the number of variable type lookups not answered from the type cache of the {@link DefaultVariableTypes}, 0 for other variable types.
+     */
+    public long getVariableTypeCacheMissCount() {
+        return variableTypes instanceof DefaultVariableTypes ? ((DefaultVariableTypes) variableTypes).getTypeCacheMissCount() : 0;
+    }
     
     public InternalHistoryVariableManager getInternalHistoryVariableManager() {
         return internalHistoryVariableManager;
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -116,6 +117,16 @@ public class HistoricVariableServiceImpl extends CommonServiceImpl<VariableServi
     public void deleteHistoricVariableInstancesForNonExistingCaseInstances() {
         getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesForNonExistingCaseInstances();
     }
+    
+    @Override
+    public void deleteHistoricVariableInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricVariableInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricVariableInstanceEntityManager getHistoricVariableInstanceEntityManager() {
         return configuration.getHistoricVariableInstanceEntityManager();
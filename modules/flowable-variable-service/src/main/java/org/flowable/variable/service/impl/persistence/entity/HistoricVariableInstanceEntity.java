@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.util.Date;
 
 import org.flowable.common.engine.impl.db.HasRevision;
@@ -51,4 +52,14 @@ public interface HistoricVariableInstanceEntity extends ValueFields, HistoricVar
 
     VariableByteArrayRef getByteArrayRef();
 
+    /**
+     * Returns a stream over the bytes of the variable, which reads them from the database when they are not loaded yet.
+     */
+    InputStream getBytesStream();
+
+    /**
+     * Sets the bytes to a copy of those of the given reference, without loading them in memory when they are not loaded yet.
+     */
+    void copyBytes(VariableByteArrayRef byteArrayRef);
+
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Date;
 import java.util.HashMap;
@@ -106,6 +107,22 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
         byteArrayRef.setValue("hist.var-" + name, bytes);
     }
 
+    @Override
+    public InputStream getBytesStream() {
+        if (byteArrayRef != null) {
+            return byteArrayRef.getBytesStream();
+        }
+        return null;
+    }
+
+    @Override
+    public void copyBytes(VariableByteArrayRef sourceByteArrayRef) {
+        if (byteArrayRef == null) {
+            byteArrayRef = new VariableByteArrayRef();
+        }
+        byteArrayRef.copyValue("hist.var-" + name, sourceByteArrayRef);
+    }
+
     // getters and setters //////////////////////////////////////////////////////
 
     @Override
@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -75,7 +76,7 @@ public class HistoricVariableInstanceEntityManagerImpl extends AbstractEntityMan
 
         historicVariableInstance.setVariableType(variableInstance.getType());
         if (variableInstance.getByteArrayRef() != null) {
-            historicVariableInstance.setBytes(variableInstance.getBytes());
+            historicVariableInstance.copyBytes(variableInstance.getByteArrayRef());
         }
 
         historicVariableInstance.setLastUpdatedTime(updateTime);
@@ -148,6 +149,20 @@ public class HistoricVariableInstanceEntityManagerImpl extends AbstractEntityMan
             historicVariableInstanceDataManager.deleteHistoricVariableInstancesForNonExistingCaseInstances();
         }
     }
+    
+    @Override
+    public void deleteHistoricVariableInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        if (getVariableServiceConfiguration().isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            historicVariableInstanceDataManager.deleteHistoricVariableInstancesForProcessInstanceIds(processInstanceIds);
+        }
+    }
+    
+    @Override
+    public void deleteHistoricVariableInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        if (getVariableServiceConfiguration().isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            historicVariableInstanceDataManager.deleteHistoricVariableInstancesForScopeIdsAndScopeType(scopeIds, scopeType);
+        }
+    }
 
     @Override
     public List<HistoricVariableInstance> findHistoricVariableInstancesByNativeQuery(Map<String, Object> parameterMap) {
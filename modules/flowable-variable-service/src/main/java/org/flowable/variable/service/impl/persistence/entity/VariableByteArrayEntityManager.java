@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -32,4 +33,20 @@ public interface VariableByteArrayEntityManager extends EntityManager<VariableBy
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
+    /**
+     * Opens a stream over the bytes of the {@link VariableByteArrayEntity} with the given id as they are stored in the database, without loading them in memory.
+     * Returns null if the byte array has no bytes. The stream is only valid in the current transaction and must be closed after use.
+     */
+    InputStream openBytesStream(String byteArrayEntityId);
+
+    /**
+     * Directly inserts a byte array with the bytes of the given stream, without loading them in memory, and returns its id.
+     */
+    String insertByteArray(String name, InputStream bytesStream);
+
+    /**
+     * Directly inserts a copy of the byte array with the given id in the database, without loading its bytes in memory, and returns the id of the copy.
+     */
+    String copyByteArray(String sourceByteArrayEntityId, String name);
+
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -47,6 +48,21 @@ public class VariableByteArrayEntityManagerImpl extends AbstractEntityManager<Va
         byteArrayDataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
 
+    @Override
+    public InputStream openBytesStream(String byteArrayEntityId) {
+        return byteArrayDataManager.openBytesStream(byteArrayEntityId);
+    }
+
+    @Override
+    public String insertByteArray(String name, InputStream bytesStream) {
+        return byteArrayDataManager.insertByteArray(name, bytesStream);
+    }
+
+    @Override
+    public String copyByteArray(String sourceByteArrayEntityId, String name) {
+        return byteArrayDataManager.copyByteArray(sourceByteArrayEntityId, name);
+    }
+
     public VariableByteArrayDataManager getByteArrayDataManager() {
         return byteArrayDataManager;
     }
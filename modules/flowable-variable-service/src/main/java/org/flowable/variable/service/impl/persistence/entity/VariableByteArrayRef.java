@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.Serializable;
 
 import org.flowable.variable.service.impl.util.CommandContextUtil;
@@ -53,11 +55,52 @@ public class VariableByteArrayRef implements Serializable {
         return (entity != null ? entity.getBytes() : null);
     }
 
+    /**
+     * Returns a stream over the bytes, which reads them from the database when they are not loaded yet.
+     */
+    public InputStream getBytesStream() {
+        if (entity != null) {
+            byte[] bytes = entity.getBytes();
+            return bytes != null ? new ByteArrayInputStream(bytes) : null;
+        }
+        if (id != null) {
+            return CommandContextUtil.getByteArrayEntityManager().openBytesStream(id);
+        }
+        return null;
+    }
+
     public void setValue(String name, byte[] bytes) {
         this.name = name;
         setBytes(bytes);
     }
 
+    /**
+     * Stores the bytes of the given stream in a new byte array in the database, without loading them in memory.
+     * The previous byte array, if any, is deleted.
+     */
+    public void setValue(String name, InputStream bytesStream) {
+        this.name = name;
+        deleteByteArray();
+        if (bytesStream != null) {
+            id = CommandContextUtil.getByteArrayEntityManager().insertByteArray(name, bytesStream);
+        }
+    }
+
+    /**
+     * Sets the bytes to those of the given reference. When the bytes of the reference are not loaded,
+     * the byte array is copied in the database instead of loading the bytes in memory.
+     */
+    public void copyValue(String name, VariableByteArrayRef source) {
+        if (source.entity != null || source.id == null) {
+            setValue(name, source.getBytes());
+
+        } else {
+            this.name = name;
+            deleteByteArray();
+            id = CommandContextUtil.getByteArrayEntityManager().copyByteArray(source.id, name);
+        }
+    }
+
     private void setBytes(byte[] bytes) {
         if (id == null) {
             if (bytes != null) {
@@ -81,6 +124,13 @@ public class VariableByteArrayRef implements Serializable {
 
     public void delete() {
         if (!deleted && id != null) {
+            deleteByteArray();
+            deleted = true;
+        }
+    }
+
+    protected void deleteByteArray() {
+        if (id != null) {
             if (entity != null) {
                 // if the entity has been loaded already,
                 // we might as well use the safer optimistic locking delete.
@@ -90,7 +140,6 @@ public class VariableByteArrayRef implements Serializable {
             }
             entity = null;
             id = null;
-            deleted = true;
         }
     }
 
@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
+
 import org.flowable.common.engine.impl.db.HasRevision;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
@@ -28,6 +30,11 @@ public interface VariableInstanceEntity extends VariableInstance, Entity, HasRev
 
     VariableByteArrayRef getByteArrayRef();
 
+    /**
+     * Stores the bytes of the given stream without loading them in memory.
+     */
+    void setBytesStream(InputStream bytesStream);
+
     VariableType getType();
 
     void setType(VariableType type);
@@ -12,11 +12,13 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -25,7 +27,7 @@ import org.flowable.variable.api.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -82,11 +84,13 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void forceUpdate() {
         forcedUpdate = true;
+        markDirty();
     }
     
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        markDirty();
     }
 
     @Override
@@ -111,6 +115,20 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
         byteArrayRef.setValue("var-" + name, bytes);
+        markDirty();
+    }
+
+    @Override
+    public InputStream getBytesStream() {
+        ensureByteArrayRefInitialized();
+        return byteArrayRef.getBytesStream();
+    }
+
+    @Override
+    public void setBytesStream(InputStream bytesStream) {
+        ensureByteArrayRefInitialized();
+        byteArrayRef.setValue("var-" + name, bytesStream);
+        markDirty();
     }
 
     @Override
@@ -138,7 +156,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     public void setValue(Object value) {
         type.setValue(value, this);
         typeName = type.getTypeName();
-        cachedValue = value;
+        // A stream is consumed when it is stored, the value is read back from the stored bytes
+        cachedValue = value instanceof InputStream ? null : value;
+        markDirty();
     }
 
     // getters and setters ////////////////////////////////////////////////////////
@@ -146,6 +166,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setName(String name) {
         this.name = name;
+        markDirty();
     }
 
     @Override
@@ -167,6 +188,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTypeName(String typeName) {
         this.typeName = typeName;
+        markDirty();
     }
 
     @Override
@@ -177,6 +199,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setType(VariableType type) {
         this.type = type;
+        markDirty();
     }
 
     @Override
@@ -212,6 +235,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        markDirty();
     }
     
     @Override
@@ -222,6 +246,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setSubScopeId(String subScopeId) {
         this.subScopeId = subScopeId;
+        markDirty();
     }
 
     @Override
@@ -232,6 +257,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
+        markDirty();
     }
 
     @Override
@@ -242,6 +268,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setLongValue(Long longValue) {
         this.longValue = longValue;
+        markDirty();
     }
 
     @Override
@@ -252,6 +279,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setDoubleValue(Double doubleValue) {
         this.doubleValue = doubleValue;
+        markDirty();
     }
 
     @Override
@@ -262,6 +290,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTextValue(String textValue) {
         this.textValue = textValue;
+        markDirty();
     }
 
     @Override
@@ -272,6 +301,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTextValue2(String textValue2) {
         this.textValue2 = textValue2;
+        markDirty();
     }
 
     @Override
@@ -87,6 +87,11 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         return variableInstanceDataManager.findVariableInstancesByExecutionAndNames(executionId, names);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Collection<String> executionIds, Collection<String> names) {
+        return variableInstanceDataManager.findVariableInstancesByExecutionIdsAndNames(executionIds, names);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String variableName) {
         return variableInstanceDataManager.findVariableInstanceByTaskAndName(taskId, variableName);
@@ -52,6 +52,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     // The cache is used when fetching/setting specific variables
     protected Map<String, VariableInstanceEntity> usedVariablesCache = new HashMap<>();
 
+    // The variables prefetched by name, only used as long as not all variables are fetched. A null value means the variable doesn't exist on this scope.
+    protected Map<String, VariableInstanceEntity> prefetchedVariableInstances;
+
     protected Map<String, VariableInstance> transientVariabes;
 
     protected ELContext cachedElContext;
@@ -84,6 +87,30 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         this.variableInstances = variableInstances;
     }
 
+    /**
+     * Caches the variable instances of this scope that were prefetched by name, so that getting these variables doesn't need a call to the database.
+     * The prefetched names without a variable instance are known not to exist on this scope, so getting them continues with the parent scope.
+     */
+    public void internalSetPrefetchedVariableInstances(Collection<String> variableNames, Collection<VariableInstanceEntity> variableInstances) {
+        if (prefetchedVariableInstances == null) {
+            prefetchedVariableInstances = new HashMap<>();
+        }
+        for (String variableName : variableNames) {
+            prefetchedVariableInstances.put(variableName, null);
+        }
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            prefetchedVariableInstances.put(variableInstance.getName(), variableInstance);
+        }
+    }
+
+    public boolean isVariableInstancesInitialized() {
+        return variableInstances != null;
+    }
+
+    protected boolean isPrefetchedVariable(String variableName) {
+        return variableInstances == null && prefetchedVariableInstances != null && prefetchedVariableInstances.containsKey(variableName);
+    }
+
     @Override
     public Map<String, Object> getVariables() {
         return collectVariables(new HashMap<>());
@@ -286,6 +313,20 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             return usedVariablesCache.get(variableName);
         }
 
+        if (isPrefetchedVariable(variableName)) {
+            VariableInstanceEntity variableInstance = prefetchedVariableInstances.get(variableName);
+            if (variableInstance != null) {
+                return variableInstance;
+            }
+
+            VariableScope parentScope = getParentVariableScope();
+            if (parentScope != null) {
+                return parentScope.getVariableInstance(variableName, fetchAllVariables);
+            }
+
+            return null;
+        }
+
         if (fetchAllVariables) {
             ensureVariableInstancesInitialized();
             VariableInstanceEntity variableInstance = variableInstances.get(variableName);
@@ -357,6 +398,10 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             return usedVariablesCache.get(variableName);
         }
 
+        if (isPrefetchedVariable(variableName)) {
+            return prefetchedVariableInstances.get(variableName);
+        }
+
         if (fetchAllVariables) {
 
             ensureVariableInstancesInitialized();
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data;
 
+import java.io.InputStream;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -26,4 +27,10 @@ public interface VariableByteArrayDataManager extends DataManager<VariableByteAr
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
+    InputStream openBytesStream(String byteArrayEntityId);
+
+    String insertByteArray(String name, InputStream bytesStream);
+
+    String copyByteArray(String sourceByteArrayEntityId, String name);
+
 }
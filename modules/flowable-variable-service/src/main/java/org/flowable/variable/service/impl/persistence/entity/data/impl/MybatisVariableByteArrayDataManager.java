@@ -12,8 +12,17 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntityImpl;
@@ -45,4 +54,108 @@ public class MybatisVariableByteArrayDataManager extends AbstractDataManager<Var
         getDbSqlSession().delete("deleteVariableByteArrayNoRevisionCheck", byteArrayEntityId, VariableByteArrayEntityImpl.class);
     }
 
+    // The streaming operations use plain jdbc on the connection of the current transaction, as MyBatis closes the result set
+    // (and with it the stream of the blob) before returning the result, and only binds byte arrays for the blob type of the database.
+    // They are executed directly and bypass the entity cache, so they are only used for byte arrays that are not loaded as an entity.
+
+    @Override
+    public InputStream openBytesStream(String byteArrayEntityId) {
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = getConnection().prepareStatement("select BYTES_ from " + getTableName() + " where ID_ = ?");
+            statement.setString(1, byteArrayEntityId);
+            resultSet = statement.executeQuery();
+            InputStream bytesStream = resultSet.next() ? resultSet.getBinaryStream(1) : null;
+            if (bytesStream == null) {
+                closeSilently(resultSet, statement);
+                return null;
+            }
+            return new ResultSetInputStream(bytesStream, resultSet, statement);
+
+        } catch (SQLException e) {
+            closeSilently(resultSet, statement);
+            throw new FlowableException("Couldn't read bytes of byte array " + byteArrayEntityId, e);
+        }
+    }
+
+    @Override
+    public String insertByteArray(String name, InputStream bytesStream) {
+        String id = Context.getCommandContext().getCurrentEngineConfiguration().getIdGenerator().getNextId();
+        try (PreparedStatement statement = getConnection().prepareStatement(
+                "insert into " + getTableName() + "(ID_, REV_, NAME_, BYTES_) values (?, 1, ?, ?)")) {
+            statement.setString(1, id);
+            statement.setString(2, name);
+            statement.setBinaryStream(3, bytesStream);
+            statement.executeUpdate();
+            return id;
+
+        } catch (SQLException e) {
+            throw new FlowableException("Couldn't insert byte array " + name, e);
+        }
+    }
+
+    @Override
+    public String copyByteArray(String sourceByteArrayEntityId, String name) {
+        String id = Context.getCommandContext().getCurrentEngineConfiguration().getIdGenerator().getNextId();
+        try (PreparedStatement statement = getConnection().prepareStatement(
+                "insert into " + getTableName() + "(ID_, REV_, NAME_, BYTES_) select ?, 1, ?, BYTES_ from " + getTableName() + " where ID_ = ?")) {
+            statement.setString(1, id);
+            statement.setString(2, name);
+            statement.setString(3, sourceByteArrayEntityId);
+            if (statement.executeUpdate() != 1) {
+                throw new FlowableException("Byte array " + sourceByteArrayEntityId + " to copy doesn't exist");
+            }
+            return id;
+
+        } catch (SQLException e) {
+            throw new FlowableException("Couldn't copy byte array " + sourceByteArrayEntityId, e);
+        }
+    }
+
+    protected Connection getConnection() {
+        return getDbSqlSession().getSqlSession().getConnection();
+    }
+
+    protected String getTableName() {
+        return getDbSqlSession().getDbSqlSessionFactory().getDatabaseTablePrefix() + "ACT_GE_BYTEARRAY";
+    }
+
+    protected static void closeSilently(ResultSet resultSet, PreparedStatement statement) {
+        try {
+            if (resultSet != null) {
+                resultSet.close();
+            }
+            if (statement != null) {
+                statement.close();
+            }
+        } catch (SQLException ignore) {
+            // Exception is silently ignored
+        }
+    }
+
+    /**
+     * Closes the result set and statement of the stream of a blob when the stream is closed.
+     */
+    protected static class ResultSetInputStream extends FilterInputStream {
+
+        protected final ResultSet resultSet;
+        protected final PreparedStatement statement;
+
+        public ResultSetInputStream(InputStream in, ResultSet resultSet, PreparedStatement statement) {
+            super(in);
+            this.resultSet = resultSet;
+            this.statement = statement;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                closeSilently(resultSet, statement);
+            }
+        }
+    }
+
 }
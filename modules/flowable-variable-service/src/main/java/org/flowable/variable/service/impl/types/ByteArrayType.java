@@ -12,10 +12,17 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import java.io.InputStream;
+
+import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
+ * Stores byte arrays. An {@link InputStream} can be stored as well: the bytes of the stream are then written to the database without loading them
+ * in memory, and the value is read back as a byte array, or as a stream with {@link org.flowable.variable.api.persistence.entity.VariableInstance#getBytesStream()}.
+ *
  * @author Tom Baeyens
  */
 public class ByteArrayType implements VariableType {
@@ -41,7 +48,15 @@ public class ByteArrayType implements VariableType {
 
     @Override
     public void setValue(Object value, ValueFields valueFields) {
-        valueFields.setBytes((byte[]) value);
+        if (value instanceof InputStream) {
+            if (valueFields instanceof VariableInstanceEntity) {
+                ((VariableInstanceEntity) valueFields).setBytesStream((InputStream) value);
+            } else {
+                valueFields.setBytes(IoUtil.readInputStream((InputStream) value, valueFields.getName()));
+            }
+        } else {
+            valueFields.setBytes((byte[]) value);
+        }
     }
 
     @Override
@@ -49,6 +64,11 @@ public class ByteArrayType implements VariableType {
         if (value == null) {
             return true;
         }
-        return byte[].class.isAssignableFrom(value.getClass());
+        return byte[].class.isAssignableFrom(value.getClass()) || value instanceof InputStream;
+    }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass() {
+        return getClass() == ByteArrayType.class;
     }
 }
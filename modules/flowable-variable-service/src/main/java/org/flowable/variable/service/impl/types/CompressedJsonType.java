@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.InputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.variable.api.types.ValueFields;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A {@link LongJsonType} that compresses the json bytes of values with at least {@link #compressionThreshold} bytes.
+ * The json is written to and read from the bytes directly, without an intermediate string.
+ *
+ * The type has its own name, so variables stored with the {@link LongJsonType} before this type was enabled can still be read.
+ */
+public class CompressedJsonType extends LongJsonType {
+
+    public static final String TYPE_NAME = "compressedJson";
+
+    protected int compressionThreshold;
+
+    public CompressedJsonType(int minLength, ObjectMapper objectMapper, int compressionThreshold) {
+        super(minLength, objectMapper);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public byte[] serialize(Object value, ValueFields valueFields) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return VariableBytesCompression.encode(objectMapper.writeValueAsBytes(value), compressionThreshold);
+        } catch (Exception e) {
+            throw new FlowableException("Error getting bytes from json variable", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes, ValueFields valueFields) {
+        InputStream is = VariableBytesCompression.decode(bytes);
+        try {
+            return objectMapper.readTree(is);
+        } catch (Exception e) {
+            throw new FlowableException("Error reading json variable", e);
+        } finally {
+            IoUtil.closeSilently(is);
+        }
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+}
@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.variable.api.types.ValueFields;
+
+/**
+ * A {@link SerializableType} that compresses the serialized bytes of values with at least {@link #compressionThreshold} bytes.
+ * Java serialization repeats class descriptors and field names, so the stored bytes typically shrink by more than half.
+ *
+ * The type has its own name, so variables stored with the {@link SerializableType} before this type was enabled can still be read.
+ */
+public class CompressedSerializableType extends SerializableType {
+
+    public static final String TYPE_NAME = "compressedSerializable";
+
+    protected int compressionThreshold;
+
+    public CompressedSerializableType(boolean trackDeserializedObjects, int compressionThreshold) {
+        super(trackDeserializedObjects);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass() {
+        return getClass() == CompressedSerializableType.class;
+    }
+
+    @Override
+    public byte[] serialize(Object value, ValueFields valueFields) {
+        return VariableBytesCompression.encode(super.serialize(value, valueFields), compressionThreshold);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes, ValueFields valueFields) {
+        InputStream is = VariableBytesCompression.decode(bytes);
+        try {
+            ObjectInputStream ois = createObjectInputStream(is);
+            return ois.readObject();
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't deserialize object in variable '" + valueFields.getName() + "'", e);
+        } finally {
+            IoUtil.closeSilently(is);
+        }
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+}
@@ -17,6 +17,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.variable.api.types.VariableType;
@@ -32,6 +35,22 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
 
+    /**
+     * The candidate types for the values of a class, keyed by that class ({@link Void} for <code>null</code> values).
+     * The types that decide by class only are resolved once: the ones that can't store the class are left out,
+     * and the candidates end with the first one that can. The types that decide by value are asked for every value.
+     */
+    protected final ConcurrentMap<Class<?>, VariableType[]> typeCandidatesByClass = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum number of classes in {@link #typeCandidatesByClass}, so generated classes can't fill it up.
+     * The types of values of other classes are resolved without caching.
+     */
+    protected int typeCacheLimit = 1000;
+
+    protected final LongAdder typeCacheHitCount = new LongAdder();
+    protected final LongAdder typeCacheMissCount = new LongAdder();
+
     @Override
     public DefaultVariableTypes addType(VariableType type) {
         return addType(type, typesList.size());
@@ -41,6 +60,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        typeCandidatesByClass.clear();
         return this;
     }
 
@@ -51,6 +71,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        this.typeCandidatesByClass.clear();
     }
 
     @Override
@@ -60,14 +81,40 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     @Override
     public VariableType findVariableType(Object value) {
-        for (VariableType type : typesList) {
-            if (type.isAbleToStore(value)) {
+        Class<?> valueClass = value != null ? value.getClass() : Void.class;
+        VariableType[] typeCandidates = typeCandidatesByClass.get(valueClass);
+        if (typeCandidates != null) {
+            typeCacheHitCount.increment();
+        } else {
+            typeCacheMissCount.increment();
+            typeCandidates = findTypeCandidates(value);
+            if (typeCandidatesByClass.size() < typeCacheLimit) {
+                typeCandidatesByClass.put(valueClass, typeCandidates);
+            }
+        }
+
+        for (VariableType type : typeCandidates) {
+            // A candidate that decides by class is able to store the value, otherwise it would have been left out
+            if (type.isAbleToStoreDeterminedByClass() || type.isAbleToStore(value)) {
                 return type;
             }
         }
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    protected VariableType[] findTypeCandidates(Object value) {
+        List<VariableType> typeCandidates = new ArrayList<>();
+        for (VariableType type : typesList) {
+            if (!type.isAbleToStoreDeterminedByClass()) {
+                typeCandidates.add(type);
+            } else if (type.isAbleToStore(value)) {
+                typeCandidates.add(type);
+                break;
+            }
+        }
+        return typeCandidates.toArray(new VariableType[0]);
+    }
+
     @Override
     public int getTypeIndex(VariableType type) {
         return typesList.indexOf(type);
@@ -87,6 +134,29 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        typeCandidatesByClass.clear();
         return this;
     }
+
+    public int getTypeCacheLimit() {
+        return typeCacheLimit;
+    }
+
+    public void setTypeCacheLimit(int typeCacheLimit) {
+        this.typeCacheLimit = typeCacheLimit;
+    }
+
+    /**
+     * @return the number of type lookups for which the candidate types of the class of the value were cached.
+     */
+    public long getTypeCacheHitCount() {
+        return typeCacheHitCount.sum();
+    }
+
+    /**
+     * @return the number of type lookups for which the candidate types of the class of the value had to be resolved.
+     */
+    public long getTypeCacheMissCount() {
+        return typeCacheMissCount.sum();
+    }
 }
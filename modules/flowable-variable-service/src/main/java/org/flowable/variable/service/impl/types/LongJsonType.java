@@ -52,6 +52,11 @@ public class LongJsonType extends SerializableType {
         return false;
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass() {
+        return false;
+    }
+
     @Override
     public byte[] serialize(Object value, ValueFields valueFields) {
         if (value == null) {
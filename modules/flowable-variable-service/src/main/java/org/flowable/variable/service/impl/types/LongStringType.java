@@ -40,4 +40,9 @@ public class LongStringType extends SerializableType {
         }
         return false;
     }
+
+    @Override
+    public boolean isAbleToStoreDeterminedByClass() {
+        return false;
+    }
 }
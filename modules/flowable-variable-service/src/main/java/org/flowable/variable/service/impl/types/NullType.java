@@ -44,6 +44,11 @@ public class NullType implements VariableType {
         return (value == null);
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass() {
+        return getClass() == NullType.class;
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
     }
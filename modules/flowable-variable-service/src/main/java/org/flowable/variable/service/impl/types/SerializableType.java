@@ -126,6 +126,11 @@ public class SerializableType extends ByteArrayType {
         return value instanceof Serializable;
     }
 
+    @Override
+    public boolean isAbleToStoreDeterminedByClass() {
+        return getClass() == SerializableType.class;
+    }
+
     protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
         return new ObjectInputStream(is) {
             @Override
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Encodes the bytes of the compressed variable types. The first byte of the encoded bytes is the codec of the remaining bytes,
+ * so that values below the compression threshold are stored uncompressed and the threshold can be changed without migrating the stored values.
+ */
+public final class VariableBytesCompression {
+
+    public static final byte CODEC_NONE = 0;
+    public static final byte CODEC_DEFLATE = 1;
+
+    private VariableBytesCompression() {
+    }
+
+    public static byte[] encode(byte[] bytes, int compressionThreshold) {
+        if (bytes == null) {
+            return null;
+        }
+
+        if (compressionThreshold < 0 || bytes.length < compressionThreshold) {
+            byte[] encodedBytes = new byte[bytes.length + 1];
+            encodedBytes[0] = CODEC_NONE;
+            System.arraycopy(bytes, 0, encodedBytes, 1, bytes.length);
+            return encodedBytes;
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(bytes.length / 2 + 16);
+        baos.write(CODEC_DEFLATE);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream dos = new DeflaterOutputStream(baos, deflater)) {
+            dos.write(bytes);
+        } catch (IOException e) {
+            throw new FlowableException("Couldn't compress variable bytes", e);
+        } finally {
+            deflater.end();
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * @return a stream over the decoded bytes, which does not need to be closed when the encoded bytes are fully read.
+     */
+    public static InputStream decode(byte[] encodedBytes) {
+        if (encodedBytes.length == 0) {
+            throw new FlowableException("Compressed variable bytes don't contain a codec");
+        }
+
+        ByteArrayInputStream bais = new ByteArrayInputStream(encodedBytes, 1, encodedBytes.length - 1);
+        switch (encodedBytes[0]) {
+            case CODEC_NONE:
+                return bais;
+            case CODEC_DEFLATE:
+                return new InflaterInputStream(bais);
+            default:
+                throw new FlowableException("Unknown codec " + encodedBytes[0] + " of compressed variable bytes");
+        }
+    }
+
+}
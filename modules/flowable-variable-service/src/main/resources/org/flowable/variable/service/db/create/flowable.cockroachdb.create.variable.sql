@@ -28,6 +28,6 @@ alter table ACT_RU_VARIABLE
     foreign key (BYTEARRAY_ID_) 
     references ACT_GE_BYTEARRAY (ID_);
 
-insert into ACT_GE_PROPERTY values ('variable.schema.version', '6.5.0.2', 1);
+insert into ACT_GE_PROPERTY values ('variable.schema.version', '6.5.0.3', 1);
 
 -- force-commit